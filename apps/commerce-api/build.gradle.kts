@@ -1,5 +1,9 @@
 import org.gradle.kotlin.dsl.implementation
 
+plugins {
+    id("me.champeau.jmh")
+}
+
 dependencies {
     // add-ons
     implementation(project(":modules:jpa"))
@@ -22,6 +26,8 @@ dependencies {
     // test-fixtures
     testImplementation(testFixtures(project(":modules:jpa")))
     testImplementation(testFixtures(project(":modules:redis")))
+    jmhImplementation(testFixtures(project(":modules:jpa")))
+    jmhImplementation(testFixtures(project(":modules:redis")))
 
     // retry
     implementation("org.springframework.retry:spring-retry")
@@ -34,4 +40,20 @@ dependencies {
 
     // feign
     implementation("org.springframework.cloud:spring-cloud-starter-openfeign")
+
+    // local cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // cache codec
+    implementation("org.lz4:lz4-java:${project.properties["lz4Version"]}")
+}
+
+// ./gradlew :apps:commerce-api:jmh
+jmh {
+    jmhVersion.set(project.properties["jmhVersion"].toString())
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.add("gc")
+    resultFormat.set("JSON")
 }
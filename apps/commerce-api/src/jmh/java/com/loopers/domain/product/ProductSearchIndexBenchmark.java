@@ -0,0 +1,74 @@
+package com.loopers.domain.product;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 상품명 검색 색인 지연 시간
+ * 상품 productCount 건을 색인한 뒤 질의를 돌아가며 검색한다. 홀수 번째 호출은 브랜드로 필터링한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSearchIndexBenchmark {
+
+    private static final String[] ADJECTIVES = {"반팔", "긴팔", "오버핏", "슬림", "빈티지", "데일리", "캐주얼", "베이직", "린넨", "니트"};
+    private static final String[] NOUNS = {"티셔츠", "셔츠", "청바지", "슬랙스", "원피스", "자켓", "코트", "후드", "스커트", "가디건"};
+    private static final String[] COLORS = {"블랙", "화이트", "네이비", "그레이", "베이지"};
+    private static final String[] QUERIES = {"반팔 티셔츠", "블랙 청바지", "오버핏", "니트가디건", "슬랙스 9"};
+
+    @Param({"100000"})
+    private int productCount;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private ProductSearchIndex index;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ProductSearchDocument> documents = new ArrayList<>(productCount);
+        for (int i = 1; i <= productCount; i++) {
+            String name = COLORS[i % COLORS.length] + " " + ADJECTIVES[(i / 5) % ADJECTIVES.length] + " "
+                    + NOUNS[(i / 50) % NOUNS.length] + " " + i;
+            documents.add(new ProductSearchDocument((long) i, name, (long) (i % 100 + 1), i % 1_000));
+        }
+
+        index = new ProductSearchIndex(repository(documents), true);
+        index.rebuild();
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        int current = round++;
+        return index.search(QUERIES[current % QUERIES.length], current % 2 == 0 ? null : 7L, 0, pageSize);
+    }
+
+    /**
+     * 색인 적재에 쓰는 findSearchDocumentsAfter 만 응답하는 저장소. 첫 호출에 전체를 반환해 한 번에 적재한다.
+     */
+    private static ProductRepository repository(List<ProductSearchDocument> documents) {
+        return (ProductRepository) Proxy.newProxyInstance(
+                ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findSearchDocumentsAfter")) {
+                        return (long) args[0] == 0L ? documents : List.of();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+}
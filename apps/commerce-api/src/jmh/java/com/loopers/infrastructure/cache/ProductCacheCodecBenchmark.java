@@ -0,0 +1,135 @@
+package com.loopers.infrastructure.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loopers.application.product.ProductInfo;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/**
+ * 상품 캐시 코덱 비교
+ * - legacy : 기존 경로 (GenericJackson2JsonRedisSerializer 로 Map 역직렬화 후 convertValue)
+ * - json   : JsonProductCacheCodec
+ * - binary : BinaryProductCacheCodec (압축 없음)
+ * - lz4    : BinaryProductCacheCodec (항상 LZ4 압축)
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로, payload 크기는 Setup 시점 출력으로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductCacheCodecBenchmark {
+
+    @Param({"legacy", "json", "binary", "lz4"})
+    private String codecType;
+
+    @Param({"1", "20"})
+    private int pageSize;
+
+    private ProductCacheCodec codec;
+    private CacheEnvelope<List<ProductInfo>> envelope;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        codec = switch (codecType) {
+            case "legacy" -> new LegacyJsonPath(objectMapper);
+            case "json" -> new JsonProductCacheCodec(objectMapper);
+            case "binary" -> new BinaryProductCacheCodec(Integer.MAX_VALUE);
+            case "lz4" -> new BinaryProductCacheCodec(0);
+            default -> throw new IllegalArgumentException(codecType);
+        };
+
+        ZonedDateTime createdAt = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
+        List<ProductInfo> products = IntStream.rangeClosed(1, pageSize)
+                .mapToObj(i -> new ProductInfo((long) i, "상품 이름 " + i, (long) (i % 5), "브랜드 " + (i % 5),
+                        10_000 + i * 100, i * 3, 100, createdAt, null))
+                .toList();
+        envelope = CacheEnvelope.of(products, Duration.ofMinutes(1), 12);
+        encoded = codec.encodeProductList(envelope);
+
+        System.out.printf("%n[payload] codec=%s pageSize=%d bytes=%d%n", codecType, pageSize, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encodeProductList(envelope);
+    }
+
+    @Benchmark
+    public CacheEnvelope<List<ProductInfo>> decode() {
+        return codec.decodeProductList(encoded);
+    }
+
+    /**
+     * 기존 redisTemplateObject + convertValue 경로를 코덱 형태로 재현한다.
+     */
+    private static class LegacyJsonPath implements ProductCacheCodec {
+
+        private final GenericJackson2JsonRedisSerializer serializer;
+        private final ObjectMapper objectMapper;
+        private final JavaType productEnvelopeType;
+        private final JavaType productListEnvelopeType;
+
+        LegacyJsonPath(ObjectMapper objectMapper) {
+            this.serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+            this.objectMapper = objectMapper;
+            this.productEnvelopeType = objectMapper.getTypeFactory()
+                    .constructParametricType(CacheEnvelope.class, ProductInfo.class);
+            this.productListEnvelopeType = objectMapper.getTypeFactory()
+                    .constructParametricType(CacheEnvelope.class,
+                            objectMapper.getTypeFactory().constructCollectionType(List.class, ProductInfo.class));
+        }
+
+        @Override
+        public byte[] encodeProduct(CacheEnvelope<ProductInfo> envelope) {
+            return serializer.serialize(envelope);
+        }
+
+        @Override
+        public CacheEnvelope<ProductInfo> decodeProduct(byte[] bytes) {
+            return objectMapper.convertValue(serializer.deserialize(bytes), productEnvelopeType);
+        }
+
+        @Override
+        public byte[] encodeProductList(CacheEnvelope<List<ProductInfo>> envelope) {
+            return serializer.serialize(envelope);
+        }
+
+        @Override
+        public CacheEnvelope<List<ProductInfo>> decodeProductList(byte[] bytes) {
+            return objectMapper.convertValue(serializer.deserialize(bytes), productListEnvelopeType);
+        }
+
+        @Override
+        public byte[] encodeIdList(CacheEnvelope<List<Long>> envelope) {
+            return serializer.serialize(envelope);
+        }
+
+        @Override
+        public CacheEnvelope<List<Long>> decodeIdList(byte[] bytes) {
+            return objectMapper.convertValue(serializer.deserialize(bytes), new TypeReference<CacheEnvelope<List<Long>>>() {
+            });
+        }
+    }
+}
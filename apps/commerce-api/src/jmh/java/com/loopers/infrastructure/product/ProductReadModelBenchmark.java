@@ -0,0 +1,100 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.CommerceApiApplication;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSummary;
+import com.loopers.utils.DatabaseCleanUp;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 상품 목록 읽기 모델 비교
+ * - entity     : 엔티티 조회 + 브랜드명 추가 조회
+ * - projection : ProductSummary projection 한 번 조회
+ * test 프로필로 애플리케이션을 띄워 Testcontainers MySQL 에 상품을 적재한 뒤 한 페이지씩 조회한다.
+ * 페이지당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductReadModelBenchmark {
+
+    private static final int BRAND_COUNT = 10;
+    private static final int PRODUCT_COUNT = 500;
+    private static final int PAGE_SIZE = 20;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private BrandService brandService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CommerceApiApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run();
+        productService = context.getBean(ProductService.class);
+        brandService = context.getBean(BrandService.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> brands = new ArrayList<>(BRAND_COUNT);
+        for (int i = 1; i <= BRAND_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now);
+            brands.add(new Object[]{"브랜드" + i, "설명" + i, createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO brands (name, description, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                brands
+        );
+
+        List<Object[]> products = new ArrayList<>(PRODUCT_COUNT);
+        for (int i = 1; i <= PRODUCT_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(i));
+            products.add(new Object[]{
+                    "상품" + i, (long) (i % BRAND_COUNT + 1), 1_000 * (i % 50 + 1), i % 100, 100, createdAt, createdAt
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO products (name, brand_id, price, like_count, stock, version, is_deleted, created_at, updated_at)"
+                        + " VALUES (?, ?, ?, ?, ?, 0, false, ?, ?)",
+                products
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.getBean(DatabaseCleanUp.class).truncateAllTables();
+        context.close();
+    }
+
+    @Benchmark
+    public Map<Long, String> entity() {
+        List<Product> entities = productService.findProductsByLatest(null, 1, PAGE_SIZE);
+        return brandService.findBrandNamesByIds(entities.stream().map(Product::getBrandId).distinct().toList());
+    }
+
+    @Benchmark
+    public List<ProductSummary> projection() {
+        return productService.findProductSummariesByLatest(null, 1, PAGE_SIZE);
+    }
+}
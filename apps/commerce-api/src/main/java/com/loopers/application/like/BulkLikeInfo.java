@@ -0,0 +1,18 @@
+package com.loopers.application.like;
+
+/**
+ * 일괄 좋아요 요청 항목 하나의 처리 결과
+ */
+public record BulkLikeInfo(
+        Long productId,
+        LikeCommand.LikeAction action,
+        Result result
+) {
+
+    public enum Result {
+        LIKED,
+        UNLIKED,
+        UNCHANGED,
+        PRODUCT_NOT_FOUND
+    }
+}
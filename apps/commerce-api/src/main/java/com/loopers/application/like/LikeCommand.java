@@ -1,11 +1,61 @@
 package com.loopers.application.like;
 
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.util.Arrays;
+import java.util.List;
+
 public class LikeCommand {
 
+    public enum LikeAction {
+        LIKE("like"),
+        UNLIKE("unlike");
+
+        private final String value;
+
+        LikeAction(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public static LikeAction fromValue(String value) {
+            if (value == null || value.isBlank()) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "좋아요 동작은 필수입니다.");
+            }
+            return Arrays.stream(LikeAction.values())
+                    .filter(action -> action.value.equalsIgnoreCase(value))
+                    .findFirst()
+                    .orElseThrow(() -> new CoreException(ErrorType.BAD_REQUEST,
+                            String.format("유효하지 않은 좋아요 동작입니다: %s", value)));
+        }
+    }
+
     public record LikeProductCommand(
             String loginId,
             Long productId
     ) {
     }
+
+    public record BulkLikeCommand(
+            String loginId,
+            List<BulkLikeItemCommand> items
+    ) {
+    }
+
+    public record BulkLikeItemCommand(
+            Long productId,
+            LikeAction action
+    ) {
+    }
+
+    public record GetLikedProductsCommand(
+            String loginId,
+            Integer page,
+            Integer size
+    ) {
+    }
 }
 
@@ -0,0 +1,98 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.outbox.OutboxService;
+import com.loopers.domain.product.PendingLikeCount;
+import com.loopers.domain.product.ProductLikeCounter;
+import com.loopers.infrastructure.cache.DistributedLock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 좋아요 수 write-behind 반영
+ * 버퍼에 모인 건수만큼 해당 상품의 미집계 outbox 이벤트(좋아요/취소)를 집계 완료로 표시하고, 실제로 표시한 건수의 차이만 가산 UPDATE 로 반영한다.
+ * 표시와 반영이 한 트랜잭션이므로, 같은 이벤트가 버퍼 반영과 재반영(replay)으로 두 번 집계되지 않는다.
+ * 변화량은 ProductLikeCounter 가 상품 행 또는 (좋아요가 몰리는 상품이면) 샤드 행에 반영한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeCountFacade {
+
+    static final String LIKED_TOPIC = "product-liked-events";
+    static final String UNLIKED_TOPIC = "product-unliked-events";
+    static final String FOLD_LOCK_KEY = "like-count:fold";
+    private static final Duration FOLD_LOCK_TTL = Duration.ofMinutes(1);
+    private static final int REPLAY_CLAIM_LIMIT = 10_000;
+
+    private final ProductLikeCounter productLikeCounter;
+    private final OutboxService outboxService;
+    private final DistributedLock distributedLock;
+
+    /**
+     * 버퍼에서 꺼낸 한 상품의 건수를 반영하고, 반영한 변화량을 반환한다.
+     */
+    @Transactional
+    public int apply(PendingLikeCount pendingLikeCount) {
+        productLikeCounter.enableShardingIfHot(pendingLikeCount);
+        return applyClaimed(pendingLikeCount.productId(), pendingLikeCount.likes(), pendingLikeCount.unlikes());
+    }
+
+    /**
+     * 비정상 종료 등으로 버퍼에서 사라진 이벤트를 outbox 에서 찾아 반영한다.
+     */
+    @Transactional
+    public int replay(Long productId) {
+        return applyClaimed(productId, REPLAY_CLAIM_LIMIT, REPLAY_CLAIM_LIMIT);
+    }
+
+    /**
+     * 샤드 합계를 상품 행에 접어 넣는다. 다른 노드가 켠 샤드도 포함한다.
+     * 노드마다 같은 샤드 행을 잠그지 않도록 한 노드만 접어 넣고, 접어 넣을 값이 없는 상품은 잠그지 않고 건너뛴다.
+     */
+    public void foldShards() {
+        DistributedLock.LockHandle lockHandle = distributedLock.tryLockOnce(FOLD_LOCK_KEY, FOLD_LOCK_TTL);
+        if (lockHandle == null) {
+            log.debug("다른 노드가 좋아요 수 샤드 합계를 반영 중");
+            return;
+        }
+        try {
+            for (Long productId : productLikeCounter.refreshShardedProductIds()) {
+                if (!productLikeCounter.hasUnfoldedCount(productId)) {
+                    continue;
+                }
+                long folded = productLikeCounter.fold(productId);
+                if (folded != 0) {
+                    log.debug("좋아요 수 샤드 합계 반영: productId={}, folded={}", productId, folded);
+                }
+            }
+        } finally {
+            distributedLock.releaseLock(lockHandle);
+        }
+    }
+
+    /**
+     * createdBefore 이전에 기록되었는데 아직 집계되지 않은 좋아요 이벤트가 있는 상품 ID
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findReplayTargets(ZonedDateTime createdBefore, int limit) {
+        return outboxService.findUnaggregatedPartitionKeys(List.of(LIKED_TOPIC, UNLIKED_TOPIC), createdBefore, limit)
+                .stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    private int applyClaimed(Long productId, int likes, int unlikes) {
+        String partitionKey = productId.toString();
+        int claimedLikes = outboxService.claimForAggregation(LIKED_TOPIC, partitionKey, likes);
+        int claimedUnlikes = outboxService.claimForAggregation(UNLIKED_TOPIC, partitionKey, unlikes);
+        int delta = claimedLikes - claimedUnlikes;
+
+        productLikeCounter.add(productId, delta);
+        return delta;
+    }
+}
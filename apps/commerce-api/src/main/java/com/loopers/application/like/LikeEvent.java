@@ -1,5 +1,7 @@
 package com.loopers.application.like;
 
+import java.util.List;
+
 public class LikeEvent {
 
     public record LikeRecorded(
@@ -19,4 +21,17 @@ public class LikeEvent {
             return new LikeCancelled(productId, userId);
         }
     }
+
+    /**
+     * 일괄 좋아요/취소로 실제로 바뀐 상품들. 상품별 이벤트를 한 번에 처리할 수 있도록 묶어서 발행한다.
+     */
+    public record LikesChanged(
+            Long userId,
+            List<Long> likedProductIds,
+            List<Long> unlikedProductIds
+    ) {
+        public static LikesChanged from(Long userId, List<Long> likedProductIds, List<Long> unlikedProductIds) {
+            return new LikesChanged(userId, likedProductIds, unlikedProductIds);
+        }
+    }
 }
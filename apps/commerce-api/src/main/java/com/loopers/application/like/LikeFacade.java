@@ -1,22 +1,24 @@
 package com.loopers.application.like;
 
-import com.loopers.application.product.ProductInfo;
+import com.loopers.application.product.ProductFacade;
 import com.loopers.application.userbehavior.UserBehaviorEvent;
-import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.like.LikeChanges;
 import com.loopers.domain.like.LikeService;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCounter;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSummary;
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserService;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
@@ -27,18 +29,17 @@ import org.springframework.transaction.annotation.Transactional;
 @Component
 public class LikeFacade {
 
+    private static final int MAX_LIKED_PRODUCTS_SIZE = 100;
+    private static final int MAX_BULK_LIKE_SIZE = 100;
+
     private final UserService userService;
     private final LikeService likeService;
     private final ProductService productService;
-    private final BrandService brandService;
+    private final ProductLikeCounter productLikeCounter;
+    private final ProductFacade productFacade;
+    private final LikedProductReader likedProductReader;
     private final ApplicationEventPublisher eventPublisher;
 
-    @Retryable(
-            retryFor = OptimisticLockingFailureException.class,
-            maxAttempts = 5,
-            backoff = @Backoff(delay = 10),
-            recover = "recoverRecordLike"
-    )
     @Transactional
     public LikeInfo recordLike(LikeCommand.LikeProductCommand command) {
         User user = userService.findUserByLoginId(command.loginId())
@@ -56,24 +57,10 @@ public class LikeFacade {
 
         return LikeInfo.from(
                 product.getId(),
-                product.getLikeCount().getCount()
+                productLikeCounter.getLikeCount(product.getId(), product.getLikeCount().getCount())
         );
     }
 
-    @Recover
-    public LikeInfo recoverRecordLike(RuntimeException e, LikeCommand.LikeProductCommand command) {
-        if (e instanceof OptimisticLockingFailureException) {
-            throw new CoreException(ErrorType.CONFLICT, "좋아요 등록 중 동시성 충돌이 발생했습니다. 다시 시도해주세요.");
-        }
-        throw e;
-    }
-
-    @Retryable(
-            retryFor = OptimisticLockingFailureException.class,
-            maxAttempts = 5,
-            backoff = @Backoff(delay = 10),
-            recover = "recoverCancelLike"
-    )
     @Transactional
     public LikeInfo cancelLike(LikeCommand.LikeProductCommand command) {
         User user = userService.findUserByLoginId(command.loginId())
@@ -91,46 +78,122 @@ public class LikeFacade {
 
         return LikeInfo.from(
                 product.getId(),
-                product.getLikeCount().getCount()
+                productLikeCounter.getLikeCount(product.getId(), product.getLikeCount().getCount())
         );
     }
 
+    /**
+     * 한 사용자의 여러 상품 좋아요/취소를 한 트랜잭션으로 반영하고 항목별 결과를 요청 순서대로 반환한다.
+     * 없는 상품은 건너뛰고, 실제로 바뀐 상품만 묶음 이벤트 하나로 발행한다. (outbox 는 한 번의 배치 INSERT 로 기록된다)
+     * 좋아요 행 잠금끼리 교착이 생기면 다시 시도한다.
+     */
+    @Retryable(
+            retryFor = ConcurrencyFailureException.class,
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 10),
+            recover = "recoverChangeLikes"
+    )
+    @Transactional
+    public List<BulkLikeInfo> changeLikes(LikeCommand.BulkLikeCommand command) {
+        List<LikeCommand.BulkLikeItemCommand> items = command.items();
+        if (items == null || items.isEmpty()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "좋아요를 변경할 상품이 없습니다.");
+        }
+        if (items.size() > MAX_BULK_LIKE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "한 번에 변경할 수 있는 상품은 최대 " + MAX_BULK_LIKE_SIZE + "개입니다.");
+        }
+        List<Long> productIds = items.stream().map(LikeCommand.BulkLikeItemCommand::productId).toList();
+        if (productIds.contains(null) || productIds.stream().distinct().count() != productIds.size()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "상품 ID 는 비어 있거나 중복될 수 없습니다.");
+        }
+        if (items.stream().anyMatch(item -> item.action() == null)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "좋아요 동작은 필수입니다.");
+        }
+
+        User user = userService.findUserByLoginId(command.loginId())
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "사용자를 찾을 수 없습니다."));
+
+        Set<Long> existingProductIds = productService.findProductSummariesByIds(productIds).stream()
+                .map(ProductSummary::id)
+                .collect(Collectors.toSet());
+        List<Long> likeProductIds = new ArrayList<>();
+        List<Long> unlikeProductIds = new ArrayList<>();
+        for (LikeCommand.BulkLikeItemCommand item : items) {
+            if (!existingProductIds.contains(item.productId())) {
+                continue;
+            }
+            if (item.action() == LikeCommand.LikeAction.LIKE) {
+                likeProductIds.add(item.productId());
+            } else {
+                unlikeProductIds.add(item.productId());
+            }
+        }
+
+        LikeChanges changes = likeService.changeLikes(user.getId(), likeProductIds, unlikeProductIds);
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(LikeEvent.LikesChanged.from(
+                    user.getId(), changes.likedProductIds(), changes.unlikedProductIds()));
+            changes.likedProductIds().forEach(productId ->
+                    eventPublisher.publishEvent(UserBehaviorEvent.LikeRecorded.from(user.getId(), productId)));
+            changes.unlikedProductIds().forEach(productId ->
+                    eventPublisher.publishEvent(UserBehaviorEvent.LikeCancelled.from(user.getId(), productId)));
+        }
+
+        Set<Long> liked = Set.copyOf(changes.likedProductIds());
+        Set<Long> unliked = Set.copyOf(changes.unlikedProductIds());
+        return items.stream()
+                .map(item -> new BulkLikeInfo(item.productId(), item.action(), !existingProductIds.contains(item.productId())
+                        ? BulkLikeInfo.Result.PRODUCT_NOT_FOUND
+                        : liked.contains(item.productId()) ? BulkLikeInfo.Result.LIKED
+                        : unliked.contains(item.productId()) ? BulkLikeInfo.Result.UNLIKED
+                        : BulkLikeInfo.Result.UNCHANGED))
+                .toList();
+    }
+
     @Recover
-    public LikeInfo recoverCancelLike(RuntimeException e, LikeCommand.LikeProductCommand command) {
-        if (e instanceof OptimisticLockingFailureException) {
-            throw new CoreException(ErrorType.CONFLICT, "좋아요 취소 중 동시성 충돌이 발생했습니다. 다시 시도해주세요.");
+    public List<BulkLikeInfo> recoverChangeLikes(RuntimeException e, LikeCommand.BulkLikeCommand command) {
+        if (e instanceof ConcurrencyFailureException) {
+            throw new CoreException(ErrorType.CONFLICT, "좋아요 일괄 변경 중 동시성 충돌이 발생했습니다. 다시 시도해주세요.");
         }
         throw e;
     }
 
-    @Transactional(readOnly = true)
-    public List<ProductInfo> getLikedProducts(String loginId) {
-        User user = userService.findUserByLoginId(loginId)
+    /**
+     * 내가 좋아요한 상품을 최근 좋아요 순으로 한 페이지씩 조회한다.
+     * 좋아요 캐시에서 한 페이지의 상품 ID 만 읽고, 상품 정보는 상세 캐시 일괄 조회(미스만 DB 한 번)로 채운다.
+     */
+    public LikedProductPage getLikedProducts(LikeCommand.GetLikedProductsCommand command) {
+        if (command.page() < 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 번호는 0 이상이어야 합니다.");
+        }
+        if (command.size() < 1 || command.size() > MAX_LIKED_PRODUCTS_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 크기는 1 이상 " + MAX_LIKED_PRODUCTS_SIZE + " 이하여야 합니다.");
+        }
+        User user = userService.findUserByLoginId(command.loginId())
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "사용자를 찾을 수 없습니다."));
 
-        List<Long> productIds = likeService.findLikedProductIds(user.getId());
+        // 다음 페이지 여부를 알기 위해 하나 더 읽는다.
+        long offset = (long) command.page() * command.size();
+        List<Long> productIds = likedProductReader.findLikedProductIds(user.getId(), offset, command.size() + 1);
 
-        if (productIds.isEmpty()) {
+        if (productIds.isEmpty() && command.page() == 0) {
             throw new CoreException(ErrorType.NOT_FOUND, "좋아요한 상품이 없습니다.");
         }
+        if (productIds.isEmpty()) {
+            return new LikedProductPage(List.of(), false);
+        }
 
-        List<Product> products = productIds.stream()
-                .map(productService::findProductById)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .toList();
-
-        List<Long> brandIds = products.stream()
-                .map(Product::getBrandId)
-                .collect(Collectors.toSet())
-                .stream()
-                .toList();
+        boolean hasNext = productIds.size() > command.size();
+        List<Long> pageProductIds = hasNext ? productIds.subList(0, command.size()) : productIds;
 
-        Map<Long, String> brandNamesMap = brandService.findBrandNamesByIds(brandIds);
+        return new LikedProductPage(productFacade.getProductsByIds(pageProductIds), hasNext);
+    }
 
-        return products.stream()
-                .map(product -> ProductInfo.from(product, brandNamesMap.get(product.getBrandId())))
-                .toList();
+    /**
+     * productIds 중 사용자가 좋아요한 상품 ID (상품 목록/상세의 isLiked 표시용)
+     */
+    public Set<Long> findLikedAmong(String loginId, List<Long> productIds) {
+        return likedProductReader.findLikedAmong(loginId, productIds);
     }
 
 }
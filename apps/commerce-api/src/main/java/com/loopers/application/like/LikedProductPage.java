@@ -0,0 +1,10 @@
+package com.loopers.application.like;
+
+import com.loopers.application.product.ProductInfo;
+import java.util.List;
+
+public record LikedProductPage(
+        List<ProductInfo> products,
+        boolean hasNext
+) {
+}
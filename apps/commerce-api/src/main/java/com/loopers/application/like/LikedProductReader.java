@@ -0,0 +1,146 @@
+package com.loopers.application.like;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.domain.like.Like;
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserService;
+import com.loopers.infrastructure.cache.LikedProductCacheService;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자가 좋아요한 상품 조회
+ * Redis 의 사용자별 좋아요 상품 캐시를 먼저 보고, 적재되지 않았으면 좋아요 테이블에서 읽어 적재한 뒤 그 값으로 답한다.
+ * Redis 에 장애가 있거나, 좋아요 변경 후 아직 지우지 못한 캐시면 좋아요 테이블 조회로 대신한다.
+ */
+@Slf4j
+@Component
+public class LikedProductReader {
+
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+
+    private final UserService userService;
+    private final LikeService likeService;
+    private final LikedProductCacheService likedProductCacheService;
+    // 로그인 ID 는 바뀌지 않으므로 요청마다 사용자를 조회하지 않도록 ID 만 잠시 기억한다.
+    private final Cache<String, Long> userIds = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public LikedProductReader(
+            UserService userService,
+            LikeService likeService,
+            LikedProductCacheService likedProductCacheService
+    ) {
+        this.userService = userService;
+        this.likeService = likeService;
+        this.likedProductCacheService = likedProductCacheService;
+    }
+
+    /**
+     * productIds 중 사용자가 좋아요한 상품 ID (없는 사용자면 빈 집합)
+     */
+    public Set<Long> findLikedAmong(String loginId, List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Set.of();
+        }
+        Long userId = findUserId(loginId);
+        if (userId == null) {
+            return Set.of();
+        }
+        if (likedProductCacheService.isStale(userId)) {
+            return Set.copyOf(likeService.findLikedProductIdsAmong(userId, productIds));
+        }
+
+        try {
+            Set<Long> likedProductIds = likedProductCacheService.findLikedAmong(userId, productIds);
+            if (likedProductIds == null) {
+                rebuild(userId);
+                likedProductIds = likedProductCacheService.findLikedAmong(userId, productIds);
+            }
+            if (likedProductIds != null) {
+                return likedProductIds;
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 상품 캐시 조회 실패, DB 조회: userId={}", userId, e);
+        }
+        return Set.copyOf(likeService.findLikedProductIdsAmong(userId, productIds));
+    }
+
+    /**
+     * 사용자가 좋아요한 상품 ID 를 최근 좋아요 순으로 offset 부터 count 개 반환한다.
+     */
+    public List<Long> findLikedProductIds(Long userId, long offset, int count) {
+        if (likedProductCacheService.isStale(userId)) {
+            return likeService.findLatestLikedProductIds(userId, offset, count);
+        }
+
+        try {
+            List<Long> productIds = likedProductCacheService.findLikedProductIdPage(userId, offset, count);
+            if (productIds == null) {
+                rebuild(userId);
+                productIds = likedProductCacheService.findLikedProductIdPage(userId, offset, count);
+            }
+            if (productIds != null) {
+                return productIds;
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 상품 캐시 조회 실패, DB 조회: userId={}", userId, e);
+        }
+        return likeService.findLatestLikedProductIds(userId, offset, count);
+    }
+
+    /**
+     * 좋아요 테이블에서 사용자의 좋아요를 REBUILD_CHUNK_SIZE 개씩 읽어 임시 키에 적재한 뒤 캐시로 바꿔 끼운다.
+     * 좋아요가 많아도 한 번에 한 묶음만 메모리에 올린다.
+     * 적재 중에 좋아요/취소가 반영되었으면 읽은 스냅숏이 낡았으므로 버리고, 이번 조회는 좋아요 테이블에서 답한다.
+     */
+    public void rebuild(Long userId) {
+        LikedProductCacheService.Rebuild rebuild = likedProductCacheService.beginRebuild(userId);
+        Long lastId = 0L;
+        int loaded = 0;
+        while (true) {
+            List<Like> likes = likeService.findLikes(userId, lastId, REBUILD_CHUNK_SIZE);
+            if (likes.isEmpty()) {
+                break;
+            }
+            Map<Long, Long> likedAtMillis = new HashMap<>();
+            for (Like like : likes) {
+                likedAtMillis.put(like.getProductId(), like.getCreatedAt().toInstant().toEpochMilli());
+            }
+            likedProductCacheService.addLikes(rebuild, likedAtMillis);
+            loaded += likes.size();
+            lastId = likes.get(likes.size() - 1).getId();
+            if (likes.size() < REBUILD_CHUNK_SIZE) {
+                break;
+            }
+        }
+        if (likedProductCacheService.completeRebuild(rebuild)) {
+            log.debug("좋아요 상품 캐시 적재: userId={}, size={}", userId, loaded);
+        } else {
+            log.debug("적재 중 좋아요가 바뀌어 적재 결과를 버림: userId={}", userId);
+        }
+    }
+
+    private Long findUserId(String loginId) {
+        Long userId = userIds.getIfPresent(loginId);
+        if (userId != null) {
+            return userId;
+        }
+        userId = userService.findUserByLoginId(loginId)
+                .map(User::getId)
+                .orElse(null);
+        if (userId != null) {
+            userIds.put(loginId, userId);
+        }
+        return userId;
+    }
+}
@@ -51,7 +51,7 @@ public class OrderFacade {
 
         int originalTotalPrice = 0;
         for (OrderCommand.OrderItemCommand orderItemCommand : createOrderCommand.orderItems()) {
-            Product product = productService.getProductById(orderItemCommand.productId());
+            Product product = productService.getProductByIdForUpdate(orderItemCommand.productId());
             orderService.createOrderItem(order, product, orderItemCommand.quantity());
             originalTotalPrice += orderService.addTotalPrice(order, product.getPrice().getPrice(), orderItemCommand.quantity());
         }
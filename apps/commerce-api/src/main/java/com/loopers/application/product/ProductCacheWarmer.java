@@ -0,0 +1,170 @@
+package com.loopers.application.product;
+
+import com.loopers.infrastructure.cache.ProductAccessTracker;
+import com.loopers.infrastructure.cache.ProductCacheProperties;
+import com.loopers.infrastructure.cache.ProductCacheWarmupState;
+import com.loopers.infrastructure.cache.ProductHotKey;
+import com.loopers.infrastructure.cache.ProductHotKeyStore;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 접근 빈도 기반 상품 캐시 워밍
+ * - 기동: 다른 노드가 저장해 둔 상위 접근 키를 적재한 뒤 readiness 를 UP 으로 전환한다.
+ * - 주기: 노드의 상위 접근 키를 저장하고, 논리 만료 전에 다시 적재한다.
+ * 적재는 cacheRefreshExecutor 에서 concurrency 개까지만 동시에 실행해 DB 부하를 제한한다.
+ */
+@Slf4j
+@Component
+public class ProductCacheWarmer {
+
+    private final ProductFacade productFacade;
+    private final ProductAccessTracker accessTracker;
+    private final ProductHotKeyStore hotKeyStore;
+    private final ProductCacheWarmupState warmupState;
+    private final Executor cacheRefreshExecutor;
+    private final ProductCacheProperties.Warmer properties;
+
+    public ProductCacheWarmer(
+            ProductFacade productFacade,
+            ProductAccessTracker accessTracker,
+            ProductHotKeyStore hotKeyStore,
+            ProductCacheWarmupState warmupState,
+            @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+            ProductCacheProperties properties
+    ) {
+        this.productFacade = productFacade;
+        this.accessTracker = accessTracker;
+        this.hotKeyStore = hotKeyStore;
+        this.warmupState = warmupState;
+        this.cacheRefreshExecutor = cacheRefreshExecutor;
+        this.properties = properties.warmer();
+    }
+
+    private boolean isEnabled() {
+        return properties != null && properties.enabled();
+    }
+
+    /**
+     * 기동 워밍
+     * 시간 초과 시에도 readiness 를 막지 않도록 TIMED_OUT 으로 전환하고, 남은 키는 요청 시 적재된다.
+     */
+    @Async("cacheRefreshExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (!isEnabled()) {
+            warmupState.markReady();
+            return;
+        }
+
+        warmupState.markWarming();
+        try {
+            List<ProductHotKey> hotKeys = hotKeyStore.load(properties.topN());
+            long startedAt = System.currentTimeMillis();
+            boolean completed = warm(hotKeys, properties.timeout());
+
+            if (completed) {
+                log.info("상품 캐시 기동 워밍 완료: keys={}, elapsedMs={}", hotKeys.size(), System.currentTimeMillis() - startedAt);
+                warmupState.markReady();
+            } else {
+                log.warn("상품 캐시 기동 워밍 시간 초과: keys={}, timeout={}", hotKeys.size(), properties.timeout());
+                warmupState.markTimedOut();
+            }
+        } catch (Exception e) {
+            log.error("상품 캐시 기동 워밍 실패, 워밍 없이 트래픽을 받습니다.", e);
+            warmupState.markTimedOut();
+        }
+    }
+
+    /**
+     * 노드의 상위 접근 키를 저장하고 빈도를 절반으로 줄여 최근 접근 위주로 유지한다.
+     */
+    public void persistHotKeys() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        hotKeyStore.save(accessTracker.topKeys(properties.topN()), properties.topN());
+        accessTracker.decay();
+    }
+
+    /**
+     * 노드의 상위 접근 키를 논리 만료 전에 다시 적재한다.
+     */
+    public void refreshHotKeys() {
+        if (!isEnabled() || !warmupState.isFinished()) {
+            return;
+        }
+
+        List<ProductHotKey> hotKeys = decode(accessTracker.topKeys(properties.topN()));
+        if (!warm(hotKeys, properties.refreshInterval())) {
+            log.warn("상품 캐시 주기 워밍이 주기 안에 끝나지 않았습니다: keys={}", hotKeys.size());
+        }
+    }
+
+    private boolean warm(List<ProductHotKey> hotKeys, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Semaphore permits = new Semaphore(properties.concurrency());
+        CountDownLatch remaining = new CountDownLatch(hotKeys.size());
+
+        try {
+            for (ProductHotKey hotKey : hotKeys) {
+                if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    return false;
+                }
+
+                try {
+                    cacheRefreshExecutor.execute(() -> {
+                        try {
+                            warm(hotKey);
+                        } finally {
+                            permits.release();
+                            remaining.countDown();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    log.warn("캐시 워밍 작업이 거부되었습니다: key={}", hotKey.encode());
+                    permits.release();
+                    remaining.countDown();
+                }
+            }
+            return remaining.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void warm(ProductHotKey hotKey) {
+        try {
+            switch (hotKey.type()) {
+                case DETAIL -> productFacade.warmProduct(hotKey.productId());
+                case LIST -> productFacade.warmProducts(new ProductCommand.GetProductsCommand(
+                        hotKey.brandId(), hotKey.sort(), hotKey.page(), hotKey.size()));
+            }
+        } catch (Exception e) {
+            log.debug("캐시 워밍 실패, 건너뜁니다: key={}", hotKey.encode(), e);
+        }
+    }
+
+    private List<ProductHotKey> decode(List<Map.Entry<String, Long>> entries) {
+        List<ProductHotKey> hotKeys = new ArrayList<>(entries.size());
+        for (Map.Entry<String, Long> entry : entries) {
+            hotKeys.add(ProductHotKey.decode(entry.getKey()));
+        }
+        return hotKeys;
+    }
+}
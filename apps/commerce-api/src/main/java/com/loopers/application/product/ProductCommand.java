@@ -9,5 +9,20 @@ public class ProductCommand {
             int size
     ) {
     }
-}
 
+    public record SearchProductsCommand(
+            String query,
+            Long brandId,
+            int page,
+            int size
+    ) {
+    }
+
+    public record GetProductsByCursorCommand(
+            Long brandId,
+            ProductSort sort,
+            String cursor,
+            int size
+    ) {
+    }
+}
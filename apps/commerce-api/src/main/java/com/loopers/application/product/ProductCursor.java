@@ -0,0 +1,73 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.Product;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * 상품 목록 커서
+ * 마지막으로 응답한 상품의 (정렬 컬럼 값, id) 를 담아 다음 페이지를 seek 조건으로 조회한다.
+ * 클라이언트에는 "정렬|값|id" 를 Base64(URL-safe) 로 인코딩한 불투명 토큰으로 전달한다.
+ */
+public record ProductCursor(
+        ProductSort sort,
+        String value,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static ProductCursor of(ProductSort sort, Product lastProduct) {
+        String value = switch (sort) {
+            case LATEST -> lastProduct.getCreatedAt().toInstant().toString();
+            case PRICE_ASC -> String.valueOf(lastProduct.getPrice().getPrice());
+            case LIKES_DESC -> String.valueOf(lastProduct.getLikeCount().getCount());
+        };
+        return new ProductCursor(sort, value, lastProduct.getId());
+    }
+
+    public static ProductCursor decode(String token, ProductSort expectedSort) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("cursor parts: " + parts.length);
+            }
+
+            ProductCursor cursor = new ProductCursor(ProductSort.fromValue(parts[0]), parts[1], Long.parseLong(parts[2]));
+            if (cursor.sort() != expectedSort) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "커서의 정렬 기준이 요청과 다릅니다.");
+            }
+            cursor.validateValue();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = sort.getValue() + DELIMITER + value + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ZonedDateTime createdAt() {
+        return ZonedDateTime.ofInstant(Instant.parse(value), ZoneOffset.UTC);
+    }
+
+    public Integer intValue() {
+        return Integer.valueOf(value);
+    }
+
+    private void validateValue() {
+        if (sort == ProductSort.LATEST) {
+            createdAt();
+        } else {
+            intValue();
+        }
+    }
+}
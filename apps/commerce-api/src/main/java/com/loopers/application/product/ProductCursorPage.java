@@ -0,0 +1,10 @@
+package com.loopers.application.product;
+
+import java.util.List;
+
+public record ProductCursorPage(
+        List<ProductInfo> products,
+        String nextCursor,
+        boolean hasNext
+) {
+}
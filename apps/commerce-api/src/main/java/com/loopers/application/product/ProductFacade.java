@@ -2,18 +2,27 @@ package com.loopers.application.product;
 
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCounter;
+import com.loopers.domain.product.ProductSearchIndex;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSummary;
 import com.loopers.infrastructure.cache.ProductCacheService;
+import com.loopers.infrastructure.cache.ProductContentHash;
+import com.loopers.infrastructure.cache.ProductListingCache;
 import com.loopers.infrastructure.cache.RankingCacheService;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @RequiredArgsConstructor
 @Component
@@ -22,68 +31,266 @@ public class ProductFacade {
     private final ProductService productService;
     private final BrandService brandService;
     private final ProductCacheService productCacheService;
+    private final ProductListingCache productListingCache;
     private final RankingCacheService rankingCacheService;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductLikeCounter productLikeCounter;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int MAX_BATCH_SIZE = 200;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final int MAX_SEARCH_WINDOW = 1_000;
+    private static final long SHARDED_ETAG_MARKER = 0x5348415244L;
 
     public List<ProductInfo> getProducts(ProductCommand.GetProductsCommand command) {
-        return productCacheService.getProductList(
+        return withShardedLikeCounts(productListingCache.getProductList(
                 command.brandId(),
                 command.sort(),
                 command.page(),
                 command.size(),
-                () -> {
-                    List<Product> products;
-
-                    if (ProductSort.LATEST.equals(command.sort())) {
-                        products = productService.findProductsByLatest(
-                                command.brandId(), command.page(), command.size());
-                    } else if (ProductSort.PRICE_ASC.equals(command.sort())) {
-                        products = productService.findProductsByPriceAsc(
-                                command.brandId(), command.page(), command.size());
-                    } else if (ProductSort.LIKES_DESC.equals(command.sort())) {
-                        products = productService.findProductsByLikesDesc(
-                                command.brandId(), command.page(), command.size());
-                    } else {
-                        throw new CoreException(ErrorType.BAD_REQUEST, "지원하지 않는 정렬 기준입니다: " + command.sort());
-                    }
-
-                    Set<Long> brandIds = products.stream()
-                            .map(Product::getBrandId)
-                            .collect(Collectors.toSet());
-
-                    Map<Long, String> brandNamesMap = brandService.findBrandNamesByIds(brandIds.stream().toList());
-
-                    return products.stream()
-                            .map(product -> ProductInfo.from(product, brandNamesMap.get(product.getBrandId())))
-                            .toList();
-                }
-        );
+                () -> loadProductPage(command),
+                this::findProductInfosByIds
+        ));
+    }
+
+    /**
+     * 커서 기반 상품 목록 조회
+     * offset 대신 마지막 상품의 (정렬 값, id) 이후를 seek 하므로 페이지가 깊어져도 조회 비용이 일정하다.
+     */
+    public ProductCursorPage getProductsByCursor(ProductCommand.GetProductsByCursorCommand command) {
+        if (command.size() < 1 || command.size() > MAX_CURSOR_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        ProductCursor cursor = command.cursor() != null && !command.cursor().isBlank()
+                ? ProductCursor.decode(command.cursor(), command.sort())
+                : null;
+        Long lastId = cursor != null ? cursor.id() : null;
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회한다.
+        int fetchSize = command.size() + 1;
+        List<Product> products = switch (command.sort()) {
+            case LATEST -> productService.findProductsByLatestAfter(
+                    command.brandId(), cursor != null ? cursor.createdAt() : null, lastId, fetchSize);
+            case PRICE_ASC -> productService.findProductsByPriceAscAfter(
+                    command.brandId(), cursor != null ? cursor.intValue() : null, lastId, fetchSize);
+            case LIKES_DESC -> productService.findProductsByLikesDescAfter(
+                    command.brandId(), cursor != null ? cursor.intValue() : null, lastId, fetchSize);
+        };
+
+        boolean hasNext = products.size() > command.size();
+        List<Product> pageProducts = hasNext ? products.subList(0, command.size()) : products;
+        String nextCursor = hasNext
+                ? ProductCursor.of(command.sort(), pageProducts.get(pageProducts.size() - 1)).encode()
+                : null;
+
+        return new ProductCursorPage(withShardedLikeCounts(toProductInfos(pageProducts)), nextCursor, hasNext);
+    }
+
+    /**
+     * 상품명 검색
+     * 메모리 색인에서 좋아요 수 순으로 상품 id 만 고른 뒤, 상세 정보는 상품 캐시 일괄 조회로 채운다.
+     */
+    public List<ProductInfo> searchProducts(ProductCommand.SearchProductsCommand command) {
+        if (command.query() == null || command.query().isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "검색어를 입력해주세요.");
+        }
+        if (command.page() < 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 번호는 0 이상이어야 합니다.");
+        }
+        if (command.size() < 1 || command.size() > MAX_SEARCH_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 크기는 1 이상 " + MAX_SEARCH_SIZE + " 이하여야 합니다.");
+        }
+        if ((long) (command.page() + 1) * command.size() > MAX_SEARCH_WINDOW) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "검색 결과는 최대 " + MAX_SEARCH_WINDOW + "개까지 조회할 수 있습니다.");
+        }
+
+        List<Long> productIds = productSearchIndex.search(
+                command.query(), command.brandId(), command.page() * command.size(), command.size());
+
+        return withShardedLikeCounts(productCacheService.getProducts(productIds, this::findProductInfosByIds));
     }
 
     public ProductInfo getProduct(Long productId) {
-        ProductInfo productInfo = productCacheService.getProduct(productId, () -> {
+        String rankingKey = rankingCacheService.getRankingKey(LocalDate.now());
+
+        return withShardedLikeCount(
+                productCacheService.getProductWithRank(productId, rankingKey, () -> loadProductInfo(productId)));
+    }
+
+    /**
+     * 캐시에 저장된 콘텐츠 해시로 만든 상품 상세 ETag (캐시에 값이 없으면 null)
+     */
+    public String findProductETag(Long productId) {
+        String rankingKey = rankingCacheService.getRankingKey(LocalDate.now());
+        Long contentHash = productCacheService.findProductContentHash(productId, rankingKey);
+
+        return contentHash != null ? toETag(contentHash) : null;
+    }
+
+    /**
+     * 캐시에 저장된 콘텐츠 해시로 만든 상품 목록 ETag (캐시에 값이 없으면 null)
+     */
+    public String findProductsETag(ProductCommand.GetProductsCommand command) {
+        Long contentHash = productListingCache.findProductListContentHash(
+                command.brandId(), command.sort(), command.page(), command.size());
+
+        return contentHash != null ? toETag(contentHash) : null;
+    }
+
+    public String getProductETag(ProductInfo productInfo) {
+        long contentHash = ProductContentHash.withRank(ProductContentHash.of(productInfo), productInfo.rank());
+        return toETag(withShardedMarker(contentHash, List.of(productInfo)));
+    }
+
+    public String getProductsETag(List<ProductInfo> productInfos) {
+        return toETag(withShardedMarker(ProductContentHash.ofList(productInfos), productInfos));
+    }
+
+    /**
+     * 좋아요 여부가 담긴 응답의 ETag. 같은 상품이라도 사용자의 좋아요 여부가 바뀌면 달라진다.
+     */
+    public String getProductETag(ProductInfo productInfo, boolean liked) {
+        long contentHash = ProductContentHash.withRank(ProductContentHash.of(productInfo), productInfo.rank());
+        return toETag(ProductContentHash.combine(new long[]{contentHash, liked ? 1L : 0L}));
+    }
+
+    public String getProductsETag(List<ProductInfo> productInfos, Set<Long> likedProductIds) {
+        long[] hashes = new long[productInfos.size() + 1];
+        hashes[0] = ProductContentHash.ofList(productInfos);
+        for (int i = 0; i < productInfos.size(); i++) {
+            hashes[i + 1] = likedProductIds.contains(productInfos.get(i).id()) ? 1L : 0L;
+        }
+        return toETag(ProductContentHash.combine(hashes));
+    }
+
+    /**
+     * 캐시에 저장된 콘텐츠 해시는 샤드 합계를 모르므로, 샤드를 쓰는 상품이 있는 응답의 ETag 는 저장된 해시와 겹치지 않게 한다.
+     * 샤드 합계가 0 일 때 같은 ETag 가 되면 이후 샤드에 좋아요가 쌓여도 캐시 ETag 경로가 304 나 보관된 본문으로 답한다.
+     */
+    private long withShardedMarker(long contentHash, List<ProductInfo> productInfos) {
+        boolean containsSharded = productInfos.stream().anyMatch(productInfo -> productLikeCounter.isSharded(productInfo.id()));
+        return containsSharded ? ProductContentHash.combine(new long[]{contentHash, SHARDED_ETAG_MARKER}) : contentHash;
+    }
+
+    private static String toETag(long contentHash) {
+        return "\"" + Long.toHexString(contentHash) + "\"";
+    }
+
+    /**
+     * 상품 상세 캐시 워밍
+     */
+    public void warmProduct(Long productId) {
+        productCacheService.warmProduct(productId, () -> loadProductInfo(productId));
+    }
+
+    /**
+     * 상품 목록 캐시 워밍
+     */
+    public void warmProducts(ProductCommand.GetProductsCommand command) {
+        productListingCache.warmProductList(
+                command.brandId(),
+                command.sort(),
+                command.page(),
+                command.size(),
+                () -> loadProductPage(command)
+        );
+    }
+
+    /**
+     * 상품 상세 일괄 조회
+     * 캐시 MGET 1회, 미스 상품 DB 조회(브랜드명 조인) 1회, 랭킹 파이프라인 1회로 처리하며 요청 순서를 유지한다.
+     */
+    public List<ProductInfo> getProductsByIds(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "조회할 상품 ID가 없습니다.");
+        }
+        if (productIds.size() > MAX_BATCH_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "한 번에 조회할 수 있는 상품은 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+
+        List<Long> distinctIds = productIds.stream().distinct().toList();
+        Map<Long, ProductInfo> productInfos = productCacheService.getProducts(distinctIds, this::findProductInfosByIds).stream()
+                .collect(Collectors.toMap(ProductInfo::id, Function.identity()));
+        Map<Long, Long> ranks = rankingCacheService.getProductRanks(LocalDate.now(), List.copyOf(productInfos.keySet()));
+
+        return productIds.stream()
+                .map(productInfos::get)
+                .filter(Objects::nonNull)
+                .map(productInfo -> ranks.containsKey(productInfo.id()) ? productInfo.withRank(ranks.get(productInfo.id())) : productInfo)
+                .map(this::withShardedLikeCount)
+                .toList();
+    }
+
+    /**
+     * 캐시와 색인에는 products.like_count 만 담으므로, 샤드를 쓰는 상품은 응답 직전에 샤드 합계를 더한다.
+     */
+    private ProductInfo withShardedLikeCount(ProductInfo productInfo) {
+        if (productInfo == null || !productLikeCounter.isSharded(productInfo.id())) {
+            return productInfo;
+        }
+        return productInfo.withLikeCount(productLikeCounter.getLikeCount(productInfo.id(), productInfo.likeCount()));
+    }
+
+    private List<ProductInfo> withShardedLikeCounts(List<ProductInfo> productInfos) {
+        return productInfos.stream().map(this::withShardedLikeCount).toList();
+    }
+
+    /**
+     * 캐시에 적재할 값은 Primary 에서 읽는다.
+     * 읽기-쓰기 트랜잭션으로 감싸면 안쪽 readOnly 조회가 이 트랜잭션에 참여해 Replica 로 라우팅되지 않으므로,
+     * 무효화 직후의 재적재가 지연된 Replica 값을 논리 TTL 동안 캐시하지 않는다.
+     */
+    private <T> T readFromPrimary(Supplier<T> reader) {
+        return transactionTemplate.execute(status -> reader.get());
+    }
+
+    private ProductInfo loadProductInfo(Long productId) {
+        return readFromPrimary(() -> {
             Product product = productService.findProductById(productId)
                     .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
             String brandName = brandService.findBrandNameById(product.getBrandId());
             return ProductInfo.from(product, brandName);
         });
+    }
 
-        Long rank = rankingCacheService.getProductRank(LocalDate.now(), productId);
-
-        if (rank != null) {
-            return new ProductInfo(
-                    productInfo.id(),
-                    productInfo.name(),
-                    productInfo.brandId(),
-                    productInfo.brandName(),
-                    productInfo.price(),
-                    productInfo.likeCount(),
-                    productInfo.stock(),
-                    productInfo.createdAt(),
-                    rank
-            );
-        }
+    private List<ProductInfo> loadProductPage(ProductCommand.GetProductsCommand command) {
+        return readFromPrimary(() -> {
+            List<ProductSummary> summaries;
 
-        return productInfo;
+            if (ProductSort.LATEST.equals(command.sort())) {
+                summaries = productService.findProductSummariesByLatest(
+                        command.brandId(), command.page(), command.size());
+            } else if (ProductSort.PRICE_ASC.equals(command.sort())) {
+                summaries = productService.findProductSummariesByPriceAsc(
+                        command.brandId(), command.page(), command.size());
+            } else if (ProductSort.LIKES_DESC.equals(command.sort())) {
+                summaries = productService.findProductSummariesByLikesDesc(
+                        command.brandId(), command.page(), command.size());
+            } else {
+                throw new CoreException(ErrorType.BAD_REQUEST, "지원하지 않는 정렬 기준입니다: " + command.sort());
+            }
+
+            return summaries.stream().map(ProductInfo::from).toList();
+        });
+    }
+
+    private List<ProductInfo> findProductInfosByIds(List<Long> productIds) {
+        return readFromPrimary(() -> productService.findProductSummariesByIds(productIds).stream()
+                .map(ProductInfo::from)
+                .toList());
     }
-}
 
+    private List<ProductInfo> toProductInfos(List<Product> products) {
+        Set<Long> brandIds = products.stream()
+                .map(Product::getBrandId)
+                .collect(Collectors.toSet());
+
+        Map<Long, String> brandNamesMap = brandService.findBrandNamesByIds(brandIds.stream().toList());
+
+        return products.stream()
+                .map(product -> ProductInfo.from(product, brandNamesMap.get(product.getBrandId())))
+                .toList();
+    }
+}
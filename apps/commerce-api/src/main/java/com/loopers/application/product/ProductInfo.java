@@ -1,6 +1,7 @@
 package com.loopers.application.product;
 
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductSummary;
 import java.time.ZonedDateTime;
 
 public record ProductInfo(
@@ -41,5 +42,26 @@ public record ProductInfo(
                 rank
         );
     }
-}
 
+    public static ProductInfo from(ProductSummary summary) {
+        return new ProductInfo(
+                summary.id(),
+                summary.name(),
+                summary.brandId(),
+                summary.brandName(),
+                summary.price(),
+                summary.likeCount(),
+                summary.stock(),
+                summary.createdAt(),
+                null
+        );
+    }
+
+    public ProductInfo withRank(Long rank) {
+        return new ProductInfo(id, name, brandId, brandName, price, likeCount, stock, createdAt, rank);
+    }
+
+    public ProductInfo withLikeCount(Integer likeCount) {
+        return new ProductInfo(id, name, brandId, brandName, price, likeCount, stock, createdAt, rank);
+    }
+}
@@ -2,6 +2,7 @@ package com.loopers.application.ranking;
 
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCounter;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.ranking.Ranking;
 import com.loopers.domain.ranking.RankingService;
@@ -24,6 +25,7 @@ public class RankingFacade {
     private final RankingService rankingService;
     private final ProductService productService;
     private final BrandService brandService;
+    private final ProductLikeCounter productLikeCounter;
 
     public RankingInfo getRanking(RankingCommand.GetRankingCommand command) {
         List<Ranking> rankings;
@@ -71,7 +73,7 @@ public class RankingFacade {
                             product.getName(),
                             brandName,
                             product.getPrice().getPrice(),
-                            product.getLikeCount().getCount(),
+                            productLikeCounter.getLikeCount(product.getId(), product.getLikeCount().getCount()),
                             ranking.rank(),
                             ranking.score()
                     );
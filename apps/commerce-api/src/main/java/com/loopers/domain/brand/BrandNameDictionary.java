@@ -0,0 +1,123 @@
+package com.loopers.domain.brand;
+
+import com.loopers.support.collection.LongObjectHashMap;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리에 적재한 브랜드 ID → 이름 사전
+ * 조회는 잠금 없이 현재 맵을 읽고, 갱신은 복사본을 만들어 교체한다(copy-on-write).
+ * 최초 한 번 전체를 적재한 뒤에는 updated_at 최고 수위선 이후 변경분만 반영하며, 수위선에서 safetyLag 만큼 겹쳐 읽어
+ * 늦게 커밋된 변경도 놓치지 않는다. 비활성화되어 있으면 항상 비어 있어 호출 측이 DB 를 조회한다.
+ */
+@Slf4j
+@Component
+public class BrandNameDictionary {
+
+    private final BrandRepository brandRepository;
+    private final boolean enabled;
+    private final Duration safetyLag;
+
+    private volatile LongObjectHashMap<String> names = new LongObjectHashMap<>();
+    private ZonedDateTime highWaterMark;
+
+    public BrandNameDictionary(
+            BrandRepository brandRepository,
+            @Value("${brand-dictionary.enabled:true}") boolean enabled,
+            @Value("${brand-dictionary.safety-lag:5s}") Duration safetyLag
+    ) {
+        this.brandRepository = brandRepository;
+        this.enabled = enabled;
+        this.safetyLag = safetyLag;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String get(Long brandId) {
+        return brandId != null ? names.get(brandId) : null;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * 전체 적재 전이면 전체를, 이후에는 변경분만 반영한다.
+     */
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+        if (highWaterMark == null) {
+            reloadAll();
+            return;
+        }
+
+        List<BrandNameSnapshot> changed = brandRepository.findBrandNamesUpdatedSince(highWaterMark.minus(safetyLag));
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        LongObjectHashMap<String> next = names.copy();
+        for (BrandNameSnapshot snapshot : changed) {
+            if (snapshot.isDeleted()) {
+                next.remove(snapshot.id());
+            } else {
+                next.put(snapshot.id(), snapshot.name());
+            }
+            advance(snapshot.updatedAt());
+        }
+        names = next;
+        log.debug("브랜드 이름 사전 변경분 반영: changed={}, size={}", changed.size(), next.size());
+    }
+
+    /**
+     * 전체를 다시 적재한다. 물리 삭제된 브랜드도 이때 사라진다.
+     */
+    public synchronized void reloadAll() {
+        if (!enabled) {
+            return;
+        }
+
+        List<BrandNameSnapshot> all = brandRepository.findAllBrandNames();
+        LongObjectHashMap<String> next = new LongObjectHashMap<>(all.size());
+        ZonedDateTime loadedHighWaterMark = null;
+        for (BrandNameSnapshot snapshot : all) {
+            if (!snapshot.isDeleted()) {
+                next.put(snapshot.id(), snapshot.name());
+            }
+            if (loadedHighWaterMark == null || snapshot.updatedAt().isAfter(loadedHighWaterMark)) {
+                loadedHighWaterMark = snapshot.updatedAt();
+            }
+        }
+        names = next;
+        highWaterMark = loadedHighWaterMark != null ? loadedHighWaterMark : ZonedDateTime.now().minus(safetyLag);
+        log.info("브랜드 이름 사전 전체 적재: size={}", next.size());
+    }
+
+    /**
+     * 사전에 없어 DB 에서 조회한 이름을 채운다.
+     */
+    public synchronized void putAll(Map<Long, String> brandNames) {
+        if (!enabled || brandNames.isEmpty()) {
+            return;
+        }
+
+        LongObjectHashMap<String> next = names.copy();
+        brandNames.forEach(next::put);
+        names = next;
+    }
+
+    private void advance(ZonedDateTime updatedAt) {
+        if (highWaterMark == null || updatedAt.isAfter(highWaterMark)) {
+            highWaterMark = updatedAt;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.loopers.domain.brand;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 브랜드 이름 사전 적재용 projection
+ */
+public record BrandNameSnapshot(
+        Long id,
+        String name,
+        ZonedDateTime updatedAt,
+        ZonedDateTime deletedAt
+) {
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+}
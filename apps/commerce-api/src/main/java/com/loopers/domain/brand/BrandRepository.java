@@ -1,5 +1,6 @@
 package com.loopers.domain.brand;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -14,5 +15,9 @@ public interface BrandRepository {
 
     Map<Long, String> findBrandNamesByIds(List<Long> brandIds);
 
+    List<BrandNameSnapshot> findAllBrandNames();
+
+    List<BrandNameSnapshot> findBrandNamesUpdatedSince(ZonedDateTime since);
+
 }
 
@@ -2,6 +2,8 @@ package com.loopers.domain.brand;
 
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -13,20 +15,55 @@ import org.springframework.stereotype.Service;
 public class BrandService {
 
     private final BrandRepository brandRepository;
+    private final BrandNameDictionary brandNameDictionary;
 
     public Optional<Brand> findBrandById(Long brandId) {
         return brandRepository.findById(brandId);
     }
 
+    /**
+     * 브랜드 이름 조회
+     * 브랜드 이름 사전에 없을 때만 DB 를 조회하고 사전에 채운다.
+     */
     public String findBrandNameById(Long brandId) {
+        String cachedName = brandNameDictionary.get(brandId);
+        if (cachedName != null) {
+            return cachedName;
+        }
+
         String brandName = brandRepository.findNameById(brandId);
         if (brandName == null) {
             throw new CoreException(ErrorType.NOT_FOUND, "브랜드를 찾을 수 없습니다.");
         }
+        brandNameDictionary.putAll(Map.of(brandId, brandName));
         return brandName;
     }
 
+    /**
+     * 브랜드 이름 일괄 조회
+     * 사전에 없는 ID 만 한 번에 DB 에서 조회한다.
+     */
     public Map<Long, String> findBrandNamesByIds(List<Long> brandIds) {
-        return brandRepository.findBrandNamesByIds(brandIds);
+        if (brandIds == null || brandIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, String> brandNames = new HashMap<>(brandIds.size() * 2);
+        List<Long> missIds = new ArrayList<>();
+        for (Long brandId : brandIds) {
+            String cachedName = brandNameDictionary.get(brandId);
+            if (cachedName != null) {
+                brandNames.put(brandId, cachedName);
+            } else {
+                missIds.add(brandId);
+            }
+        }
+
+        if (!missIds.isEmpty()) {
+            Map<Long, String> loaded = brandRepository.findBrandNamesByIds(missIds);
+            brandNames.putAll(loaded);
+            brandNameDictionary.putAll(loaded);
+        }
+        return brandNames;
     }
 }
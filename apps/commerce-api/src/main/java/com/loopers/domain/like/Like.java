@@ -3,6 +3,7 @@ package com.loopers.domain.like;
 import com.loopers.domain.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
@@ -12,6 +13,9 @@ import lombok.Getter;
         name = "likes",
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_user_product", columnNames = {"user_id", "product_id"})
+        },
+        indexes = {
+                @Index(name = "idx_likes_user_created", columnList = "user_id, created_at")
         }
 )
 @Getter
@@ -0,0 +1,15 @@
+package com.loopers.domain.like;
+
+import java.util.List;
+
+/**
+ * 일괄 좋아요/취소로 실제로 등록되거나 삭제된 상품 ID
+ */
+public record LikeChanges(
+        List<Long> likedProductIds,
+        List<Long> unlikedProductIds
+) {
+    public boolean isEmpty() {
+        return likedProductIds.isEmpty() && unlikedProductIds.isEmpty();
+    }
+}
@@ -13,7 +13,30 @@ public interface LikeRepository {
 
     boolean deleteIfPresent(Long userId, Long productId);
 
+    /**
+     * 사용자의 좋아요 중 productIds 에 해당하는 행과 그 사이 간격을 잠그고 상품 ID 를 반환한다.
+     * 트랜잭션이 끝날 때까지 같은 (사용자, 상품) 좋아요의 등록/취소가 대기하므로 조회 결과가 그대로 유지된다.
+     */
+    List<Long> findProductIdsByUserIdForUpdate(Long userId, List<Long> productIds);
+
+    /**
+     * 하나의 다중 행 INSERT IGNORE 로 등록하고 실제로 등록된 상품 ID 를 반환한다.
+     * 이미 있어 무시된 행은 결과에서 빠진다.
+     */
+    List<Long> saveAllIfAbsent(Long userId, List<Long> productIds);
+
+    /**
+     * 하나의 DELETE ... IN 으로 삭제하고 삭제된 행 수를 반환한다.
+     */
+    int deleteAll(Long userId, List<Long> productIds);
+
     List<Long> findProductIdsByUserId(Long userId);
 
+    List<Like> findLikesByUserId(Long userId, Long lastId, int size);
+
+    List<Long> findLatestLikedProductIds(Long userId, long offset, int size);
+
+    List<Long> findLikedProductIdsAmong(Long userId, List<Long> productIds);
+
     boolean existsByUserIdAndProductId(Long userId, Long productId);
 }
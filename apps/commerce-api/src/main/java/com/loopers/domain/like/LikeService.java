@@ -1,8 +1,12 @@
 package com.loopers.domain.like;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 
@@ -33,8 +37,53 @@ public class LikeService {
         return likeRepository.deleteIfPresent(userId, productId);
     }
 
+    /**
+     * 한 사용자의 여러 상품 좋아요/취소를 한 번에 반영한다.
+     * 대상 좋아요 행을 먼저 잠가 현재 상태를 확정한 뒤, 없는 것만 다중 행 INSERT IGNORE 로, 있는 것만 DELETE ... IN 으로 반영한다.
+     * READ COMMITTED 에서는 잠금 조회 뒤 다른 트랜잭션이 같은 좋아요를 먼저 등록할 수 있으므로, 실제로 등록된 행만 결과에 담는다.
+     */
+    @Transactional
+    public LikeChanges changeLikes(Long userId, List<Long> likeProductIds, List<Long> unlikeProductIds) {
+        List<Long> productIds = new ArrayList<>(likeProductIds.size() + unlikeProductIds.size());
+        productIds.addAll(likeProductIds);
+        productIds.addAll(unlikeProductIds);
+        if (productIds.isEmpty()) {
+            return new LikeChanges(List.of(), List.of());
+        }
+
+        Set<Long> likedProductIds = new HashSet<>(likeRepository.findProductIdsByUserIdForUpdate(userId, productIds));
+        List<Long> toLike = likeProductIds.stream()
+                .filter(productId -> !likedProductIds.contains(productId))
+                .toList();
+        List<Long> toUnlike = unlikeProductIds.stream()
+                .filter(likedProductIds::contains)
+                .toList();
+
+        List<Long> liked = likeRepository.saveAllIfAbsent(userId, toLike);
+        likeRepository.deleteAll(userId, toUnlike);
+        return new LikeChanges(liked, toUnlike);
+    }
+
     public List<Long> findLikedProductIds(Long userId) {
         return likeRepository.findProductIdsByUserId(userId);
     }
 
+    /**
+     * 사용자의 좋아요를 ID 순으로 lastId 다음부터 size 개 조회한다.
+     */
+    public List<Like> findLikes(Long userId, Long lastId, int size) {
+        return likeRepository.findLikesByUserId(userId, lastId, size);
+    }
+
+    /**
+     * 사용자가 좋아요한 상품 ID 를 최근 좋아요 순으로 offset 부터 size 개 조회한다.
+     */
+    public List<Long> findLatestLikedProductIds(Long userId, long offset, int size) {
+        return likeRepository.findLatestLikedProductIds(userId, offset, size);
+    }
+
+    public List<Long> findLikedProductIdsAmong(Long userId, List<Long> productIds) {
+        return likeRepository.findLikedProductIdsAmong(userId, productIds);
+    }
+
 }
@@ -5,19 +5,28 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import java.time.ZonedDateTime;
 import lombok.Builder;
 import lombok.Getter;
 
 @Entity
-@Table(name = "outbox")
+@Table(
+        name = "outbox",
+        indexes = {
+                @Index(name = "idx_outbox_aggregation", columnList = "partition_key, topic, aggregated_at"),
+                // 재반영 대상(aggregated_at IS NULL) 파티션 키 조회
+                @Index(name = "idx_outbox_unaggregated", columnList = "aggregated_at, topic, created_at")
+        }
+)
 @Getter
 public class Outbox extends BaseEntity {
 
     @Column(nullable = false, length = 100)
     private String topic;
 
-    @Column(nullable = false, length = 100)
+    @Column(name = "partition_key", nullable = false, length = 100)
     private String partitionKey;
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -33,6 +42,12 @@ public class Outbox extends BaseEntity {
     @Column(nullable = false)
     private Integer retryCount;
 
+    /**
+     * 좋아요 수 write-behind 집계에 반영된 시각 (좋아요/취소 이벤트만 사용)
+     */
+    @Column(name = "aggregated_at")
+    private ZonedDateTime aggregatedAt;
+
     @Builder
     private Outbox(String topic, String partitionKey, String payload, OutboxStatus status, Integer retryCount) {
         this.topic = topic;
@@ -0,0 +1,11 @@
+package com.loopers.domain.outbox;
+
+/**
+ * outbox 에 한꺼번에 기록할 이벤트 하나
+ */
+public record OutboxMessage(
+        String topic,
+        String partitionKey,
+        Object event
+) {
+}
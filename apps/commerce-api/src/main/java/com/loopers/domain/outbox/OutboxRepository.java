@@ -1,10 +1,16 @@
 package com.loopers.domain.outbox;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 
 public interface OutboxRepository {
     void saveOutbox(Outbox outbox);
 
+    /**
+     * 여러 이벤트를 한 번의 배치 INSERT 로 기록한다.
+     */
+    void saveOutboxes(List<Outbox> outboxes);
+
     List<Outbox> findPendingOutboxes(int limit);
 
     List<Outbox> findFailedAndRetryableOutboxes(int limit, int maxRetries);
@@ -12,5 +18,9 @@ public interface OutboxRepository {
     void markAsPublished(Long id);
 
     void markAsFailed(Long id, String message);
+
+    int claimForAggregation(String topic, String partitionKey, int limit);
+
+    List<String> findUnaggregatedPartitionKeys(List<String> topics, ZonedDateTime createdBefore, int limit);
 }
 
@@ -3,6 +3,8 @@ package com.loopers.domain.outbox;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +35,41 @@ public class OutboxService {
         }
     }
 
+    /**
+     * 여러 이벤트를 직렬화해 한 번의 배치 INSERT 로 기록한다. (일괄 좋아요 등)
+     */
+    @Transactional
+    public void saveOutboxes(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        try {
+            List<Outbox> outboxes = new ArrayList<>(messages.size());
+            for (OutboxMessage message : messages) {
+                String payload = objectMapper.writeValueAsString(message.event());
+                outboxes.add(Outbox.create(message.topic(), message.partitionKey(), payload));
+            }
+            outboxRepository.saveOutboxes(outboxes);
+        } catch (Exception e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "이벤트 저장에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 아직 집계에 반영되지 않은 이벤트를 오래된 순으로 최대 limit 건 집계 완료로 표시하고, 표시한 건수를 반환한다.
+     * 행 잠금 후 표시하므로 같은 이벤트를 두 노드가 중복으로 가져가지 않는다. 호출 측 트랜잭션 안에서 실행해야 한다.
+     */
+    public int claimForAggregation(String topic, String partitionKey, int limit) {
+        if (limit <= 0) {
+            return 0;
+        }
+        return outboxRepository.claimForAggregation(topic, partitionKey, limit);
+    }
+
+    public List<String> findUnaggregatedPartitionKeys(List<String> topics, ZonedDateTime createdBefore, int limit) {
+        return outboxRepository.findUnaggregatedPartitionKeys(topics, createdBefore, limit);
+    }
+
     public void publishPendingOutboxes(int batchSize) {
         List<Outbox> pendingOutboxes = outboxRepository.findPendingOutboxes(batchSize);
 
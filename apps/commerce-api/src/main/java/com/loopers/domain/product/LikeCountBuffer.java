@@ -0,0 +1,64 @@
+package com.loopers.domain.product;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 수 write-behind 버퍼
+ * 좋아요/취소 건수를 상품별로 메모리에 모았다가 주기적으로 꺼내 상품당 한 번의 가산 UPDATE 로 반영한다.
+ * 누적은 ConcurrentHashMap.compute 로, 꺼내기는 상품 단위 remove 로 하여 버킷 단위 잠금만 잡으며, 꺼내는 도중의 변경도 유실되지 않는다.
+ * 버퍼는 노드 메모리에만 있으므로 비정상 종료 시 사라질 수 있고, 이는 outbox 에 남은 미집계 이벤트로 다시 반영한다.
+ */
+@Component
+public class LikeCountBuffer {
+
+    private final ConcurrentHashMap<Long, PendingLikeCount> pending = new ConcurrentHashMap<>();
+
+    public LikeCountBuffer(MeterRegistry meterRegistry) {
+        Gauge.builder("product.like.buffer.size", pending, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    public void recordLike(Long productId) {
+        add(productId, 1, 0);
+    }
+
+    public void recordUnlike(Long productId) {
+        add(productId, 0, 1);
+    }
+
+    /**
+     * 모인 건수를 모두 꺼낸다. 꺼낸 상품은 버퍼에서 제거된다.
+     */
+    public List<PendingLikeCount> drain() {
+        List<PendingLikeCount> drained = new ArrayList<>(pending.size());
+        for (Long productId : pending.keySet()) {
+            PendingLikeCount pendingLikeCount = pending.remove(productId);
+            if (pendingLikeCount != null) {
+                drained.add(pendingLikeCount);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 반영에 실패한 건수를 다음 주기에 다시 반영하도록 되돌린다.
+     */
+    public void restore(PendingLikeCount pendingLikeCount) {
+        add(pendingLikeCount.productId(), pendingLikeCount.likes(), pendingLikeCount.unlikes());
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    private void add(Long productId, int likes, int unlikes) {
+        pending.compute(productId, (id, current) -> current == null
+                ? new PendingLikeCount(id, likes, unlikes)
+                : current.plus(likes, unlikes));
+    }
+}
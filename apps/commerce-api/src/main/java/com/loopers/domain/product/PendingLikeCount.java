@@ -0,0 +1,18 @@
+package com.loopers.domain.product;
+
+/**
+ * 한 상품에 대해 반영을 기다리는 좋아요/취소 건수
+ */
+public record PendingLikeCount(
+        Long productId,
+        int likes,
+        int unlikes
+) {
+    public PendingLikeCount plus(int likes, int unlikes) {
+        return new PendingLikeCount(productId, this.likes + likes, this.unlikes + unlikes);
+    }
+
+    public int delta() {
+        return likes - unlikes;
+    }
+}
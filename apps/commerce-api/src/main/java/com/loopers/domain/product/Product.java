@@ -18,10 +18,12 @@ import lombok.Getter;
 @Table(
         name = "products",
         indexes = {
-                @Index(name = "idx_brand_id", columnList = "brand_id"),
                 @Index(name = "idx_global_price", columnList = "is_deleted, price"),
                 @Index(name = "idx_global_likes", columnList = "is_deleted, like_count DESC"),
-                @Index(name = "idx_global_latest", columnList = "is_deleted, created_at DESC")
+                @Index(name = "idx_global_latest", columnList = "is_deleted, created_at DESC"),
+                @Index(name = "idx_brand_price", columnList = "brand_id, is_deleted, price"),
+                @Index(name = "idx_brand_likes", columnList = "brand_id, is_deleted, like_count DESC"),
+                @Index(name = "idx_brand_latest", columnList = "brand_id, is_deleted, created_at DESC")
         }
 )
 @Getter
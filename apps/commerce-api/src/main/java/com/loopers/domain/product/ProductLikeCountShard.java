@@ -0,0 +1,36 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+
+/**
+ * 상품 좋아요 수 샤드
+ * 좋아요가 몰리는 상품은 좋아요 수 변화량을 상품 행 대신 N 개의 샤드 행 중 하나에 나누어 가산한다.
+ * 상품의 좋아요 수는 products.like_count 와 샤드 합계의 합이며, 샤드 합계는 주기적으로 products.like_count 에 접어 넣고 0 으로 돌린다.
+ */
+@Entity
+@Table(
+        name = "product_like_count_shard",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_product_shard", columnNames = {"product_id", "shard_no"})
+        }
+)
+@Getter
+public class ProductLikeCountShard extends BaseEntity {
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(name = "like_count", nullable = false)
+    private Integer count;
+
+    protected ProductLikeCountShard() {
+    }
+}
@@ -0,0 +1,24 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+public interface ProductLikeCountShardRepository {
+
+    /**
+     * 0 ~ shardCount-1 번 샤드 행을 만든다. 이미 있는 샤드는 건너뛴다.
+     */
+    void createShards(Long productId, int shardCount);
+
+    int addCount(Long productId, int shardNo, int delta);
+
+    long sumCount(Long productId);
+
+    /**
+     * 샤드 행을 잠그고 합계를 읽는다. 접어 넣는 동안 다른 가산은 대기한다.
+     */
+    long sumCountForUpdate(Long productId);
+
+    void resetCounts(Long productId);
+
+    List<Long> findShardedProductIds();
+}
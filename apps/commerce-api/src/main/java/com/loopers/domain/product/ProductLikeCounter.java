@@ -0,0 +1,149 @@
+package com.loopers.domain.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 좋아요 수 카운터
+ * 보통은 products.like_count 를 가산 UPDATE 하고, 샤드를 켠 상품은 임의의 샤드 행에 가산해 한 행에 잠금이 몰리지 않게 한다.
+ * 한 번의 반영에 모인 좋아요/취소가 threshold 이상이면 그 상품의 샤드를 켠다. (enabled 일 때만)
+ * 샤드를 켠 상품의 좋아요 수는 products.like_count 에 샤드 합계를 더한 값이며, 합계는 readCacheTtl 동안 캐시한다.
+ * 정렬은 products.like_count 로 하므로 fold 로 샤드 합계를 주기적으로 접어 넣는다.
+ */
+@Slf4j
+@Component
+public class ProductLikeCounter {
+
+    private final ProductRepository productRepository;
+    private final ProductLikeCountShardRepository shardRepository;
+    private final boolean enabled;
+    private final int shardCount;
+    private final int threshold;
+    private final Set<Long> shardedProductIds = ConcurrentHashMap.newKeySet();
+    private final Cache<Long, Long> shardSums;
+
+    public ProductLikeCounter(
+            ProductRepository productRepository,
+            ProductLikeCountShardRepository shardRepository,
+            @Value("${like-count.shard.enabled:false}") boolean enabled,
+            @Value("${like-count.shard.count:16}") int shardCount,
+            @Value("${like-count.shard.threshold:100}") int threshold,
+            @Value("${like-count.shard.read-cache-ttl:1s}") Duration readCacheTtl
+    ) {
+        this.productRepository = productRepository;
+        this.shardRepository = shardRepository;
+        this.enabled = enabled;
+        this.shardCount = shardCount;
+        this.threshold = threshold;
+        this.shardSums = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(readCacheTtl)
+                .build();
+    }
+
+    public boolean isSharded(Long productId) {
+        return shardedProductIds.contains(productId);
+    }
+
+    /**
+     * 한 번의 반영에 모인 건수가 threshold 이상이고 아직 샤드가 없으면 샤드를 켠다. (반영 트랜잭션에 참여한다)
+     */
+    @Transactional
+    public void enableShardingIfHot(PendingLikeCount pendingLikeCount) {
+        if (!enabled || isSharded(pendingLikeCount.productId())) {
+            return;
+        }
+        if (pendingLikeCount.likes() + pendingLikeCount.unlikes() >= threshold) {
+            createShards(pendingLikeCount.productId());
+        }
+    }
+
+    @Transactional
+    public void enableSharding(Long productId) {
+        createShards(productId);
+    }
+
+    /**
+     * 샤드 행을 만들고, 트랜잭션이 커밋된 뒤에만 샤드로 가산하도록 상품 ID 를 기록한다.
+     */
+    private void createShards(Long productId) {
+        shardRepository.createShards(productId, shardCount);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                shardedProductIds.add(productId);
+                log.info("좋아요 수 샤드 사용: productId={}, shardCount={}", productId, shardCount);
+            }
+        });
+    }
+
+    /**
+     * 좋아요 수 변화량을 반영한다.
+     */
+    @Transactional
+    public void add(Long productId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (isSharded(productId)) {
+            int shardNo = ThreadLocalRandom.current().nextInt(shardCount);
+            if (shardRepository.addCount(productId, shardNo, delta) > 0) {
+                return;
+            }
+        }
+        productRepository.addLikeCount(productId, delta);
+    }
+
+    /**
+     * products.like_count 값(baseCount)에 샤드 합계를 더한 좋아요 수
+     */
+    public int getLikeCount(Long productId, int baseCount) {
+        if (!isSharded(productId)) {
+            return baseCount;
+        }
+        long shardSum = shardSums.get(productId, shardRepository::sumCount);
+        return (int) Math.max(0, baseCount + shardSum);
+    }
+
+    /**
+     * 접어 넣을 샤드 값이 있는지 잠그지 않고 확인한다.
+     */
+    public boolean hasUnfoldedCount(Long productId) {
+        return shardRepository.sumCount(productId) != 0;
+    }
+
+    /**
+     * 샤드 합계를 products.like_count 에 더하고 샤드를 0 으로 돌린다. 접어 넣은 값을 반환한다.
+     */
+    @Transactional
+    public long fold(Long productId) {
+        long shardSum = shardRepository.sumCountForUpdate(productId);
+        if (shardSum == 0) {
+            return 0;
+        }
+        productRepository.addLikeCount(productId, Math.toIntExact(shardSum));
+        shardRepository.resetCounts(productId);
+        shardSums.invalidate(productId);
+        return shardSum;
+    }
+
+    /**
+     * 다른 노드가 켠 샤드도 쓰도록 샤드가 있는 상품 ID 를 다시 읽는다.
+     */
+    public List<Long> refreshShardedProductIds() {
+        List<Long> productIds = shardRepository.findShardedProductIds();
+        shardedProductIds.addAll(productIds);
+        return productIds;
+    }
+}
@@ -1,5 +1,6 @@
 package com.loopers.domain.product;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,14 +8,43 @@ public interface ProductRepository {
 
     Optional<Product> findProductById(Long productId);
 
+    /**
+     * 변경 목적 조회. 커밋 시점에 version 을 다시 확인하여 그 사이 다른 트랜잭션이 수정했으면 실패한다.
+     */
+    Optional<Product> findProductByIdForUpdate(Long productId);
+
     void saveProduct(Product product);
 
+    /**
+     * 좋아요 수 변화량을 엔티티 조회 없이 한 번의 가산 UPDATE 로 반영한다. (0 미만으로 내려가지 않는다)
+     */
+    int addLikeCount(Long productId, int delta);
+
     List<Product> findProductsByLatest(Long brandId, int page, int size);
 
     List<Product> findProductsByPriceAsc(Long brandId, int page, int size);
 
     List<Product> findProductsByLikesDesc(Long brandId, int page, int size);
 
+    List<Product> findProductsByLatestAfter(Long brandId, ZonedDateTime lastCreatedAt, Long lastId, int size);
+
+    List<Product> findProductsByPriceAscAfter(Long brandId, Integer lastPrice, Long lastId, int size);
+
+    List<Product> findProductsByLikesDescAfter(Long brandId, Integer lastLikeCount, Long lastId, int size);
+
     List<Product> findProductsByIds(List<Long> productIds);
 
+    List<ProductSummary> findProductSummariesByLatest(Long brandId, int page, int size);
+
+    List<ProductSummary> findProductSummariesByPriceAsc(Long brandId, int page, int size);
+
+    List<ProductSummary> findProductSummariesByLikesDesc(Long brandId, int page, int size);
+
+    List<ProductSummary> findProductSummariesByIds(List<Long> productIds);
+
+    /**
+     * 검색 색인 적재용. 삭제되지 않은 상품을 id 오름차순으로 lastId 이후부터 size 개 조회한다.
+     */
+    List<ProductSearchDocument> findSearchDocumentsAfter(Long lastId, int size);
+
 }
@@ -0,0 +1,12 @@
+package com.loopers.domain.product;
+
+/**
+ * 상품명 검색 색인에 적재하는 최소 필드
+ */
+public record ProductSearchDocument(
+        Long id,
+        String name,
+        Long brandId,
+        Integer likeCount
+) {
+}
@@ -0,0 +1,366 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.collection.LongObjectHashMap;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리에 적재한 상품명 역색인
+ * 상품명을 정규화(NFKC, 소문자, 공백 제거)한 뒤 글자 bigram 으로 나누어 posting list(int[])에 문서 번호를 담는다.
+ * 한글은 형태소 분석 없이도 두 글자 단위로 부분 일치를 찾을 수 있고, 공백을 지우므로 띄어쓰기가 달라도 찾는다. 한 글자 질의는 unigram 으로 찾는다.
+ * 문서 번호는 상품 id 오름차순으로 부여하므로 posting list 는 정렬되어 있고, 교집합은 가장 짧은 목록을 기준으로 나머지를 이진 탐색한다.
+ * 색인 구조는 재적재 때 통째로 교체하고(copy-on-write), 좋아요 수만 이벤트로 제자리 갱신한다.
+ * 비활성화되어 있으면 항상 비어 있다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 5_000;
+    private static final long UNIGRAM_FLAG = 1L << 32;
+
+    private final ProductRepository productRepository;
+    private final boolean enabled;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public ProductSearchIndex(
+            ProductRepository productRepository,
+            @Value("${product-search.enabled:true}") boolean enabled
+    ) {
+        this.productRepository = productRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int size() {
+        return snapshot.productIds.length;
+    }
+
+    /**
+     * products 테이블 전체를 id 순으로 나누어 읽어 색인을 새로 만들고 교체한다.
+     * 재적재 중에 반영된 좋아요 수 변경은 이전 색인에만 남으므로, 다음 재적재 때 DB 값으로 맞춰진다.
+     */
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        List<ProductSearchDocument> documents = new ArrayList<>();
+        long lastId = 0L;
+        while (true) {
+            List<ProductSearchDocument> chunk = productRepository.findSearchDocumentsAfter(lastId, LOAD_CHUNK_SIZE);
+            documents.addAll(chunk);
+            if (chunk.size() < LOAD_CHUNK_SIZE) {
+                break;
+            }
+            lastId = chunk.get(chunk.size() - 1).id();
+        }
+
+        snapshot = Snapshot.build(documents);
+        log.info("상품 검색 색인 적재: size={}", documents.size());
+    }
+
+    /**
+     * 상품명에 질의가 포함된 상품 id 를 좋아요 수 내림차순(같으면 id 오름차순)으로 offset 부터 limit 개 반환한다.
+     */
+    public List<Long> search(String query, Long brandId, int offset, int limit) {
+        Snapshot current = snapshot;
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        long[] grams = grams(normalized);
+        Postings[] lists = new Postings[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            Postings postings = current.postings.get(grams[i]);
+            if (postings == null) {
+                return List.of();
+            }
+            lists[i] = postings;
+        }
+        Arrays.sort(lists, Comparator.comparingInt((Postings list) -> list.size));
+
+        // 세 글자 이상이면 bigram 이 모두 있어도 이어져 있지 않을 수 있으므로 원문 포함 여부를 다시 확인한다.
+        boolean verify = normalized.length() > 2;
+        TopDocs top = new TopDocs(current, offset + limit);
+        int[] cursors = new int[lists.length];
+        Postings shortest = lists[0];
+
+        candidates:
+        for (int i = 0; i < shortest.size; i++) {
+            int doc = shortest.docs[i];
+            if (brandId != null && current.brandIds[doc] != brandId) {
+                continue;
+            }
+            for (int j = 1; j < lists.length; j++) {
+                int position = Arrays.binarySearch(lists[j].docs, cursors[j], lists[j].size, doc);
+                if (position < 0) {
+                    cursors[j] = -position - 1;
+                    continue candidates;
+                }
+                cursors[j] = position + 1;
+            }
+            if (verify && !current.names[doc].contains(normalized)) {
+                continue;
+            }
+            top.offer(doc);
+        }
+        return top.productIds(offset);
+    }
+
+    /**
+     * 좋아요 수 변경을 반영한다. 색인에 없는 상품은 다음 재적재 때 반영된다.
+     */
+    public void adjustLikeCount(Long productId, int delta) {
+        Snapshot current = snapshot;
+        int doc = Arrays.binarySearch(current.productIds, productId);
+        if (doc >= 0) {
+            current.likeCounts.updateAndGet(doc, count -> Math.max(0, count + delta));
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static long[] grams(String normalized) {
+        if (normalized.length() == 1) {
+            return new long[]{unigram(normalized.charAt(0))};
+        }
+        long[] grams = new long[normalized.length() - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = bigram(normalized.charAt(i), normalized.charAt(i + 1));
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    private static long unigram(char c) {
+        return UNIGRAM_FLAG | c;
+    }
+
+    private static long bigram(char first, char second) {
+        return ((long) first << 16) | second;
+    }
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(
+                new long[0], new long[0], new String[0], new AtomicIntegerArray(0), new LongObjectHashMap<>()
+        );
+
+        private final long[] productIds;
+        private final long[] brandIds;
+        private final String[] names;
+        private final AtomicIntegerArray likeCounts;
+        private final LongObjectHashMap<Postings> postings;
+
+        private Snapshot(
+                long[] productIds,
+                long[] brandIds,
+                String[] names,
+                AtomicIntegerArray likeCounts,
+                LongObjectHashMap<Postings> postings
+        ) {
+            this.productIds = productIds;
+            this.brandIds = brandIds;
+            this.names = names;
+            this.likeCounts = likeCounts;
+            this.postings = postings;
+        }
+
+        private static Snapshot build(List<ProductSearchDocument> documents) {
+            List<ProductSearchDocument> sorted = new ArrayList<>(documents);
+            sorted.sort(Comparator.comparing(ProductSearchDocument::id));
+
+            int size = sorted.size();
+            long[] productIds = new long[size];
+            long[] brandIds = new long[size];
+            String[] names = new String[size];
+            AtomicIntegerArray likeCounts = new AtomicIntegerArray(size);
+            LongObjectHashMap<Postings> postings = new LongObjectHashMap<>();
+            List<Postings> allPostings = new ArrayList<>();
+
+            for (int doc = 0; doc < size; doc++) {
+                ProductSearchDocument document = sorted.get(doc);
+                String name = normalize(document.name());
+                productIds[doc] = document.id();
+                brandIds[doc] = document.brandId() != null ? document.brandId() : 0L;
+                names[doc] = name;
+                likeCounts.set(doc, document.likeCount() != null ? document.likeCount() : 0);
+
+                for (int i = 0; i < name.length(); i++) {
+                    add(postings, allPostings, unigram(name.charAt(i)), doc);
+                    if (i + 1 < name.length()) {
+                        add(postings, allPostings, bigram(name.charAt(i), name.charAt(i + 1)), doc);
+                    }
+                }
+            }
+            allPostings.forEach(Postings::trim);
+
+            return new Snapshot(productIds, brandIds, names, likeCounts, postings);
+        }
+
+        private static void add(LongObjectHashMap<Postings> postings, List<Postings> allPostings, long gram, int doc) {
+            Postings list = postings.get(gram);
+            if (list == null) {
+                list = new Postings();
+                postings.put(gram, list);
+                allPostings.add(list);
+            }
+            list.add(doc);
+        }
+    }
+
+    /**
+     * 정렬된 문서 번호 목록. 문서 번호가 오름차순으로만 들어오므로 마지막 값과 비교해 중복을 거른다.
+     */
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        private void trim() {
+            if (docs.length != size) {
+                docs = Arrays.copyOf(docs, size);
+            }
+        }
+    }
+
+    /**
+     * 상위 capacity 개 문서를 유지하는 크기 제한 힙. 루트에 순위가 가장 낮은 문서를 두어 후보 하나를 O(log capacity) 로 넣거나 거른다.
+     * 정렬 비교 중 값이 바뀌지 않도록 넣을 때의 좋아요 수를 함께 기록한다.
+     */
+    private static final class TopDocs {
+
+        private final Snapshot snapshot;
+        private final int[] docs;
+        private final int[] likeCounts;
+        private int size;
+
+        private TopDocs(Snapshot snapshot, int capacity) {
+            this.snapshot = snapshot;
+            this.docs = new int[capacity];
+            this.likeCounts = new int[capacity];
+        }
+
+        private void offer(int doc) {
+            int likeCount = snapshot.likeCounts.get(doc);
+            if (size < docs.length) {
+                docs[size] = doc;
+                likeCounts[size] = likeCount;
+                siftUp(size++);
+                return;
+            }
+            if (ranksBefore(likeCount, doc, likeCounts[0], docs[0])) {
+                docs[0] = doc;
+                likeCounts[0] = likeCount;
+                siftDown(0);
+            }
+        }
+
+        // 자식보다 순위가 높은 부모를 위로 올라온 문서와 바꾼다.
+        private void siftUp(int position) {
+            while (position > 0) {
+                int parent = (position - 1) / 2;
+                if (!ranksBefore(parent, position)) {
+                    return;
+                }
+                swap(position, parent);
+                position = parent;
+            }
+        }
+
+        private void siftDown(int position) {
+            while (true) {
+                int lowest = position;
+                int left = position * 2 + 1;
+                int right = left + 1;
+                if (left < size && ranksBefore(lowest, left)) {
+                    lowest = left;
+                }
+                if (right < size && ranksBefore(lowest, right)) {
+                    lowest = right;
+                }
+                if (lowest == position) {
+                    return;
+                }
+                swap(position, lowest);
+                position = lowest;
+            }
+        }
+
+        private boolean ranksBefore(int position, int otherPosition) {
+            return ranksBefore(likeCounts[position], docs[position], likeCounts[otherPosition], docs[otherPosition]);
+        }
+
+        private void swap(int i, int j) {
+            int doc = docs[i];
+            int likeCount = likeCounts[i];
+            docs[i] = docs[j];
+            likeCounts[i] = likeCounts[j];
+            docs[j] = doc;
+            likeCounts[j] = likeCount;
+        }
+
+        // 문서 번호 순서는 상품 id 순서와 같다.
+        private static boolean ranksBefore(int likeCount, int doc, int otherLikeCount, int otherDoc) {
+            return likeCount != otherLikeCount ? likeCount > otherLikeCount : doc < otherDoc;
+        }
+
+        /**
+         * 힙에서 순위가 낮은 문서부터 꺼내 뒤에서부터 채운 뒤 offset 이후를 반환한다. 한 번만 호출한다.
+         */
+        private List<Long> productIds(int offset) {
+            if (offset >= size) {
+                return List.of();
+            }
+            long[] ranked = new long[size];
+            for (int i = size - 1; i >= 0; i--) {
+                ranked[i] = snapshot.productIds[docs[0]];
+                size--;
+                docs[0] = docs[size];
+                likeCounts[0] = likeCounts[size];
+                siftDown(0);
+            }
+            List<Long> productIds = new ArrayList<>(ranked.length - offset);
+            for (int i = offset; i < ranked.length; i++) {
+                productIds.add(ranked[i]);
+            }
+            return productIds;
+        }
+    }
+}
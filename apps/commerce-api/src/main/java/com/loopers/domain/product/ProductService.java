@@ -3,6 +3,7 @@ package com.loopers.domain.product;
 import com.loopers.application.product.ProductEvent;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -17,19 +18,25 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
+    /**
+     * 읽기 전용 조회. 응답 조립이나 캐시 적재처럼 상품을 변경하지 않는 경로에서 사용한다.
+     */
+    @Transactional(readOnly = true)
     public Optional<Product> findProductById(Long productId) {
         return productRepository.findProductById(productId);
     }
 
-    public Product getProductById(Long productId) {
-        return productRepository.findProductById(productId)
+    /**
+     * 변경 목적 조회. 재고, 좋아요 수, 주문 가격처럼 커밋 시점까지 상품 버전이 유지되어야 하는 경로에서 사용한다.
+     */
+    public Product getProductByIdForUpdate(Long productId) {
+        return productRepository.findProductByIdForUpdate(productId)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
     }
 
     @Transactional
     public void decreaseStock(Long productId, Integer quantity) {
-        Product product = getProductById(productId);
+        Product product = getProductByIdForUpdate(productId);
         product.reduceStock(quantity);
 
         if (product.isStockZero()) {
@@ -53,15 +60,55 @@ public class ProductService {
         return productRepository.findProductsByLikesDesc(brandId, page, size);
     }
 
+    /**
+     * 커서 기반 목록 조회 (lastId 가 null 이면 첫 페이지)
+     * 정렬 컬럼이 같으면 id 오름차순으로 순서를 고정한다.
+     */
+    public List<Product> findProductsByLatestAfter(Long brandId, ZonedDateTime lastCreatedAt, Long lastId, int size) {
+        return productRepository.findProductsByLatestAfter(brandId, lastCreatedAt, lastId, size);
+    }
+
+    public List<Product> findProductsByPriceAscAfter(Long brandId, Integer lastPrice, Long lastId, int size) {
+        return productRepository.findProductsByPriceAscAfter(brandId, lastPrice, lastId, size);
+    }
+
+    public List<Product> findProductsByLikesDescAfter(Long brandId, Integer lastLikeCount, Long lastId, int size) {
+        return productRepository.findProductsByLikesDescAfter(brandId, lastLikeCount, lastId, size);
+    }
+
     @Transactional(readOnly = true)
     public List<Product> findProductsByIds(List<Long> productIds) {
         return productRepository.findProductsByIds(productIds);
     }
 
+    /**
+     * 목록 읽기 모델 조회
+     * 엔티티 대신 ProductSummary 로 바로 projection 하므로 영속성 컨텍스트, 스냅샷, 브랜드 추가 조회가 없다.
+     * 읽기 전용 트랜잭션이라 flush 도 생략되며 Replica 로 라우팅된다.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSummary> findProductSummariesByLatest(Long brandId, int page, int size) {
+        return productRepository.findProductSummariesByLatest(brandId, page, size);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductSummary> findProductSummariesByPriceAsc(Long brandId, int page, int size) {
+        return productRepository.findProductSummariesByPriceAsc(brandId, page, size);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductSummary> findProductSummariesByLikesDesc(Long brandId, int page, int size) {
+        return productRepository.findProductSummariesByLikesDesc(brandId, page, size);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductSummary> findProductSummariesByIds(List<Long> productIds) {
+        return productRepository.findProductSummariesByIds(productIds);
+    }
+
     @Transactional
     public Product increaseLikeCount(Long productId) {
-        Product product = productRepository.findProductById(productId)
-                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
+        Product product = getProductByIdForUpdate(productId);
         product.increaseLikeCount();
         productRepository.saveProduct(product);
         return product;
@@ -69,8 +116,7 @@ public class ProductService {
 
     @Transactional
     public Product decreaseLikeCount(Long productId) {
-        Product product = productRepository.findProductById(productId)
-                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
+        Product product = getProductByIdForUpdate(productId);
         product.decreaseLikeCount();
         productRepository.saveProduct(product);
         return product;
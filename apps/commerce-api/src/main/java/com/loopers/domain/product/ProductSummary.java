@@ -0,0 +1,20 @@
+package com.loopers.domain.product;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 목록 조회용 평면 읽기 모델
+ * 엔티티를 거치지 않고 JPQL 생성자 표현식으로 바로 만들어지므로 영속성 컨텍스트에 남지 않고 스냅샷도 만들지 않는다.
+ * 브랜드명은 조인으로 함께 가져오며, 브랜드가 삭제되었으면 null 이다.
+ */
+public record ProductSummary(
+        Long id,
+        String name,
+        Long brandId,
+        String brandName,
+        Integer price,
+        Integer likeCount,
+        Integer stock,
+        ZonedDateTime createdAt
+) {
+}
@@ -1,6 +1,8 @@
 package com.loopers.infrastructure.brand;
 
 import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandNameSnapshot;
+import java.time.ZonedDateTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -13,5 +15,12 @@ public interface BrandJpaRepository extends JpaRepository<Brand, Long> {
 
     @Query("SELECT b.name FROM Brand b WHERE b.id = :brandId AND b.deletedAt IS NULL")
     String findNameById(@Param("brandId") Long brandId);
+
+    @Query("SELECT new com.loopers.domain.brand.BrandNameSnapshot(b.id, b.name, b.updatedAt, b.deletedAt) FROM Brand b")
+    List<BrandNameSnapshot> findAllNameSnapshots();
+
+    @Query("SELECT new com.loopers.domain.brand.BrandNameSnapshot(b.id, b.name, b.updatedAt, b.deletedAt) "
+            + "FROM Brand b WHERE b.updatedAt >= :since ORDER BY b.updatedAt")
+    List<BrandNameSnapshot> findNameSnapshotsUpdatedSince(@Param("since") ZonedDateTime since);
 }
 
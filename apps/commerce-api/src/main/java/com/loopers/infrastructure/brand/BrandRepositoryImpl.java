@@ -1,7 +1,9 @@
 package com.loopers.infrastructure.brand;
 
 import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandNameSnapshot;
 import com.loopers.domain.brand.BrandRepository;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -37,5 +39,14 @@ public class BrandRepositoryImpl implements BrandRepository {
                         Brand::getName
                 ));
     }
-}
 
+    @Override
+    public List<BrandNameSnapshot> findAllBrandNames() {
+        return brandJpaRepository.findAllNameSnapshots();
+    }
+
+    @Override
+    public List<BrandNameSnapshot> findBrandNamesUpdatedSince(ZonedDateTime since) {
+        return brandJpaRepository.findNameSnapshotsUpdatedSince(since);
+    }
+}
@@ -0,0 +1,287 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.application.product.ProductInfo;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * 스키마 버전이 있는 바이너리 코덱
+ *
+ * <pre>
+ * [version:1][flags:1][contentHash:8]([rawLength:4] if LZ4)[payload]
+ * payload = [expireAt:8][computeMillis:8][product | count:4 + product* | count:4 + id:8*]
+ * product = [presence:2][id][name][brandId][brandName][price][likeCount][stock][createdAt][rank]
+ * </pre>
+ *
+ * contentHash 는 압축 범위 밖의 프레임 헤더에 두어 조건부 요청(ETag) 확인 시 payload 를 풀지 않고 읽는다.
+ * presence 비트가 켜진 필드만 기록하며, payload 가 compressionThreshold 바이트 이상이면 LZ4 로 압축한다.
+ * 필드를 추가하거나 순서를 바꾸면 VERSION 을 올려야 한다. (이전 버전 값은 미스로 처리되어 다시 적재된다)
+ * 헤더의 rawLength 와 목록 건수는 그대로 믿지 않고 값 크기로 상한을 확인해, 손상된 값이 큰 할당을 일으키지 않게 한다.
+ */
+public class BinaryProductCacheCodec implements ProductCacheCodec {
+
+    static final byte VERSION = 2;
+    private static final byte FLAG_LZ4 = 0x01;
+    private static final int HEADER_LENGTH = 10;
+    // LZ4 블록은 입력 1바이트로 최대 약 255바이트까지만 늘어난다.
+    private static final int MAX_COMPRESSION_RATIO = 255;
+    private static final int MAX_RAW_LENGTH = 8 * 1024 * 1024;
+    // 상품 하나는 presence(2바이트) 이상, ID 하나는 8바이트를 차지한다.
+    private static final int MIN_PRODUCT_LENGTH = 2;
+    private static final int ID_LENGTH = Long.BYTES;
+
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    public BinaryProductCacheCodec(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    @Override
+    public byte[] encodeProduct(CacheEnvelope<ProductInfo> envelope) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            writeEnvelopeHeader(out, envelope);
+            writeProduct(out, envelope.value());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return frame(buffer.toByteArray(), envelope.contentHash());
+    }
+
+    @Override
+    public CacheEnvelope<ProductInfo> decodeProduct(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(unframe(bytes))) {
+            long expireAt = in.readLong();
+            long computeMillis = in.readLong();
+            return new CacheEnvelope<>(readProduct(in), expireAt, computeMillis, readLong(bytes, 2));
+        } catch (IOException | DateTimeException e) {
+            throw new IllegalArgumentException("바이너리 캐시 값을 해석할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public byte[] encodeProductList(CacheEnvelope<List<ProductInfo>> envelope) {
+        List<ProductInfo> products = envelope.value();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 + products.size() * 96);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            writeEnvelopeHeader(out, envelope);
+            out.writeInt(products.size());
+            for (ProductInfo product : products) {
+                writeProduct(out, product);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return frame(buffer.toByteArray(), envelope.contentHash());
+    }
+
+    @Override
+    public CacheEnvelope<List<ProductInfo>> decodeProductList(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(unframe(bytes))) {
+            long expireAt = in.readLong();
+            long computeMillis = in.readLong();
+            int count = readCount(in, MIN_PRODUCT_LENGTH);
+            List<ProductInfo> products = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                products.add(readProduct(in));
+            }
+            return new CacheEnvelope<>(products, expireAt, computeMillis, readLong(bytes, 2));
+        } catch (IOException | DateTimeException e) {
+            throw new IllegalArgumentException("바이너리 캐시 값을 해석할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public byte[] encodeIdList(CacheEnvelope<List<Long>> envelope) {
+        List<Long> ids = envelope.value();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(20 + ids.size() * 8);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            writeEnvelopeHeader(out, envelope);
+            out.writeInt(ids.size());
+            for (Long id : ids) {
+                out.writeLong(id);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return frame(buffer.toByteArray(), envelope.contentHash());
+    }
+
+    @Override
+    public CacheEnvelope<List<Long>> decodeIdList(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(unframe(bytes))) {
+            long expireAt = in.readLong();
+            long computeMillis = in.readLong();
+            int count = readCount(in, ID_LENGTH);
+            List<Long> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ids.add(in.readLong());
+            }
+            return new CacheEnvelope<>(ids, expireAt, computeMillis, readLong(bytes, 2));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("바이너리 캐시 값을 해석할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public long peekContentHash(byte[] bytes) {
+        validateHeader(bytes);
+        return readLong(bytes, 2);
+    }
+
+    private byte[] frame(byte[] payload, long contentHash) {
+        if (payload.length < compressionThreshold) {
+            byte[] framed = new byte[HEADER_LENGTH + payload.length];
+            writeHeader(framed, (byte) 0, contentHash);
+            System.arraycopy(payload, 0, framed, HEADER_LENGTH, payload.length);
+            return framed;
+        }
+
+        int maxLength = compressor.maxCompressedLength(payload.length);
+        byte[] framed = new byte[HEADER_LENGTH + 4 + maxLength];
+        writeHeader(framed, FLAG_LZ4, contentHash);
+        writeInt(framed, HEADER_LENGTH, payload.length);
+        int compressedLength = compressor.compress(payload, 0, payload.length, framed, HEADER_LENGTH + 4, maxLength);
+        return Arrays.copyOf(framed, HEADER_LENGTH + 4 + compressedLength);
+    }
+
+    private ByteArrayInputStream unframe(byte[] bytes) {
+        validateHeader(bytes);
+
+        if ((bytes[1] & FLAG_LZ4) == 0) {
+            return new ByteArrayInputStream(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+        }
+        if (bytes.length < HEADER_LENGTH + 4) {
+            throw new IllegalArgumentException("압축된 캐시 값의 헤더가 손상되었습니다.");
+        }
+        int rawLength = readInt(bytes, HEADER_LENGTH);
+        long compressedLength = bytes.length - HEADER_LENGTH - 4L;
+        if (rawLength < 0 || rawLength > MAX_RAW_LENGTH || rawLength > compressedLength * MAX_COMPRESSION_RATIO) {
+            throw new IllegalArgumentException("압축된 캐시 값의 헤더가 손상되었습니다: rawLength=" + rawLength);
+        }
+        try {
+            return new ByteArrayInputStream(decompressor.decompress(bytes, HEADER_LENGTH + 4, rawLength));
+        } catch (LZ4Exception e) {
+            throw new IllegalArgumentException("압축된 캐시 값을 해제할 수 없습니다.", e);
+        }
+    }
+
+    private static int readCount(DataInputStream in, int minElementLength) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || (long) count * minElementLength > in.available()) {
+            throw new IllegalArgumentException("캐시 값의 목록 건수가 손상되었습니다: count=" + count);
+        }
+        return count;
+    }
+
+    private void validateHeader(byte[] bytes) {
+        if (bytes == null || bytes.length < 2) {
+            throw new IllegalArgumentException("바이너리 캐시 값이 비어 있습니다.");
+        }
+        if (bytes[0] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 캐시 포맷 버전입니다: " + bytes[0]);
+        }
+        if (bytes.length < HEADER_LENGTH) {
+            throw new IllegalArgumentException("캐시 값의 헤더가 손상되었습니다.");
+        }
+    }
+
+    private static void writeHeader(byte[] target, byte flags, long contentHash) {
+        target[0] = VERSION;
+        target[1] = flags;
+        writeInt(target, 2, (int) (contentHash >>> 32));
+        writeInt(target, 6, (int) contentHash);
+    }
+
+    private void writeEnvelopeHeader(DataOutputStream out, CacheEnvelope<?> envelope) throws IOException {
+        out.writeLong(envelope.expireAt());
+        out.writeLong(envelope.computeMillis());
+    }
+
+    private void writeProduct(DataOutputStream out, ProductInfo product) throws IOException {
+        int presence = 0;
+        if (product.id() != null) presence |= 1;
+        if (product.name() != null) presence |= 1 << 1;
+        if (product.brandId() != null) presence |= 1 << 2;
+        if (product.brandName() != null) presence |= 1 << 3;
+        if (product.price() != null) presence |= 1 << 4;
+        if (product.likeCount() != null) presence |= 1 << 5;
+        if (product.stock() != null) presence |= 1 << 6;
+        if (product.createdAt() != null) presence |= 1 << 7;
+        if (product.rank() != null) presence |= 1 << 8;
+        out.writeShort(presence);
+
+        if (product.id() != null) out.writeLong(product.id());
+        if (product.name() != null) out.writeUTF(product.name());
+        if (product.brandId() != null) out.writeLong(product.brandId());
+        if (product.brandName() != null) out.writeUTF(product.brandName());
+        if (product.price() != null) out.writeInt(product.price());
+        if (product.likeCount() != null) out.writeInt(product.likeCount());
+        if (product.stock() != null) out.writeInt(product.stock());
+        if (product.createdAt() != null) {
+            Instant instant = product.createdAt().toInstant();
+            out.writeLong(instant.getEpochSecond());
+            out.writeInt(instant.getNano());
+            out.writeUTF(product.createdAt().getZone().getId());
+        }
+        if (product.rank() != null) out.writeLong(product.rank());
+    }
+
+    private ProductInfo readProduct(DataInputStream in) throws IOException {
+        int presence = in.readUnsignedShort();
+
+        Long id = (presence & 1) != 0 ? in.readLong() : null;
+        String name = (presence & 1 << 1) != 0 ? in.readUTF() : null;
+        Long brandId = (presence & 1 << 2) != 0 ? in.readLong() : null;
+        String brandName = (presence & 1 << 3) != 0 ? in.readUTF() : null;
+        Integer price = (presence & 1 << 4) != 0 ? in.readInt() : null;
+        Integer likeCount = (presence & 1 << 5) != 0 ? in.readInt() : null;
+        Integer stock = (presence & 1 << 6) != 0 ? in.readInt() : null;
+        ZonedDateTime createdAt = null;
+        if ((presence & 1 << 7) != 0) {
+            Instant instant = Instant.ofEpochSecond(in.readLong(), in.readInt());
+            createdAt = ZonedDateTime.ofInstant(instant, ZoneId.of(in.readUTF()));
+        }
+        Long rank = (presence & 1 << 8) != 0 ? in.readLong() : null;
+
+        return new ProductInfo(id, name, brandId, brandName, price, likeCount, stock, createdAt, rank);
+    }
+
+    private static void writeInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+
+    private static long readLong(byte[] source, int offset) {
+        return ((long) readInt(source, offset) << 32) | (readInt(source, offset + 4) & 0xFFFFFFFFL);
+    }
+
+    private static int readInt(byte[] source, int offset) {
+        return ((source[offset] & 0xFF) << 24)
+                | ((source[offset + 1] & 0xFF) << 16)
+                | ((source[offset + 2] & 0xFF) << 8)
+                | (source[offset + 3] & 0xFF);
+    }
+}
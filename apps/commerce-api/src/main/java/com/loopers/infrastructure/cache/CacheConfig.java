@@ -1,7 +1,13 @@
 package com.loopers.infrastructure.cache;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -23,5 +29,30 @@ public class CacheConfig {
         executor.initialize();
         return executor;
     }
-}
 
+    @Bean
+    public RedisMessageListenerContainer productCacheInvalidationContainer(
+            @Qualifier(RedisConfig.CONNECTION_PUB_SUB) LettuceConnectionFactory connectionFactory,
+            ProductCacheInvalidationListener invalidationListener,
+            HotKeyPinListener hotKeyPinListener
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidationListener, new ChannelTopic(ProductCacheInvalidationListener.CHANNEL));
+        container.addMessageListener(hotKeyPinListener, new ChannelTopic(HotKeyDetector.CHANNEL));
+        return container;
+    }
+
+    @Bean
+    public ProductCacheCodec productCacheCodec(
+            ProductCacheProperties properties,
+            @Qualifier("redisObjectMapper") ObjectMapper objectMapper
+    ) {
+        ProductCacheProperties.Codec codec = properties.codec();
+        if (codec != null && codec.type() == ProductCacheProperties.Codec.Type.JSON) {
+            return new JsonProductCacheCodec(objectMapper);
+        }
+        int compressionThreshold = codec != null ? codec.compressionThreshold() : Integer.MAX_VALUE;
+        return new BinaryProductCacheCodec(compressionThreshold);
+    }
+}
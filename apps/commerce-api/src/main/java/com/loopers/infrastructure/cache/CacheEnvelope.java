@@ -0,0 +1,53 @@
+package com.loopers.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 캐시 값과 논리 만료 시각, 재계산 소요 시간을 함께 저장하는 캐시 엔벨로프.
+ * 한 번의 GET 으로 갱신 여부를 판단할 수 있어 별도의 TTL 조회가 필요 없다.
+ *
+ * @param value         캐시 값
+ * @param expireAt      논리 만료 시각 (epoch millis). 물리 TTL 은 이보다 길게 잡아 만료 후에도 stale 응답이 가능하다.
+ * @param computeMillis 값을 만드는 데 걸린 시간 (XFetch 의 delta)
+ * @param contentHash   값의 콘텐츠 해시 (ETag). 0 이면 없음. 값보다 앞에 기록되어 값을 역직렬화하지 않고 읽을 수 있다.
+ */
+@JsonPropertyOrder({"contentHash", "expireAt", "computeMillis", "value"})
+public record CacheEnvelope<T>(
+        T value,
+        long expireAt,
+        long computeMillis,
+        long contentHash
+) {
+
+    public CacheEnvelope(T value, long expireAt, long computeMillis) {
+        this(value, expireAt, computeMillis, 0L);
+    }
+
+    public static <T> CacheEnvelope<T> of(T value, Duration logicalTtl, long computeMillis) {
+        return of(value, logicalTtl, computeMillis, 0L);
+    }
+
+    public static <T> CacheEnvelope<T> of(T value, Duration logicalTtl, long computeMillis, long contentHash) {
+        return new CacheEnvelope<>(value, System.currentTimeMillis() + logicalTtl.toMillis(), computeMillis, contentHash);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expireAt;
+    }
+
+    /**
+     * 확률적 조기 만료 (XFetch)
+     * now - delta * beta * ln(rand) >= expireAt 이면 갱신한다.
+     * 만료가 가까울수록, 재계산 비용(delta)이 클수록 갱신 확률이 높아져 갱신 시점이 키마다 자연스럽게 분산된다.
+     */
+    public boolean shouldRefresh(long nowMillis, double beta, long minDeltaMillis) {
+        if (isExpired(nowMillis)) {
+            return true;
+        }
+        long delta = Math.max(computeMillis, minDeltaMillis);
+        double random = ThreadLocalRandom.current().nextDouble(Double.MIN_VALUE, 1.0);
+        return nowMillis - delta * beta * Math.log(random) >= expireAt;
+    }
+}
@@ -63,6 +63,23 @@ public class DistributedLock {
         return null;
     }
 
+    /**
+     * 대기 없이 한 번만 락 획득을 시도한다.
+     */
+    public LockHandle tryLockOnce(String key, Duration expireTime) {
+        String lockKey = LOCK_PREFIX + key;
+        String lockValue = UUID.randomUUID().toString();
+
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(lockKey, lockValue, expireTime);
+
+        if (Boolean.TRUE.equals(acquired)) {
+            log.debug("Lock acquired: {}", lockKey);
+            return new LockHandle(lockKey, lockValue);
+        }
+        return null;
+    }
+
     public void releaseLock(LockHandle lockHandle) {
         if (lockHandle == null) {
             return;
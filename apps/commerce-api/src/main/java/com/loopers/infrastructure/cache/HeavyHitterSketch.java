@@ -0,0 +1,169 @@
+package com.loopers.infrastructure.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Space-Saving 알고리즘 기반 상위 빈도 키 추적
+ * capacity 개의 카운터만 유지하며, 가득 찬 상태에서 새 키가 들어오면 가장 작은 카운터를 새 키로 넘겨주고 그 값 + 1 로 시작한다.
+ * 빈도는 최대 (전체 기록 수 / capacity) 만큼 과대 추정될 수 있지만, 그보다 자주 등장한 키는 반드시 남는다.
+ * 카운터를 같은 빈도끼리 묶은 버킷의 오름차순 연결 리스트(Stream-Summary)로 관리해, 기록과 최솟값 교체가 모두 O(1) 이다.
+ */
+public class HeavyHitterSketch {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+
+    // 가장 작은 빈도의 버킷
+    private Bucket head;
+
+    public HeavyHitterSketch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity 는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public synchronized void add(String key) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            increment(counter);
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counter = new Counter(key);
+            counters.put(key, counter);
+            if (head == null || head.count != 1) {
+                Bucket first = new Bucket(1);
+                first.next = head;
+                if (head != null) {
+                    head.prev = first;
+                }
+                head = first;
+            }
+            attach(counter, head);
+            return;
+        }
+
+        Counter min = head.counters.iterator().next();
+        counters.remove(min.key);
+        min.key = key;
+        counters.put(key, min);
+        increment(min);
+    }
+
+    /**
+     * 빈도 내림차순 상위 n 개
+     */
+    public synchronized List<Map.Entry<String, Long>> top(int n) {
+        List<Bucket> buckets = new ArrayList<>();
+        for (Bucket bucket = head; bucket != null; bucket = bucket.next) {
+            buckets.add(bucket);
+        }
+
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(Math.min(n, counters.size()));
+        for (int i = buckets.size() - 1; i >= 0 && entries.size() < n; i--) {
+            Bucket bucket = buckets.get(i);
+            for (Counter counter : bucket.counters) {
+                if (entries.size() == n) {
+                    break;
+                }
+                entries.add(Map.entry(counter.key, bucket.count));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 모든 빈도를 절반으로 줄여 최근 접근이 더 큰 비중을 갖게 한다. 0 이 된 키는 제거한다.
+     * 절반으로 줄여도 순서는 유지되므로 버킷을 앞에서부터 다시 묶기만 하면 된다.
+     */
+    public synchronized void decay() {
+        Bucket bucket = head;
+        Bucket tail = null;
+        head = null;
+        for (; bucket != null; bucket = bucket.next) {
+            long halved = bucket.count / 2;
+            if (halved == 0) {
+                bucket.counters.forEach(counter -> counters.remove(counter.key));
+                continue;
+            }
+            if (tail == null || tail.count != halved) {
+                Bucket halvedBucket = new Bucket(halved);
+                if (tail == null) {
+                    head = halvedBucket;
+                } else {
+                    tail.next = halvedBucket;
+                    halvedBucket.prev = tail;
+                }
+                tail = halvedBucket;
+            }
+            for (Counter counter : bucket.counters) {
+                attach(counter, tail);
+            }
+        }
+    }
+
+    private void increment(Counter counter) {
+        Bucket current = counter.bucket;
+        long nextCount = current.count + 1;
+        Bucket target = current.next;
+        if (target == null || target.count != nextCount) {
+            target = new Bucket(nextCount);
+            target.prev = current;
+            target.next = current.next;
+            if (current.next != null) {
+                current.next.prev = target;
+            }
+            current.next = target;
+        }
+
+        current.counters.remove(counter);
+        attach(counter, target);
+        if (current.counters.isEmpty()) {
+            unlink(current);
+        }
+    }
+
+    private static void attach(Counter counter, Bucket bucket) {
+        counter.bucket = bucket;
+        bucket.counters.add(counter);
+    }
+
+    private void unlink(Bucket bucket) {
+        if (bucket.prev != null) {
+            bucket.prev.next = bucket.next;
+        } else {
+            head = bucket.next;
+        }
+        if (bucket.next != null) {
+            bucket.next.prev = bucket.prev;
+        }
+    }
+
+    private static final class Counter {
+        private String key;
+        private Bucket bucket;
+
+        private Counter(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final class Bucket {
+        private final long count;
+        private final Set<Counter> counters = new LinkedHashSet<>();
+        private Bucket prev;
+        private Bucket next;
+
+        private Bucket(long count) {
+            this.count = count;
+        }
+    }
+}
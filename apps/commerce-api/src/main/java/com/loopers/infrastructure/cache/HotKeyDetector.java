@@ -0,0 +1,235 @@
+package com.loopers.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실시간 핫 키 감지
+ * 윈도우 내 요청률이 thresholdPerSecond 이상인 캐시 키를 핫 키로 등록하고 pinDuration 동안 유지한다.
+ * 노드에서 새로 감지한 키는 Redis Pub/Sub 으로 알려 모든 API 노드가 같은 키를 로컬 복제본으로 고정하게 한다.
+ * 요청이 계속되어 고정을 연장할 때도, 마지막으로 알린 고정 시간이 절반 미만으로 남았으면 다시 알려 다른 노드의 고정이 풀리지 않게 한다.
+ */
+@Slf4j
+@Component
+public class HotKeyDetector {
+
+    public static final String CHANNEL = "product:cache:hotkey";
+
+    public enum Origin {
+        LOCAL,
+        REMOTE
+    }
+
+    private final boolean enabled;
+    private final WindowedCountMinSketch sketch;
+    private final double windowSeconds;
+    private final double thresholdPerSecond;
+    private final long thresholdCount;
+    private final long pinMillis;
+    private final Map<String, HotKey> hotKeys = new ConcurrentHashMap<>();
+    private final RedisTemplate<String, String> redisTemplateMaster;
+    private final Counter detectedCounter;
+
+    public HotKeyDetector(
+            ProductCacheProperties properties,
+            @Qualifier("redisTemplateMaster") RedisTemplate<String, String> redisTemplateMaster,
+            MeterRegistry meterRegistry
+    ) {
+        ProductCacheProperties.HotKey hotKey = properties.hotKey();
+        this.enabled = hotKey != null && hotKey.enabled();
+        this.redisTemplateMaster = redisTemplateMaster;
+
+        if (enabled) {
+            Duration window = hotKey.window();
+            this.sketch = new WindowedCountMinSketch(hotKey.sketchDepth(), hotKey.sketchWidth(), window.toMillis(), hotKey.windowSlots());
+            this.windowSeconds = window.toMillis() / 1000.0;
+            this.thresholdPerSecond = hotKey.thresholdPerSecond();
+            this.thresholdCount = Math.max(1, (long) Math.ceil(hotKey.thresholdPerSecond() * windowSeconds));
+            this.pinMillis = hotKey.pinDuration().toMillis();
+        } else {
+            this.sketch = null;
+            this.windowSeconds = 0;
+            this.thresholdPerSecond = 0;
+            this.thresholdCount = Long.MAX_VALUE;
+            this.pinMillis = 0;
+        }
+
+        this.detectedCounter = Counter.builder("product.cache.hotkey.detected")
+                .description("노드에서 새로 감지한 핫 키 수")
+                .register(meterRegistry);
+        Gauge.builder("product.cache.hotkey.active", hotKeys, Map::size)
+                .description("현재 로컬 복제 중인 핫 키 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요청을 기록하고 현재 핫 키인지 반환한다.
+     */
+    public boolean record(String cacheKey) {
+        if (!enabled) {
+            return false;
+        }
+
+        return record(cacheKey, System.currentTimeMillis());
+    }
+
+    boolean record(String cacheKey, long now) {
+        long estimate = sketch.incrementAndEstimate(cacheKey, now);
+        HotKey hotKey = hotKeys.get(cacheKey);
+
+        if (estimate >= thresholdCount) {
+            if (hotKey == null) {
+                promote(cacheKey, now);
+                return true;
+            }
+            hotKey.extend(now + pinMillis);
+            if (hotKey.claimAnnouncement(now, pinMillis)) {
+                announce(cacheKey);
+            }
+        }
+
+        if (hotKey == null) {
+            return false;
+        }
+        if (hotKey.isExpired(now)) {
+            hotKeys.remove(cacheKey, hotKey);
+            return false;
+        }
+        return true;
+    }
+
+    public void recordLocalHit(String cacheKey) {
+        HotKey hotKey = hotKeys.get(cacheKey);
+        if (hotKey != null) {
+            hotKey.localHits.increment();
+        }
+    }
+
+    /**
+     * 다른 노드가 감지한 핫 키를 고정한다.
+     */
+    public void pin(String cacheKey) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        hotKeys.compute(cacheKey, (key, existing) -> {
+            if (existing == null || existing.isExpired(now)) {
+                return new HotKey(key, Origin.REMOTE, now, now + pinMillis);
+            }
+            existing.extend(now + pinMillis);
+            return existing;
+        });
+    }
+
+    /**
+     * 현재 핫 키 목록 (요청률 내림차순)
+     */
+    public Report report() {
+        long now = System.currentTimeMillis();
+        hotKeys.values().removeIf(hotKey -> hotKey.isExpired(now));
+
+        List<Snapshot> keys = hotKeys.values().stream()
+                .map(hotKey -> new Snapshot(
+                        hotKey.key,
+                        sketch.estimate(hotKey.key, now) / windowSeconds,
+                        hotKey.localHits.sum(),
+                        hotKey.origin,
+                        Instant.ofEpochMilli(hotKey.detectedAt),
+                        Instant.ofEpochMilli(hotKey.expiresAt)
+                ))
+                .sorted(Comparator.comparingDouble(Snapshot::requestsPerSecond).reversed())
+                .toList();
+        return new Report(enabled, windowSeconds, thresholdPerSecond, keys);
+    }
+
+    private void promote(String cacheKey, long now) {
+        HotKey promoted = new HotKey(cacheKey, Origin.LOCAL, now, now + pinMillis);
+        if (hotKeys.putIfAbsent(cacheKey, promoted) != null) {
+            return;
+        }
+
+        detectedCounter.increment();
+        log.info("핫 키 감지: cacheKey={}", cacheKey);
+        announce(cacheKey);
+    }
+
+    private void announce(String cacheKey) {
+        try {
+            redisTemplateMaster.convertAndSend(CHANNEL, cacheKey);
+        } catch (Exception e) {
+            log.warn("핫 키 전파 실패: cacheKey={}", cacheKey, e);
+        }
+    }
+
+    public record Report(
+            boolean enabled,
+            double windowSeconds,
+            double thresholdPerSecond,
+            List<Snapshot> keys
+    ) {
+    }
+
+    public record Snapshot(
+            String key,
+            double requestsPerSecond,
+            long localHits,
+            Origin origin,
+            Instant detectedAt,
+            Instant expiresAt
+    ) {
+    }
+
+    private static class HotKey {
+
+        private final String key;
+        private final Origin origin;
+        private final long detectedAt;
+        private final LongAdder localHits = new LongAdder();
+        // 다른 노드에 알린 고정 만료 시각 (원격 고정은 알린 노드의 만료 시각)
+        private final AtomicLong announcedUntil;
+        private volatile long expiresAt;
+
+        private HotKey(String key, Origin origin, long detectedAt, long expiresAt) {
+            this.key = key;
+            this.origin = origin;
+            this.detectedAt = detectedAt;
+            this.expiresAt = expiresAt;
+            this.announcedUntil = new AtomicLong(expiresAt);
+        }
+
+        /**
+         * 알린 고정 시간이 절반 미만으로 남았으면 한 스레드만 재전파를 맡는다.
+         */
+        private boolean claimAnnouncement(long now, long pinMillis) {
+            long announced = announcedUntil.get();
+            return announced - now < pinMillis / 2
+                    && announcedUntil.compareAndSet(announced, now + pinMillis);
+        }
+
+        private void extend(long expiresAt) {
+            this.expiresAt = Math.max(this.expiresAt, expiresAt);
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.loopers.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/hotkeys
+ * 현재 핫 키와 윈도우 내 요청률, 로컬 복제본 히트 수를 보여준다.
+ */
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "hotkeys")
+public class HotKeyEndpoint {
+
+    private final HotKeyDetector hotKeyDetector;
+
+    @ReadOperation
+    public HotKeyDetector.Report hotKeys() {
+        return hotKeyDetector.report();
+    }
+}
@@ -0,0 +1,56 @@
+package com.loopers.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+
+/**
+ * 핫 키 전용 노드 로컬 복제본
+ * L1 활성화 여부와 관계없이 핫 키만 아주 짧은 TTL 로 보관해 한 Redis 노드에 몰리는 요청을 흡수한다.
+ * 복제본 키는 "{캐시 키}" 또는 "{캐시 키}|{부가 키}" 형태이며, 무효화는 캐시 키 기준으로 함께 제거한다.
+ */
+@Component
+public class HotKeyLocalReplica {
+
+    private static final String SEPARATOR = "|";
+    private static final long MAXIMUM_SIZE = 1_000;
+
+    private final Cache<String, Object> cache;
+
+    public HotKeyLocalReplica(ProductCacheProperties properties, MeterRegistry meterRegistry) {
+        ProductCacheProperties.HotKey hotKey = properties.hotKey();
+        Duration ttl = hotKey != null ? hotKey.replicaTtl() : Duration.ofSeconds(1);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product-hotkey-replica");
+    }
+
+    public static String replicaKey(String cacheKey, String qualifier) {
+        return cacheKey + SEPARATOR + qualifier;
+    }
+
+    public <T> T get(String replicaKey, Class<T> type) {
+        Object value = cache.getIfPresent(replicaKey);
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    public void put(String replicaKey, Object value) {
+        if (value != null) {
+            cache.put(replicaKey, value);
+        }
+    }
+
+    public void evict(String cacheKey) {
+        cache.asMap().keySet().removeIf(key -> key.equals(cacheKey) || key.startsWith(cacheKey + SEPARATOR));
+    }
+
+    public void evictByPrefix(String prefix) {
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+}
@@ -0,0 +1,26 @@
+package com.loopers.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드가 감지한 핫 키를 받아 이 노드에서도 로컬 복제 대상으로 고정한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HotKeyPinListener implements MessageListener {
+
+    private final HotKeyDetector hotKeyDetector;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String cacheKey = new String(message.getBody(), StandardCharsets.UTF_8);
+        hotKeyDetector.pin(cacheKey);
+        log.debug("핫 키 고정 메시지 수신: cacheKey={}", cacheKey);
+    }
+}
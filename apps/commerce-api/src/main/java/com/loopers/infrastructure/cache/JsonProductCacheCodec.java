@@ -0,0 +1,103 @@
+package com.loopers.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.product.ProductInfo;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * JSON 코덱
+ * 타입 메타데이터 없이 엔벨로프를 그대로 직렬화하고, 중간 Map 변환 없이 레코드로 바로 역직렬화한다.
+ */
+public class JsonProductCacheCodec implements ProductCacheCodec {
+
+    private final ObjectMapper objectMapper;
+    private final JavaType productEnvelopeType;
+    private final JavaType productListEnvelopeType;
+    private final JavaType idListEnvelopeType;
+
+    public JsonProductCacheCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.productEnvelopeType = objectMapper.getTypeFactory()
+                .constructParametricType(CacheEnvelope.class, ProductInfo.class);
+        this.productListEnvelopeType = objectMapper.getTypeFactory()
+                .constructParametricType(CacheEnvelope.class,
+                        objectMapper.getTypeFactory().constructCollectionType(List.class, ProductInfo.class));
+        this.idListEnvelopeType = objectMapper.getTypeFactory()
+                .constructParametricType(CacheEnvelope.class,
+                        objectMapper.getTypeFactory().constructCollectionType(List.class, Long.class));
+    }
+
+    @Override
+    public byte[] encodeProduct(CacheEnvelope<ProductInfo> envelope) {
+        return write(envelope);
+    }
+
+    @Override
+    public CacheEnvelope<ProductInfo> decodeProduct(byte[] bytes) {
+        return read(bytes, productEnvelopeType);
+    }
+
+    @Override
+    public byte[] encodeProductList(CacheEnvelope<List<ProductInfo>> envelope) {
+        return write(envelope);
+    }
+
+    @Override
+    public CacheEnvelope<List<ProductInfo>> decodeProductList(byte[] bytes) {
+        return read(bytes, productListEnvelopeType);
+    }
+
+    @Override
+    public byte[] encodeIdList(CacheEnvelope<List<Long>> envelope) {
+        return write(envelope);
+    }
+
+    @Override
+    public CacheEnvelope<List<Long>> decodeIdList(byte[] bytes) {
+        return read(bytes, idListEnvelopeType);
+    }
+
+    /**
+     * 최상위 필드만 스트리밍으로 훑어 contentHash 를 찾는다. value 는 건너뛰므로 ProductInfo 를 만들지 않는다.
+     */
+    @Override
+    public long peekContentHash(byte[] bytes) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(bytes)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("JSON 캐시 값을 해석할 수 없습니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("contentHash".equals(field)) {
+                    return parser.getLongValue();
+                }
+                parser.skipChildren();
+            }
+            return 0L;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("JSON 캐시 값을 해석할 수 없습니다.", e);
+        }
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> T read(byte[] bytes, JavaType type) {
+        try {
+            return objectMapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("JSON 캐시 값을 해석할 수 없습니다.", e);
+        }
+    }
+}
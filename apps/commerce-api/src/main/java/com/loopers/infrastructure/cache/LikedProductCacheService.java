@@ -0,0 +1,199 @@
+package com.loopers.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자별 좋아요 상품 캐시
+ * like:user:{userId} ZSET 에 좋아요한 상품 ID 를 좋아요 시각(epoch millis)을 점수로 담는다.
+ * 한 페이지의 상품에 대한 좋아요 여부는 ZMSCORE 한 번으로 확인한다.
+ * 좋아요 테이블에서 적재를 마친 ZSET 에만 LOADED 표식 멤버가 있다. 표식이 없으면 적재 전이거나 만료된 것으로 보고 null 을 반환해 호출 측이 다시 적재하게 한다.
+ * 좋아요/취소가 커밋되면 캐시를 지우면서 사용자별 버전(like:user:ver:{userId})을 올린다.
+ * 다시 적재할 때는 임시 키에 모은 뒤, 적재를 시작할 때 읽은 버전이 그대로일 때만 RENAME 으로 바꿔 끼운다.
+ * 적재 중에 들어온 좋아요/취소가 DB 스냅숏에 덮여 취소한 좋아요가 되살아나지 않도록 하기 위함이다.
+ * 지우지 못한 사용자는 노드에 기록해 두고 그동안 캐시를 쓰지 않으며, 지울 수 있을 때까지 다시 지운다.
+ */
+@Service
+public class LikedProductCacheService {
+
+    private static final String LIKED_PRODUCTS_PREFIX = "like:user:";
+    private static final String VERSION_PREFIX = "like:user:ver:";
+    private static final String REBUILD_PREFIX = "like:user:rebuild:";
+    private static final String LOADED_MEMBER = "loaded";
+    private static final Duration LIKED_PRODUCTS_TTL = Duration.ofDays(7);
+    private static final Duration REBUILD_TTL = Duration.ofMinutes(1);
+
+    // 버전이 적재 시작 때와 같으면 표식을 남기고 임시 키로 바꿔 끼운다. 다르면 임시 키를 버린다.
+    private static final String SWAP_IF_UNCHANGED_SCRIPT = """
+            local version = redis.call("get", KEYS[3]) or "0"
+            if version ~= ARGV[1] then
+                redis.call("del", KEYS[1])
+                return 0
+            end
+            redis.call("zadd", KEYS[1], 0, ARGV[2])
+            redis.call("rename", KEYS[1], KEYS[2])
+            redis.call("expire", KEYS[2], ARGV[3])
+            return 1
+            """;
+
+    private final RedisTemplate<String, String> redisTemplateMaster;
+    private final DefaultRedisScript<Long> swapIfUnchangedScript = new DefaultRedisScript<>(SWAP_IF_UNCHANGED_SCRIPT, Long.class);
+    private final Set<Long> staleUserIds = ConcurrentHashMap.newKeySet();
+
+    public LikedProductCacheService(@Qualifier("redisTemplateMaster") RedisTemplate<String, String> redisTemplateMaster) {
+        this.redisTemplateMaster = redisTemplateMaster;
+    }
+
+    public String getLikedProductsKey(Long userId) {
+        return LIKED_PRODUCTS_PREFIX + userId;
+    }
+
+    private String getVersionKey(Long userId) {
+        return VERSION_PREFIX + userId;
+    }
+
+    /**
+     * productIds 중 사용자가 좋아요한 상품 ID (적재되지 않았으면 null)
+     */
+    public Set<Long> findLikedAmong(Long userId, List<Long> productIds) {
+        Object[] members = new Object[productIds.size() + 1];
+        members[0] = LOADED_MEMBER;
+        for (int i = 0; i < productIds.size(); i++) {
+            members[i + 1] = String.valueOf(productIds.get(i));
+        }
+
+        List<Double> scores = redisTemplateMaster.opsForZSet().score(getLikedProductsKey(userId), members);
+        if (scores == null || scores.get(0) == null) {
+            return null;
+        }
+
+        Set<Long> likedProductIds = new HashSet<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            if (scores.get(i + 1) != null) {
+                likedProductIds.add(productIds.get(i));
+            }
+        }
+        return likedProductIds;
+    }
+
+    /**
+     * 사용자가 좋아요한 상품 ID 를 최근 좋아요 순으로 offset 부터 count 개 반환한다. (적재되지 않았으면 null)
+     */
+    public List<Long> findLikedProductIdPage(Long userId, long offset, int count) {
+        byte[] key = bytes(getLikedProductsKey(userId));
+        List<Object> results = redisTemplateMaster.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zScore(key, bytes(LOADED_MEMBER));
+            connection.zSetCommands().zRevRange(key, offset, offset + count - 1);
+            return null;
+        });
+        if (results.get(0) == null) {
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<String> members = (Set<String>) results.get(1);
+        List<Long> productIds = new ArrayList<>(members.size());
+        for (String member : members) {
+            if (!LOADED_MEMBER.equals(member)) {
+                productIds.add(Long.valueOf(member));
+            }
+        }
+        return productIds;
+    }
+
+    /**
+     * 좋아요/취소가 커밋되면 지워서 다음 조회에 좋아요 테이블에서 다시 적재하게 한다.
+     * 진행 중인 적재가 지운 캐시를 되살리지 않도록 버전도 올린다.
+     */
+    public void evict(Long userId) {
+        byte[] key = bytes(getLikedProductsKey(userId));
+        redisTemplateMaster.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(key);
+            incrementVersion(connection, userId);
+            return null;
+        });
+    }
+
+    /**
+     * 캐시를 지우지 못한 사용자를 기록한다. 지울 때까지 이 노드는 해당 사용자의 캐시를 쓰지 않는다.
+     */
+    public void markStale(Long userId) {
+        staleUserIds.add(userId);
+    }
+
+    public boolean isStale(Long userId) {
+        return staleUserIds.contains(userId);
+    }
+
+    /**
+     * 기록해 둔 사용자의 캐시를 다시 지운다. 지운 사용자는 기록에서 뺀다.
+     */
+    public void retryStaleEvictions() {
+        for (Long userId : staleUserIds) {
+            evict(userId);
+            staleUserIds.remove(userId);
+        }
+    }
+
+    /**
+     * 다시 적재를 시작한다. 현재 버전을 읽고 이번 적재에 쓸 임시 키를 만든다.
+     */
+    public Rebuild beginRebuild(Long userId) {
+        String version = redisTemplateMaster.opsForValue().get(getVersionKey(userId));
+        String temporaryKey = REBUILD_PREFIX + userId + ":" + UUID.randomUUID();
+        return new Rebuild(userId, temporaryKey, version != null ? version : "0");
+    }
+
+    /**
+     * 좋아요 테이블에서 읽은 (상품 ID, 좋아요 시각)을 임시 키에 담는다. 좋아요가 많으면 나누어 여러 번 호출한다.
+     */
+    public void addLikes(Rebuild rebuild, Map<Long, Long> likedAtMillisByProductId) {
+        byte[] key = bytes(rebuild.temporaryKey());
+        redisTemplateMaster.executePipelined((RedisCallback<Object>) connection -> {
+            likedAtMillisByProductId.forEach((productId, likedAtMillis) ->
+                    connection.zSetCommands().zAdd(key, likedAtMillis, bytes(String.valueOf(productId))));
+            // 적재가 중간에 끊겨도 임시 키가 남지 않도록 짧게 둔다.
+            connection.keyCommands().expire(key, REBUILD_TTL.toSeconds());
+            return null;
+        });
+    }
+
+    /**
+     * 적재 중 버전이 바뀌지 않았으면 표식을 남기고 임시 키를 캐시로 바꿔 끼운다. 바뀌었으면 버리고 false 를 반환한다.
+     * 표식은 점수 0 으로 두어 최근 좋아요 순 조회에서 항상 마지막에 온다.
+     */
+    public boolean completeRebuild(Rebuild rebuild) {
+        Long swapped = redisTemplateMaster.execute(
+                swapIfUnchangedScript,
+                List.of(rebuild.temporaryKey(), getLikedProductsKey(rebuild.userId()), getVersionKey(rebuild.userId())),
+                rebuild.version(), LOADED_MEMBER, String.valueOf(LIKED_PRODUCTS_TTL.toSeconds())
+        );
+        return Long.valueOf(1L).equals(swapped);
+    }
+
+    private void incrementVersion(RedisConnection connection, Long userId) {
+        byte[] versionKey = bytes(getVersionKey(userId));
+        connection.stringCommands().incr(versionKey);
+        connection.keyCommands().expire(versionKey, LIKED_PRODUCTS_TTL.toSeconds());
+    }
+
+    public record Rebuild(Long userId, String temporaryKey, String version) {
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,73 @@
+package com.loopers.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis(L2) 앞단에 위치하는 노드 로컬(L1) 상품 캐시.
+ * 크기와 쓰기 후 경과 시간으로 만료되며, 비활성화 시 모든 연산은 no-op 으로 동작한다.
+ * 목록 값은 불변 복사본으로 저장해 조회한 쪽이 캐시된 값을 바꾸지 못하게 한다.
+ */
+@Slf4j
+@Component
+public class LocalProductCache {
+
+    private final boolean enabled;
+    private final Cache<String, Object> cache;
+
+    public LocalProductCache(ProductCacheProperties properties, MeterRegistry meterRegistry) {
+        ProductCacheProperties.Local local = properties.local();
+        this.enabled = local.enabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(local.maximumSize())
+                .expireAfterWrite(local.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product-local-cache");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public <T> T get(String cacheKey, Class<T> type) {
+        if (!enabled) {
+            return null;
+        }
+        Object value = cache.getIfPresent(cacheKey);
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    public void put(String cacheKey, Object value) {
+        if (!enabled || value == null) {
+            return;
+        }
+        cache.put(cacheKey, value instanceof List<?> list ? List.copyOf(list) : value);
+    }
+
+    public void evict(String cacheKey) {
+        if (!enabled) {
+            return;
+        }
+        cache.invalidate(cacheKey);
+    }
+
+    /**
+     * 접두어가 일치하는 모든 로컬 캐시 항목을 제거한다. (예: product:list:)
+     */
+    public void evictByPrefix(String prefix) {
+        if (!enabled) {
+            return;
+        }
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
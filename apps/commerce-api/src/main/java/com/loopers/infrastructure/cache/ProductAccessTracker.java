@@ -0,0 +1,39 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.application.product.ProductSort;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 상세/목록 페이지 접근 빈도 추적
+ * 메모리를 capacity 개 카운터로 제한하기 위해 HeavyHitterSketch 를 사용한다.
+ */
+@Component
+public class ProductAccessTracker {
+
+    private static final int DEFAULT_CAPACITY = 1_000;
+
+    private final HeavyHitterSketch sketch;
+
+    public ProductAccessTracker(ProductCacheProperties properties) {
+        ProductCacheProperties.Warmer warmer = properties.warmer();
+        this.sketch = new HeavyHitterSketch(warmer != null ? warmer.sketchCapacity() : DEFAULT_CAPACITY);
+    }
+
+    public void recordDetail(Long productId) {
+        sketch.add(ProductHotKey.detail(productId).encode());
+    }
+
+    public void recordList(Long brandId, ProductSort sort, int page, int size) {
+        sketch.add(ProductHotKey.list(brandId, sort, page, size).encode());
+    }
+
+    public List<Map.Entry<String, Long>> topKeys(int n) {
+        return sketch.top(n);
+    }
+
+    public void decay() {
+        sketch.decay();
+    }
+}
@@ -0,0 +1,28 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.application.product.ProductInfo;
+import java.util.List;
+
+/**
+ * 상품 캐시 엔벨로프 직렬화 코덱
+ * 디코딩할 수 없는 값(다른 포맷, 지원하지 않는 버전, 손상된 값)은 IllegalArgumentException 을 던지고, 호출 측은 캐시 미스로 처리한다.
+ */
+public interface ProductCacheCodec {
+
+    byte[] encodeProduct(CacheEnvelope<ProductInfo> envelope);
+
+    CacheEnvelope<ProductInfo> decodeProduct(byte[] bytes);
+
+    byte[] encodeProductList(CacheEnvelope<List<ProductInfo>> envelope);
+
+    CacheEnvelope<List<ProductInfo>> decodeProductList(byte[] bytes);
+
+    byte[] encodeIdList(CacheEnvelope<List<Long>> envelope);
+
+    CacheEnvelope<List<Long>> decodeIdList(byte[] bytes);
+
+    /**
+     * 값을 역직렬화하지 않고 엔벨로프의 콘텐츠 해시만 읽는다. 해시가 없으면 0 이다.
+     */
+    long peekContentHash(byte[] bytes);
+}
@@ -0,0 +1,45 @@
+package com.loopers.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드(commerce-streamer 등)에서 발행한 캐시 무효화 메시지를 받아 로컬(L1) 캐시와 핫 키 복제본을 비운다.
+ * 메시지 본문은 캐시 키이며, '*' 로 끝나면 접두어 단위로 제거한다.
+ * 목록 캐시 세대 갱신({세대 키}={세대})이면 로컬 세대 사본을 바꾼다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductCacheInvalidationListener implements MessageListener {
+
+    public static final String CHANNEL = "product:cache:invalidation";
+    private static final String WILDCARD = "*";
+
+    private final LocalProductCache localProductCache;
+    private final HotKeyLocalReplica hotKeyLocalReplica;
+    private final ProductListGenerations productListGenerations;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String cacheKey = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if (productListGenerations.applyMessage(cacheKey)) {
+            log.debug("목록 캐시 세대 갱신 메시지 수신: message={}", cacheKey);
+            return;
+        }
+        if (cacheKey.endsWith(WILDCARD)) {
+            String prefix = cacheKey.substring(0, cacheKey.length() - WILDCARD.length());
+            localProductCache.evictByPrefix(prefix);
+            hotKeyLocalReplica.evictByPrefix(prefix);
+        } else {
+            localProductCache.evict(cacheKey);
+            hotKeyLocalReplica.evict(cacheKey);
+        }
+        log.debug("로컬 캐시 무효화 메시지 수신: cacheKey={}", cacheKey);
+    }
+}
@@ -0,0 +1,86 @@
+package com.loopers.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 캐시의 계층(L1/L2)별 히트/미스 지표.
+ * product.cache.gets{tier, cache, result} 카운터와 product.cache.hit.ratio{tier} 게이지를 노출한다.
+ * 상세 + 랭킹 조합 조회는 product.detail.read{stage} 히스토그램으로 단계별 지연을 기록한다.
+ */
+@Component
+public class ProductCacheMetrics {
+
+    public enum Tier {
+        L1, L2
+    }
+
+    public enum CacheType {
+        DETAIL, LIST
+    }
+
+    public enum ReadStage {
+        L1, REDIS, LOAD, TOTAL
+    }
+
+    private final Map<Tier, Map<CacheType, Counter>> hits = new EnumMap<>(Tier.class);
+    private final Map<Tier, Map<CacheType, Counter>> misses = new EnumMap<>(Tier.class);
+    private final Map<ReadStage, Timer> readTimers = new EnumMap<>(ReadStage.class);
+
+    public ProductCacheMetrics(MeterRegistry meterRegistry) {
+        for (Tier tier : Tier.values()) {
+            Map<CacheType, Counter> tierHits = new EnumMap<>(CacheType.class);
+            Map<CacheType, Counter> tierMisses = new EnumMap<>(CacheType.class);
+            for (CacheType cacheType : CacheType.values()) {
+                tierHits.put(cacheType, counter(meterRegistry, tier, cacheType, "hit"));
+                tierMisses.put(cacheType, counter(meterRegistry, tier, cacheType, "miss"));
+            }
+            hits.put(tier, tierHits);
+            misses.put(tier, tierMisses);
+
+            Gauge.builder("product.cache.hit.ratio", this, metrics -> metrics.hitRatio(tier))
+                    .tag("tier", tier.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+
+        for (ReadStage stage : ReadStage.values()) {
+            readTimers.put(stage, Timer.builder("product.detail.read")
+                    .tag("stage", stage.name().toLowerCase())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public void hit(Tier tier, CacheType cacheType) {
+        hits.get(tier).get(cacheType).increment();
+    }
+
+    public void miss(Tier tier, CacheType cacheType) {
+        misses.get(tier).get(cacheType).increment();
+    }
+
+    public void recordRead(ReadStage stage, long startedAtNanos) {
+        readTimers.get(stage).record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public double hitRatio(Tier tier) {
+        double hitCount = hits.get(tier).values().stream().mapToDouble(Counter::count).sum();
+        double missCount = misses.get(tier).values().stream().mapToDouble(Counter::count).sum();
+        double total = hitCount + missCount;
+        return total == 0 ? 0.0 : hitCount / total;
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, Tier tier, CacheType cacheType, String result) {
+        return Counter.builder("product.cache.gets")
+                .tag("tier", tier.name().toLowerCase())
+                .tag("cache", cacheType.name().toLowerCase())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,126 @@
+package com.loopers.infrastructure.cache;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "product-cache")
+public record ProductCacheProperties(
+        Local local,
+        Coalescing coalescing,
+        EarlyRefresh earlyRefresh,
+        Codec codec,
+        Listing listing,
+        DetailRead detailRead,
+        Warmer warmer,
+        HotKey hotKey
+) {
+
+    /**
+     * 노드 로컬(L1) 캐시 설정
+     */
+    public record Local(
+            boolean enabled,
+            long maximumSize,
+            Duration ttl
+    ) {
+    }
+
+    /**
+     * 캐시 미스 적재 병합 설정
+     * clusterEnabled 가 true 이면 분산 락을 획득한 노드만 DB 를 조회하고, 나머지 노드는 waitTimeout 동안 결과를 기다린다.
+     */
+    public record Coalescing(
+            boolean clusterEnabled,
+            Duration lockTtl,
+            Duration waitTimeout,
+            Duration pollInterval
+    ) {
+    }
+
+    /**
+     * 논리 만료 기반 조기 갱신(XFetch) 설정
+     * beta 가 클수록 더 일찍 갱신하고, minDelta 는 재계산 시간이 너무 짧게 측정된 경우의 하한이다.
+     * staleGrace 는 논리 만료 이후에도 갱신되는 동안 이전 값을 응답할 수 있는 시간이다.
+     */
+    public record EarlyRefresh(
+            double beta,
+            Duration minDelta,
+            Duration staleGrace
+    ) {
+    }
+
+    /**
+     * 캐시 값 직렬화 설정
+     * BINARY 는 payload 가 compressionThreshold 바이트 이상이면 LZ4 로 압축한다.
+     */
+    public record Codec(
+            Type type,
+            int compressionThreshold
+    ) {
+        public enum Type {
+            JSON,
+            BINARY
+        }
+    }
+
+    /**
+     * 목록 캐시 모드
+     * ID_LIST 는 페이지별 상품 ID 목록만 캐시하고 상세는 상세 캐시에서 일괄 조회해 채운다.
+     * SORTED_SET 은 commerce-streamer 가 유지하는 정렬 인덱스(ZSET)에서 ZRANGE 로 ID 를 구하며, 인덱스가 준비되지 않았으면 ID_LIST 로 동작한다.
+     * generationSyncInterval 은 로컬에 둔 목록 캐시 세대를 Redis 와 다시 맞추는 주기다.
+     */
+    public record Listing(
+            Mode mode,
+            Duration generationSyncInterval
+    ) {
+        public enum Mode {
+            PAGE,
+            ID_LIST,
+            SORTED_SET
+        }
+    }
+
+    /**
+     * 상세 + 랭킹 조합 조회 설정
+     * replicaEnabled 가 true 이면 상세 GET 과 ZREVRANK 를 Replica 에서 파이프라인으로 조회한다.
+     * false 이면 랭킹 최신성을 우선해 Master 에서 조회한다.
+     */
+    public record DetailRead(
+            boolean replicaEnabled
+    ) {
+    }
+
+    /**
+     * 접근 빈도 기반 캐시 워밍 설정
+     * sketchCapacity 개의 카운터로 상위 접근 키를 추적해 persistInterval 마다 상위 topN 개를 Redis 에 저장하고,
+     * 기동 시 저장된 키를 concurrency 개씩 병렬로 적재한다. timeout 이 지나면 나머지는 건너뛰고 준비 완료로 전환한다.
+     * refreshInterval 마다 상위 키를 다시 적재해 논리 만료 전에 갱신한다.
+     */
+    public record Warmer(
+            boolean enabled,
+            int topN,
+            int sketchCapacity,
+            int concurrency,
+            Duration timeout,
+            Duration persistInterval,
+            Duration refreshInterval
+    ) {
+    }
+
+    /**
+     * 핫 키 감지 및 로컬 복제 설정
+     * window 를 windowSlots 개 구간으로 나눈 Count-Min Sketch(sketchDepth x sketchWidth)로 요청률을 추정하고,
+     * thresholdPerSecond 이상이면 pinDuration 동안 모든 노드의 로컬 복제본(replicaTtl)으로 응답한다.
+     */
+    public record HotKey(
+            boolean enabled,
+            Duration window,
+            int windowSlots,
+            int sketchDepth,
+            int sketchWidth,
+            double thresholdPerSecond,
+            Duration pinDuration,
+            Duration replicaTtl
+    ) {
+    }
+}
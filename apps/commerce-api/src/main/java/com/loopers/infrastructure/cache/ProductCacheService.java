@@ -1,53 +1,73 @@
 package com.loopers.infrastructure.cache;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.product.ProductInfo;
-import com.loopers.application.product.ProductSort;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+/**
+ * 상품 상세 캐시
+ * L1(로컬) → L2(Redis) 순으로 조회하고, 논리 만료가 임박하면 비동기로 갱신하며, 미스는 ProductCacheStore 를 통해 한 번만 적재한다.
+ * 목록 캐시 모드는 ProductListingCache 가, 핫 키 복제본과 접근 기록은 ProductHotKeyReader 가 맡는다.
+ */
 @Slf4j
 @Service
 public class ProductCacheService {
 
     private static final String PRODUCT_DETAIL_PREFIX = "product:detail:";
-    private static final String PRODUCT_LIST_PREFIX = "product:list:";
-    
+
     private static final Duration PRODUCT_DETAIL_TTL = Duration.ofMinutes(1);
-    private static final Duration PRODUCT_LIST_TTL = Duration.ofMinutes(1);
-    private static final long REFRESH_THRESHOLD_SECONDS = 10;
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final RedisTemplate<String, Object> redisTemplateMaster;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final RedisTemplate<String, byte[]> redisTemplateMaster;
     private final DistributedLock distributedLock;
+    private final LocalProductCache localProductCache;
+    private final ProductCacheMetrics cacheMetrics;
+    private final RedisTemplate<String, byte[]> detailReadTemplate;
+    private final ProductHotKeyReader hotKeyReader;
+    private final ProductCacheStore cacheStore;
 
     @Lazy
     @Autowired
     private ProductCacheService self;
 
     public ProductCacheService(
-            @Qualifier("redisTemplateObject") RedisTemplate<String, Object> redisTemplate,
-            @Qualifier("redisTemplateObjectMaster") RedisTemplate<String, Object> redisTemplateMaster,
-            @Qualifier("redisObjectMapper") ObjectMapper objectMapper,
-            DistributedLock distributedLock
+            @Qualifier("redisTemplateBytes") RedisTemplate<String, byte[]> redisTemplate,
+            @Qualifier("redisTemplateBytesMaster") RedisTemplate<String, byte[]> redisTemplateMaster,
+            DistributedLock distributedLock,
+            LocalProductCache localProductCache,
+            ProductCacheMetrics cacheMetrics,
+            ProductHotKeyReader hotKeyReader,
+            ProductCacheStore cacheStore,
+            ProductCacheProperties properties
     ) {
         this.redisTemplate = redisTemplate;
         this.redisTemplateMaster = redisTemplateMaster;
-        this.objectMapper = objectMapper;
         this.distributedLock = distributedLock;
+        this.localProductCache = localProductCache;
+        this.cacheMetrics = cacheMetrics;
+        this.hotKeyReader = hotKeyReader;
+        this.cacheStore = cacheStore;
+        this.detailReadTemplate = properties.detailRead() != null && properties.detailRead().replicaEnabled()
+                ? redisTemplate
+                : redisTemplateMaster;
     }
 
     /**
@@ -57,73 +77,247 @@ public class ProductCacheService {
         return PRODUCT_DETAIL_PREFIX + productId;
     }
 
-    /**
-     * 상품 목록 캐시 키 생성
-     */
-    public String getProductListKey(Long brandId, ProductSort sort, int page, int size) {
-        String brandPart = brandId != null ? "brandId=" + brandId : "brandId=all";
-        String sortPart = "sort=" + sort.getValue();
-        String pagePart = "page=" + page;
-        String sizePart = "size=" + size;
-        return PRODUCT_LIST_PREFIX + brandPart + "&" + sortPart + "&" + pagePart + "&" + sizePart;
-    }
-
     /**
      * 상품 상세 조회
      */
     public ProductInfo getProduct(Long productId, Supplier<ProductInfo> dbSupplier) {
         String cacheKey = getProductDetailKey(productId);
-        ValueOperations<String, Object> opsForValue = redisTemplate.opsForValue();
+        return hotKeyReader.read(productId, cacheKey, cacheKey, () -> readProduct(productId, cacheKey, dbSupplier));
+    }
+
+    private ProductInfo readProduct(Long productId, String cacheKey, Supplier<ProductInfo> dbSupplier) {
+
+        // 0. 로컬(L1) 캐시 조회
+        if (localProductCache.isEnabled()) {
+            ProductInfo localValue = localProductCache.get(cacheKey, ProductInfo.class);
+            if (localValue != null) {
+                cacheMetrics.hit(ProductCacheMetrics.Tier.L1, ProductCacheMetrics.CacheType.DETAIL);
+                return localValue;
+            }
+            cacheMetrics.miss(ProductCacheMetrics.Tier.L1, ProductCacheMetrics.CacheType.DETAIL);
+        }
 
         // 1. 캐시 조회
-        Object cachedValue = opsForValue.get(cacheKey);
-        if (cachedValue != null) {
+        CacheEnvelope<ProductInfo> envelope = cacheStore.readEnvelope(cacheKey, cacheStore.detailFormat());
+        if (envelope != null) {
             log.info("상품 상세 캐시 히트: productId={}", productId);
-            ProductInfo productInfo = objectMapper.convertValue(cachedValue, ProductInfo.class);
+            cacheMetrics.hit(ProductCacheMetrics.Tier.L2, ProductCacheMetrics.CacheType.DETAIL);
+            localProductCache.put(cacheKey, envelope.value());
 
-            // 2. Stale-While-Revalidate
-            Long ttl = redisTemplate.getExpire(cacheKey, TimeUnit.SECONDS);
-            if (ttl != null && ttl < REFRESH_THRESHOLD_SECONDS) {
-                log.info("키 {}의 TTL이 임계값 이하입니다. 비동기 새로고침을 실행합니다.", cacheKey);
+            // 2. Stale-While-Revalidate (논리 만료 기반 확률적 조기 갱신)
+            if (cacheStore.shouldRefresh(envelope)) {
+                log.info("키 {}의 논리 만료가 임박했습니다. 비동기 새로고침을 실행합니다.", cacheKey);
                 self.refreshProductCache(productId, cacheKey, dbSupplier, PRODUCT_DETAIL_TTL);
             }
-            return productInfo;
+            return envelope.value();
         }
 
         // 3. 캐시 미스 -> DB 조회 및 캐시 저장
         log.info("상품 상세 캐시 미스: productId={}, DB에서 조회합니다.", productId);
-        ProductInfo productInfo = dbSupplier.get();
-        redisTemplateMaster.opsForValue().set(cacheKey, productInfo, PRODUCT_DETAIL_TTL);
-        return productInfo;
+        cacheMetrics.miss(ProductCacheMetrics.Tier.L2, ProductCacheMetrics.CacheType.DETAIL);
+        return cacheStore.loadOnMiss(cacheKey, dbSupplier, PRODUCT_DETAIL_TTL, cacheStore.detailFormat());
     }
 
     /**
-     * 상품 목록 조회
+     * 상품 상세 + 랭킹 순위 조회
+     * 상세 캐시 GET 과 ZREVRANK 를 한 번의 파이프라인으로 보내 Redis 왕복을 1회로 줄인다.
+     * L1 히트 시에는 ZREVRANK 만 조회하며, 랭킹에 없는 상품은 rank 가 null 이다.
+     * 핫 키는 랭킹까지 합친 결과를 로컬 복제본에서 응답해 상세 키와 랭킹 ZSET 모두 Redis 를 거치지 않는다.
      */
-    public List<ProductInfo> getProductList(Long brandId, ProductSort sort, int page, int size, Supplier<List<ProductInfo>> dbSupplier) {
-        String cacheKey = getProductListKey(brandId, sort, page, size);
-        ValueOperations<String, Object> opsForValue = redisTemplate.opsForValue();
+    public ProductInfo getProductWithRank(Long productId, String rankingKey, Supplier<ProductInfo> dbSupplier) {
+        long startedAt = System.nanoTime();
+        try {
+            String cacheKey = getProductDetailKey(productId);
+            return hotKeyReader.read(productId, cacheKey, HotKeyLocalReplica.replicaKey(cacheKey, rankingKey),
+                    () -> readProductWithRank(productId, rankingKey, dbSupplier));
+        } finally {
+            cacheMetrics.recordRead(ProductCacheMetrics.ReadStage.TOTAL, startedAt);
+        }
+    }
 
-        // 1. 캐시 조회
-        Object cachedValue = opsForValue.get(cacheKey);
-        if (cachedValue != null) {
-            log.info("상품 목록 캐시 히트: cacheKey={}", cacheKey);
-            List<ProductInfo> productList = objectMapper.convertValue(cachedValue, new TypeReference<List<ProductInfo>>() {});
-
-            // 2. Stale-While-Revalidate
-            Long ttl = redisTemplate.getExpire(cacheKey, TimeUnit.SECONDS);
-            if (ttl != null && ttl < REFRESH_THRESHOLD_SECONDS) {
-                log.info("키 {}의 TTL이 임계값 이하입니다. 비동기 새로고침을 실행합니다.", cacheKey);
-                self.refreshProductListCache(cacheKey, dbSupplier, PRODUCT_LIST_TTL);
+    private ProductInfo readProductWithRank(Long productId, String rankingKey, Supplier<ProductInfo> dbSupplier) {
+        String cacheKey = getProductDetailKey(productId);
+        byte[] rawRankingKey = rankingKey.getBytes(StandardCharsets.UTF_8);
+        byte[] rankMember = String.valueOf(productId).getBytes(StandardCharsets.UTF_8);
+
+        // 0. 로컬(L1) 캐시 조회
+        if (localProductCache.isEnabled()) {
+            long l1StartedAt = System.nanoTime();
+            ProductInfo localValue = localProductCache.get(cacheKey, ProductInfo.class);
+            cacheMetrics.recordRead(ProductCacheMetrics.ReadStage.L1, l1StartedAt);
+
+            if (localValue != null) {
+                cacheMetrics.hit(ProductCacheMetrics.Tier.L1, ProductCacheMetrics.CacheType.DETAIL);
+                long redisStartedAt = System.nanoTime();
+                Long rank = detailReadTemplate.execute(
+                        (RedisCallback<Long>) connection -> connection.zSetCommands().zRevRank(rawRankingKey, rankMember));
+                cacheMetrics.recordRead(ProductCacheMetrics.ReadStage.REDIS, redisStartedAt);
+                return withRank(localValue, rank);
             }
-            return productList;
+            cacheMetrics.miss(ProductCacheMetrics.Tier.L1, ProductCacheMetrics.CacheType.DETAIL);
+        }
+
+        // 1. 상세 캐시 GET + ZREVRANK 파이프라인
+        long redisStartedAt = System.nanoTime();
+        List<Object> results = detailReadTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(cacheKey.getBytes(StandardCharsets.UTF_8));
+            connection.zSetCommands().zRevRank(rawRankingKey, rankMember);
+            return null;
+        });
+        cacheMetrics.recordRead(ProductCacheMetrics.ReadStage.REDIS, redisStartedAt);
+
+        CacheEnvelope<ProductInfo> envelope = results.get(0) instanceof byte[] cachedValue
+                ? cacheStore.decode(cacheKey, cachedValue, cacheStore.detailFormat())
+                : null;
+        Long rank = results.get(1) instanceof Long zeroBasedRank ? zeroBasedRank : null;
+
+        if (envelope != null) {
+            cacheMetrics.hit(ProductCacheMetrics.Tier.L2, ProductCacheMetrics.CacheType.DETAIL);
+            localProductCache.put(cacheKey, envelope.value());
+
+            // 2. Stale-While-Revalidate (논리 만료 기반 확률적 조기 갱신)
+            if (cacheStore.shouldRefresh(envelope)) {
+                self.refreshProductCache(productId, cacheKey, dbSupplier, PRODUCT_DETAIL_TTL);
+            }
+            return withRank(envelope.value(), rank);
         }
 
         // 3. 캐시 미스 -> DB 조회 및 캐시 저장
-        log.info("상품 목록 캐시 미스: cacheKey={}, DB에서 조회합니다.", cacheKey);
-        List<ProductInfo> productList = dbSupplier.get();
-        redisTemplateMaster.opsForValue().set(cacheKey, productList, PRODUCT_LIST_TTL);
-        return productList;
+        log.info("상품 상세 캐시 미스: productId={}, DB에서 조회합니다.", productId);
+        cacheMetrics.miss(ProductCacheMetrics.Tier.L2, ProductCacheMetrics.CacheType.DETAIL);
+        long loadStartedAt = System.nanoTime();
+        ProductInfo loaded = cacheStore.loadOnMiss(cacheKey, dbSupplier, PRODUCT_DETAIL_TTL, cacheStore.detailFormat());
+        cacheMetrics.recordRead(ProductCacheMetrics.ReadStage.LOAD, loadStartedAt);
+        return withRank(loaded, rank);
+    }
+
+    private ProductInfo withRank(ProductInfo productInfo, Long zeroBasedRank) {
+        return zeroBasedRank != null ? productInfo.withRank(zeroBasedRank + 1) : productInfo;
+    }
+
+    /**
+     * 상품 상세 조건부 요청(ETag)용 콘텐츠 해시 조회
+     * L1 에 값이 있으면 그 값에서 계산하고, 없으면 Redis 값의 헤더에 저장된 해시만 읽어 ProductInfo 를 역직렬화하지 않는다.
+     * 랭킹 순위는 같은 파이프라인의 ZREVRANK 로 합치며, 캐시에 값이 없으면 null 이다.
+     */
+    public Long findProductContentHash(Long productId, String rankingKey) {
+        String cacheKey = getProductDetailKey(productId);
+        byte[] rawRankingKey = rankingKey.getBytes(StandardCharsets.UTF_8);
+        byte[] rankMember = String.valueOf(productId).getBytes(StandardCharsets.UTF_8);
+
+        ProductInfo localValue = localProductCache.get(cacheKey, ProductInfo.class);
+        if (localValue != null) {
+            Long rank = detailReadTemplate.execute(
+                    (RedisCallback<Long>) connection -> connection.zSetCommands().zRevRank(rawRankingKey, rankMember));
+            return ProductContentHash.withRank(ProductContentHash.of(localValue), rank != null ? rank + 1 : null);
+        }
+
+        List<Object> results = detailReadTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(cacheKey.getBytes(StandardCharsets.UTF_8));
+            connection.zSetCommands().zRevRank(rawRankingKey, rankMember);
+            return null;
+        });
+        long contentHash = results.get(0) instanceof byte[] cachedValue
+                ? cacheStore.peekContentHash(cacheKey, cachedValue)
+                : 0L;
+        if (contentHash == 0L) {
+            return null;
+        }
+        Long rank = results.get(1) instanceof Long zeroBasedRank ? zeroBasedRank + 1 : null;
+        return ProductContentHash.withRank(contentHash, rank);
+    }
+
+    /**
+     * 상품들의 상세 캐시 콘텐츠 해시를 순서대로 합친다. 어느 하나라도 캐시에 없으면 null 이다.
+     */
+    public Long combineContentHashes(List<Long> productIds) {
+        long[] hashes = new long[productIds.size()];
+        List<Integer> remoteIndexes = new ArrayList<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            ProductInfo localValue = localProductCache.get(getProductDetailKey(productIds.get(i)), ProductInfo.class);
+            if (localValue != null) {
+                hashes[i] = ProductContentHash.of(localValue);
+            } else {
+                remoteIndexes.add(i);
+            }
+        }
+
+        if (!remoteIndexes.isEmpty()) {
+            List<String> keys = remoteIndexes.stream().map(index -> getProductDetailKey(productIds.get(index))).toList();
+            List<byte[]> values = redisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; i < keys.size(); i++) {
+                byte[] value = values != null ? values.get(i) : null;
+                long contentHash = value != null ? cacheStore.peekContentHash(keys.get(i), value) : 0L;
+                if (contentHash == 0L) {
+                    return null;
+                }
+                hashes[remoteIndexes.get(i)] = contentHash;
+            }
+        }
+        return ProductContentHash.combine(hashes);
+    }
+
+    /**
+     * 상품 상세 일괄 조회
+     * L1 → Redis MGET(1회) → 미스만 batchLoader 로 한 번에 조회 후 파이프라인으로 저장한다.
+     * 반환 순서는 productIds 순서를 따르며, 조회되지 않은 상품은 제외된다.
+     */
+    public List<ProductInfo> getProducts(List<Long> productIds, Function<List<Long>, List<ProductInfo>> batchLoader) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ProductInfo> found = new HashMap<>(productIds.size() * 2);
+        List<Long> remoteIds = new ArrayList<>();
+
+        // 0. 로컬(L1) 캐시 조회
+        for (Long productId : productIds) {
+            ProductInfo localValue = localProductCache.get(getProductDetailKey(productId), ProductInfo.class);
+            if (localValue != null) {
+                cacheMetrics.hit(ProductCacheMetrics.Tier.L1, ProductCacheMetrics.CacheType.DETAIL);
+                found.put(productId, localValue);
+            } else {
+                remoteIds.add(productId);
+            }
+        }
+
+        // 1. Redis MGET
+        List<Long> missIds = new ArrayList<>();
+        if (!remoteIds.isEmpty()) {
+            List<String> keys = remoteIds.stream().map(this::getProductDetailKey).toList();
+            List<byte[]> values = redisTemplate.opsForValue().multiGet(keys);
+            long now = System.currentTimeMillis();
+
+            for (int i = 0; i < remoteIds.size(); i++) {
+                byte[] value = values != null ? values.get(i) : null;
+                CacheEnvelope<ProductInfo> envelope = value != null
+                        ? cacheStore.decode(keys.get(i), value, cacheStore.detailFormat())
+                        : null;
+
+                // 일괄 조회에서는 논리 만료된 값도 함께 다시 적재한다.
+                if (envelope != null && !envelope.isExpired(now)) {
+                    cacheMetrics.hit(ProductCacheMetrics.Tier.L2, ProductCacheMetrics.CacheType.DETAIL);
+                    localProductCache.put(keys.get(i), envelope.value());
+                    found.put(remoteIds.get(i), envelope.value());
+                } else {
+                    cacheMetrics.miss(ProductCacheMetrics.Tier.L2, ProductCacheMetrics.CacheType.DETAIL);
+                    missIds.add(remoteIds.get(i));
+                }
+            }
+        }
+
+        // 2. 미스는 DB 에서 한 번에 조회 후 파이프라인으로 저장
+        if (!missIds.isEmpty()) {
+            long startedAt = System.currentTimeMillis();
+            List<ProductInfo> loaded = batchLoader.apply(missIds);
+            cacheDetails(loaded, System.currentTimeMillis() - startedAt);
+            loaded.forEach(product -> found.put(product.id(), product));
+        }
+
+        return productIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     /**
@@ -141,8 +335,7 @@ public class ProductCacheService {
 
         try {
             log.info("캐시 갱신을 위한 락 획득: cacheKey={}", cacheKey);
-            ProductInfo productInfo = dbSupplier.get();
-            redisTemplateMaster.opsForValue().set(cacheKey, productInfo, ttl);
+            cacheStore.loadAndCache(cacheKey, dbSupplier, ttl, cacheStore.detailFormat());
             log.info("상품 상세 캐시 갱신 완료: productId={}", productId);
         } catch (Exception e) {
             log.error("캐시 갱신 실패: cacheKey={}", cacheKey, e);
@@ -151,30 +344,33 @@ public class ProductCacheService {
         }
     }
 
-
     /**
-     * 비동기로 상품 목록 캐시 갱신
+     * 상품 상세 캐시 워밍
+     * 캐시 상태와 관계없이 DB 에서 다시 적재해 논리 만료 시각을 연장한다.
      */
-    @Async("cacheRefreshExecutor")
-    public void refreshProductListCache(String cacheKey, Supplier<List<ProductInfo>> dbSupplier, Duration ttl) {
-        String lockKey = "lock:" + cacheKey;
-        DistributedLock.LockHandle lockHandle = distributedLock.tryLock(lockKey, Duration.ofSeconds(1), Duration.ofSeconds(10));
+    public void warmProduct(Long productId, Supplier<ProductInfo> dbSupplier) {
+        cacheStore.loadAndCache(getProductDetailKey(productId), dbSupplier, PRODUCT_DETAIL_TTL, cacheStore.detailFormat());
+    }
 
-        if (lockHandle == null) {
-            log.debug("다른 스레드가 이미 캐시를 갱신 중입니다: cacheKey={}", cacheKey);
+    /**
+     * 상품 상세를 파이프라인으로 한 번에 저장한다.
+     */
+    public void cacheDetails(List<ProductInfo> products, long computeMillis) {
+        if (products.isEmpty()) {
             return;
         }
 
-        try {
-            log.info("캐시 갱신을 위한 락 획득: cacheKey={}", cacheKey);
-            List<ProductInfo> productList = dbSupplier.get();
-            redisTemplateMaster.opsForValue().set(cacheKey, productList, ttl);
-            log.info("상품 목록 캐시 갱신 완료: cacheKey={}", cacheKey);
-        } catch (Exception e) {
-            log.error("캐시 갱신 실패: cacheKey={}", cacheKey, e);
-        } finally {
-            distributedLock.releaseLock(lockHandle);
-        }
+        Expiration expiration = Expiration.from(cacheStore.physicalTtl(PRODUCT_DETAIL_TTL));
+        redisTemplateMaster.executePipelined((RedisCallback<Object>) connection -> {
+            for (ProductInfo product : products) {
+                String cacheKey = getProductDetailKey(product.id());
+                byte[] value = cacheStore.detailFormat().encoder().apply(
+                        CacheEnvelope.of(product, PRODUCT_DETAIL_TTL, computeMillis, ProductContentHash.of(product)));
+                connection.stringCommands().set(
+                        cacheKey.getBytes(StandardCharsets.UTF_8), value, expiration, RedisStringCommands.SetOption.upsert());
+            }
+            return null;
+        });
+        products.forEach(product -> localProductCache.put(getProductDetailKey(product.id()), product));
     }
-
 }
@@ -0,0 +1,195 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.application.product.ProductInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 상품 캐시 엔벨로프 저장소
+ * 상세/목록 캐시가 함께 쓰는 L2 엔벨로프 읽기/쓰기, 논리 만료 기반 조기 갱신 판정, 미스 적재(single-flight, 클러스터 락)를 담당한다.
+ */
+@Slf4j
+@Component
+public class ProductCacheStore {
+
+    private static final String LOAD_LOCK_PREFIX = "load:";
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final RedisTemplate<String, byte[]> redisTemplateMaster;
+    private final DistributedLock distributedLock;
+    private final LocalProductCache localProductCache;
+    private final SingleFlight singleFlight;
+    private final ProductCacheCodec codec;
+    private final ProductCacheProperties.Coalescing coalescing;
+    private final ProductCacheProperties.EarlyRefresh earlyRefresh;
+
+    private final EnvelopeFormat<ProductInfo> detailFormat;
+    private final EnvelopeFormat<List<ProductInfo>> listFormat;
+    private final EnvelopeFormat<List<Long>> idListFormat;
+
+    public ProductCacheStore(
+            @Qualifier("redisTemplateBytes") RedisTemplate<String, byte[]> redisTemplate,
+            @Qualifier("redisTemplateBytesMaster") RedisTemplate<String, byte[]> redisTemplateMaster,
+            ProductCacheCodec codec,
+            DistributedLock distributedLock,
+            LocalProductCache localProductCache,
+            SingleFlight singleFlight,
+            ProductCacheProperties properties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisTemplateMaster = redisTemplateMaster;
+        this.distributedLock = distributedLock;
+        this.localProductCache = localProductCache;
+        this.singleFlight = singleFlight;
+        this.codec = codec;
+        this.coalescing = properties.coalescing();
+        this.earlyRefresh = properties.earlyRefresh();
+        this.detailFormat = new EnvelopeFormat<>(codec::encodeProduct, codec::decodeProduct, ProductContentHash::of);
+        this.listFormat = new EnvelopeFormat<>(codec::encodeProductList, codec::decodeProductList, ProductContentHash::ofList);
+        this.idListFormat = new EnvelopeFormat<>(codec::encodeIdList, codec::decodeIdList, ids -> 0L);
+    }
+
+    EnvelopeFormat<ProductInfo> detailFormat() {
+        return detailFormat;
+    }
+
+    EnvelopeFormat<List<ProductInfo>> listFormat() {
+        return listFormat;
+    }
+
+    EnvelopeFormat<List<Long>> idListFormat() {
+        return idListFormat;
+    }
+
+    /**
+     * 물리 TTL 은 논리 TTL 에 staleGrace 를 더해, 논리 만료 후에도 갱신되는 동안 이전 값을 응답할 수 있게 한다.
+     */
+    Duration physicalTtl(Duration ttl) {
+        return ttl.plus(earlyRefresh.staleGrace());
+    }
+
+    boolean shouldRefresh(CacheEnvelope<?> envelope) {
+        return envelope.shouldRefresh(
+                System.currentTimeMillis(),
+                earlyRefresh.beta(),
+                earlyRefresh.minDelta().toMillis()
+        );
+    }
+
+    <T> CacheEnvelope<T> readEnvelope(String cacheKey, EnvelopeFormat<T> format) {
+        return readEnvelope(redisTemplate, cacheKey, format);
+    }
+
+    <T> CacheEnvelope<T> decode(String cacheKey, byte[] cachedValue, EnvelopeFormat<T> format) {
+        try {
+            return format.decoder().apply(cachedValue);
+        } catch (IllegalArgumentException e) {
+            // 다른 포맷/버전으로 저장된 값 등 해석할 수 없는 값은 미스로 취급한다.
+            log.warn("캐시 값 역직렬화 실패, 미스로 처리합니다: cacheKey={}", cacheKey);
+            return null;
+        }
+    }
+
+    long peekContentHash(String cacheKey, byte[] cachedValue) {
+        try {
+            return codec.peekContentHash(cachedValue);
+        } catch (IllegalArgumentException e) {
+            log.debug("캐시 값의 콘텐츠 해시를 읽을 수 없습니다: cacheKey={}", cacheKey);
+            return 0L;
+        }
+    }
+
+    /**
+     * 캐시 미스 적재
+     * 같은 키의 동시 미스는 JVM 내에서 하나의 DB 조회로 합치고,
+     * 클러스터 모드에서는 분산 락을 얻지 못한 노드가 잠시 동안 다른 노드의 적재 결과를 기다린다.
+     */
+    <T> T loadOnMiss(String cacheKey, Supplier<T> dbSupplier, Duration ttl, EnvelopeFormat<T> format) {
+        return singleFlight.execute(cacheKey, () -> {
+            if (!coalescing.clusterEnabled()) {
+                return loadAndCache(cacheKey, dbSupplier, ttl, format);
+            }
+            return loadWithClusterLock(cacheKey, dbSupplier, ttl, format);
+        });
+    }
+
+    /**
+     * DB 조회 결과를 엔벨로프로 감싸 저장한다.
+     */
+    <T> T loadAndCache(String cacheKey, Supplier<T> dbSupplier, Duration ttl, EnvelopeFormat<T> format) {
+        long startedAt = System.currentTimeMillis();
+        T value = dbSupplier.get();
+        save(cacheKey, CacheEnvelope.of(
+                value, ttl, System.currentTimeMillis() - startedAt, format.contentHasher().applyAsLong(value)), ttl, format);
+        return value;
+    }
+
+    <T> void save(String cacheKey, CacheEnvelope<T> envelope, Duration ttl, EnvelopeFormat<T> format) {
+        redisTemplateMaster.opsForValue().set(cacheKey, format.encoder().apply(envelope), physicalTtl(ttl));
+        localProductCache.put(cacheKey, envelope.value());
+    }
+
+    private <T> T loadWithClusterLock(String cacheKey, Supplier<T> dbSupplier, Duration ttl, EnvelopeFormat<T> format) {
+        DistributedLock.LockHandle lockHandle = distributedLock.tryLockOnce(LOAD_LOCK_PREFIX + cacheKey, coalescing.lockTtl());
+
+        if (lockHandle != null) {
+            try {
+                return loadAndCache(cacheKey, dbSupplier, ttl, format);
+            } finally {
+                distributedLock.releaseLock(lockHandle);
+            }
+        }
+
+        CacheEnvelope<T> loadedByOther = awaitLoadedEnvelope(cacheKey, format);
+        if (loadedByOther != null) {
+            localProductCache.put(cacheKey, loadedByOther.value());
+            return loadedByOther.value();
+        }
+
+        log.info("다른 노드의 캐시 적재를 기다리다 시간 초과: cacheKey={}, DB에서 조회합니다.", cacheKey);
+        return loadAndCache(cacheKey, dbSupplier, ttl, format);
+    }
+
+    private <T> CacheEnvelope<T> awaitLoadedEnvelope(String cacheKey, EnvelopeFormat<T> format) {
+        long deadline = System.currentTimeMillis() + coalescing.waitTimeout().toMillis();
+
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(coalescing.pollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            // 복제 지연을 피하기 위해 Master 에서 확인한다.
+            CacheEnvelope<T> envelope = readEnvelope(redisTemplateMaster, cacheKey, format);
+            if (envelope != null) {
+                return envelope;
+            }
+        }
+        return null;
+    }
+
+    private <T> CacheEnvelope<T> readEnvelope(RedisTemplate<String, byte[]> template, String cacheKey, EnvelopeFormat<T> format) {
+        byte[] cachedValue = template.opsForValue().get(cacheKey);
+        if (cachedValue == null) {
+            return null;
+        }
+        return decode(cacheKey, cachedValue, format);
+    }
+
+    record EnvelopeFormat<T>(
+            Function<CacheEnvelope<T>, byte[]> encoder,
+            Function<byte[], CacheEnvelope<T>> decoder,
+            ToLongFunction<T> contentHasher
+    ) {
+    }
+}
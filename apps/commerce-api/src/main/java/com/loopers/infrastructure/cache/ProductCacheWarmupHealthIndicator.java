@@ -0,0 +1,30 @@
+package com.loopers.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * readiness 그룹의 productCacheWarmup 컴포넌트
+ * 기동 워밍이 끝나거나 시간 초과되기 전까지 OUT_OF_SERVICE 로 트래픽 유입을 막는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductCacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final ProductCacheWarmupState warmupState;
+
+    @Override
+    public Health health() {
+        if (warmupState.isFinished()) {
+            return Health.up()
+                    .withDetail("state", warmupState.phase().name())
+                    .build();
+        }
+        return Health.outOfService()
+                .withDetail("state", "NOT_READY")
+                .withDetail("phase", warmupState.phase().name())
+                .build();
+    }
+}
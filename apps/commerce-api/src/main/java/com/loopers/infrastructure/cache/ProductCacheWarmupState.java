@@ -0,0 +1,40 @@
+package com.loopers.infrastructure.cache;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 캐시 워밍 진행 상태
+ * READY 또는 TIMED_OUT 이 되어야 readiness 가 UP 이 된다.
+ */
+@Component
+public class ProductCacheWarmupState {
+
+    public enum Phase {
+        NOT_STARTED,
+        WARMING,
+        READY,
+        TIMED_OUT
+    }
+
+    private volatile Phase phase = Phase.NOT_STARTED;
+
+    public Phase phase() {
+        return phase;
+    }
+
+    public boolean isFinished() {
+        return phase == Phase.READY || phase == Phase.TIMED_OUT;
+    }
+
+    public void markWarming() {
+        this.phase = Phase.WARMING;
+    }
+
+    public void markReady() {
+        this.phase = Phase.READY;
+    }
+
+    public void markTimedOut() {
+        this.phase = Phase.TIMED_OUT;
+    }
+}
@@ -0,0 +1,86 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.application.product.ProductInfo;
+import java.util.List;
+
+/**
+ * 상품 캐시 값의 64비트 콘텐츠 해시 (강한 ETag 의 재료)
+ * 캐시에 저장할 때 한 번 계산해 엔벨로프에 함께 기록한다. 랭킹 순위는 캐시 값에 없으므로 응답 시 withRank 로 합친다.
+ * 목록 해시는 상품 해시를 순서대로 합친 값이라, 페이지 캐시(PAGE)든 상세 캐시 조합(ID_LIST, SORTED_SET)이든 같은 값이 나온다.
+ * 0 은 "해시 없음"을 뜻하므로 결과가 0 이면 1 로 바꾼다.
+ */
+public final class ProductContentHash {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ProductContentHash() {
+    }
+
+    /**
+     * 랭킹을 제외한 상품 필드의 해시
+     */
+    public static long of(ProductInfo product) {
+        long hash = FNV_OFFSET;
+        hash = mix(hash, product.id());
+        hash = mix(hash, product.name());
+        hash = mix(hash, product.brandId());
+        hash = mix(hash, product.brandName());
+        hash = mix(hash, product.price() != null ? product.price().longValue() : null);
+        hash = mix(hash, product.likeCount() != null ? product.likeCount().longValue() : null);
+        hash = mix(hash, product.stock() != null ? product.stock().longValue() : null);
+        hash = mix(hash, product.createdAt() != null ? product.createdAt().toInstant().toEpochMilli() : null);
+        return nonZero(hash);
+    }
+
+    public static long ofList(List<ProductInfo> products) {
+        long[] hashes = new long[products.size()];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = of(products.get(i));
+        }
+        return combine(hashes);
+    }
+
+    /**
+     * 상품 해시를 순서대로 합친다.
+     */
+    public static long combine(long[] hashes) {
+        long hash = FNV_OFFSET;
+        for (long value : hashes) {
+            hash = mix(hash, value);
+        }
+        return nonZero(hash);
+    }
+
+    public static long withRank(long contentHash, Long rank) {
+        return rank != null ? nonZero(mix(contentHash, rank)) : contentHash;
+    }
+
+    private static long mix(long hash, Long value) {
+        if (value == null) {
+            return (hash ^ 0xFF) * FNV_PRIME;
+        }
+        long v = value;
+        for (int shift = 0; shift < 64; shift += 8) {
+            hash = (hash ^ ((v >>> shift) & 0xFF)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return (hash ^ 0xFF) * FNV_PRIME;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            hash = (hash ^ (c & 0xFF)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        // 구분자를 넣어 ("ab", "c") 와 ("a", "bc") 가 같은 해시가 되지 않게 한다.
+        return (hash ^ 0xFE) * FNV_PRIME;
+    }
+
+    private static long nonZero(long hash) {
+        return hash != 0 ? hash : 1L;
+    }
+}
@@ -0,0 +1,57 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.application.product.ProductSort;
+
+/**
+ * 워밍 대상 키
+ * - DETAIL: d:{productId}
+ * - LIST: l:{brandId|all}:{sort}:{page}:{size}
+ */
+public record ProductHotKey(
+        Type type,
+        Long productId,
+        Long brandId,
+        ProductSort sort,
+        int page,
+        int size
+) {
+
+    public enum Type {
+        DETAIL,
+        LIST
+    }
+
+    public static ProductHotKey detail(Long productId) {
+        return new ProductHotKey(Type.DETAIL, productId, null, null, 0, 0);
+    }
+
+    public static ProductHotKey list(Long brandId, ProductSort sort, int page, int size) {
+        return new ProductHotKey(Type.LIST, null, brandId, sort, page, size);
+    }
+
+    public String encode() {
+        if (type == Type.DETAIL) {
+            return "d:" + productId;
+        }
+        return "l:" + (brandId != null ? brandId : "all") + ":" + sort.getValue() + ":" + page + ":" + size;
+    }
+
+    /**
+     * 해석할 수 없는 값이면 IllegalArgumentException 을 던진다.
+     */
+    public static ProductHotKey decode(String value) {
+        String[] parts = value.split(":");
+        try {
+            if (parts.length == 2 && parts[0].equals("d")) {
+                return detail(Long.parseLong(parts[1]));
+            }
+            if (parts.length == 5 && parts[0].equals("l")) {
+                Long brandId = parts[1].equals("all") ? null : Long.parseLong(parts[1]);
+                return list(brandId, ProductSort.fromValue(parts[2]), Integer.parseInt(parts[3]), Integer.parseInt(parts[4]));
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("워밍 키를 해석할 수 없습니다: " + value, e);
+        }
+        throw new IllegalArgumentException("워밍 키를 해석할 수 없습니다: " + value);
+    }
+}
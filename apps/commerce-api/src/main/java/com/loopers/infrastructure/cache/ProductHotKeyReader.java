@@ -0,0 +1,40 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.application.product.ProductInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 상품 상세 읽기 앞단의 접근 기록과 핫 키 처리
+ * 워밍 대상을 고르도록 접근을 기록하고, 핫 키로 판정된 키는 로컬 복제본에서 응답하거나 읽은 값을 복제본에 담는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductHotKeyReader {
+
+    private final ProductAccessTracker accessTracker;
+    private final HotKeyDetector hotKeyDetector;
+    private final HotKeyLocalReplica hotKeyLocalReplica;
+
+    /**
+     * 핫 키가 아니면 reader 로 읽는다.
+     * 핫 키면 replicaKey 의 복제본을 먼저 보고, 없으면 reader 로 읽은 값을 복제본에 담는다.
+     */
+    public ProductInfo read(Long productId, String cacheKey, String replicaKey, Supplier<ProductInfo> reader) {
+        accessTracker.recordDetail(productId);
+        if (!hotKeyDetector.record(cacheKey)) {
+            return reader.get();
+        }
+
+        ProductInfo pinned = hotKeyLocalReplica.get(replicaKey, ProductInfo.class);
+        if (pinned != null) {
+            hotKeyDetector.recordLocalHit(cacheKey);
+            return pinned;
+        }
+        ProductInfo productInfo = reader.get();
+        hotKeyLocalReplica.put(replicaKey, productInfo);
+        return productInfo;
+    }
+}
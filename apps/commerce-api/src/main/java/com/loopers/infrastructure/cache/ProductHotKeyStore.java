@@ -0,0 +1,73 @@
+package com.loopers.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드들이 추적한 상위 접근 키를 Redis ZSET 에 모아 두고, 재시작한 노드가 워밍 대상으로 읽는다.
+ * 노드마다 빈도가 다르므로 ZADD GT 로 더 큰 값만 반영하고 상위 maxSize 개만 남긴다.
+ */
+@Slf4j
+@Component
+public class ProductHotKeyStore {
+
+    private static final String HOT_KEYS_KEY = "product:cache:hotkeys";
+    private static final Duration HOT_KEYS_TTL = Duration.ofDays(1);
+
+    private final RedisTemplate<String, String> redisTemplateMaster;
+
+    public ProductHotKeyStore(@Qualifier("redisTemplateMaster") RedisTemplate<String, String> redisTemplateMaster) {
+        this.redisTemplateMaster = redisTemplateMaster;
+    }
+
+    public void save(List<Map.Entry<String, Long>> hotKeys, int maxSize) {
+        if (hotKeys.isEmpty()) {
+            return;
+        }
+
+        byte[] key = HOT_KEYS_KEY.getBytes(StandardCharsets.UTF_8);
+        redisTemplateMaster.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<String, Long> hotKey : hotKeys) {
+                connection.zSetCommands().zAdd(
+                        key,
+                        hotKey.getValue(),
+                        hotKey.getKey().getBytes(StandardCharsets.UTF_8),
+                        RedisZSetCommands.ZAddArgs.empty().gt()
+                );
+            }
+            connection.zSetCommands().zRemRange(key, 0, -(maxSize + 1L));
+            connection.keyCommands().expire(key, HOT_KEYS_TTL.toSeconds());
+            return null;
+        });
+    }
+
+    /**
+     * 빈도 내림차순 상위 limit 개. 해석할 수 없는 값은 건너뛴다.
+     */
+    public List<ProductHotKey> load(int limit) {
+        Set<String> values = redisTemplateMaster.opsForZSet().reverseRange(HOT_KEYS_KEY, 0, limit - 1L);
+        if (values == null) {
+            return List.of();
+        }
+
+        List<ProductHotKey> hotKeys = new ArrayList<>(values.size());
+        for (String value : values) {
+            try {
+                hotKeys.add(ProductHotKey.decode(value));
+            } catch (IllegalArgumentException e) {
+                log.warn("워밍 키 해석 실패, 건너뜁니다: value={}", value);
+            }
+        }
+        return hotKeys;
+    }
+}
@@ -0,0 +1,91 @@
+package com.loopers.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 캐시 세대 번호의 노드 로컬 사본
+ * 목록 키를 만들 때 Redis 를 조회하지 않도록 세대를 메모리에 두고, commerce-streamer 가 세대를 올리며 발행하는
+ * 무효화 메시지({세대 키}={세대})로 갱신한다. 모르는 키는 0 세대로 본다.
+ * pub/sub 메시지는 유실될 수 있으므로 주기적으로 Redis 의 세대 키 전체를 다시 읽어 맞춘다.
+ */
+@Slf4j
+@Component
+public class ProductListGenerations {
+
+    public static final String KEY_PREFIX = "product:listgen:";
+    private static final String MESSAGE_SEPARATOR = "=";
+
+    private final RedisTemplate<String, byte[]> redisTemplateMaster;
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    public ProductListGenerations(@Qualifier("redisTemplateBytesMaster") RedisTemplate<String, byte[]> redisTemplateMaster) {
+        this.redisTemplateMaster = redisTemplateMaster;
+    }
+
+    public long get(String generationKey) {
+        return generations.getOrDefault(generationKey, 0L);
+    }
+
+    /**
+     * 무효화 메시지가 세대 갱신 메시지이면 반영하고 true 를 반환한다.
+     * 세대 키가 만료된 뒤 1 부터 다시 올라갈 수 있으므로 메시지 값을 그대로 덮어쓴다.
+     */
+    public boolean applyMessage(String message) {
+        int separator = message.lastIndexOf(MESSAGE_SEPARATOR);
+        if (!message.startsWith(KEY_PREFIX) || separator < 0) {
+            return false;
+        }
+        try {
+            generations.put(message.substring(0, separator), Long.parseLong(message.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 목록 캐시 세대 메시지: message={}", message);
+        }
+        return true;
+    }
+
+    /**
+     * Redis 의 세대 키 전체를 읽어 로컬 사본을 맞춘다.
+     * 동기화 중 도착한 메시지를 이전 값으로 되돌리지 않도록 큰 값을 유지하고, Redis 에서 사라진(만료된) 키만 제거한다.
+     */
+    public void sync() {
+        List<String> keys = scanKeys();
+        Map<String, Long> loaded = new HashMap<>();
+        if (!keys.isEmpty()) {
+            List<byte[]> values = redisTemplateMaster.opsForValue().multiGet(keys);
+            for (int i = 0; i < keys.size(); i++) {
+                byte[] value = values != null ? values.get(i) : null;
+                if (value != null) {
+                    loaded.put(keys.get(i), Long.parseLong(new String(value, StandardCharsets.UTF_8)));
+                }
+            }
+        }
+
+        generations.keySet().retainAll(loaded.keySet());
+        loaded.forEach((key, generation) -> generations.merge(key, generation, Math::max));
+        log.debug("목록 캐시 세대 동기화: keys={}", loaded.size());
+    }
+
+    private List<String> scanKeys() {
+        List<String> keys = new ArrayList<>();
+        redisTemplateMaster.execute((RedisCallback<Void>) connection -> {
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1_000).build();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                cursor.forEachRemaining(key -> keys.add(new String(key, StandardCharsets.UTF_8)));
+            }
+            return null;
+        });
+        return keys;
+    }
+}
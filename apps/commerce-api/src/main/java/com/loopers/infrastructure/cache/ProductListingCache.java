@@ -0,0 +1,374 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.application.product.ProductInfo;
+import com.loopers.application.product.ProductSort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 상품 목록 캐시
+ * 설정된 목록 캐시 모드(PAGE, ID_LIST, SORTED_SET)에 따라 목록을 조회하고, 목록 키와 세대, 정렬 인덱스를 다룬다.
+ * ID_LIST, SORTED_SET 모드의 상세는 ProductCacheService 의 상세 캐시에서 일괄 조회해 채운다.
+ */
+@Slf4j
+@Service
+public class ProductListingCache {
+
+    private static final String PRODUCT_LIST_PREFIX = "product:list:";
+    private static final String PRODUCT_ID_LIST_PREFIX = "product:ids:";
+    private static final String SORT_INDEX_PREFIX = "product:index:";
+    private static final String SORT_INDEX_READY_KEY = "product:index:ready";
+
+    private static final Duration PRODUCT_LIST_TTL = Duration.ofMinutes(1);
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final ProductCacheService productCacheService;
+    private final ProductCacheStore cacheStore;
+    private final DistributedLock distributedLock;
+    private final LocalProductCache localProductCache;
+    private final ProductCacheMetrics cacheMetrics;
+    private final SingleFlight singleFlight;
+    private final ProductAccessTracker accessTracker;
+    private final ProductListGenerations listGenerations;
+    private final ProductCacheProperties.Listing.Mode listingMode;
+
+    @Lazy
+    @Autowired
+    private ProductListingCache self;
+
+    public ProductListingCache(
+            @Qualifier("redisTemplateBytes") RedisTemplate<String, byte[]> redisTemplate,
+            ProductCacheService productCacheService,
+            ProductCacheStore cacheStore,
+            DistributedLock distributedLock,
+            LocalProductCache localProductCache,
+            ProductCacheMetrics cacheMetrics,
+            SingleFlight singleFlight,
+            ProductAccessTracker accessTracker,
+            ProductListGenerations listGenerations,
+            ProductCacheProperties properties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.productCacheService = productCacheService;
+        this.cacheStore = cacheStore;
+        this.distributedLock = distributedLock;
+        this.localProductCache = localProductCache;
+        this.cacheMetrics = cacheMetrics;
+        this.singleFlight = singleFlight;
+        this.accessTracker = accessTracker;
+        this.listGenerations = listGenerations;
+        this.listingMode = properties.listing() != null
+                ? properties.listing().mode()
+                : ProductCacheProperties.Listing.Mode.PAGE;
+    }
+
+    /**
+     * 상품 목록 캐시 키 생성
+     * 키에 (브랜드, 정렬) 범위의 세대 번호를 포함하므로, 세대가 올라가면 해당 범위의 모든 페이지가 한 번에 무효화된다.
+     */
+    public String getProductListKey(Long brandId, ProductSort sort, int page, int size) {
+        return PRODUCT_LIST_PREFIX + generationPart(brandId, sort) + listKeySuffix(brandId, sort, page, size);
+    }
+
+    /**
+     * 상품 ID 목록 캐시 키 생성
+     */
+    public String getProductIdListKey(Long brandId, ProductSort sort, int page, int size) {
+        return PRODUCT_ID_LIST_PREFIX + generationPart(brandId, sort) + listKeySuffix(brandId, sort, page, size);
+    }
+
+    /**
+     * 목록 캐시 세대 키 생성 (commerce-streamer 가 상품 변경 시 INCR 한다)
+     */
+    public String getListGenerationKey(Long brandId, ProductSort sort) {
+        String scopePart = brandId != null ? "brand:" + brandId : "all";
+        return ProductListGenerations.KEY_PREFIX + sort.getValue() + ":" + scopePart;
+    }
+
+    /**
+     * 세대는 로컬 사본에서 읽는다. 키를 만들 때마다 Redis 를 조회하면 L1 적중에도 왕복이 생긴다.
+     */
+    private String generationPart(Long brandId, ProductSort sort) {
+        return "g" + listGenerations.get(getListGenerationKey(brandId, sort)) + ":";
+    }
+
+    private String listKeySuffix(Long brandId, ProductSort sort, int page, int size) {
+        String brandPart = brandId != null ? "brandId=" + brandId : "brandId=all";
+        String sortPart = "sort=" + sort.getValue();
+        String pagePart = "page=" + page;
+        String sizePart = "size=" + size;
+        return brandPart + "&" + sortPart + "&" + pagePart + "&" + sizePart;
+    }
+
+    /**
+     * 상품 정렬 인덱스 키 생성 (commerce-streamer, commerce-batch 와 같은 규칙)
+     */
+    public String getProductSortIndexKey(Long brandId, ProductSort sort) {
+        String scopePart = brandId != null ? "brand:" + brandId : "all";
+        return SORT_INDEX_PREFIX + sort.getValue() + ":" + scopePart;
+    }
+
+    /**
+     * 상품 목록 조건부 요청(ETag)용 콘텐츠 해시 조회
+     * PAGE 모드는 페이지 캐시의 헤더에서, 나머지 모드는 페이지의 ID 목록을 구한 뒤 상세 캐시 헤더의 해시를 순서대로 합친다.
+     * 어느 하나라도 캐시에 없으면 null 이며, 호출 측은 일반 조회로 응답한다.
+     */
+    public Long findProductListContentHash(Long brandId, ProductSort sort, int page, int size) {
+        if (listingMode == ProductCacheProperties.Listing.Mode.PAGE) {
+            String cacheKey = getProductListKey(brandId, sort, page, size);
+            @SuppressWarnings("unchecked")
+            List<ProductInfo> localValue = localProductCache.get(cacheKey, List.class);
+            if (localValue != null) {
+                return ProductContentHash.ofList(localValue);
+            }
+            byte[] cachedValue = redisTemplate.opsForValue().get(cacheKey);
+            long contentHash = cachedValue != null ? cacheStore.peekContentHash(cacheKey, cachedValue) : 0L;
+            return contentHash != 0L ? contentHash : null;
+        }
+
+        List<Long> productIds = listingMode == ProductCacheProperties.Listing.Mode.SORTED_SET
+                ? sortIndexPage(brandId, sort, page, size)
+                : null;
+        if (productIds == null) {
+            productIds = cachedIdPage(getProductIdListKey(brandId, sort, page, size));
+        }
+        return productIds != null ? productCacheService.combineContentHashes(productIds) : null;
+    }
+
+    private List<Long> cachedIdPage(String cacheKey) {
+        @SuppressWarnings("unchecked")
+        List<Long> localIds = localProductCache.get(cacheKey, List.class);
+        if (localIds != null) {
+            return localIds;
+        }
+        CacheEnvelope<List<Long>> envelope = cacheStore.readEnvelope(cacheKey, cacheStore.idListFormat());
+        return envelope != null ? envelope.value() : null;
+    }
+
+    /**
+     * 상품 목록 조회
+     */
+    public List<ProductInfo> getProductList(Long brandId, ProductSort sort, int page, int size, Supplier<List<ProductInfo>> dbSupplier) {
+        String cacheKey = getProductListKey(brandId, sort, page, size);
+
+        // 0. 로컬(L1) 캐시 조회
+        if (localProductCache.isEnabled()) {
+            @SuppressWarnings("unchecked")
+            List<ProductInfo> localValue = localProductCache.get(cacheKey, List.class);
+            if (localValue != null) {
+                cacheMetrics.hit(ProductCacheMetrics.Tier.L1, ProductCacheMetrics.CacheType.LIST);
+                return localValue;
+            }
+            cacheMetrics.miss(ProductCacheMetrics.Tier.L1, ProductCacheMetrics.CacheType.LIST);
+        }
+
+        // 1. 캐시 조회
+        CacheEnvelope<List<ProductInfo>> envelope = cacheStore.readEnvelope(cacheKey, cacheStore.listFormat());
+        if (envelope != null) {
+            log.info("상품 목록 캐시 히트: cacheKey={}", cacheKey);
+            cacheMetrics.hit(ProductCacheMetrics.Tier.L2, ProductCacheMetrics.CacheType.LIST);
+            localProductCache.put(cacheKey, envelope.value());
+
+            // 2. Stale-While-Revalidate (논리 만료 기반 확률적 조기 갱신)
+            if (cacheStore.shouldRefresh(envelope)) {
+                log.info("키 {}의 논리 만료가 임박했습니다. 비동기 새로고침을 실행합니다.", cacheKey);
+                self.refreshProductListCache(cacheKey, dbSupplier, PRODUCT_LIST_TTL);
+            }
+            return envelope.value();
+        }
+
+        // 3. 캐시 미스 -> DB 조회 및 캐시 저장
+        log.info("상품 목록 캐시 미스: cacheKey={}, DB에서 조회합니다.", cacheKey);
+        cacheMetrics.miss(ProductCacheMetrics.Tier.L2, ProductCacheMetrics.CacheType.LIST);
+        return cacheStore.loadOnMiss(cacheKey, dbSupplier, PRODUCT_LIST_TTL, cacheStore.listFormat());
+    }
+
+    /**
+     * 설정된 목록 캐시 모드로 상품 목록 조회
+     * - PAGE: 페이지 전체(List<ProductInfo>)를 캐시
+     * - ID_LIST: 페이지의 상품 ID 목록만 캐시하고, 상세는 product:detail:* 에서 일괄 조회해 채운다.
+     * - SORTED_SET: 정렬 인덱스에서 ZRANGE 로 ID 를 구하고 상세를 일괄 조회한다. 인덱스가 준비되지 않았으면 ID_LIST 로 동작한다.
+     */
+    public List<ProductInfo> getProductList(
+            Long brandId, ProductSort sort, int page, int size,
+            Supplier<List<ProductInfo>> dbSupplier,
+            Function<List<Long>, List<ProductInfo>> batchLoader
+    ) {
+        accessTracker.recordList(brandId, sort, page, size);
+        return switch (listingMode) {
+            case SORTED_SET -> {
+                List<Long> productIds = readSortIndexPage(brandId, sort, page, size);
+                yield productIds != null
+                        ? productCacheService.getProducts(productIds, batchLoader)
+                        : getProductIdPage(brandId, sort, page, size, dbSupplier, batchLoader);
+            }
+            case ID_LIST -> getProductIdPage(brandId, sort, page, size, dbSupplier, batchLoader);
+            case PAGE -> getProductList(brandId, sort, page, size, dbSupplier);
+        };
+    }
+
+    /**
+     * 정렬 인덱스에서 페이지의 상품 ID 를 조회한다.
+     * 준비 여부 확인(EXISTS)과 ZRANGE 를 한 번의 파이프라인으로 보내며, 인덱스가 준비되지 않았으면 null 을 반환한다.
+     */
+    private List<Long> readSortIndexPage(Long brandId, ProductSort sort, int page, int size) {
+        List<Long> productIds = sortIndexPage(brandId, sort, page, size);
+        if (productIds == null) {
+            cacheMetrics.miss(ProductCacheMetrics.Tier.L2, ProductCacheMetrics.CacheType.LIST);
+            return null;
+        }
+        cacheMetrics.hit(ProductCacheMetrics.Tier.L2, ProductCacheMetrics.CacheType.LIST);
+        return productIds;
+    }
+
+    private List<Long> sortIndexPage(Long brandId, ProductSort sort, int page, int size) {
+        if (page < 0 || size < 1) {
+            return null;
+        }
+
+        byte[] indexKey = getProductSortIndexKey(brandId, sort).getBytes(StandardCharsets.UTF_8);
+        long start = (long) page * size;
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().exists(SORT_INDEX_READY_KEY.getBytes(StandardCharsets.UTF_8));
+            connection.zSetCommands().zRange(indexKey, start, start + size - 1);
+            return null;
+        });
+
+        if (!Boolean.TRUE.equals(results.get(0))) {
+            return null;
+        }
+
+        // 멤버는 0 으로 채운 고정 길이 ID 이다.
+        @SuppressWarnings("unchecked")
+        Collection<byte[]> members = (Collection<byte[]>) results.get(1);
+        return members.stream()
+                .map(member -> Long.parseLong(new String(member, StandardCharsets.UTF_8)))
+                .toList();
+    }
+
+    /**
+     * 상품 ID 목록 캐시 기반 목록 조회
+     * 상세 캐시를 공유하므로 상품 하나가 바뀌어도 그 상품의 상세 키만 무효화하면 모든 목록에 바로 반영된다.
+     */
+    public List<ProductInfo> getProductIdPage(
+            Long brandId, ProductSort sort, int page, int size,
+            Supplier<List<ProductInfo>> dbSupplier,
+            Function<List<Long>, List<ProductInfo>> batchLoader
+    ) {
+        String cacheKey = getProductIdListKey(brandId, sort, page, size);
+
+        // 0. 로컬(L1) 캐시 조회
+        if (localProductCache.isEnabled()) {
+            @SuppressWarnings("unchecked")
+            List<Long> localIds = localProductCache.get(cacheKey, List.class);
+            if (localIds != null) {
+                cacheMetrics.hit(ProductCacheMetrics.Tier.L1, ProductCacheMetrics.CacheType.LIST);
+                return productCacheService.getProducts(localIds, batchLoader);
+            }
+            cacheMetrics.miss(ProductCacheMetrics.Tier.L1, ProductCacheMetrics.CacheType.LIST);
+        }
+
+        // 1. ID 목록 캐시 조회 후 상세 일괄 조회
+        CacheEnvelope<List<Long>> envelope = cacheStore.readEnvelope(cacheKey, cacheStore.idListFormat());
+        if (envelope != null) {
+            cacheMetrics.hit(ProductCacheMetrics.Tier.L2, ProductCacheMetrics.CacheType.LIST);
+            localProductCache.put(cacheKey, envelope.value());
+
+            if (cacheStore.shouldRefresh(envelope)) {
+                self.refreshProductIdPage(cacheKey, dbSupplier, PRODUCT_LIST_TTL);
+            }
+            return productCacheService.getProducts(envelope.value(), batchLoader);
+        }
+
+        // 2. 캐시 미스 -> DB 조회 후 ID 목록과 상세를 함께 저장
+        log.info("상품 ID 목록 캐시 미스: cacheKey={}, DB에서 조회합니다.", cacheKey);
+        cacheMetrics.miss(ProductCacheMetrics.Tier.L2, ProductCacheMetrics.CacheType.LIST);
+        return singleFlight.execute(cacheKey, () -> loadIdPageAndCache(cacheKey, dbSupplier, PRODUCT_LIST_TTL));
+    }
+
+    /**
+     * 비동기로 상품 ID 목록 캐시 갱신
+     */
+    @Async("cacheRefreshExecutor")
+    public void refreshProductIdPage(String cacheKey, Supplier<List<ProductInfo>> dbSupplier, Duration ttl) {
+        String lockKey = "lock:" + cacheKey;
+        DistributedLock.LockHandle lockHandle = distributedLock.tryLock(lockKey, Duration.ofSeconds(1), Duration.ofSeconds(10));
+
+        if (lockHandle == null) {
+            log.debug("다른 스레드가 이미 캐시를 갱신 중입니다: cacheKey={}", cacheKey);
+            return;
+        }
+
+        try {
+            loadIdPageAndCache(cacheKey, dbSupplier, ttl);
+            log.info("상품 ID 목록 캐시 갱신 완료: cacheKey={}", cacheKey);
+        } catch (Exception e) {
+            log.error("캐시 갱신 실패: cacheKey={}", cacheKey, e);
+        } finally {
+            distributedLock.releaseLock(lockHandle);
+        }
+    }
+
+    /**
+     * 비동기로 상품 목록 캐시 갱신
+     */
+    @Async("cacheRefreshExecutor")
+    public void refreshProductListCache(String cacheKey, Supplier<List<ProductInfo>> dbSupplier, Duration ttl) {
+        String lockKey = "lock:" + cacheKey;
+        DistributedLock.LockHandle lockHandle = distributedLock.tryLock(lockKey, Duration.ofSeconds(1), Duration.ofSeconds(10));
+
+        if (lockHandle == null) {
+            log.debug("다른 스레드가 이미 캐시를 갱신 중입니다: cacheKey={}", cacheKey);
+            return;
+        }
+
+        try {
+            log.info("캐시 갱신을 위한 락 획득: cacheKey={}", cacheKey);
+            cacheStore.loadAndCache(cacheKey, dbSupplier, ttl, cacheStore.listFormat());
+            log.info("상품 목록 캐시 갱신 완료: cacheKey={}", cacheKey);
+        } catch (Exception e) {
+            log.error("캐시 갱신 실패: cacheKey={}", cacheKey, e);
+        } finally {
+            distributedLock.releaseLock(lockHandle);
+        }
+    }
+
+    /**
+     * 상품 목록 캐시 워밍
+     * PAGE 모드는 페이지 전체를, 나머지 모드는 ID 목록과 상세를 함께 적재한다.
+     */
+    public void warmProductList(Long brandId, ProductSort sort, int page, int size, Supplier<List<ProductInfo>> dbSupplier) {
+        if (listingMode == ProductCacheProperties.Listing.Mode.PAGE) {
+            cacheStore.loadAndCache(
+                    getProductListKey(brandId, sort, page, size), dbSupplier, PRODUCT_LIST_TTL, cacheStore.listFormat());
+            return;
+        }
+        loadIdPageAndCache(getProductIdListKey(brandId, sort, page, size), dbSupplier, PRODUCT_LIST_TTL);
+    }
+
+    private List<ProductInfo> loadIdPageAndCache(String cacheKey, Supplier<List<ProductInfo>> dbSupplier, Duration ttl) {
+        long startedAt = System.currentTimeMillis();
+        List<ProductInfo> products = dbSupplier.get();
+        long computeMillis = System.currentTimeMillis() - startedAt;
+
+        productCacheService.cacheDetails(products, computeMillis);
+
+        List<Long> productIds = products.stream().map(ProductInfo::id).toList();
+        cacheStore.save(cacheKey, CacheEnvelope.of(productIds, ttl, computeMillis), ttl, cacheStore.idListFormat());
+        return products;
+    }
+}
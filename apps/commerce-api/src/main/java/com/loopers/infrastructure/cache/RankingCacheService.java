@@ -3,14 +3,18 @@ package com.loopers.infrastructure.cache;
 import com.loopers.domain.ranking.RankingItem;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Slf4j
@@ -74,7 +78,33 @@ public class RankingCacheService {
         return rank + 1;
     }
 
-    private String getRankingKey(LocalDate date) {
+    /**
+     * 여러 상품의 랭킹 순위를 한 번의 파이프라인(ZREVRANK * n)으로 조회한다.
+     * 랭킹에 없는 상품은 결과에 포함되지 않는다.
+     */
+    public Map<Long, Long> getProductRanks(LocalDate date, List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        byte[] key = getRankingKey(date).getBytes(StandardCharsets.UTF_8);
+        List<Object> results = redisTemplateMaster.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long productId : productIds) {
+                connection.zSetCommands().zRevRank(key, String.valueOf(productId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        Map<Long, Long> ranks = new HashMap<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            if (results.get(i) instanceof Long rank) {
+                ranks.put(productIds.get(i), rank + 1);
+            }
+        }
+        return ranks;
+    }
+
+    public String getRankingKey(LocalDate date) {
         return RANKING_KEY_PREFIX + date.format(DATE_FORMATTER);
     }
 }
@@ -0,0 +1,62 @@
+package com.loopers.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 키에 대한 동시 적재 요청을 하나로 합친다. (JVM 내부 single-flight)
+ * 최초 호출 스레드만 supplier 를 실행하고, 그 사이 들어온 호출은 같은 결과(또는 예외)를 공유한다.
+ */
+@Component
+public class SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlightCalls = new ConcurrentHashMap<>();
+    private final Counter sharedCallCounter;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.sharedCallCounter = Counter.builder("product.cache.singleflight.shared")
+                .description("진행 중인 적재 결과를 공유받은 호출 수")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> supplier) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightCall = inFlightCalls.putIfAbsent(key, call);
+
+        if (inFlightCall != null) {
+            sharedCallCounter.increment();
+            return (T) await(inFlightCall);
+        }
+
+        try {
+            T result = supplier.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightCalls.remove(key, call);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.loopers.infrastructure.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 슬라이딩 윈도우 Count-Min Sketch
+ * 윈도우를 slots 개의 구간으로 나누고 구간마다 depth x width 카운터를 둔다. 추정치는 윈도우 안의 구간 합 중 행별 최솟값이며,
+ * 실제 횟수보다 작게 추정되지 않는다. 구간이 바뀌면 가장 오래된 구간을 비워 재사용한다.
+ * 비우는 중에 들어온 증가분은 일부 유실될 수 있지만, 핫 키 판별에는 영향이 없는 수준이다.
+ */
+public class WindowedCountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final long slotMillis;
+    private final AtomicLongArray[] slots;
+    private final AtomicLongArray slotEpochs;
+
+    public WindowedCountMinSketch(int depth, int width, long windowMillis, int slotCount) {
+        if (depth < 1 || width < 1 || slotCount < 1 || windowMillis < slotCount) {
+            throw new IllegalArgumentException("잘못된 sketch 설정입니다.");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.slotMillis = windowMillis / slotCount;
+        this.slots = new AtomicLongArray[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new AtomicLongArray(depth * width);
+        }
+        this.slotEpochs = new AtomicLongArray(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slotEpochs.set(i, -1);
+        }
+    }
+
+    /**
+     * 키의 횟수를 1 증가시키고 윈도우 내 추정 횟수를 반환한다.
+     */
+    public long incrementAndEstimate(String key, long nowMillis) {
+        long epoch = nowMillis / slotMillis;
+        int current = (int) (epoch % slots.length);
+        rotateIfNeeded(current, epoch);
+
+        int[] indexes = indexes(key);
+        AtomicLongArray counters = slots[current];
+        for (int row = 0; row < depth; row++) {
+            counters.incrementAndGet(indexes[row]);
+        }
+        return estimate(indexes, epoch);
+    }
+
+    /**
+     * 윈도우 내 추정 횟수
+     */
+    public long estimate(String key, long nowMillis) {
+        return estimate(indexes(key), nowMillis / slotMillis);
+    }
+
+    private long estimate(int[] indexes, long epoch) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            long sum = 0;
+            for (int slot = 0; slot < slots.length; slot++) {
+                if (slotEpochs.get(slot) > epoch - slots.length) {
+                    sum += slots[slot].get(indexes[row]);
+                }
+            }
+            min = Math.min(min, sum);
+        }
+        return min;
+    }
+
+    private void rotateIfNeeded(int slot, long epoch) {
+        if (slotEpochs.get(slot) == epoch) {
+            return;
+        }
+        synchronized (slots[slot]) {
+            if (slotEpochs.get(slot) == epoch) {
+                return;
+            }
+            AtomicLongArray counters = slots[slot];
+            for (int i = 0; i < counters.length(); i++) {
+                counters.set(i, 0);
+            }
+            slotEpochs.set(slot, epoch);
+        }
+    }
+
+    /**
+     * 행별 인덱스 (Kirsch-Mitzenmacher: h1 + row * h2)
+     */
+    private int[] indexes(String key) {
+        long hash = mix(key.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        int[] indexes = new int[depth];
+        for (int row = 0; row < depth; row++) {
+            int column = Math.floorMod(h1 + row * h2, width);
+            indexes[row] = row * width + column;
+        }
+        return indexes;
+    }
+
+    private static long mix(long value) {
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
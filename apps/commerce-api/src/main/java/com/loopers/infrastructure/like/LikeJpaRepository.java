@@ -2,6 +2,7 @@ package com.loopers.infrastructure.like;
 
 import com.loopers.domain.like.Like;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,6 +15,38 @@ public interface LikeJpaRepository extends JpaRepository<Like, Long> {
     @Query("SELECT l.productId FROM Like l WHERE l.userId = :userId")
     List<Long> findProductIdsByUserId(@Param("userId") Long userId);
 
+    List<Like> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long id, Pageable pageable);
+
+    @Query(
+        value = "SELECT product_id FROM likes WHERE user_id = :userId " +
+                "ORDER BY created_at DESC, id DESC LIMIT :size OFFSET :offset",
+        nativeQuery = true
+    )
+    List<Long> findLatestProductIdsByUserId(
+            @Param("userId") Long userId,
+            @Param("offset") long offset,
+            @Param("size") int size
+    );
+
+    @Query("SELECT l.productId FROM Like l WHERE l.userId = :userId AND l.productId IN :productIds")
+    List<Long> findProductIdsByUserIdAndProductIdIn(
+            @Param("userId") Long userId,
+            @Param("productIds") List<Long> productIds
+    );
+
+    @Query(
+        value = "SELECT product_id FROM likes WHERE user_id = :userId AND product_id IN (:productIds) FOR UPDATE",
+        nativeQuery = true
+    )
+    List<Long> findProductIdsByUserIdAndProductIdInForUpdate(
+            @Param("userId") Long userId,
+            @Param("productIds") List<Long> productIds
+    );
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Like l WHERE l.userId = :userId AND l.productId IN :productIds")
+    int deleteByUserIdAndProductIdIn(@Param("userId") Long userId, @Param("productIds") List<Long> productIds);
+
     void deleteByUserIdAndProductId(Long userId, Long productId);
 
     @Modifying(clearAutomatically = true)
@@ -4,16 +4,26 @@ import com.loopers.domain.like.Like;
 import com.loopers.domain.like.LikeRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.StringJoiner;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 @RequiredArgsConstructor
 @Repository
 public class LikeRepositoryImpl implements LikeRepository {
 
+    private static final String INSERT_IGNORE_SQL_PREFIX =
+            "INSERT IGNORE INTO likes (user_id, product_id, created_at, updated_at, deleted_at) VALUES ";
+
     private final LikeJpaRepository likeJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public void saveLike(Like like) {
@@ -40,11 +50,76 @@ public class LikeRepositoryImpl implements LikeRepository {
         return deletedCount > 0;
     }
 
+    @Override
+    public List<Long> findProductIdsByUserIdForUpdate(Long userId, List<Long> productIds) {
+        return likeJpaRepository.findProductIdsByUserIdAndProductIdInForUpdate(userId, productIds);
+    }
+
+    @Override
+    public List<Long> saveAllIfAbsent(Long userId, List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        // 생성 시각은 DB 세션 시간대와 관계없이 JPA(jdbc.time_zone: UTC)와 같은 UTC 로 바인딩한다.
+        // 재조회에서 그대로 비교할 수 있도록 컬럼 정밀도(마이크로초)에 맞춘다.
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS);
+        StringJoiner values = new StringJoiner(", ");
+        Object[] args = new Object[productIds.size() * 4];
+        for (int i = 0; i < productIds.size(); i++) {
+            values.add("(?, ?, ?, ?, NULL)");
+            args[i * 4] = userId;
+            args[i * 4 + 1] = productIds.get(i);
+            args[i * 4 + 2] = now;
+            args[i * 4 + 3] = now;
+        }
+        int insertedCount = jdbcTemplate.update(INSERT_IGNORE_SQL_PREFIX + values, args);
+        if (insertedCount == productIds.size()) {
+            return productIds;
+        }
+        // 그 사이 다른 트랜잭션이 먼저 등록해 무시된 행이 있으면, 이번에 넣은 생성 시각으로 실제 등록된 행만 다시 읽는다.
+        StringJoiner placeholders = new StringJoiner(", ");
+        Object[] selectArgs = new Object[productIds.size() + 2];
+        selectArgs[0] = userId;
+        for (int i = 0; i < productIds.size(); i++) {
+            placeholders.add("?");
+            selectArgs[i + 1] = productIds.get(i);
+        }
+        selectArgs[productIds.size() + 1] = now;
+        return jdbcTemplate.queryForList(
+                "SELECT product_id FROM likes WHERE user_id = ? AND product_id IN (" + placeholders + ") AND created_at = ?",
+                Long.class,
+                selectArgs
+        );
+    }
+
+    @Override
+    public int deleteAll(Long userId, List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        return likeJpaRepository.deleteByUserIdAndProductIdIn(userId, productIds);
+    }
+
     @Override
     public List<Long> findProductIdsByUserId(Long userId) {
         return likeJpaRepository.findProductIdsByUserId(userId);
     }
 
+    @Override
+    public List<Like> findLikesByUserId(Long userId, Long lastId, int size) {
+        return likeJpaRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, lastId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public List<Long> findLatestLikedProductIds(Long userId, long offset, int size) {
+        return likeJpaRepository.findLatestProductIdsByUserId(userId, offset, size);
+    }
+
+    @Override
+    public List<Long> findLikedProductIdsAmong(Long userId, List<Long> productIds) {
+        return likeJpaRepository.findProductIdsByUserIdAndProductIdIn(userId, productIds);
+    }
+
     @Override
     public boolean existsByUserIdAndProductId(Long userId, Long productId) {
         return likeJpaRepository.existsByUserIdAndProductId(userId, productId);
@@ -2,6 +2,7 @@ package com.loopers.infrastructure.outbox;
 
 import com.loopers.domain.outbox.Outbox;
 import com.loopers.domain.outbox.OutboxStatus;
+import java.time.ZonedDateTime;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -24,5 +25,19 @@ public interface OutboxJpaRepository extends JpaRepository<Outbox, Long> {
     @Query("UPDATE Outbox o SET o.status = 'FAILED', o.errorMessage = :message, o.retryCount = o.retryCount + 1 WHERE o.id = :id")
     void updateOutboxFailedStatusAndErrorMessageAndRetryCount(@Param("id") Long id,
                                                               @Param("message") String message);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE outbox SET aggregated_at = NOW(6)"
+            + " WHERE partition_key = :partitionKey AND topic = :topic AND aggregated_at IS NULL"
+            + " ORDER BY id LIMIT :limit", nativeQuery = true)
+    int updateAggregatedAt(@Param("topic") String topic,
+                           @Param("partitionKey") String partitionKey,
+                           @Param("limit") int limit);
+
+    @Query("SELECT DISTINCT o.partitionKey FROM Outbox o"
+            + " WHERE o.topic IN :topics AND o.aggregatedAt IS NULL AND o.createdAt < :createdBefore")
+    List<String> findUnaggregatedPartitionKeys(@Param("topics") List<String> topics,
+                                               @Param("createdBefore") ZonedDateTime createdBefore,
+                                               Pageable pageable);
 }
 
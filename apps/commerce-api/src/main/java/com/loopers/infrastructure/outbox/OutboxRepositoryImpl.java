@@ -3,9 +3,13 @@ package com.loopers.infrastructure.outbox;
 import com.loopers.domain.outbox.Outbox;
 import com.loopers.domain.outbox.OutboxRepository;
 import com.loopers.domain.outbox.OutboxStatus;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,13 +17,37 @@ import org.springframework.transaction.annotation.Transactional;
 @Repository
 public class OutboxRepositoryImpl implements OutboxRepository {
 
+    private static final String INSERT_OUTBOX_SQL = "INSERT INTO outbox"
+            + " (topic, partition_key, payload, status, retry_count, created_at, updated_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+
     private final OutboxJpaRepository outboxJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public void saveOutbox(Outbox outbox) {
         outboxJpaRepository.save(outbox);
     }
 
+    /**
+     * IDENTITY 키 엔티티는 JPA 가 INSERT 를 묶지 못하므로 JDBC 배치로 기록한다.
+     * rewriteBatchedStatements 가 켜져 있어 드라이버가 하나의 다중 행 INSERT 로 보낸다.
+     * 생성 시각은 DB 세션 시간대와 관계없이 JPA(jdbc.time_zone: UTC)와 같은 UTC 로 바인딩한다.
+     */
+    @Override
+    public void saveOutboxes(List<Outbox> outboxes) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, outboxes, outboxes.size(), (ps, outbox) -> {
+            ps.setString(1, outbox.getTopic());
+            ps.setString(2, outbox.getPartitionKey());
+            ps.setString(3, outbox.getPayload());
+            ps.setString(4, outbox.getStatus().name());
+            ps.setInt(5, outbox.getRetryCount());
+            ps.setObject(6, now);
+            ps.setObject(7, now);
+        });
+    }
+
     @Override
     public List<Outbox> findPendingOutboxes(int limit) {
         return outboxJpaRepository.findByStatusOrderByCreatedAtAsc(OutboxStatus.PENDING, PageRequest.of(0, limit));
@@ -41,5 +69,15 @@ public class OutboxRepositoryImpl implements OutboxRepository {
     public void markAsFailed(Long id, String message) {
         outboxJpaRepository.updateOutboxFailedStatusAndErrorMessageAndRetryCount(id, message);
     }
+
+    @Override
+    public int claimForAggregation(String topic, String partitionKey, int limit) {
+        return outboxJpaRepository.updateAggregatedAt(topic, partitionKey, limit);
+    }
+
+    @Override
+    public List<String> findUnaggregatedPartitionKeys(List<String> topics, ZonedDateTime createdBefore, int limit) {
+        return outboxJpaRepository.findUnaggregatedPartitionKeys(topics, createdBefore, PageRequest.of(0, limit));
+    }
 }
 
@@ -1,31 +1,152 @@
 package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductSearchDocument;
+import com.loopers.domain.product.ProductSummary;
 import jakarta.persistence.LockModeType;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+/**
+ * 목록 조회는 브랜드 필터 유무에 따라 쿼리를 분리한다.
+ * (:brandId IS NULL OR ...) 형태는 옵티마이저가 브랜드 인덱스를 안정적으로 선택하지 못하기 때문이다.
+ * - 전체: idx_global_* (is_deleted, 정렬 컬럼)
+ * - 브랜드: idx_brand_* (brand_id, is_deleted, 정렬 컬럼)
+ * 정렬 컬럼이 같으면 id 오름차순으로 고정하며, 이는 인덱스 뒤에 붙는 PK 순서와 같아 filesort 가 발생하지 않는다.
+ */
 public interface ProductJpaRepository extends JpaRepository<Product, Long> {
 
+    /**
+     * 목록 읽기 모델 projection. 삭제된 브랜드는 조인되지 않아 brandName 이 null 이다.
+     */
+    String SUMMARY_SELECT = "SELECT new com.loopers.domain.product.ProductSummary("
+            + "p.id, p.name, p.brandId, b.name, p.price.price, p.likeCount.count, p.stock.quantity, p.createdAt)"
+            + " FROM Product p LEFT JOIN Brand b ON b.id = p.brandId AND b.deletedAt IS NULL";
+
     @Lock(LockModeType.OPTIMISTIC)
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithLock(@Param("id") Long id);
 
-    @Query("SELECT p FROM Product p WHERE p.isDeleted = false AND (:brandId IS NULL OR p.brandId = :brandId) ORDER BY p.createdAt DESC")
-    List<Product> findProductsByLatest(@Param("brandId") Long brandId, Pageable pageable);
+    /**
+     * 좋아요 수 가산 갱신. 엔티티 변경 경로의 낙관적 잠금이 이 변경을 덮어쓰지 않도록 version 도 올린다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.likeCount.count = CASE WHEN p.likeCount.count + :delta < 0 THEN 0"
+            + " ELSE p.likeCount.count + :delta END, p.version = p.version + 1 WHERE p.id = :id")
+    int addLikeCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // 최신순
+    @Query("SELECT p FROM Product p WHERE p.isDeleted = false ORDER BY p.createdAt DESC, p.id ASC")
+    List<Product> findProductsByLatest(Pageable pageable);
+
+    @Query("SELECT p FROM Product p WHERE p.brandId = :brandId AND p.isDeleted = false ORDER BY p.createdAt DESC, p.id ASC")
+    List<Product> findBrandProductsByLatest(@Param("brandId") Long brandId, Pageable pageable);
+
+    @Query("SELECT p FROM Product p WHERE p.isDeleted = false"
+            + " AND (p.createdAt < :lastCreatedAt OR (p.createdAt = :lastCreatedAt AND p.id > :lastId))"
+            + " ORDER BY p.createdAt DESC, p.id ASC")
+    List<Product> findProductsByLatestAfter(
+            @Param("lastCreatedAt") ZonedDateTime lastCreatedAt,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    @Query("SELECT p FROM Product p WHERE p.brandId = :brandId AND p.isDeleted = false"
+            + " AND (p.createdAt < :lastCreatedAt OR (p.createdAt = :lastCreatedAt AND p.id > :lastId))"
+            + " ORDER BY p.createdAt DESC, p.id ASC")
+    List<Product> findBrandProductsByLatestAfter(
+            @Param("brandId") Long brandId,
+            @Param("lastCreatedAt") ZonedDateTime lastCreatedAt,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    // 가격 오름차순
+    @Query("SELECT p FROM Product p WHERE p.isDeleted = false ORDER BY p.price.price ASC, p.id ASC")
+    List<Product> findProductsByPriceAsc(Pageable pageable);
+
+    @Query("SELECT p FROM Product p WHERE p.brandId = :brandId AND p.isDeleted = false ORDER BY p.price.price ASC, p.id ASC")
+    List<Product> findBrandProductsByPriceAsc(@Param("brandId") Long brandId, Pageable pageable);
+
+    @Query("SELECT p FROM Product p WHERE p.isDeleted = false"
+            + " AND (p.price.price > :lastPrice OR (p.price.price = :lastPrice AND p.id > :lastId))"
+            + " ORDER BY p.price.price ASC, p.id ASC")
+    List<Product> findProductsByPriceAscAfter(
+            @Param("lastPrice") Integer lastPrice,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    @Query("SELECT p FROM Product p WHERE p.brandId = :brandId AND p.isDeleted = false"
+            + " AND (p.price.price > :lastPrice OR (p.price.price = :lastPrice AND p.id > :lastId))"
+            + " ORDER BY p.price.price ASC, p.id ASC")
+    List<Product> findBrandProductsByPriceAscAfter(
+            @Param("brandId") Long brandId,
+            @Param("lastPrice") Integer lastPrice,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    // 좋아요 내림차순
+    @Query("SELECT p FROM Product p WHERE p.isDeleted = false ORDER BY p.likeCount.count DESC, p.id ASC")
+    List<Product> findProductsByLikesDesc(Pageable pageable);
 
-    @Query("SELECT p FROM Product p WHERE p.isDeleted = false AND (:brandId IS NULL OR p.brandId = :brandId) ORDER BY p.price.price ASC")
-    List<Product> findProductsByPriceAsc(@Param("brandId") Long brandId, Pageable pageable);
+    @Query("SELECT p FROM Product p WHERE p.brandId = :brandId AND p.isDeleted = false ORDER BY p.likeCount.count DESC, p.id ASC")
+    List<Product> findBrandProductsByLikesDesc(@Param("brandId") Long brandId, Pageable pageable);
 
-    @Query("SELECT p FROM Product p WHERE p.isDeleted = false AND (:brandId IS NULL OR p.brandId = :brandId) ORDER BY p.likeCount.count DESC")
-    List<Product> findProductsByLikesDesc(@Param("brandId") Long brandId, Pageable pageable);
+    @Query("SELECT p FROM Product p WHERE p.isDeleted = false"
+            + " AND (p.likeCount.count < :lastLikeCount OR (p.likeCount.count = :lastLikeCount AND p.id > :lastId))"
+            + " ORDER BY p.likeCount.count DESC, p.id ASC")
+    List<Product> findProductsByLikesDescAfter(
+            @Param("lastLikeCount") Integer lastLikeCount,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    @Query("SELECT p FROM Product p WHERE p.brandId = :brandId AND p.isDeleted = false"
+            + " AND (p.likeCount.count < :lastLikeCount OR (p.likeCount.count = :lastLikeCount AND p.id > :lastId))"
+            + " ORDER BY p.likeCount.count DESC, p.id ASC")
+    List<Product> findBrandProductsByLikesDescAfter(
+            @Param("brandId") Long brandId,
+            @Param("lastLikeCount") Integer lastLikeCount,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
 
     @Query("SELECT p FROM Product p WHERE p.isDeleted = false AND p.id IN :productIds")
     List<Product> findProductsByIds(@Param("productIds") List<Long> productIds);
-}
 
+    // 목록 읽기 모델
+    @Query(SUMMARY_SELECT + " WHERE p.isDeleted = false ORDER BY p.createdAt DESC, p.id ASC")
+    List<ProductSummary> findSummariesByLatest(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE p.brandId = :brandId AND p.isDeleted = false ORDER BY p.createdAt DESC, p.id ASC")
+    List<ProductSummary> findBrandSummariesByLatest(@Param("brandId") Long brandId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE p.isDeleted = false ORDER BY p.price.price ASC, p.id ASC")
+    List<ProductSummary> findSummariesByPriceAsc(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE p.brandId = :brandId AND p.isDeleted = false ORDER BY p.price.price ASC, p.id ASC")
+    List<ProductSummary> findBrandSummariesByPriceAsc(@Param("brandId") Long brandId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE p.isDeleted = false ORDER BY p.likeCount.count DESC, p.id ASC")
+    List<ProductSummary> findSummariesByLikesDesc(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE p.brandId = :brandId AND p.isDeleted = false ORDER BY p.likeCount.count DESC, p.id ASC")
+    List<ProductSummary> findBrandSummariesByLikesDesc(@Param("brandId") Long brandId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE p.isDeleted = false AND p.id IN :productIds")
+    List<ProductSummary> findSummariesByIds(@Param("productIds") List<Long> productIds);
+
+    // 검색 색인
+    @Query("SELECT new com.loopers.domain.product.ProductSearchDocument(p.id, p.name, p.brandId, p.likeCount.count)"
+            + " FROM Product p WHERE p.isDeleted = false AND p.id > :lastId ORDER BY p.id ASC")
+    List<ProductSearchDocument> findSearchDocumentsAfter(@Param("lastId") Long lastId, Pageable pageable);
+}
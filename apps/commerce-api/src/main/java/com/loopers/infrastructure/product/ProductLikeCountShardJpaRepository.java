@@ -0,0 +1,49 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductLikeCountShard;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProductLikeCountShardJpaRepository extends JpaRepository<ProductLikeCountShard, Long> {
+
+    @Modifying
+    @Query(
+        value = "INSERT IGNORE INTO product_like_count_shard (product_id, shard_no, like_count, created_at, updated_at, deleted_at) " +
+                "VALUES (:productId, :shardNo, 0, NOW(), NOW(), NULL)",
+        nativeQuery = true
+    )
+    int createShard(@Param("productId") Long productId, @Param("shardNo") int shardNo);
+
+    @Modifying
+    @Query(
+        value = "UPDATE product_like_count_shard SET like_count = like_count + :delta " +
+                "WHERE product_id = :productId AND shard_no = :shardNo",
+        nativeQuery = true
+    )
+    int addCount(@Param("productId") Long productId, @Param("shardNo") int shardNo, @Param("delta") int delta);
+
+    @Query(
+        value = "SELECT CAST(COALESCE(SUM(like_count), 0) AS SIGNED) FROM product_like_count_shard WHERE product_id = :productId",
+        nativeQuery = true
+    )
+    Long sumCount(@Param("productId") Long productId);
+
+    @Query(
+        value = "SELECT CAST(COALESCE(SUM(like_count), 0) AS SIGNED) FROM product_like_count_shard WHERE product_id = :productId FOR UPDATE",
+        nativeQuery = true
+    )
+    Long sumCountForUpdate(@Param("productId") Long productId);
+
+    @Modifying
+    @Query(
+        value = "UPDATE product_like_count_shard SET like_count = 0 WHERE product_id = :productId AND like_count <> 0",
+        nativeQuery = true
+    )
+    int resetCounts(@Param("productId") Long productId);
+
+    @Query("SELECT DISTINCT s.productId FROM ProductLikeCountShard s")
+    List<Long> findShardedProductIds();
+}
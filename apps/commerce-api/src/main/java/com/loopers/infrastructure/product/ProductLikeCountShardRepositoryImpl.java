@@ -0,0 +1,45 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductLikeCountShardRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class ProductLikeCountShardRepositoryImpl implements ProductLikeCountShardRepository {
+
+    private final ProductLikeCountShardJpaRepository productLikeCountShardJpaRepository;
+
+    @Override
+    public void createShards(Long productId, int shardCount) {
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            productLikeCountShardJpaRepository.createShard(productId, shardNo);
+        }
+    }
+
+    @Override
+    public int addCount(Long productId, int shardNo, int delta) {
+        return productLikeCountShardJpaRepository.addCount(productId, shardNo, delta);
+    }
+
+    @Override
+    public long sumCount(Long productId) {
+        return productLikeCountShardJpaRepository.sumCount(productId);
+    }
+
+    @Override
+    public long sumCountForUpdate(Long productId) {
+        return productLikeCountShardJpaRepository.sumCountForUpdate(productId);
+    }
+
+    @Override
+    public void resetCounts(Long productId) {
+        productLikeCountShardJpaRepository.resetCounts(productId);
+    }
+
+    @Override
+    public List<Long> findShardedProductIds() {
+        return productLikeCountShardJpaRepository.findShardedProductIds();
+    }
+}
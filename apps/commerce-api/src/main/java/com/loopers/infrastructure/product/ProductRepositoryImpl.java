@@ -2,6 +2,9 @@ package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSearchDocument;
+import com.loopers.domain.product.ProductSummary;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -16,9 +19,19 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     @Override
     public Optional<Product> findProductById(Long productId) {
+        return productJpaRepository.findById(productId);
+    }
+
+    @Override
+    public Optional<Product> findProductByIdForUpdate(Long productId) {
         return productJpaRepository.findByIdWithLock(productId);
     }
 
+    @Override
+    public int addLikeCount(Long productId, int delta) {
+        return productJpaRepository.addLikeCount(productId, delta);
+    }
+
     @Override
     public void saveProduct(Product product) {
         productJpaRepository.save(product);
@@ -26,17 +39,65 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     @Override
     public List<Product> findProductsByLatest(Long brandId, int page, int size) {
-        return productJpaRepository.findProductsByLatest(brandId, PageRequest.of(page, size));
+        PageRequest pageRequest = PageRequest.of(page, size);
+        if (brandId == null) {
+            return productJpaRepository.findProductsByLatest(pageRequest);
+        }
+        return productJpaRepository.findBrandProductsByLatest(brandId, pageRequest);
     }
 
     @Override
     public List<Product> findProductsByPriceAsc(Long brandId, int page, int size) {
-        return productJpaRepository.findProductsByPriceAsc(brandId, PageRequest.of(page, size));
+        PageRequest pageRequest = PageRequest.of(page, size);
+        if (brandId == null) {
+            return productJpaRepository.findProductsByPriceAsc(pageRequest);
+        }
+        return productJpaRepository.findBrandProductsByPriceAsc(brandId, pageRequest);
     }
 
     @Override
     public List<Product> findProductsByLikesDesc(Long brandId, int page, int size) {
-        return productJpaRepository.findProductsByLikesDesc(brandId, PageRequest.of(page, size));
+        PageRequest pageRequest = PageRequest.of(page, size);
+        if (brandId == null) {
+            return productJpaRepository.findProductsByLikesDesc(pageRequest);
+        }
+        return productJpaRepository.findBrandProductsByLikesDesc(brandId, pageRequest);
+    }
+
+    @Override
+    public List<Product> findProductsByLatestAfter(Long brandId, ZonedDateTime lastCreatedAt, Long lastId, int size) {
+        if (lastId == null) {
+            return findProductsByLatest(brandId, 0, size);
+        }
+        PageRequest pageRequest = PageRequest.of(0, size);
+        if (brandId == null) {
+            return productJpaRepository.findProductsByLatestAfter(lastCreatedAt, lastId, pageRequest);
+        }
+        return productJpaRepository.findBrandProductsByLatestAfter(brandId, lastCreatedAt, lastId, pageRequest);
+    }
+
+    @Override
+    public List<Product> findProductsByPriceAscAfter(Long brandId, Integer lastPrice, Long lastId, int size) {
+        if (lastId == null) {
+            return findProductsByPriceAsc(brandId, 0, size);
+        }
+        PageRequest pageRequest = PageRequest.of(0, size);
+        if (brandId == null) {
+            return productJpaRepository.findProductsByPriceAscAfter(lastPrice, lastId, pageRequest);
+        }
+        return productJpaRepository.findBrandProductsByPriceAscAfter(brandId, lastPrice, lastId, pageRequest);
+    }
+
+    @Override
+    public List<Product> findProductsByLikesDescAfter(Long brandId, Integer lastLikeCount, Long lastId, int size) {
+        if (lastId == null) {
+            return findProductsByLikesDesc(brandId, 0, size);
+        }
+        PageRequest pageRequest = PageRequest.of(0, size);
+        if (brandId == null) {
+            return productJpaRepository.findProductsByLikesDescAfter(lastLikeCount, lastId, pageRequest);
+        }
+        return productJpaRepository.findBrandProductsByLikesDescAfter(brandId, lastLikeCount, lastId, pageRequest);
     }
 
     @Override
@@ -46,4 +107,44 @@ public class ProductRepositoryImpl implements ProductRepository {
         }
         return productJpaRepository.findProductsByIds(productIds);
     }
+
+    @Override
+    public List<ProductSummary> findProductSummariesByLatest(Long brandId, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        if (brandId == null) {
+            return productJpaRepository.findSummariesByLatest(pageRequest);
+        }
+        return productJpaRepository.findBrandSummariesByLatest(brandId, pageRequest);
+    }
+
+    @Override
+    public List<ProductSummary> findProductSummariesByPriceAsc(Long brandId, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        if (brandId == null) {
+            return productJpaRepository.findSummariesByPriceAsc(pageRequest);
+        }
+        return productJpaRepository.findBrandSummariesByPriceAsc(brandId, pageRequest);
+    }
+
+    @Override
+    public List<ProductSummary> findProductSummariesByLikesDesc(Long brandId, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        if (brandId == null) {
+            return productJpaRepository.findSummariesByLikesDesc(pageRequest);
+        }
+        return productJpaRepository.findBrandSummariesByLikesDesc(brandId, pageRequest);
+    }
+
+    @Override
+    public List<ProductSummary> findProductSummariesByIds(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return List.of();
+        }
+        return productJpaRepository.findSummariesByIds(productIds);
+    }
+
+    @Override
+    public List<ProductSearchDocument> findSearchDocumentsAfter(Long lastId, int size) {
+        return productJpaRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, size));
+    }
 }
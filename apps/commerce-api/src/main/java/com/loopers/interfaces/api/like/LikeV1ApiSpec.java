@@ -30,13 +30,27 @@ public interface LikeV1ApiSpec {
             Long productId
     );
 
+    @Operation(
+            summary = "상품 좋아요 일괄 등록/취소",
+            description = "여러 상품의 좋아요 등록(like)/취소(unlike)를 한 번에 처리하고 상품별 결과(LIKED, UNLIKED, UNCHANGED, PRODUCT_NOT_FOUND)를 요청 순서대로 반환합니다. 최대 100개까지 요청할 수 있습니다."
+    )
+    ApiResponse<LikeV1Dto.BulkLikeResponse> changeLikes(
+            @Parameter(name = "X-USER-ID", description = "로그인 ID", required = true)
+            String loginId,
+            LikeV1Dto.BulkLikeRequest request
+    );
+
     @Operation(
             summary = "내가 좋아요 한 상품 목록 조회",
-            description = "로그인 ID로 내가 좋아요 한 상품 목록을 조회합니다."
+            description = "로그인 ID로 내가 좋아요 한 상품 목록을 최근 좋아요 순으로 조회합니다. hasNext 로 다음 페이지 여부를 알려줍니다."
     )
     ApiResponse<LikeV1Dto.LikedProductListResponse> getLikedProducts(
             @Parameter(name = "X-USER-ID", description = "로그인 ID", required = true)
-            String loginId
+            String loginId,
+            @Parameter(name = "page", description = "페이지 번호 (기본값: 0)", required = false)
+            Integer page,
+            @Parameter(name = "size", description = "페이지당 상품 수 (기본값: 20, 최대 100)", required = false)
+            Integer size
     );
 }
 
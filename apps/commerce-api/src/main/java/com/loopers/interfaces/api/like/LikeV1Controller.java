@@ -1,9 +1,10 @@
 package com.loopers.interfaces.api.like;
 
+import com.loopers.application.like.BulkLikeInfo;
 import com.loopers.application.like.LikeCommand;
 import com.loopers.application.like.LikeFacade;
 import com.loopers.application.like.LikeInfo;
-import com.loopers.application.product.ProductInfo;
+import com.loopers.application.like.LikedProductPage;
 import com.loopers.interfaces.api.ApiResponse;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -11,8 +12,10 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequiredArgsConstructor
@@ -48,13 +51,28 @@ public class LikeV1Controller implements LikeV1ApiSpec {
         return ApiResponse.success(response);
     }
 
+    @PostMapping("/products/bulk")
+    @Override
+    public ApiResponse<LikeV1Dto.BulkLikeResponse> changeLikes(
+            @RequestHeader("X-USER-ID") String loginId,
+            @RequestBody LikeV1Dto.BulkLikeRequest request
+    ) {
+        List<BulkLikeInfo> bulkLikeInfos = likeFacade.changeLikes(request.toCommand(loginId));
+        LikeV1Dto.BulkLikeResponse response = LikeV1Dto.BulkLikeResponse.from(bulkLikeInfos);
+
+        return ApiResponse.success(response);
+    }
+
     @GetMapping("/products")
     @Override
     public ApiResponse<LikeV1Dto.LikedProductListResponse> getLikedProducts(
-            @RequestHeader("X-USER-ID") String loginId
+            @RequestHeader("X-USER-ID") String loginId,
+            @RequestParam(required = false, defaultValue = "0") Integer page,
+            @RequestParam(required = false, defaultValue = "20") Integer size
     ) {
-        List<ProductInfo> productInfos = likeFacade.getLikedProducts(loginId);
-        LikeV1Dto.LikedProductListResponse response = LikeV1Dto.LikedProductListResponse.from(productInfos);
+        LikeCommand.GetLikedProductsCommand command = new LikeCommand.GetLikedProductsCommand(loginId, page, size);
+        LikedProductPage likedProductPage = likeFacade.getLikedProducts(command);
+        LikeV1Dto.LikedProductListResponse response = LikeV1Dto.LikedProductListResponse.from(likedProductPage);
 
         return ApiResponse.success(response);
     }
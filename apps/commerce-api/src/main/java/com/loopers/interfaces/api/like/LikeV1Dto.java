@@ -1,7 +1,12 @@
 package com.loopers.interfaces.api.like;
 
+import com.loopers.application.like.BulkLikeInfo;
+import com.loopers.application.like.LikeCommand;
 import com.loopers.application.like.LikeInfo;
+import com.loopers.application.like.LikedProductPage;
 import com.loopers.application.product.ProductInfo;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import java.util.List;
 
 public class LikeV1Dto {
@@ -18,14 +23,64 @@ public class LikeV1Dto {
         }
     }
 
+    public record BulkLikeRequest(
+            List<BulkLikeItemRequest> items
+    ) {
+        public LikeCommand.BulkLikeCommand toCommand(String loginId) {
+            List<LikeCommand.BulkLikeItemCommand> itemCommands = items == null ? List.of() : items.stream()
+                    .map(item -> {
+                        if (item == null) {
+                            throw new CoreException(ErrorType.BAD_REQUEST, "좋아요 변경 항목은 비어 있을 수 없습니다.");
+                        }
+                        return new LikeCommand.BulkLikeItemCommand(
+                                item.productId(),
+                                LikeCommand.LikeAction.fromValue(item.action())
+                        );
+                    })
+                    .toList();
+            return new LikeCommand.BulkLikeCommand(loginId, itemCommands);
+        }
+    }
+
+    public record BulkLikeItemRequest(
+            Long productId,
+            String action
+    ) {
+    }
+
+    public record BulkLikeResponse(
+            List<BulkLikeItemResponse> items
+    ) {
+        public static BulkLikeResponse from(List<BulkLikeInfo> infos) {
+            return new BulkLikeResponse(infos.stream()
+                    .map(BulkLikeItemResponse::from)
+                    .toList());
+        }
+    }
+
+    public record BulkLikeItemResponse(
+            Long productId,
+            String action,
+            String result
+    ) {
+        public static BulkLikeItemResponse from(BulkLikeInfo info) {
+            return new BulkLikeItemResponse(
+                    info.productId(),
+                    info.action().getValue(),
+                    info.result().name()
+            );
+        }
+    }
+
     public record LikedProductListResponse(
-            List<ProductItem> products
+            List<ProductItem> products,
+            boolean hasNext
     ) {
-        public static LikedProductListResponse from(List<ProductInfo> productInfos) {
-            List<ProductItem> items = productInfos.stream()
+        public static LikedProductListResponse from(LikedProductPage likedProductPage) {
+            List<ProductItem> items = likedProductPage.products().stream()
                     .map(ProductItem::from)
                     .toList();
-            return new LikedProductListResponse(items);
+            return new LikedProductListResponse(items, likedProductPage.hasNext());
         }
     }
 
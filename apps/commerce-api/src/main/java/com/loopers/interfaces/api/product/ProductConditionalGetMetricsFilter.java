@@ -0,0 +1,175 @@
+package com.loopers.interfaces.api.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 상품 상세/목록 조건부 GET 지표.
+ * product.http.conditional{endpoint, result} 카운터와 product.http.not_modified.ratio{endpoint} 게이지를 노출한다.
+ * 200 응답의 본문 크기를 ETag 별로 잠시 기억해 두었다가, 같은 ETag 로 304 를 응답하면 그 크기를 product.http.not_modified.saved 에 기록한다.
+ */
+@Component
+public class ProductConditionalGetMetricsFilter extends OncePerRequestFilter {
+
+    private static final String PRODUCTS_PATH = "/api/v1/products";
+
+    enum Endpoint {
+        DETAIL, LIST
+    }
+
+    enum Result {
+        NOT_MODIFIED, MODIFIED, UNCONDITIONAL
+    }
+
+    private final Map<Endpoint, Map<Result, Counter>> counters = new EnumMap<>(Endpoint.class);
+    private final DistributionSummary bytesSaved;
+    private final Cache<String, Integer> bodySizes = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public ProductConditionalGetMetricsFilter(MeterRegistry meterRegistry) {
+        for (Endpoint endpoint : Endpoint.values()) {
+            Map<Result, Counter> endpointCounters = new EnumMap<>(Result.class);
+            for (Result result : Result.values()) {
+                endpointCounters.put(result, Counter.builder("product.http.conditional")
+                        .tag("endpoint", endpoint.name().toLowerCase())
+                        .tag("result", result.name().toLowerCase())
+                        .register(meterRegistry));
+            }
+            counters.put(endpoint, endpointCounters);
+
+            Gauge.builder("product.http.not_modified.ratio", this, filter -> filter.notModifiedRatio(endpoint))
+                    .tag("endpoint", endpoint.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        this.bytesSaved = DistributionSummary.builder("product.http.not_modified.saved")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || endpoint(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CountingResponse countingResponse = new CountingResponse(response);
+        filterChain.doFilter(request, countingResponse);
+
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        if (etag == null) {
+            return;
+        }
+
+        Map<Result, Counter> endpointCounters = counters.get(endpoint(request.getRequestURI()));
+        if (response.getStatus() == HttpStatus.NOT_MODIFIED.value()) {
+            endpointCounters.get(Result.NOT_MODIFIED).increment();
+            Integer bodySize = bodySizes.getIfPresent(etag);
+            if (bodySize != null) {
+                bytesSaved.record(bodySize);
+            }
+            return;
+        }
+        if (response.getStatus() == HttpStatus.OK.value()) {
+            boolean conditional = request.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+            endpointCounters.get(conditional ? Result.MODIFIED : Result.UNCONDITIONAL).increment();
+            bodySizes.put(etag, (int) countingResponse.bytesWritten);
+        }
+    }
+
+    private double notModifiedRatio(Endpoint endpoint) {
+        double notModified = counters.get(endpoint).get(Result.NOT_MODIFIED).count();
+        double total = notModified
+                + counters.get(endpoint).get(Result.MODIFIED).count()
+                + counters.get(endpoint).get(Result.UNCONDITIONAL).count();
+        return total == 0 ? 0.0 : notModified / total;
+    }
+
+    private static Endpoint endpoint(String uri) {
+        if (uri.equals(PRODUCTS_PATH)) {
+            return Endpoint.LIST;
+        }
+        if (uri.startsWith(PRODUCTS_PATH + "/")) {
+            String rest = uri.substring(PRODUCTS_PATH.length() + 1);
+            return !rest.isEmpty() && rest.chars().allMatch(Character::isDigit) ? Endpoint.DETAIL : null;
+        }
+        return null;
+    }
+
+    /**
+     * 응답 본문으로 쓰인 바이트 수를 센다.
+     */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private long bytesWritten;
+        private ServletOutputStream outputStream;
+
+        private CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        bytesWritten++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        delegate.write(b, off, len);
+                        bytesWritten += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        delegate.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.loopers.interfaces.api.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 상품 상세/목록 응답 본문 캐시 (opt-in)
+ * 직렬화를 마친 ApiResponse JSON 바이트를 ETag(콘텐츠 해시) 기준으로 노드 로컬에 보관하고,
+ * 히트하면 캐시 값 역직렬화, DTO 변환, JSON 직렬화 없이 서블릿 출력 스트림에 바로 쓴다.
+ * 상품이 바뀌면 ETag 도 바뀌어 자연히 미스가 되므로 별도 무효화가 필요 없고, 오래된 본문은 용량/TTL 로 밀려난다.
+ * gzip 이 켜져 있으면 gzipMinSize 이상의 본문은 압축본도 함께 보관하고, Accept-Encoding 에 gzip 이 있으면 약한 ETag(W/)로 압축본을 응답한다.
+ */
+@Component
+public class ProductResponseCache {
+
+    private static final String GZIP = "gzip";
+
+    private final MappingJackson2HttpMessageConverter messageConverter;
+    private final boolean enabled;
+    private final boolean gzipEnabled;
+    private final int gzipMinSize;
+    private final Cache<String, RenderedResponse> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ProductResponseCache(
+            MappingJackson2HttpMessageConverter messageConverter,
+            MeterRegistry meterRegistry,
+            @Value("${product-response-cache.enabled:false}") boolean enabled,
+            @Value("${product-response-cache.maximum-weight:67108864}") long maximumWeight,
+            @Value("${product-response-cache.ttl:10m}") Duration ttl,
+            @Value("${product-response-cache.gzip.enabled:true}") boolean gzipEnabled,
+            @Value("${product-response-cache.gzip.min-size:1024}") int gzipMinSize
+    ) {
+        this.messageConverter = messageConverter;
+        this.enabled = enabled;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinSize = gzipMinSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((String etag, RenderedResponse rendered) -> rendered.weight())
+                .expireAfterAccess(ttl)
+                .build();
+        this.hits = Counter.builder("product.response.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("product.response.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * ETag 에 해당하는 본문이 있으면 응답에 쓰고 true 를 반환한다.
+     */
+    public boolean writeCached(String etag, ServletWebRequest webRequest) {
+        if (!enabled || etag == null) {
+            return false;
+        }
+
+        RenderedResponse rendered = cache.getIfPresent(etag);
+        if (rendered == null) {
+            misses.increment();
+            return false;
+        }
+        hits.increment();
+        write(etag, rendered, webRequest);
+        return true;
+    }
+
+    /**
+     * 응답 본문을 직렬화해 보관하고 응답에 쓴다.
+     */
+    public void render(String etag, Object body, ServletWebRequest webRequest) {
+        try {
+            byte[] identity = messageConverter.getObjectMapper().writeValueAsBytes(body);
+            byte[] gzipped = gzipEnabled && identity.length >= gzipMinSize ? gzip(identity) : null;
+            RenderedResponse rendered = new RenderedResponse(identity, gzipped);
+            cache.put(etag, rendered);
+            write(etag, rendered, webRequest);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(String etag, RenderedResponse rendered, ServletWebRequest webRequest) {
+        HttpServletResponse response = webRequest.getResponse();
+        boolean useGzip = rendered.gzipped() != null && acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] body = useGzip ? rendered.gzipped() : rendered.identity();
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.setHeader(HttpHeaders.ETAG, useGzip ? "W/" + etag : etag);
+        if (rendered.gzipped() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (useGzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        try {
+            response.getOutputStream().write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Accept-Encoding 을 코딩별로 나누어 gzip 을 받는지 판단한다. (RFC 9110 12.5.3)
+     * q=0 은 거부이고, gzip 이 명시되지 않았으면 '*' 의 q 값을 따른다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals(GZIP) || coding.equals("x-" + GZIP)) {
+                gzipQuality = quality(parts);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality(parts);
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    // q 가 없으면 1, 읽을 수 없으면 받지 않는 것으로 본다.
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 1 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q') && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] identity) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(identity.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(identity);
+        }
+        return out.toByteArray();
+    }
+
+    private record RenderedResponse(byte[] identity, byte[] gzipped) {
+
+        private int weight() {
+            return identity.length + (gzipped != null ? gzipped.length : 0);
+        }
+    }
+}
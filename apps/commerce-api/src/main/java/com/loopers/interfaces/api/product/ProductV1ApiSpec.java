@@ -5,13 +5,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @Tag(name = "Product V1 API", description = "Product V1 API 입니다.")
 public interface ProductV1ApiSpec {
 
     @Operation(
             summary = "상품 목록 조회",
-            description = "브랜드 ID, 정렬 기준, 페이지 정보를 이용하여 상품 목록을 조회합니다."
+            description = "브랜드 ID, 정렬 기준, 페이지 정보를 이용하여 상품 목록을 조회합니다. ETag 를 응답하며 If-None-Match 가 일치하면 304 를 반환합니다."
     )
     ApiResponse<ProductV1Dto.ProductListResponse> getProducts(
             @Parameter(name = "brandId", description = "브랜드 ID (선택사항)", required = false)
@@ -21,15 +23,62 @@ public interface ProductV1ApiSpec {
             @Parameter(name = "page", description = "페이지 번호 (기본값: 0)", required = false)
             Integer page,
             @Parameter(name = "size", description = "페이지당 상품 수 (기본값: 20)", required = false)
+            Integer size,
+            @Parameter(name = "X-USER-ID", description = "로그인 ID (선택사항, 있으면 isLiked 를 채웁니다)", required = false)
+            String loginId,
+            @Parameter(hidden = true)
+            ServletWebRequest webRequest
+    );
+
+    @Operation(
+            summary = "상품 목록 커서 조회",
+            description = "이전 응답의 nextCursor 를 넘겨 다음 페이지를 조회합니다. 페이지가 깊어져도 응답 시간이 일정합니다."
+    )
+    ApiResponse<ProductV1Dto.ProductCursorListResponse> getProductsByCursor(
+            @Parameter(name = "brandId", description = "브랜드 ID (선택사항)", required = false)
+            Long brandId,
+            @Parameter(name = "sort", description = "정렬 기준 (latest, price_asc, likes_desc)", required = false)
+            String sort,
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 페이지는 생략)", required = false)
+            String cursor,
+            @Parameter(name = "size", description = "페이지당 상품 수 (기본값: 20, 최대 100)", required = false)
+            Integer size
+    );
+
+    @Operation(
+            summary = "상품 정보 일괄 조회",
+            description = "상품 ID 목록으로 상품 상세 정보를 한 번에 조회합니다. 요청한 순서대로 반환하며, 존재하지 않는 상품은 제외됩니다."
+    )
+    ApiResponse<ProductV1Dto.ProductBatchResponse> getProductsByIds(
+            @Parameter(name = "ids", description = "조회할 상품 ID 목록 (쉼표로 구분, 최대 200개)", required = true)
+            List<Long> ids
+    );
+
+    @Operation(
+            summary = "상품 검색",
+            description = "상품명에 검색어가 포함된 상품을 좋아요 수 내림차순으로 조회합니다. 띄어쓰기는 무시합니다."
+    )
+    ApiResponse<ProductV1Dto.ProductListResponse> searchProducts(
+            @Parameter(name = "q", description = "검색어", required = true)
+            String q,
+            @Parameter(name = "brandId", description = "브랜드 ID (선택사항)", required = false)
+            Long brandId,
+            @Parameter(name = "page", description = "페이지 번호 (기본값: 0)", required = false)
+            Integer page,
+            @Parameter(name = "size", description = "페이지당 상품 수 (기본값: 20, 최대 100)", required = false)
             Integer size
     );
 
     @Operation(
             summary = "상품 정보 조회",
-            description = "상품 ID로 상품 정보를 조회합니다."
+            description = "상품 ID로 상품 정보를 조회합니다. ETag 를 응답하며 If-None-Match 가 일치하면 304 를 반환합니다."
     )
     ApiResponse<ProductV1Dto.ProductResponse> getProduct(
             @Schema(name = "상품 ID", description = "조회할 상품의 ID")
-            Long productId
+            Long productId,
+            @Parameter(name = "X-USER-ID", description = "로그인 ID (선택사항, 있으면 isLiked 를 채웁니다)", required = false)
+            String loginId,
+            @Parameter(hidden = true)
+            ServletWebRequest webRequest
     );
 }
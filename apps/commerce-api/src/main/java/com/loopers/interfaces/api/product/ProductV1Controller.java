@@ -1,24 +1,34 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.application.like.LikeFacade;
 import com.loopers.application.product.ProductCommand;
+import com.loopers.application.product.ProductCursorPage;
 import com.loopers.application.product.ProductFacade;
 import com.loopers.application.product.ProductInfo;
 import com.loopers.application.product.ProductSort;
 import com.loopers.interfaces.api.ApiResponse;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/products")
 public class ProductV1Controller implements ProductV1ApiSpec {
 
+    private static final String USER_ID_HEADER = "X-USER-ID";
+
     private final ProductFacade productFacade;
+    private final LikeFacade likeFacade;
+    private final ProductResponseCache productResponseCache;
 
     @GetMapping
     @Override
@@ -26,13 +36,76 @@ public class ProductV1Controller implements ProductV1ApiSpec {
             @RequestParam(required = false) Long brandId,
             @RequestParam(required = false, defaultValue = "latest") String sort,
             @RequestParam(required = false, defaultValue = "0") Integer page,
-            @RequestParam(required = false, defaultValue = "20") Integer size
+            @RequestParam(required = false, defaultValue = "20") Integer size,
+            @RequestHeader(value = USER_ID_HEADER, required = false) String loginId,
+            ServletWebRequest webRequest
     ) {
         ProductSort productSort = ProductSort.fromValue(sort);
         ProductCommand.GetProductsCommand getProductsCommand = new ProductCommand.GetProductsCommand(
                 brandId, productSort, page, size
         );
+        varyByUser(webRequest);
+        if (loginId != null) {
+            return getPersonalizedProducts(getProductsCommand, loginId, webRequest);
+        }
+        if (usesCachedETag(webRequest)) {
+            String cachedETag = productFacade.findProductsETag(getProductsCommand);
+            if (isNotModified(webRequest, cachedETag) || productResponseCache.writeCached(cachedETag, webRequest)) {
+                return null;
+            }
+        }
+
         List<ProductInfo> productInfos = productFacade.getProducts(getProductsCommand);
+        String etag = productFacade.getProductsETag(productInfos);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        ProductV1Dto.ProductListResponse response = ProductV1Dto.ProductListResponse.from(productInfos);
+
+        return render(etag, ApiResponse.success(response), webRequest);
+    }
+
+    @GetMapping(params = "ids")
+    @Override
+    public ApiResponse<ProductV1Dto.ProductBatchResponse> getProductsByIds(
+            @RequestParam List<Long> ids
+    ) {
+        List<ProductInfo> productInfos = productFacade.getProductsByIds(ids);
+        ProductV1Dto.ProductBatchResponse response = ProductV1Dto.ProductBatchResponse.from(productInfos);
+
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping("/cursor")
+    @Override
+    public ApiResponse<ProductV1Dto.ProductCursorListResponse> getProductsByCursor(
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") Integer size
+    ) {
+        ProductSort productSort = ProductSort.fromValue(sort);
+        ProductCommand.GetProductsByCursorCommand command = new ProductCommand.GetProductsByCursorCommand(
+                brandId, productSort, cursor, size
+        );
+        ProductCursorPage cursorPage = productFacade.getProductsByCursor(command);
+        ProductV1Dto.ProductCursorListResponse response = ProductV1Dto.ProductCursorListResponse.from(cursorPage);
+
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping("/search")
+    @Override
+    public ApiResponse<ProductV1Dto.ProductListResponse> searchProducts(
+            @RequestParam String q,
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(required = false, defaultValue = "0") Integer page,
+            @RequestParam(required = false, defaultValue = "20") Integer size
+    ) {
+        ProductCommand.SearchProductsCommand command = new ProductCommand.SearchProductsCommand(
+                q, brandId, page, size
+        );
+        List<ProductInfo> productInfos = productFacade.searchProducts(command);
         ProductV1Dto.ProductListResponse response = ProductV1Dto.ProductListResponse.from(productInfos);
 
         return ApiResponse.success(response);
@@ -41,11 +114,106 @@ public class ProductV1Controller implements ProductV1ApiSpec {
     @GetMapping("/{productId}")
     @Override
     public ApiResponse<ProductV1Dto.ProductResponse> getProduct(
-            @PathVariable Long productId
+            @PathVariable Long productId,
+            @RequestHeader(value = USER_ID_HEADER, required = false) String loginId,
+            ServletWebRequest webRequest
     ) {
+        varyByUser(webRequest);
+        if (loginId != null) {
+            return getPersonalizedProduct(productId, loginId, webRequest);
+        }
+        if (usesCachedETag(webRequest)) {
+            String cachedETag = productFacade.findProductETag(productId);
+            if (isNotModified(webRequest, cachedETag) || productResponseCache.writeCached(cachedETag, webRequest)) {
+                return null;
+            }
+        }
+
         ProductInfo productInfo = productFacade.getProduct(productId);
+        String etag = productFacade.getProductETag(productInfo);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         ProductV1Dto.ProductResponse response = ProductV1Dto.ProductResponse.from(productInfo);
 
-        return ApiResponse.success(response);
+        return render(etag, ApiResponse.success(response), webRequest);
+    }
+
+    /**
+     * 로그인 사용자의 목록 조회. 좋아요 여부를 한 번의 캐시 조회로 채우고, 사용자마다 본문이 다르므로 응답 본문 캐시는 쓰지 않는다.
+     */
+    private ApiResponse<ProductV1Dto.ProductListResponse> getPersonalizedProducts(
+            ProductCommand.GetProductsCommand command,
+            String loginId,
+            ServletWebRequest webRequest
+    ) {
+        List<ProductInfo> productInfos = productFacade.getProducts(command);
+        Set<Long> likedProductIds = likeFacade.findLikedAmong(loginId, productInfos.stream().map(ProductInfo::id).toList());
+        if (webRequest.checkNotModified(productFacade.getProductsETag(productInfos, likedProductIds))) {
+            return null;
+        }
+
+        return ApiResponse.success(ProductV1Dto.ProductListResponse.from(productInfos, likedProductIds));
+    }
+
+    private ApiResponse<ProductV1Dto.ProductResponse> getPersonalizedProduct(
+            Long productId,
+            String loginId,
+            ServletWebRequest webRequest
+    ) {
+        ProductInfo productInfo = productFacade.getProduct(productId);
+        boolean liked = likeFacade.findLikedAmong(loginId, List.of(productId)).contains(productId);
+        if (webRequest.checkNotModified(productFacade.getProductETag(productInfo, liked))) {
+            return null;
+        }
+
+        return ApiResponse.success(ProductV1Dto.ProductResponse.from(productInfo, liked));
+    }
+
+    /**
+     * 로그인 여부에 따라 본문(isLiked)이 달라지므로 공유 캐시가 사용자 구분 없이 재사용하지 않게 한다.
+     */
+    private static void varyByUser(ServletWebRequest webRequest) {
+        webRequest.getResponse().addHeader(HttpHeaders.VARY, USER_ID_HEADER);
+    }
+
+    /**
+     * 조건부 요청이거나 응답 본문 캐시를 쓰는 경우에만 캐시에서 ETag 를 먼저 조회한다.
+     */
+    private boolean usesCachedETag(ServletWebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null || productResponseCache.isEnabled();
+    }
+
+    /**
+     * 응답 본문 캐시를 쓰면 직렬화한 본문을 보관하고 직접 쓴 뒤 null 을 반환한다.
+     */
+    private <T> ApiResponse<T> render(String etag, ApiResponse<T> body, ServletWebRequest webRequest) {
+        if (!productResponseCache.isEnabled()) {
+            return body;
+        }
+        productResponseCache.render(etag, body, webRequest);
+        return null;
+    }
+
+    /**
+     * 캐시에서 읽은 ETag 가 If-None-Match 와 일치할 때만 304 로 응답한다.
+     * 일치하지 않으면 checkNotModified 를 호출하지 않아, 실제 응답 본문의 ETag 가 헤더에 실리도록 한다.
+     */
+    private static boolean isNotModified(ServletWebRequest webRequest, String cachedETag) {
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (cachedETag == null || ifNoneMatch == null) {
+            return false;
+        }
+        // If-None-Match 는 약한 비교를 하므로 gzip 응답의 W/ 접두어를 떼고 비교한다.
+        for (String candidate : ifNoneMatch.split(",")) {
+            String etag = candidate.trim();
+            if (etag.startsWith("W/")) {
+                etag = etag.substring(2);
+            }
+            if (etag.equals("*") || etag.equals(cachedETag)) {
+                return webRequest.checkNotModified(cachedETag);
+            }
+        }
+        return false;
     }
 }
@@ -1,7 +1,9 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.application.product.ProductCursorPage;
 import com.loopers.application.product.ProductInfo;
 import java.util.List;
+import java.util.Set;
 
 public class ProductV1Dto {
 
@@ -9,13 +11,44 @@ public class ProductV1Dto {
             List<ProductItem> products
     ) {
         public static ProductListResponse from(List<ProductInfo> productInfos) {
+            return from(productInfos, null);
+        }
+
+        /**
+         * likedProductIds 가 null 이면(비로그인) isLiked 를 채우지 않는다.
+         */
+        public static ProductListResponse from(List<ProductInfo> productInfos, Set<Long> likedProductIds) {
             List<ProductItem> items = productInfos.stream()
-                    .map(ProductItem::from)
+                    .map(info -> ProductItem.from(info, likedProductIds != null ? likedProductIds.contains(info.id()) : null))
                     .toList();
             return new ProductListResponse(items);
         }
     }
 
+    public record ProductCursorListResponse(
+            List<ProductItem> products,
+            String nextCursor,
+            boolean hasNext
+    ) {
+        public static ProductCursorListResponse from(ProductCursorPage cursorPage) {
+            List<ProductItem> items = cursorPage.products().stream()
+                    .map(ProductItem::from)
+                    .toList();
+            return new ProductCursorListResponse(items, cursorPage.nextCursor(), cursorPage.hasNext());
+        }
+    }
+
+    public record ProductBatchResponse(
+            List<ProductResponse> products
+    ) {
+        public static ProductBatchResponse from(List<ProductInfo> productInfos) {
+            List<ProductResponse> items = productInfos.stream()
+                    .map(ProductResponse::from)
+                    .toList();
+            return new ProductBatchResponse(items);
+        }
+    }
+
     public record ProductItem(
             Long id,
             String name,
@@ -24,9 +57,14 @@ public class ProductV1Dto {
             Integer price,
             Integer likeCount,
             Integer stock,
-            String createdAt
+            String createdAt,
+            Boolean isLiked
     ) {
         public static ProductItem from(ProductInfo info) {
+            return from(info, null);
+        }
+
+        public static ProductItem from(ProductInfo info, Boolean isLiked) {
             return new ProductItem(
                     info.id(),
                     info.name(),
@@ -35,7 +73,8 @@ public class ProductV1Dto {
                     info.price(),
                     info.likeCount(),
                     info.stock(),
-                    info.createdAt() != null ? info.createdAt().toString() : null
+                    info.createdAt() != null ? info.createdAt().toString() : null,
+                    isLiked
             );
         }
     }
@@ -48,9 +87,14 @@ public class ProductV1Dto {
             Integer price,
             Integer likeCount,
             Integer stock,
-            Long rank
+            Long rank,
+            Boolean isLiked
     ) {
         public static ProductResponse from(ProductInfo info) {
+            return from(info, null);
+        }
+
+        public static ProductResponse from(ProductInfo info, Boolean isLiked) {
             return new ProductResponse(
                     info.id(),
                     info.name(),
@@ -59,7 +103,8 @@ public class ProductV1Dto {
                     info.price(),
                     info.likeCount(),
                     info.stock(),
-                    info.rank()
+                    info.rank(),
+                    isLiked
             );
         }
     }
@@ -5,7 +5,9 @@ import com.loopers.application.like.LikeEvent;
 import com.loopers.application.order.OrderEvent;
 import com.loopers.application.product.ProductEvent;
 import com.loopers.application.userbehavior.UserBehaviorEvent;
+import com.loopers.domain.outbox.OutboxMessage;
 import com.loopers.domain.outbox.OutboxService;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -81,6 +83,22 @@ public class KafkaOutboxEventListener {
         outboxService.saveOutbox("product-unliked-events", event.productId().toString(), kafkaEvent);
     }
 
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleLikesChanged(LikeEvent.LikesChanged event) {
+        List<OutboxMessage> messages = new ArrayList<>();
+        event.likedProductIds().forEach(productId -> messages.add(new OutboxMessage(
+                "product-liked-events",
+                productId.toString(),
+                KafkaEvent.ProductEvent.ProductLiked.from(productId, event.userId())
+        )));
+        event.unlikedProductIds().forEach(productId -> messages.add(new OutboxMessage(
+                "product-unliked-events",
+                productId.toString(),
+                KafkaEvent.ProductEvent.ProductUnliked.from(productId, event.userId())
+        )));
+        outboxService.saveOutboxes(messages);
+    }
+
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handleProductViewed(UserBehaviorEvent.ProductViewed event) {
         KafkaEvent.ProductEvent.ProductViewed kafkaEvent = KafkaEvent.ProductEvent.ProductViewed.from(
@@ -1,29 +1,40 @@
 package com.loopers.interfaces.listener;
 
 import com.loopers.application.like.LikeEvent;
-import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.LikeCountBuffer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 좋아요 수는 상품 행을 매번 갱신하지 않고 write-behind 버퍼에 모았다가 LikeCountFlushScheduler 가 반영한다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class LikeCountEventListener {
 
-    private final ProductService productService;
+    private final LikeCountBuffer likeCountBuffer;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(LikeEvent.LikeRecorded event) {
-        log.info("LikeRecorded 이벤트 수신 - 좋아요 수 증가: productId={}", event.productId());
-        productService.increaseLikeCount(event.productId());
+        log.debug("LikeRecorded 이벤트 수신 - 좋아요 수 버퍼 적재: productId={}", event.productId());
+        likeCountBuffer.recordLike(event.productId());
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(LikeEvent.LikeCancelled event) {
-        log.info("LikeCancelled 이벤트 수신 - 좋아요 수 감소: productId={}", event.productId());
-        productService.decreaseLikeCount(event.productId());
+        log.debug("LikeCancelled 이벤트 수신 - 좋아요 수 버퍼 적재: productId={}", event.productId());
+        likeCountBuffer.recordUnlike(event.productId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(LikeEvent.LikesChanged event) {
+        log.debug("LikesChanged 이벤트 수신 - 좋아요 수 버퍼 적재: liked={}, unliked={}",
+                event.likedProductIds().size(), event.unlikedProductIds().size());
+        event.likedProductIds().forEach(likeCountBuffer::recordLike);
+        event.unlikedProductIds().forEach(likeCountBuffer::recordUnlike);
     }
 }
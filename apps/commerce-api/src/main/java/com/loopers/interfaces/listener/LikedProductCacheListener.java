@@ -0,0 +1,47 @@
+package com.loopers.interfaces.listener;
+
+import com.loopers.application.like.LikeEvent;
+import com.loopers.infrastructure.cache.LikedProductCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 좋아요 등록/취소가 커밋되면 사용자별 좋아요 상품 캐시를 지운다.
+ * 커밋 후 이벤트는 순서가 보장되지 않아 ZADD/ZREM 을 그대로 적용하면 늦게 도착한 등록이 취소를 덮을 수 있으므로,
+ * 변경분을 반영하지 않고 다음 조회 때 좋아요 테이블(좋아요 시각은 created_at)에서 다시 적재되게 한다.
+ * Redis 장애로 지우지 못하면 사용자를 기록해 두고 LikedProductCacheScheduler 가 다시 지운다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikedProductCacheListener {
+
+    private final LikedProductCacheService likedProductCacheService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(LikeEvent.LikeRecorded event) {
+        evictQuietly(event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(LikeEvent.LikeCancelled event) {
+        evictQuietly(event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(LikeEvent.LikesChanged event) {
+        evictQuietly(event.userId());
+    }
+
+    private void evictQuietly(Long userId) {
+        try {
+            likedProductCacheService.evict(userId);
+        } catch (Exception e) {
+            likedProductCacheService.markStale(userId);
+            log.warn("좋아요 상품 캐시 삭제 실패, 주기적으로 재시도: userId={}", userId, e);
+        }
+    }
+}
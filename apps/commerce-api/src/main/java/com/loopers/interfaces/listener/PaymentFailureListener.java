@@ -34,7 +34,7 @@ public class PaymentFailureListener {
         orderService.cancelOrder(order);
 
         for (OrderItem orderItem : order.getOrderItems()) {
-            Product product = productService.getProductById(orderItem.getProductId());
+            Product product = productService.getProductByIdForUpdate(orderItem.getProductId());
             productService.restoreStock(product, orderItem.getQuantity());
         }
 
@@ -0,0 +1,34 @@
+package com.loopers.interfaces.listener;
+
+import com.loopers.application.like.LikeEvent;
+import com.loopers.domain.product.ProductSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 좋아요 변경을 검색 색인의 좋아요 수에 반영하여 검색 순위를 최신으로 유지한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductSearchIndexListener {
+
+    private final ProductSearchIndex productSearchIndex;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(LikeEvent.LikeRecorded event) {
+        productSearchIndex.adjustLikeCount(event.productId(), 1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(LikeEvent.LikeCancelled event) {
+        productSearchIndex.adjustLikeCount(event.productId(), -1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(LikeEvent.LikesChanged event) {
+        event.likedProductIds().forEach(productId -> productSearchIndex.adjustLikeCount(productId, 1));
+        event.unlikedProductIds().forEach(productId -> productSearchIndex.adjustLikeCount(productId, -1));
+    }
+}
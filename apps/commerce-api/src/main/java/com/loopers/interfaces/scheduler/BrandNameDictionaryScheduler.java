@@ -0,0 +1,44 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.domain.brand.BrandNameDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+@Slf4j
+public class BrandNameDictionaryScheduler {
+
+    private final BrandNameDictionary brandNameDictionary;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            brandNameDictionary.reloadAll();
+        } catch (Exception e) {
+            log.error("브랜드 이름 사전 초기 적재 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${brand-dictionary.refresh-interval}", initialDelayString = "${brand-dictionary.refresh-interval}")
+    public void refresh() {
+        try {
+            brandNameDictionary.refresh();
+        } catch (Exception e) {
+            log.error("브랜드 이름 사전 변경분 반영 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(cron = "0 0 * * * *")
+    public void reloadAll() {
+        try {
+            brandNameDictionary.reloadAll();
+        } catch (Exception e) {
+            log.error("브랜드 이름 사전 전체 적재 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.like.LikeCountFacade;
+import com.loopers.domain.product.LikeCountBuffer;
+import com.loopers.domain.product.PendingLikeCount;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class LikeCountFlushScheduler {
+
+    private static final int REPLAY_BATCH_SIZE = 100;
+
+    private final LikeCountBuffer likeCountBuffer;
+    private final LikeCountFacade likeCountFacade;
+    private final Duration replayGrace;
+
+    public LikeCountFlushScheduler(
+            LikeCountBuffer likeCountBuffer,
+            LikeCountFacade likeCountFacade,
+            @Value("${like-count.replay-grace}") Duration replayGrace
+    ) {
+        this.likeCountBuffer = likeCountBuffer;
+        this.likeCountFacade = likeCountFacade;
+        this.replayGrace = replayGrace;
+    }
+
+    /**
+     * 버퍼에 모인 건수를 상품별로 반영한다. 실패한 상품은 버퍼로 되돌려 다음 주기에 다시 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${like-count.flush-interval}")
+    public void flush() {
+        List<PendingLikeCount> drained = likeCountBuffer.drain();
+        for (PendingLikeCount pendingLikeCount : drained) {
+            try {
+                likeCountFacade.apply(pendingLikeCount);
+            } catch (Exception e) {
+                likeCountBuffer.restore(pendingLikeCount);
+                log.warn("좋아요 수 반영 실패, 다음 주기에 재시도: productId={}", pendingLikeCount.productId(), e);
+            }
+        }
+    }
+
+    /**
+     * replayGrace 보다 오래되었는데 집계되지 않은 outbox 이벤트를 반영한다. (버퍼를 잃은 노드의 이벤트 복구)
+     */
+    @Scheduled(fixedDelayString = "${like-count.replay-interval}", initialDelayString = "${like-count.replay-interval}")
+    public void replay() {
+        try {
+            List<Long> productIds = likeCountFacade.findReplayTargets(
+                    ZonedDateTime.now().minus(replayGrace), REPLAY_BATCH_SIZE);
+            for (Long productId : productIds) {
+                int delta = likeCountFacade.replay(productId);
+                log.info("미집계 좋아요 이벤트 재반영: productId={}, delta={}", productId, delta);
+            }
+        } catch (Exception e) {
+            log.error("미집계 좋아요 이벤트 재반영 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 샤드를 쓰는 상품의 샤드 합계를 products.like_count 에 접어 넣어 좋아요순 정렬에 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${like-count.shard.fold-interval}", initialDelayString = "${like-count.shard.fold-interval}")
+    public void foldShards() {
+        try {
+            likeCountFacade.foldShards();
+        } catch (Exception e) {
+            log.error("좋아요 수 샤드 합계 반영 중 오류 발생", e);
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        flush();
+    }
+}
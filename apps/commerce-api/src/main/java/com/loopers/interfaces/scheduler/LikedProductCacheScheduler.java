@@ -0,0 +1,27 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.infrastructure.cache.LikedProductCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class LikedProductCacheScheduler {
+
+    private final LikedProductCacheService likedProductCacheService;
+
+    /**
+     * 좋아요 반영과 삭제에 모두 실패해 기록해 둔 사용자별 좋아요 상품 캐시를 다시 지운다.
+     */
+    @Scheduled(fixedDelayString = "${liked-product-cache.evict-retry-interval}")
+    public void retryStaleEvictions() {
+        try {
+            likedProductCacheService.retryStaleEvictions();
+        } catch (Exception e) {
+            log.warn("좋아요 상품 캐시 삭제 재시도 실패, 다음 주기에 재시도", e);
+        }
+    }
+}
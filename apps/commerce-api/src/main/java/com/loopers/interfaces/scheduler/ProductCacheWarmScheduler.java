@@ -0,0 +1,39 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.product.ProductCacheWarmer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+@Slf4j
+public class ProductCacheWarmScheduler {
+
+    private final ProductCacheWarmer productCacheWarmer;
+
+    @Scheduled(
+            fixedDelayString = "${product-cache.warmer.persist-interval}",
+            initialDelayString = "${product-cache.warmer.persist-interval}"
+    )
+    public void persistHotKeys() {
+        try {
+            productCacheWarmer.persistHotKeys();
+        } catch (Exception e) {
+            log.error("상품 캐시 상위 접근 키 저장 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${product-cache.warmer.refresh-interval}",
+            initialDelayString = "${product-cache.warmer.refresh-interval}"
+    )
+    public void refreshHotKeys() {
+        try {
+            productCacheWarmer.refreshHotKeys();
+        } catch (Exception e) {
+            log.error("상품 캐시 주기 워밍 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.infrastructure.cache.ProductListGenerations;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+@Slf4j
+public class ProductListGenerationScheduler {
+
+    private final ProductListGenerations productListGenerations;
+
+    // 기동 워밍이 목록 키를 만들기 전에 세대를 먼저 읽어 둔다.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        sync();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${product-cache.listing.generation-sync-interval}",
+            initialDelayString = "${product-cache.listing.generation-sync-interval}"
+    )
+    public void sync() {
+        try {
+            productListGenerations.sync();
+        } catch (Exception e) {
+            log.error("목록 캐시 세대 동기화 중 오류 발생", e);
+        }
+    }
+}
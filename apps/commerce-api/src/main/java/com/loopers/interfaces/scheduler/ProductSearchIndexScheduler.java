@@ -0,0 +1,35 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.domain.product.ProductSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+@Slf4j
+public class ProductSearchIndexScheduler {
+
+    private final ProductSearchIndex productSearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            productSearchIndex.rebuild();
+        } catch (Exception e) {
+            log.error("상품 검색 색인 초기 적재 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product-search.rebuild-interval}", initialDelayString = "${product-search.rebuild-interval}")
+    public void rebuild() {
+        try {
+            productSearchIndex.rebuild();
+        } catch (Exception e) {
+            log.error("상품 검색 색인 재적재 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.loopers.application.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.loopers.domain.outbox.OutboxService;
+import com.loopers.domain.product.LikeCount;
+import com.loopers.domain.product.LikeCountBuffer;
+import com.loopers.domain.product.Price;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCounter;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.Stock;
+import com.loopers.infrastructure.cache.DistributedLock;
+import com.loopers.interfaces.scheduler.LikeCountFlushScheduler;
+import com.loopers.support.IntegrationTest;
+import com.loopers.utils.DatabaseCleanUp;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+/**
+ * 좋아요 수 write-behind 테스트
+ * 한 상품에 좋아요가 몰려도 버퍼에 모았다가 한 번의 가산 UPDATE 로 반영하는지,
+ * outbox 재반영이 버퍼 반영과 겹쳐도 중복 집계되지 않는지, 샤드 합계는 한 노드만 접어 넣는지 확인한다.
+ */
+@SpringBootTest
+class LikeCountWriteBehindTest extends IntegrationTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int LIKE_COUNT = 400;
+
+    @Autowired
+    private LikeCountBuffer likeCountBuffer;
+
+    @Autowired
+    private LikeCountFacade likeCountFacade;
+
+    @Autowired
+    private LikeCountFlushScheduler likeCountFlushScheduler;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ProductLikeCounter productLikeCounter;
+
+    @Autowired
+    private DistributedLock distributedLock;
+
+    @Autowired
+    private ProductService productService;
+
+    @MockitoSpyBean
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        // 다른 테스트가 남긴 버퍼를 비운다.
+        likeCountBuffer.drain();
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeCountBuffer.drain();
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("한 상품에 좋아요가 몰리면,")
+    @Nested
+    class HotProductStorm {
+
+        @DisplayName("몰리는 동안에는 상품 행을 갱신하지 않고, 반영할 때 한 번의 가산 UPDATE 로 정확히 반영한다.")
+        @Test
+        void appliesStormWithSingleAdditiveUpdate() throws Exception {
+            // arrange
+            Long productId = saveProduct("좋아요 몰림 상품", 0);
+            storm(() -> {
+                saveLikedOutbox(productId);
+                likeCountBuffer.recordLike(productId);
+            });
+            int likeCountBeforeFlush = likeCountOf(productId);
+
+            // act
+            likeCountFlushScheduler.flush();
+
+            // assert
+            assertThat(likeCountBeforeFlush).isZero();
+            assertThat(likeCountOf(productId)).isEqualTo(LIKE_COUNT);
+            verify(productRepository, times(1)).addLikeCount(productId, LIKE_COUNT);
+        }
+    }
+
+    @DisplayName("버퍼를 반영할 때,")
+    @Nested
+    class Flush {
+
+        @DisplayName("좋아요와 취소의 차이만큼 반영하고, 다시 반영해도 중복 집계되지 않는다.")
+        @Test
+        void appliesDeltaOnce() {
+            // arrange
+            Long productId = saveProduct("반영 상품", 0);
+            for (int i = 0; i < 3; i++) {
+                saveLikedOutbox(productId);
+                likeCountBuffer.recordLike(productId);
+            }
+            saveUnlikedOutbox(productId);
+            likeCountBuffer.recordUnlike(productId);
+
+            // act
+            likeCountFlushScheduler.flush();
+            likeCountBuffer.recordLike(productId);
+            likeCountFlushScheduler.flush();
+
+            // assert
+            assertThat(likeCountOf(productId)).isEqualTo(2);
+            assertThat(likeCountBuffer.size()).isZero();
+        }
+    }
+
+    @DisplayName("버퍼가 유실되었을 때,")
+    @Nested
+    class Replay {
+
+        @DisplayName("outbox 에 남은 미집계 이벤트로 다시 반영하고, 이후 같은 건수를 버퍼로 반영해도 중복 집계되지 않는다.")
+        @Test
+        void replaysFromOutboxWithoutDoubleCounting() {
+            // arrange
+            Long productId = saveProduct("재반영 상품", 0);
+            for (int i = 0; i < 3; i++) {
+                saveLikedOutbox(productId);
+            }
+            saveUnlikedOutbox(productId);
+
+            // act
+            assertThat(likeCountFacade.findReplayTargets(ZonedDateTime.now().plusSeconds(1), 10)).containsExactly(productId);
+            int replayed = likeCountFacade.replay(productId);
+            for (int i = 0; i < 3; i++) {
+                likeCountBuffer.recordLike(productId);
+            }
+            likeCountBuffer.recordUnlike(productId);
+            likeCountFlushScheduler.flush();
+
+            // assert
+            assertThat(replayed).isEqualTo(2);
+            assertThat(likeCountOf(productId)).isEqualTo(2);
+            assertThat(likeCountFacade.findReplayTargets(ZonedDateTime.now().plusSeconds(1), 10)).isEmpty();
+        }
+    }
+
+    @DisplayName("샤드 합계를 접어 넣을 때,")
+    @Nested
+    class FoldShards {
+
+        @DisplayName("다른 노드가 접어 넣는 중이면 건너뛰고, 락이 풀리면 샤드 합계를 상품 행에 반영한다.")
+        @Test
+        void skipsWhileAnotherNodeFolds() {
+            // arrange
+            Long productId = saveProduct("샤드 상품", 0);
+            productLikeCounter.enableSharding(productId);
+            productLikeCounter.add(productId, 5);
+            DistributedLock.LockHandle otherNode = distributedLock.tryLockOnce(LikeCountFacade.FOLD_LOCK_KEY, Duration.ofSeconds(10));
+
+            // act
+            likeCountFacade.foldShards();
+            int likeCountWhileLocked = likeCountOf(productId);
+            distributedLock.releaseLock(otherNode);
+            likeCountFacade.foldShards();
+
+            // assert
+            assertThat(likeCountWhileLocked).isZero();
+            assertThat(likeCountOf(productId)).isEqualTo(5);
+        }
+
+        @DisplayName("샤드 합계가 0 이면 상품 행을 갱신하지 않는다.")
+        @Test
+        void skipsProduct_whenShardSumIsZero() {
+            // arrange
+            Long productId = saveProduct("합계 0 샤드 상품", 0);
+            productLikeCounter.enableSharding(productId);
+            productLikeCounter.add(productId, 3);
+            productLikeCounter.add(productId, -3);
+
+            // act
+            likeCountFacade.foldShards();
+
+            // assert
+            verify(productRepository, never()).addLikeCount(anyLong(), anyInt());
+        }
+    }
+
+    private void storm(Runnable like) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger remaining = new AtomicInteger(LIKE_COUNT);
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                ready.countDown();
+                start.await();
+                while (remaining.getAndDecrement() > 0) {
+                    like.run();
+                }
+                return null;
+            });
+        }
+        ready.await();
+        start.countDown();
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private Long saveProduct(String name, int likeCount) {
+        Product product = Product.createProduct(
+                name,
+                1L,
+                Price.createPrice(10000),
+                LikeCount.createLikeCount(likeCount),
+                Stock.createStock(100)
+        );
+        productRepository.saveProduct(product);
+        return product.getId();
+    }
+
+    private void saveLikedOutbox(Long productId) {
+        outboxService.saveOutbox(LikeCountFacade.LIKED_TOPIC, productId.toString(), Map.of("productId", productId));
+    }
+
+    private void saveUnlikedOutbox(Long productId) {
+        outboxService.saveOutbox(LikeCountFacade.UNLIKED_TOPIC, productId.toString(), Map.of("productId", productId));
+    }
+
+    private int likeCountOf(Long productId) {
+        return productService.findProductById(productId).orElseThrow().getLikeCount().getCount();
+    }
+}
@@ -0,0 +1,241 @@
+package com.loopers.application.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+
+import com.loopers.application.like.LikeCommand.LikeAction;
+import com.loopers.application.user.UserCommand.SignupCommand;
+import com.loopers.domain.like.Like;
+import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.outbox.Outbox;
+import com.loopers.domain.product.LikeCount;
+import com.loopers.domain.product.Price;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.Stock;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.infrastructure.outbox.OutboxJpaRepository;
+import com.loopers.support.IntegrationTest;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+@SpringBootTest
+class LikeFacadeBulkIntegrationTest extends IntegrationTest {
+
+    @Autowired
+    private LikeFacade likeFacade;
+
+    @Autowired
+    private LikeService likeService;
+
+    @MockitoSpyBean
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OutboxJpaRepository outboxJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("여러 상품의 좋아요를 한 번에 변경할 때,")
+    @Nested
+    class ChangeLikes {
+
+        @DisplayName("항목별 결과를 요청 순서대로 반환하고, 실제로 바뀐 상품만 좋아요 테이블과 outbox 에 반영한다.")
+        @Test
+        void returnsResultPerItem_andWritesOnlyChangedItems() {
+            // arrange
+            User user = saveUser("bulk1", "bulk1@test.com");
+            Long newLike = saveProduct("새로 좋아요할 상품", 1L, 10000);
+            Long alreadyLiked = saveProduct("이미 좋아요한 상품", 1L, 20000);
+            Long toUnlike = saveProduct("취소할 상품", 2L, 30000);
+            Long notLiked = saveProduct("좋아요하지 않은 상품", 2L, 40000);
+            Long missing = 999_999L;
+            likeService.recordLikeIfAbsent(user.getId(), alreadyLiked);
+            likeService.recordLikeIfAbsent(user.getId(), toUnlike);
+
+            LikeCommand.BulkLikeCommand command = new LikeCommand.BulkLikeCommand("bulk1", List.of(
+                    new LikeCommand.BulkLikeItemCommand(newLike, LikeAction.LIKE),
+                    new LikeCommand.BulkLikeItemCommand(alreadyLiked, LikeAction.LIKE),
+                    new LikeCommand.BulkLikeItemCommand(toUnlike, LikeAction.UNLIKE),
+                    new LikeCommand.BulkLikeItemCommand(notLiked, LikeAction.UNLIKE),
+                    new LikeCommand.BulkLikeItemCommand(missing, LikeAction.LIKE)
+            ));
+
+            // act
+            List<BulkLikeInfo> result = likeFacade.changeLikes(command);
+
+            // assert
+            assertThat(result).extracting(BulkLikeInfo::productId)
+                    .containsExactly(newLike, alreadyLiked, toUnlike, notLiked, missing);
+            assertThat(result).extracting(BulkLikeInfo::result).containsExactly(
+                    BulkLikeInfo.Result.LIKED,
+                    BulkLikeInfo.Result.UNCHANGED,
+                    BulkLikeInfo.Result.UNLIKED,
+                    BulkLikeInfo.Result.UNCHANGED,
+                    BulkLikeInfo.Result.PRODUCT_NOT_FOUND
+            );
+            assertThat(likeService.findLikedProductIds(user.getId()))
+                    .containsExactlyInAnyOrder(newLike, alreadyLiked);
+
+            List<Outbox> outboxes = outboxJpaRepository.findAll();
+            assertThat(outboxes).extracting(Outbox::getTopic, Outbox::getPartitionKey)
+                    .containsExactlyInAnyOrder(
+                            tuple("product-liked-events", newLike.toString()),
+                            tuple("product-unliked-events", toUnlike.toString())
+                    );
+        }
+
+        @DisplayName("같은 요청을 다시 보내면 모두 UNCHANGED 이고 outbox 에 더 기록하지 않는다.")
+        @Test
+        void returnsUnchanged_whenRepeated() {
+            // arrange
+            saveUser("bulk2", "bulk2@test.com");
+            Long first = saveProduct("상품1", 1L, 10000);
+            Long second = saveProduct("상품2", 1L, 20000);
+            LikeCommand.BulkLikeCommand command = new LikeCommand.BulkLikeCommand("bulk2", List.of(
+                    new LikeCommand.BulkLikeItemCommand(first, LikeAction.LIKE),
+                    new LikeCommand.BulkLikeItemCommand(second, LikeAction.LIKE)
+            ));
+            likeFacade.changeLikes(command);
+
+            // act
+            List<BulkLikeInfo> result = likeFacade.changeLikes(command);
+
+            // assert
+            assertThat(result).extracting(BulkLikeInfo::result)
+                    .containsOnly(BulkLikeInfo.Result.UNCHANGED);
+            assertThat(outboxJpaRepository.count()).isEqualTo(2);
+        }
+
+        @DisplayName("잠금 조회 뒤 다른 트랜잭션이 먼저 등록한 좋아요는 LIKED 로 보고하지 않고 outbox 에도 기록하지 않는다.")
+        @Test
+        void reportsUnchanged_whenLikedConcurrentlyAfterLockRead() {
+            // arrange
+            User user = saveUser("bulk5", "bulk5@test.com");
+            Long fresh = saveProduct("새로 좋아요할 상품", 1L, 10000);
+            Long raced = saveProduct("동시에 좋아요된 상품", 1L, 20000);
+            likeService.recordLikeIfAbsent(user.getId(), raced);
+            doReturn(List.of()).when(likeRepository).findProductIdsByUserIdForUpdate(anyLong(), anyList());
+            LikeCommand.BulkLikeCommand command = new LikeCommand.BulkLikeCommand("bulk5", List.of(
+                    new LikeCommand.BulkLikeItemCommand(fresh, LikeAction.LIKE),
+                    new LikeCommand.BulkLikeItemCommand(raced, LikeAction.LIKE)
+            ));
+
+            // act
+            List<BulkLikeInfo> result = likeFacade.changeLikes(command);
+
+            // assert
+            assertThat(result).extracting(BulkLikeInfo::result).containsExactly(
+                    BulkLikeInfo.Result.LIKED,
+                    BulkLikeInfo.Result.UNCHANGED
+            );
+            assertThat(outboxJpaRepository.findAll()).extracting(Outbox::getPartitionKey)
+                    .containsExactly(fresh.toString());
+        }
+
+        @DisplayName("일괄 기록한 좋아요와 outbox 의 생성 시각은 DB 세션 시간대와 관계없이 현재 시각으로 저장된다.")
+        @Test
+        void storesCreatedAtAsCurrentInstant() {
+            // arrange
+            User user = saveUser("bulk4", "bulk4@test.com");
+            Long productId = saveProduct("시각 확인 상품", 1L, 10000);
+            LikeCommand.BulkLikeCommand command = new LikeCommand.BulkLikeCommand("bulk4", List.of(
+                    new LikeCommand.BulkLikeItemCommand(productId, LikeAction.LIKE)
+            ));
+            ZonedDateTime before = ZonedDateTime.now().minusSeconds(5);
+
+            // act
+            likeFacade.changeLikes(command);
+
+            // assert
+            ZonedDateTime after = ZonedDateTime.now().plusSeconds(5);
+            assertThat(likeService.findLikes(user.getId(), 0L, 10)).extracting(Like::getCreatedAt)
+                    .singleElement()
+                    .satisfies(createdAt -> assertThat(createdAt).isBetween(before, after));
+            assertThat(outboxJpaRepository.findAll()).extracting(Outbox::getCreatedAt)
+                    .singleElement()
+                    .satisfies(createdAt -> assertThat(createdAt).isBetween(before, after));
+        }
+
+        @DisplayName("상품 ID 가 중복되면 BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsBadRequest_whenProductIdDuplicated() {
+            // arrange
+            saveUser("bulk3", "bulk3@test.com");
+            Long productId = saveProduct("상품", 1L, 10000);
+            LikeCommand.BulkLikeCommand command = new LikeCommand.BulkLikeCommand("bulk3", List.of(
+                    new LikeCommand.BulkLikeItemCommand(productId, LikeAction.LIKE),
+                    new LikeCommand.BulkLikeItemCommand(productId, LikeAction.UNLIKE)
+            ));
+
+            // act & assert
+            CoreException exception = assertThrows(CoreException.class, () -> likeFacade.changeLikes(command));
+
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+
+        @DisplayName("존재하지 않는 사용자면 NOT_FOUND 예외가 발생한다.")
+        @Test
+        void throwsNotFound_whenUserDoesNotExist() {
+            // arrange
+            Long productId = saveProduct("상품", 1L, 10000);
+            LikeCommand.BulkLikeCommand command = new LikeCommand.BulkLikeCommand("nobody", List.of(
+                    new LikeCommand.BulkLikeItemCommand(productId, LikeAction.LIKE)
+            ));
+
+            // act & assert
+            CoreException exception = assertThrows(CoreException.class, () -> likeFacade.changeLikes(command));
+
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+        }
+    }
+
+    private User saveUser(String loginId, String email) {
+        return userRepository.save(User.createUser(new SignupCommand(loginId, email, "2000-01-01", "F")));
+    }
+
+    private Long saveProduct(String name, Long brandId, int price) {
+        Product product = Product.createProduct(
+                name,
+                brandId,
+                Price.createPrice(price),
+                LikeCount.createLikeCount(0),
+                Stock.createStock(100)
+        );
+        productRepository.saveProduct(product);
+        return product.getId();
+    }
+}
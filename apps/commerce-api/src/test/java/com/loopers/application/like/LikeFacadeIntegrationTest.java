@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -13,7 +14,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.loopers.domain.brand.BrandService;
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductInfo;
 import com.loopers.domain.like.LikeService;
 import com.loopers.domain.product.LikeCount;
 import com.loopers.domain.product.Price;
@@ -26,9 +28,7 @@ import com.loopers.domain.user.UserService;
 import com.loopers.support.IntegrationTest;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -49,11 +49,14 @@ class LikeFacadeIntegrationTest extends IntegrationTest {
     @MockitoSpyBean
     private LikeService likeService;
 
+    @MockitoSpyBean
+    private LikedProductReader likedProductReader;
+
     @MockitoSpyBean
     private ProductService productService;
 
     @MockitoSpyBean
-    private BrandService brandService;
+    private ProductFacade productFacade;
 
     @DisplayName("좋아요를 등록할 때,")
     @Nested
@@ -321,46 +324,69 @@ class LikeFacadeIntegrationTest extends IntegrationTest {
     @Nested
     class GetLikedProducts {
 
-        @DisplayName("좋아요한 상품이 있으면 상품 목록이 반환된다.")
+        @DisplayName("좋아요한 상품이 있으면 한 페이지의 상품을 일괄 조회로 반환한다.")
         @Test
         void returnsProducts_whenLikedProductsExist() {
             // arrange
             String loginId = "testUser";
             Long userId = 1L;
-            List<Long> productIds = List.of(1L, 2L);
+            List<Long> productIds = List.of(2L, 1L);
 
             User user = createUser(userId, loginId);
-            Product product1 = createProduct(1L, "상품1", 1L, 10000, 10, 100);
-            Product product2 = createProduct(2L, "상품2", 2L, 20000, 20, 200);
-
-            Map<Long, String> brandNamesMap = new HashMap<>();
-            brandNamesMap.put(1L, "브랜드1");
-            brandNamesMap.put(2L, "브랜드2");
+            List<ProductInfo> productInfos = List.of(
+                    new ProductInfo(2L, "상품2", 2L, "브랜드2", 20000, 20, 200, null, null),
+                    new ProductInfo(1L, "상품1", 1L, "브랜드1", 10000, 10, 100, null, null)
+            );
 
             doReturn(Optional.of(user)).when(userService).findUserByLoginId(loginId);
-            doReturn(productIds).when(likeService).findLikedProductIds(userId);
-            doReturn(Optional.of(product1)).when(productService).findProductById(1L);
-            doReturn(Optional.of(product2)).when(productService).findProductById(2L);
-            doReturn(brandNamesMap).when(brandService).findBrandNamesByIds(any());
+            doReturn(productIds).when(likedProductReader).findLikedProductIds(userId, 0L, 21);
+            doReturn(productInfos).when(productFacade).getProductsByIds(productIds);
 
             // act
-            List<com.loopers.application.product.ProductInfo> result = likeFacade.getLikedProducts(loginId);
+            LikedProductPage result = likeFacade.getLikedProducts(
+                    new LikeCommand.GetLikedProductsCommand(loginId, 0, 20));
 
             // assert
-            assertThat(result).hasSize(2);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.products()).hasSize(2);
             assertAll(
-                    () -> assertThat(result.get(0).id()).isEqualTo(1L),
-                    () -> assertThat(result.get(0).name()).isEqualTo("상품1"),
-                    () -> assertThat(result.get(0).brandName()).isEqualTo("브랜드1"),
-                    () -> assertThat(result.get(1).id()).isEqualTo(2L),
-                    () -> assertThat(result.get(1).name()).isEqualTo("상품2"),
-                    () -> assertThat(result.get(1).brandName()).isEqualTo("브랜드2")
+                    () -> assertThat(result.products().get(0).id()).isEqualTo(2L),
+                    () -> assertThat(result.products().get(0).brandName()).isEqualTo("브랜드2"),
+                    () -> assertThat(result.products().get(1).id()).isEqualTo(1L),
+                    () -> assertThat(result.products().get(1).brandName()).isEqualTo("브랜드1")
             );
 
             // verify
             verify(userService, times(1)).findUserByLoginId(loginId);
-            verify(likeService, times(1)).findLikedProductIds(userId);
-            verify(brandService, times(1)).findBrandNamesByIds(any());
+            verify(likedProductReader, times(1)).findLikedProductIds(userId, 0L, 21);
+            verify(productFacade, times(1)).getProductsByIds(productIds);
+            verify(productService, never()).findProductById(anyLong());
+        }
+
+        @DisplayName("한 페이지보다 많이 좋아요했으면 페이지 크기만큼만 조회하고 다음 페이지가 있다고 알려준다.")
+        @Test
+        void returnsHasNext_whenMoreLikedProductsExist() {
+            // arrange
+            String loginId = "testUser";
+            Long userId = 1L;
+
+            User user = createUser(userId, loginId);
+            List<ProductInfo> productInfos = List.of(
+                    new ProductInfo(5L, "상품5", 1L, "브랜드1", 10000, 10, 100, null, null),
+                    new ProductInfo(4L, "상품4", 1L, "브랜드1", 10000, 10, 100, null, null)
+            );
+
+            doReturn(Optional.of(user)).when(userService).findUserByLoginId(loginId);
+            doReturn(List.of(5L, 4L, 3L)).when(likedProductReader).findLikedProductIds(userId, 2L, 3);
+            doReturn(productInfos).when(productFacade).getProductsByIds(List.of(5L, 4L));
+
+            // act
+            LikedProductPage result = likeFacade.getLikedProducts(
+                    new LikeCommand.GetLikedProductsCommand(loginId, 1, 2));
+
+            // assert
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.products()).extracting(ProductInfo::id).containsExactly(5L, 4L);
         }
 
         @DisplayName("좋아요한 상품이 없으면 NOT_FOUND 예외가 발생한다.")
@@ -373,11 +399,11 @@ class LikeFacadeIntegrationTest extends IntegrationTest {
             User user = createUser(userId, loginId);
 
             doReturn(Optional.of(user)).when(userService).findUserByLoginId(loginId);
-            doReturn(List.of()).when(likeService).findLikedProductIds(userId);
+            doReturn(List.of()).when(likedProductReader).findLikedProductIds(userId, 0L, 21);
 
             // act & assert
             CoreException exception = assertThrows(CoreException.class, () -> {
-                likeFacade.getLikedProducts(loginId);
+                likeFacade.getLikedProducts(new LikeCommand.GetLikedProductsCommand(loginId, 0, 20));
             });
 
             assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
@@ -385,9 +411,8 @@ class LikeFacadeIntegrationTest extends IntegrationTest {
 
             // verify
             verify(userService, times(1)).findUserByLoginId(loginId);
-            verify(likeService, times(1)).findLikedProductIds(userId);
-            verify(productService, never()).findProductById(anyLong());
-            verify(brandService, never()).findBrandNamesByIds(any());
+            verify(likedProductReader, times(1)).findLikedProductIds(userId, 0L, 21);
+            verify(productFacade, never()).getProductsByIds(any());
         }
 
         @DisplayName("사용자가 존재하지 않으면 NOT_FOUND 예외가 발생한다.")
@@ -400,7 +425,7 @@ class LikeFacadeIntegrationTest extends IntegrationTest {
 
             // act & assert
             CoreException exception = assertThrows(CoreException.class, () -> {
-                likeFacade.getLikedProducts(loginId);
+                likeFacade.getLikedProducts(new LikeCommand.GetLikedProductsCommand(loginId, 0, 20));
             });
 
             assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
@@ -408,7 +433,30 @@ class LikeFacadeIntegrationTest extends IntegrationTest {
 
             // verify
             verify(userService, times(1)).findUserByLoginId(loginId);
-            verify(likeService, never()).findLikedProductIds(anyLong());
+            verify(likedProductReader, never()).findLikedProductIds(anyLong(), anyLong(), anyInt());
+        }
+
+        @DisplayName("페이지 크기가 범위를 벗어나면 BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsException_whenSizeOutOfRange() {
+            // act & assert
+            CoreException exception = assertThrows(CoreException.class, () -> {
+                likeFacade.getLikedProducts(new LikeCommand.GetLikedProductsCommand("testUser", 0, 101));
+            });
+
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+
+        @DisplayName("페이지 번호가 음수면 페이지 번호 안내와 함께 BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsException_whenPageIsNegative() {
+            // act & assert
+            CoreException exception = assertThrows(CoreException.class, () -> {
+                likeFacade.getLikedProducts(new LikeCommand.GetLikedProductsCommand("testUser", -1, 20));
+            });
+
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+            assertThat(exception.getMessage()).contains("페이지 번호는 0 이상이어야 합니다.");
         }
     }
 
@@ -0,0 +1,232 @@
+package com.loopers.application.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.application.user.UserCommand.SignupCommand;
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.product.LikeCount;
+import com.loopers.domain.product.Price;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.Stock;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.infrastructure.cache.LikedProductCacheService;
+import com.loopers.support.IntegrationTest;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class LikedProductReaderIntegrationTest extends IntegrationTest {
+
+    @Autowired
+    private LikedProductReader likedProductReader;
+
+    @Autowired
+    private LikedProductCacheService likedProductCacheService;
+
+    @Autowired
+    private LikeFacade likeFacade;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("한 페이지 상품의 좋아요 여부를 조회할 때,")
+    @Nested
+    class FindLikedAmong {
+
+        @DisplayName("캐시가 적재되지 않았으면 좋아요 테이블에서 적재한 뒤 좋아요한 상품만 반환한다.")
+        @Test
+        void rebuildsFromLikesTable_whenNotLoaded() {
+            // arrange
+            User user = saveUser("reader1", "reader1@test.com");
+            Long liked = saveProduct("좋아요한 상품");
+            Long notLiked = saveProduct("좋아요하지 않은 상품");
+            likeService.recordLikeIfAbsent(user.getId(), liked);
+
+            // act
+            Set<Long> result = likedProductReader.findLikedAmong("reader1", List.of(liked, notLiked));
+
+            // assert
+            assertThat(result).containsExactly(liked);
+            assertThat(likedProductCacheService.findLikedAmong(user.getId(), List.of(liked, notLiked)))
+                    .containsExactly(liked);
+        }
+
+        @DisplayName("좋아요 등록과 취소가 커밋되면 캐시를 지우고, 다음 조회에서 좋아요 테이블 기준으로 다시 적재한다.")
+        @Test
+        void evictsOnLikeAndCancel_andRebuildsFromLikesTable() {
+            // arrange
+            User user = saveUser("reader2", "reader2@test.com");
+            Long first = saveProduct("첫 번째 상품");
+            Long second = saveProduct("두 번째 상품");
+            likedProductReader.findLikedAmong("reader2", List.of(first, second));
+
+            // act
+            likeFacade.recordLike(new LikeCommand.LikeProductCommand("reader2", first));
+            likeFacade.recordLike(new LikeCommand.LikeProductCommand("reader2", second));
+            likeFacade.cancelLike(new LikeCommand.LikeProductCommand("reader2", first));
+
+            // assert
+            assertThat(likedProductCacheService.findLikedAmong(user.getId(), List.of(first, second))).isNull();
+            assertThat(likedProductReader.findLikedAmong("reader2", List.of(first, second))).containsExactly(second);
+            assertThat(likedProductCacheService.findLikedAmong(user.getId(), List.of(first, second)))
+                    .containsExactly(second);
+        }
+
+        @DisplayName("캐시 삭제에 실패해 기록된 사용자면 캐시 대신 좋아요 테이블에서 조회하고, 재시도로 캐시를 지운다.")
+        @Test
+        void readsLikesTable_whileStale() {
+            // arrange
+            User user = saveUser("reader5", "reader5@test.com");
+            Long cancelled = saveProduct("취소한 상품");
+            LikedProductCacheService.Rebuild rebuild = likedProductCacheService.beginRebuild(user.getId());
+            likedProductCacheService.addLikes(rebuild, Map.of(cancelled, 1_000L));
+            likedProductCacheService.completeRebuild(rebuild);
+            likedProductCacheService.markStale(user.getId());
+
+            // act
+            Set<Long> result = likedProductReader.findLikedAmong("reader5", List.of(cancelled));
+            likedProductCacheService.retryStaleEvictions();
+
+            // assert
+            assertThat(result).isEmpty();
+            assertThat(likedProductCacheService.isStale(user.getId())).isFalse();
+            assertThat(likedProductCacheService.findLikedAmong(user.getId(), List.of(cancelled))).isNull();
+        }
+
+        @DisplayName("없는 사용자면 빈 집합을 반환한다.")
+        @Test
+        void returnsEmpty_whenUserDoesNotExist() {
+            // act
+            Set<Long> result = likedProductReader.findLikedAmong("nobody", List.of(1L, 2L));
+
+            // assert
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @DisplayName("캐시를 다시 적재할 때,")
+    @Nested
+    class RebuildCache {
+
+        @DisplayName("적재 중 좋아요 취소로 캐시가 지워졌으면 적재 결과를 버려 취소한 좋아요를 되살리지 않는다.")
+        @Test
+        void discardsSnapshot_whenCancelledDuringRebuild() {
+            // arrange
+            User user = saveUser("reader6", "reader6@test.com");
+            LikedProductCacheService.Rebuild rebuild = likedProductCacheService.beginRebuild(user.getId());
+            likedProductCacheService.addLikes(rebuild, Map.of(10L, 1_000L));
+            likedProductCacheService.evict(user.getId());
+
+            // act
+            boolean completed = likedProductCacheService.completeRebuild(rebuild);
+
+            // assert
+            assertThat(completed).isFalse();
+            assertThat(likedProductCacheService.findLikedAmong(user.getId(), List.of(10L))).isNull();
+        }
+
+        @DisplayName("적재 중 변경이 없으면 적재 결과로 바꿔 끼운다.")
+        @Test
+        void swapsSnapshot_whenUnchanged() {
+            // arrange
+            User user = saveUser("reader7", "reader7@test.com");
+            LikedProductCacheService.Rebuild rebuild = likedProductCacheService.beginRebuild(user.getId());
+            likedProductCacheService.addLikes(rebuild, Map.of(10L, 1_000L));
+
+            // act
+            boolean completed = likedProductCacheService.completeRebuild(rebuild);
+
+            // assert
+            assertThat(completed).isTrue();
+            assertThat(likedProductCacheService.findLikedAmong(user.getId(), List.of(10L, 20L))).containsExactly(10L);
+        }
+    }
+
+    @DisplayName("좋아요한 상품 ID 를 페이지로 조회할 때,")
+    @Nested
+    class FindLikedProductIds {
+
+        @DisplayName("최근 좋아요 순으로 반환하고 적재 표식은 포함하지 않는다.")
+        @Test
+        void returnsRecentFirst() {
+            // arrange
+            User user = saveUser("reader3", "reader3@test.com");
+            LikedProductCacheService.Rebuild rebuild = likedProductCacheService.beginRebuild(user.getId());
+            likedProductCacheService.addLikes(rebuild, Map.of(10L, 1_000L, 20L, 3_000L, 30L, 2_000L));
+            likedProductCacheService.completeRebuild(rebuild);
+
+            // act
+            List<Long> firstPage = likedProductReader.findLikedProductIds(user.getId(), 0, 2);
+            List<Long> lastPage = likedProductReader.findLikedProductIds(user.getId(), 2, 2);
+
+            // assert
+            assertThat(firstPage).containsExactly(20L, 30L);
+            assertThat(lastPage).containsExactly(10L);
+        }
+
+        @DisplayName("캐시가 적재되지 않았으면 좋아요 테이블에서 적재한 뒤 요청한 페이지만 반환한다.")
+        @Test
+        void rebuildsFromLikesTable_whenNotLoaded() {
+            // arrange
+            User user = saveUser("reader4", "reader4@test.com");
+            List<Long> productIds = List.of(saveProduct("상품1"), saveProduct("상품2"), saveProduct("상품3"));
+            productIds.forEach(productId -> likeService.recordLikeIfAbsent(user.getId(), productId));
+
+            // act
+            List<Long> firstPage = likedProductReader.findLikedProductIds(user.getId(), 0, 2);
+            List<Long> lastPage = likedProductReader.findLikedProductIds(user.getId(), 2, 2);
+
+            // assert
+            assertThat(firstPage).hasSize(2);
+            assertThat(lastPage).hasSize(1);
+            assertThat(Stream.concat(firstPage.stream(), lastPage.stream()).toList())
+                    .containsExactlyInAnyOrderElementsOf(productIds);
+        }
+    }
+
+    private User saveUser(String loginId, String email) {
+        return userRepository.save(User.createUser(new SignupCommand(loginId, email, "2000-01-01", "F")));
+    }
+
+    private Long saveProduct(String name) {
+        Product product = Product.createProduct(
+                name,
+                1L,
+                Price.createPrice(10000),
+                LikeCount.createLikeCount(0),
+                Stock.createStock(100)
+        );
+        productRepository.saveProduct(product);
+        return product.getId();
+    }
+}
@@ -4,8 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -18,7 +19,9 @@ import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.product.LikeCount;
 import com.loopers.domain.product.Price;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCounter;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSummary;
 import com.loopers.domain.product.Stock;
 import com.loopers.infrastructure.cache.RankingCacheService;
 import com.loopers.support.IntegrationTest;
@@ -26,16 +29,18 @@ import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import com.loopers.utils.RedisCleanUp;
 import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 @SpringBootTest
@@ -47,6 +52,10 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
     @Autowired
     private RedisCleanUp redisCleanUp;
 
+    @Autowired
+    @Qualifier("redisTemplateMaster")
+    private RedisTemplate<String, String> redisTemplateMaster;
+
     @MockitoSpyBean
     private ProductService productService;
 
@@ -56,6 +65,9 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
     @MockitoSpyBean
     private RankingCacheService rankingCacheService;
 
+    @MockitoSpyBean
+    private ProductLikeCounter productLikeCounter;
+
     @BeforeEach
     void setUp() {
         redisCleanUp.truncateAll();
@@ -76,15 +88,10 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
                     brandId, ProductSort.LATEST, page, size
             );
 
-            Product product1 = createProduct(1L, "상품1", 1L, 10000, 10, 100);
-            Product product2 = createProduct(2L, "상품2", 1L, 20000, 20, 200);
-            List<Product> products = List.of(product1, product2);
-
-            Map<Long, String> brandNamesMap = new HashMap<>();
-            brandNamesMap.put(1L, "브랜드1");
+            ProductSummary product1 = createSummary(1L, "상품1", 1L, "브랜드1", 10000, 10, 100);
+            ProductSummary product2 = createSummary(2L, "상품2", 1L, "브랜드1", 20000, 20, 200);
 
-            doReturn(products).when(productService).findProductsByLatest(brandId, page, size);
-            doReturn(brandNamesMap).when(brandService).findBrandNamesByIds(any());
+            doReturn(List.of(product1, product2)).when(productService).findProductSummariesByLatest(brandId, page, size);
 
             // act
             List<ProductInfo> result = productFacade.getProducts(command);
@@ -101,8 +108,7 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
             );
 
             // verify
-            verify(productService, times(1)).findProductsByLatest(brandId, page, size);
-            verify(brandService, times(1)).findBrandNamesByIds(any());
+            verify(productService, times(1)).findProductSummariesByLatest(brandId, page, size);
         }
 
         @DisplayName("PRICE_ASC 정렬로 조회하면 가격 오름차순 상품 목록이 반환된다.")
@@ -116,16 +122,10 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
                     brandId, ProductSort.PRICE_ASC, page, size
             );
 
-            Product product1 = createProduct(1L, "상품1", 1L, 10000, 10, 100);
-            Product product2 = createProduct(2L, "상품2", 2L, 20000, 20, 200);
-            List<Product> products = List.of(product1, product2);
+            ProductSummary product1 = createSummary(1L, "상품1", 1L, "브랜드1", 10000, 10, 100);
+            ProductSummary product2 = createSummary(2L, "상품2", 2L, "브랜드2", 20000, 20, 200);
 
-            Map<Long, String> brandNamesMap = new HashMap<>();
-            brandNamesMap.put(1L, "브랜드1");
-            brandNamesMap.put(2L, "브랜드2");
-
-            doReturn(products).when(productService).findProductsByPriceAsc(brandId, page, size);
-            doReturn(brandNamesMap).when(brandService).findBrandNamesByIds(any());
+            doReturn(List.of(product1, product2)).when(productService).findProductSummariesByPriceAsc(brandId, page, size);
 
             // act
             List<ProductInfo> result = productFacade.getProducts(command);
@@ -140,8 +140,7 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
             );
 
             // verify
-            verify(productService, times(1)).findProductsByPriceAsc(brandId, page, size);
-            verify(brandService, times(1)).findBrandNamesByIds(any());
+            verify(productService, times(1)).findProductSummariesByPriceAsc(brandId, page, size);
         }
 
         @DisplayName("LIKES_DESC 정렬로 조회하면 좋아요 내림차순 상품 목록이 반환된다.")
@@ -155,15 +154,10 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
                     brandId, ProductSort.LIKES_DESC, page, size
             );
 
-            Product product1 = createProduct(1L, "상품1", 1L, 10000, 100, 100);
-            Product product2 = createProduct(2L, "상품2", 1L, 20000, 50, 200);
-            List<Product> products = List.of(product1, product2);
-
-            Map<Long, String> brandNamesMap = new HashMap<>();
-            brandNamesMap.put(1L, "브랜드1");
+            ProductSummary product1 = createSummary(1L, "상품1", 1L, "브랜드1", 10000, 100, 100);
+            ProductSummary product2 = createSummary(2L, "상품2", 1L, "브랜드1", 20000, 50, 200);
 
-            doReturn(products).when(productService).findProductsByLikesDesc(brandId, page, size);
-            doReturn(brandNamesMap).when(brandService).findBrandNamesByIds(any());
+            doReturn(List.of(product1, product2)).when(productService).findProductSummariesByLikesDesc(brandId, page, size);
 
             // act
             List<ProductInfo> result = productFacade.getProducts(command);
@@ -178,13 +172,12 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
             );
 
             // verify
-            verify(productService, times(1)).findProductsByLikesDesc(brandId, page, size);
-            verify(brandService, times(1)).findBrandNamesByIds(any());
+            verify(productService, times(1)).findProductSummariesByLikesDesc(brandId, page, size);
         }
 
-        @DisplayName("여러 brandId가 있는 경우 중복을 제거하고 한 번에 조회한다.")
+        @DisplayName("브랜드명은 목록 조회 쿼리에서 함께 가져오므로 브랜드를 따로 조회하지 않는다.")
         @Test
-        void deduplicatesBrandIds_whenMultipleProductsHaveSameBrand() {
+        void doesNotLookUpBrands_whenBrandNamesAreProjected() {
             // arrange
             Long brandId = null;
             int page = 0;
@@ -193,17 +186,11 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
                     brandId, ProductSort.LATEST, page, size
             );
 
-            Product product1 = createProduct(1L, "상품1", 1L, 10000, 10, 100);
-            Product product2 = createProduct(2L, "상품2", 1L, 20000, 20, 200);
-            Product product3 = createProduct(3L, "상품3", 2L, 30000, 30, 300);
-            List<Product> products = List.of(product1, product2, product3);
-
-            Map<Long, String> brandNamesMap = new HashMap<>();
-            brandNamesMap.put(1L, "브랜드1");
-            brandNamesMap.put(2L, "브랜드2");
+            ProductSummary product1 = createSummary(1L, "상품1", 1L, "브랜드1", 10000, 10, 100);
+            ProductSummary product2 = createSummary(2L, "상품2", 1L, "브랜드1", 20000, 20, 200);
+            ProductSummary product3 = createSummary(3L, "상품3", 2L, "브랜드2", 30000, 30, 300);
 
-            doReturn(products).when(productService).findProductsByLatest(brandId, page, size);
-            doReturn(brandNamesMap).when(brandService).findBrandNamesByIds(any());
+            doReturn(List.of(product1, product2, product3)).when(productService).findProductSummariesByLatest(brandId, page, size);
 
             // act
             List<ProductInfo> result = productFacade.getProducts(command);
@@ -217,8 +204,8 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
             );
 
             // verify
-            verify(productService, times(1)).findProductsByLatest(brandId, page, size);
-            verify(brandService, times(1)).findBrandNamesByIds(any());
+            verify(productService, times(1)).findProductSummariesByLatest(brandId, page, size);
+            verify(brandService, never()).findBrandNamesByIds(any());
         }
 
         @DisplayName("brandId로 필터링하면 해당 브랜드의 상품만 조회된다.")
@@ -232,14 +219,9 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
                     brandId, ProductSort.LATEST, page, size
             );
 
-            Product product1 = createProduct(1L, "상품1", 1L, 10000, 10, 100);
-            List<Product> products = List.of(product1);
+            ProductSummary product1 = createSummary(1L, "상품1", 1L, "브랜드1", 10000, 10, 100);
 
-            Map<Long, String> brandNamesMap = new HashMap<>();
-            brandNamesMap.put(1L, "브랜드1");
-
-            doReturn(products).when(productService).findProductsByLatest(brandId, page, size);
-            doReturn(brandNamesMap).when(brandService).findBrandNamesByIds(any());
+            doReturn(List.of(product1)).when(productService).findProductSummariesByLatest(brandId, page, size);
 
             // act
             List<ProductInfo> result = productFacade.getProducts(command);
@@ -250,8 +232,7 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
             assertThat(result.get(0).brandName()).isEqualTo("브랜드1");
 
             // verify
-            verify(productService, times(1)).findProductsByLatest(brandId, page, size);
-            verify(brandService, times(1)).findBrandNamesByIds(any());
+            verify(productService, times(1)).findProductSummariesByLatest(brandId, page, size);
         }
 
         @DisplayName("상품이 없으면 빈 리스트가 반환된다.")
@@ -265,10 +246,7 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
                     brandId, ProductSort.LATEST, page, size
             );
 
-            List<Product> products = List.of();
-
-            doReturn(products).when(productService).findProductsByLatest(brandId, page, size);
-            doReturn(new HashMap<>()).when(brandService).findBrandNamesByIds(any());
+            doReturn(List.of()).when(productService).findProductSummariesByLatest(brandId, page, size);
 
             // act
             List<ProductInfo> result = productFacade.getProducts(command);
@@ -277,8 +255,7 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
             assertThat(result).isEmpty();
 
             // verify
-            verify(productService, times(1)).findProductsByLatest(brandId, page, size);
-            verify(brandService, times(1)).findBrandNamesByIds(any());
+            verify(productService, times(1)).findProductSummariesByLatest(brandId, page, size);
         }
     }
 
@@ -296,7 +273,6 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
 
             doReturn(Optional.of(product)).when(productService).findProductById(productId);
             doReturn(brandName).when(brandService).findBrandNameById(1L);
-            doReturn(null).when(rankingCacheService).getProductRank(any(LocalDate.class), eq(productId));
 
             // act
             ProductInfo result = productFacade.getProduct(productId);
@@ -316,7 +292,50 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
             // verify
             verify(productService, times(1)).findProductById(productId);
             verify(brandService, times(1)).findBrandNameById(1L);
-            verify(rankingCacheService, times(1)).getProductRank(any(LocalDate.class), eq(productId));
+        }
+
+        @DisplayName("샤드를 쓰는 상품이면 상품 행의 좋아요 수에 샤드 합계를 더해 반환한다.")
+        @Test
+        void returnsLikeCountWithShardSum_whenSharded() {
+            // arrange
+            Long productId = 1L;
+            Product product = createProduct(1L, "상품1", 1L, 10000, 10, 100);
+
+            doReturn(Optional.of(product)).when(productService).findProductById(productId);
+            doReturn("브랜드1").when(brandService).findBrandNameById(1L);
+            doReturn(true).when(productLikeCounter).isSharded(productId);
+            doReturn(15).when(productLikeCounter).getLikeCount(productId, 10);
+
+            // act
+            ProductInfo first = productFacade.getProduct(productId);
+            ProductInfo cached = productFacade.getProduct(productId);
+
+            // assert
+            assertThat(first.likeCount()).isEqualTo(15);
+            assertThat(cached.likeCount()).isEqualTo(15);
+
+            // verify
+            verify(productService, times(1)).findProductById(productId);
+        }
+
+        @DisplayName("샤드를 쓰는 상품이면 샤드 합계가 0 이어도 응답 ETag 가 캐시에 저장된 콘텐츠 해시와 다르다.")
+        @Test
+        void returnsETagDifferentFromCachedHash_whenSharded() {
+            // arrange
+            Long productId = 1L;
+            Product product = createProduct(1L, "상품1", 1L, 10000, 10, 100);
+
+            doReturn(Optional.of(product)).when(productService).findProductById(productId);
+            doReturn("브랜드1").when(brandService).findBrandNameById(1L);
+            doReturn(true).when(productLikeCounter).isSharded(productId);
+            doReturn(10).when(productLikeCounter).getLikeCount(productId, 10);
+
+            // act
+            ProductInfo result = productFacade.getProduct(productId);
+
+            // assert
+            assertThat(productFacade.findProductETag(productId)).isNotNull();
+            assertThat(productFacade.getProductETag(result)).isNotEqualTo(productFacade.findProductETag(productId));
         }
 
         @DisplayName("상품이 존재하고 랭킹에 등록되어 있으면 랭킹 순위가 포함되어 반환된다.")
@@ -330,7 +349,13 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
 
             doReturn(Optional.of(product)).when(productService).findProductById(productId);
             doReturn(brandName).when(brandService).findBrandNameById(1L);
-            doReturn(rank).when(rankingCacheService).getProductRank(any(LocalDate.class), eq(productId));
+
+            // 상품 1 보다 점수가 높은 상품 4개를 두어 5위로 만든다.
+            String rankingKey = rankingCacheService.getRankingKey(LocalDate.now());
+            redisTemplateMaster.opsForZSet().add(rankingKey, "1", 10.0);
+            for (long otherId = 2; otherId <= rank; otherId++) {
+                redisTemplateMaster.opsForZSet().add(rankingKey, String.valueOf(otherId), 100.0);
+            }
 
             // act
             ProductInfo result = productFacade.getProduct(productId);
@@ -350,7 +375,6 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
             // verify
             verify(productService, times(1)).findProductById(productId);
             verify(brandService, times(1)).findBrandNameById(1L);
-            verify(rankingCacheService, times(1)).getProductRank(any(LocalDate.class), eq(productId));
         }
 
         @DisplayName("상품이 존재하지 않으면 NOT_FOUND 예외가 발생한다.")
@@ -399,6 +423,81 @@ class ProductFacadeIntegrationTest extends IntegrationTest {
         }
     }
 
+    @DisplayName("커서 기반으로 상품 목록을 조회할 때,")
+    @Nested
+    class GetProductsByCursor {
+
+        @DisplayName("페이지 크기가 최대값을 넘으면 BAD_REQUEST 예외가 발생하고 DB 를 조회하지 않는다.")
+        @Test
+        void throwsException_whenSizeExceedsMax() {
+            // arrange
+            ProductCommand.GetProductsByCursorCommand command =
+                    new ProductCommand.GetProductsByCursorCommand(null, ProductSort.LATEST, null, 101);
+
+            // act & assert
+            CoreException exception = assertThrows(CoreException.class, () -> {
+                productFacade.getProductsByCursor(command);
+            });
+
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+
+            // verify
+            verify(productService, never()).findProductsByLatestAfter(any(), any(), any(), anyInt());
+        }
+    }
+
+    @DisplayName("상품 정보를 일괄 조회할 때,")
+    @Nested
+    class GetProductsByIds {
+
+        @DisplayName("요청한 순서대로 반환하고, 존재하지 않는 상품은 제외하며, DB 는 한 번만 조회한다.")
+        @Test
+        void returnsProductsInRequestOrder() {
+            // arrange
+            ProductSummary product1 = createSummary(1L, "상품1", 1L, "브랜드1", 10000, 10, 100);
+            ProductSummary product3 = createSummary(3L, "상품3", 2L, "브랜드2", 30000, 30, 300);
+
+            doReturn(List.of(product1, product3)).when(productService).findProductSummariesByIds(anyList());
+            doReturn(Map.of(1L, 2L)).when(rankingCacheService).getProductRanks(any(LocalDate.class), anyList());
+
+            // act
+            List<ProductInfo> result = productFacade.getProductsByIds(List.of(3L, 1L, 2L, 3L));
+
+            // assert
+            assertThat(result).extracting(ProductInfo::id).containsExactly(3L, 1L, 3L);
+            assertThat(result).extracting(ProductInfo::brandName).containsExactly("브랜드2", "브랜드1", "브랜드2");
+            assertThat(result).extracting(ProductInfo::rank).containsExactly(null, 2L, null);
+
+            // verify
+            verify(productService, times(1)).findProductSummariesByIds(List.of(3L, 1L, 2L));
+            verify(brandService, never()).findBrandNamesByIds(any());
+            verify(rankingCacheService, times(1)).getProductRanks(any(LocalDate.class), anyList());
+        }
+
+        @DisplayName("최대 개수를 넘으면 BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsException_whenTooManyIds() {
+            // arrange
+            List<Long> productIds = LongStream.rangeClosed(1, 201).boxed().toList();
+
+            // act & assert
+            CoreException exception = assertThrows(CoreException.class, () -> {
+                productFacade.getProductsByIds(productIds);
+            });
+
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+
+            // verify
+            verify(productService, never()).findProductSummariesByIds(anyList());
+        }
+    }
+
+    private ProductSummary createSummary(
+            Long id, String name, Long brandId, String brandName, Integer price, Integer likeCount, Integer stock
+    ) {
+        return new ProductSummary(id, name, brandId, brandName, price, likeCount, stock, null);
+    }
+
     private Product createProduct(Long id, String name, Long brandId, Integer price, Integer likeCount, Integer stock) {
         Product product = mock(Product.class);
         Price priceValue = mock(Price.class);
@@ -0,0 +1,83 @@
+package com.loopers.domain.brand;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.support.IntegrationTest;
+import com.loopers.utils.DatabaseCleanUp;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class BrandNameDictionaryIntegrationTest extends IntegrationTest {
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private BrandNameDictionary brandNameDictionary;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 프로파일에서는 비활성화되어 있으므로 직접 생성한다.
+        brandNameDictionary = new BrandNameDictionary(brandRepository, true, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("브랜드 이름 사전을 갱신할 때,")
+    @Nested
+    class Refresh {
+
+        @DisplayName("처음에는 삭제되지 않은 브랜드를 모두 적재한다.")
+        @Test
+        void loadsAllActiveBrands_onFirstRefresh() {
+            // arrange
+            Brand active = brandJpaRepository.save(Brand.createBrand("브랜드1", "설명1"));
+            Brand deleted = Brand.createBrand("브랜드2", "설명2");
+            deleted.delete();
+            deleted = brandJpaRepository.save(deleted);
+
+            // act
+            brandNameDictionary.refresh();
+
+            // assert
+            assertThat(brandNameDictionary.get(active.getId())).isEqualTo("브랜드1");
+            assertThat(brandNameDictionary.get(deleted.getId())).isNull();
+            assertThat(brandNameDictionary.size()).isEqualTo(1);
+        }
+
+        @DisplayName("이후에는 추가/삭제된 브랜드만 반영한다.")
+        @Test
+        void appliesChanges_afterInitialLoad() {
+            // arrange
+            Brand removed = brandJpaRepository.save(Brand.createBrand("브랜드1", "설명1"));
+            brandNameDictionary.refresh();
+
+            Brand added = brandJpaRepository.save(Brand.createBrand("브랜드2", "설명2"));
+            removed.delete();
+            brandJpaRepository.save(removed);
+
+            // act
+            brandNameDictionary.refresh();
+
+            // assert
+            assertThat(brandNameDictionary.get(added.getId())).isEqualTo("브랜드2");
+            assertThat(brandNameDictionary.get(removed.getId())).isNull();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.loopers.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.support.IntegrationTest;
+import com.loopers.utils.DatabaseCleanUp;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 좋아요 수 샤드 동시성 테스트
+ * 같은 상품에 가산이 몰릴 때 상품 행 하나에 가산하는 경우와 샤드 행에 나누어 가산하는 경우의 처리량을 기록하고,
+ * 샤드 합계를 접어 넣은 뒤 좋아요 수가 정확한지 확인한다.
+ */
+@Slf4j
+@SpringBootTest
+class ProductLikeCounterConcurrencyTest extends IntegrationTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int ADD_COUNT = 800;
+
+    @Autowired
+    private ProductLikeCounter productLikeCounter;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("동일한 상품에 좋아요 수 가산이 동시에 몰려도, 샤드를 쓰든 쓰지 않든 좋아요 수가 정확히 반영되어야 한다.")
+    @Test
+    void shouldReflectLikeCountCorrectly_whenAddsConcurrently() throws Exception {
+        // arrange
+        Long singleRowProductId = saveProduct("단일 행 상품", 0, 100);
+        Long shardedProductId = saveProduct("샤드 상품", 0, 100);
+        productLikeCounter.enableSharding(shardedProductId);
+
+        // act
+        long singleRowNanos = addConcurrently(singleRowProductId);
+        long shardedNanos = addConcurrently(shardedProductId);
+
+        log.info("좋아요 수 가산 {}건 ({}스레드): 단일 행={}ops/s, 샤드={}ops/s",
+                ADD_COUNT, THREAD_COUNT, throughput(singleRowNanos), throughput(shardedNanos));
+
+        // assert
+        assertThat(likeCountOf(singleRowProductId)).isEqualTo(ADD_COUNT);
+        assertThat(likeCountOf(shardedProductId)).isZero();
+        assertThat(productLikeCounter.getLikeCount(shardedProductId, likeCountOf(shardedProductId))).isEqualTo(ADD_COUNT);
+
+        assertThat(productLikeCounter.fold(shardedProductId)).isEqualTo(ADD_COUNT);
+        assertThat(productLikeCounter.fold(shardedProductId)).isZero();
+        assertThat(likeCountOf(shardedProductId)).isEqualTo(ADD_COUNT);
+    }
+
+    @DisplayName("샤드 합계를 접어 넣는 중에 가산이 들어와도 유실되지 않아야 한다.")
+    @Test
+    void shouldNotLoseAdds_whenFoldingConcurrently() throws Exception {
+        // arrange
+        Long productId = saveProduct("접어 넣는 상품", 0, 100);
+        productLikeCounter.enableSharding(productId);
+        AtomicInteger folded = new AtomicInteger();
+        ExecutorService folder = Executors.newSingleThreadExecutor();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // act
+        folder.submit(() -> {
+            while (done.getCount() > 0) {
+                folded.addAndGet((int) productLikeCounter.fold(productId));
+            }
+            return null;
+        });
+        addConcurrently(productId);
+        done.countDown();
+        folder.shutdown();
+        assertThat(folder.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        folded.addAndGet((int) productLikeCounter.fold(productId));
+
+        // assert
+        assertThat(folded.get()).isEqualTo(ADD_COUNT);
+        assertThat(likeCountOf(productId)).isEqualTo(ADD_COUNT);
+    }
+
+    private long addConcurrently(Long productId) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger remaining = new AtomicInteger(ADD_COUNT);
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                ready.countDown();
+                start.await();
+                while (remaining.getAndDecrement() > 0) {
+                    productLikeCounter.add(productId, 1);
+                }
+                return null;
+            });
+        }
+        ready.await();
+        long startNanos = System.nanoTime();
+        start.countDown();
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        return System.nanoTime() - startNanos;
+    }
+
+    private static long throughput(long nanos) {
+        return ADD_COUNT * 1_000_000_000L / Math.max(nanos, 1);
+    }
+
+    private Long saveProduct(String name, int likeCount, int stock) {
+        Product product = Product.createProduct(
+                name,
+                1L,
+                Price.createPrice(10000),
+                LikeCount.createLikeCount(likeCount),
+                Stock.createStock(stock)
+        );
+        productRepository.saveProduct(product);
+        return product.getId();
+    }
+
+    private int likeCountOf(Long productId) {
+        return productService.findProductById(productId).orElseThrow().getLikeCount().getCount();
+    }
+}
@@ -0,0 +1,180 @@
+package com.loopers.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex createIndex(List<ProductSearchDocument> documents) {
+        ProductRepository productRepository = mock(ProductRepository.class);
+        when(productRepository.findSearchDocumentsAfter(anyLong(), anyInt())).thenReturn(documents, List.of());
+        ProductSearchIndex index = new ProductSearchIndex(productRepository, true);
+        index.rebuild();
+        return index;
+    }
+
+    private ProductSearchIndex sampleIndex() {
+        return createIndex(List.of(
+                new ProductSearchDocument(1L, "반팔 티셔츠", 1L, 10),
+                new ProductSearchDocument(2L, "긴팔 티셔츠", 2L, 30),
+                new ProductSearchDocument(3L, "반팔티 셔츠 세트", 1L, 20),
+                new ProductSearchDocument(4L, "Cotton 반바지", 2L, 5),
+                new ProductSearchDocument(5L, "청바지", 1L, 30)
+        ));
+    }
+
+    @DisplayName("상품명으로 검색할 때,")
+    @Nested
+    class Search {
+
+        @DisplayName("검색어가 포함된 상품을 좋아요 수 내림차순, 같으면 id 오름차순으로 반환한다.")
+        @Test
+        void returnsMatchesOrderedByLikeCount() {
+            // arrange
+            ProductSearchIndex index = sampleIndex();
+
+            // act
+            List<Long> result = index.search("티셔츠", null, 0, 10);
+
+            // assert
+            assertThat(result).containsExactly(2L, 3L, 1L);
+        }
+
+        @DisplayName("띄어쓰기와 대소문자가 달라도 찾는다.")
+        @Test
+        void ignoresWhitespaceAndCase() {
+            // arrange
+            ProductSearchIndex index = sampleIndex();
+
+            // act
+            List<Long> spaced = index.search("반팔 티", null, 0, 10);
+            List<Long> cased = index.search("COTTON", null, 0, 10);
+
+            // assert
+            assertThat(spaced).containsExactly(3L, 1L);
+            assertThat(cased).containsExactly(4L);
+        }
+
+        @DisplayName("bigram 이 모두 있어도 이어져 있지 않으면 제외한다.")
+        @Test
+        void excludesNonContiguousMatches() {
+            // arrange
+            ProductSearchIndex index = createIndex(List.of(
+                    new ProductSearchDocument(1L, "가나 라다 나다", 1L, 0),
+                    new ProductSearchDocument(2L, "가나다", 1L, 0)
+            ));
+
+            // act
+            List<Long> result = index.search("가나다", null, 0, 10);
+
+            // assert
+            assertThat(result).containsExactly(2L);
+        }
+
+        @DisplayName("한 글자로도 검색할 수 있다.")
+        @Test
+        void searchesSingleCharacter() {
+            // arrange
+            ProductSearchIndex index = sampleIndex();
+
+            // act
+            List<Long> result = index.search("바", null, 0, 10);
+
+            // assert
+            assertThat(result).containsExactly(5L, 4L);
+        }
+
+        @DisplayName("브랜드로 필터링하고 offset, limit 만큼 잘라 반환한다.")
+        @Test
+        void filtersByBrandAndPaginates() {
+            // arrange
+            ProductSearchIndex index = sampleIndex();
+
+            // act
+            List<Long> brandResult = index.search("셔츠", 1L, 0, 10);
+            List<Long> secondPage = index.search("셔츠", null, 1, 1);
+
+            // assert
+            assertThat(brandResult).containsExactly(3L, 1L);
+            assertThat(secondPage).containsExactly(3L);
+        }
+
+        @DisplayName("일치하는 상품이 없거나 검색어가 비어 있으면 빈 리스트를 반환한다.")
+        @Test
+        void returnsEmpty_whenNoMatch() {
+            // arrange
+            ProductSearchIndex index = sampleIndex();
+
+            // act & assert
+            assertThat(index.search("모자", null, 0, 10)).isEmpty();
+            assertThat(index.search("  ", null, 0, 10)).isEmpty();
+        }
+    }
+
+    @DisplayName("좋아요 수가 바뀌면 검색 순위에 바로 반영된다.")
+    @Test
+    void reordersResults_whenLikeCountAdjusted() {
+        // arrange
+        ProductSearchIndex index = sampleIndex();
+
+        // act
+        for (int i = 0; i < 25; i++) {
+            index.adjustLikeCount(1L, 1);
+        }
+        List<Long> result = index.search("티셔츠", null, 0, 10);
+
+        // assert
+        assertThat(result).containsExactly(1L, 2L, 3L);
+    }
+
+    @DisplayName("비활성화되어 있으면 적재하지 않고 항상 빈 결과를 반환한다.")
+    @Test
+    void returnsEmpty_whenDisabled() {
+        // arrange
+        ProductRepository productRepository = mock(ProductRepository.class);
+        ProductSearchIndex index = new ProductSearchIndex(productRepository, false);
+
+        // act
+        index.rebuild();
+
+        // assert
+        assertThat(index.size()).isZero();
+        assertThat(index.search("티셔츠", null, 0, 10)).isEmpty();
+    }
+
+    @DisplayName("일치하는 상품이 페이지보다 많아도 전체를 정렬한 결과와 같은 구간을 반환한다.")
+    @Test
+    void returnsSameWindowAsFullSort_whenManyMatches() {
+        // arrange
+        List<ProductSearchDocument> documents = new ArrayList<>(5_000);
+        for (int i = 1; i <= 5_000; i++) {
+            String name = (i % 3 == 0 ? "긴팔 " : "반팔 ") + "티셔츠 " + i;
+            documents.add(new ProductSearchDocument((long) i, name, (long) (i % 7 + 1), (i * 37) % 50));
+        }
+        ProductSearchIndex index = createIndex(documents);
+        List<Long> expected = documents.stream()
+                .filter(document -> document.name().startsWith("반팔"))
+                .sorted(Comparator.comparing(ProductSearchDocument::likeCount).reversed()
+                        .thenComparing(ProductSearchDocument::id))
+                .map(ProductSearchDocument::id)
+                .toList();
+
+        // act
+        List<Long> firstPage = index.search("반팔 티셔츠", null, 0, 20);
+        List<Long> middlePage = index.search("반팔 티셔츠", null, 100, 37);
+
+        // assert
+        assertThat(firstPage).containsExactlyElementsOf(expected.subList(0, 20));
+        assertThat(middlePage).containsExactlyElementsOf(expected.subList(100, 137));
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import com.loopers.support.IntegrationTest;
 import com.loopers.utils.DatabaseCleanUp;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -302,6 +303,102 @@ class ProductServiceIntegrationTest extends IntegrationTest {
         }
     }
 
+    @DisplayName("커서 기반으로 상품 목록을 조회할 때,")
+    @Nested
+    class FindProductsByCursor {
+
+        @DisplayName("가격이 같은 상품은 id 오름차순으로 이어지며, 페이지 사이에 중복이나 누락이 없다.")
+        @Test
+        void seeksWithoutDuplicates_whenPricesTie() {
+            // arrange
+            Long brandId = 1L;
+            int[] prices = {20000, 10000, 10000, 20000, 10000};
+            for (int i = 0; i < prices.length; i++) {
+                productRepository.saveProduct(Product.createProduct(
+                        "상품" + (i + 1), brandId,
+                        Price.createPrice(prices[i]),
+                        LikeCount.createLikeCount(0),
+                        Stock.createStock(100)
+                ));
+            }
+            List<Product> expected = productService.findProductsByPriceAsc(brandId, 0, 10);
+
+            // act
+            List<Product> page1 = productService.findProductsByPriceAscAfter(brandId, null, null, 2);
+            Product last1 = page1.get(page1.size() - 1);
+            List<Product> page2 = productService.findProductsByPriceAscAfter(
+                    brandId, last1.getPrice().getPrice(), last1.getId(), 2);
+            Product last2 = page2.get(page2.size() - 1);
+            List<Product> page3 = productService.findProductsByPriceAscAfter(
+                    brandId, last2.getPrice().getPrice(), last2.getId(), 2);
+
+            // assert
+            List<Product> walked = new ArrayList<>();
+            walked.addAll(page1);
+            walked.addAll(page2);
+            walked.addAll(page3);
+
+            assertThat(page3).hasSize(1);
+            assertThat(walked).extracting(Product::getId).doesNotHaveDuplicates();
+            assertThat(walked).extracting(product -> product.getPrice().getPrice())
+                    .containsExactly(10000, 10000, 10000, 20000, 20000);
+            assertThat(walked).extracting(Product::getId)
+                    .containsExactlyInAnyOrderElementsOf(expected.stream().map(Product::getId).toList());
+        }
+
+        @DisplayName("좋아요 수가 같은 상품은 id 오름차순으로 이어진다.")
+        @Test
+        void seeksByLikesDescWithIdTieBreak() {
+            // arrange
+            Long brandId = 1L;
+            int[] likeCounts = {5, 10, 5, 10};
+            for (int i = 0; i < likeCounts.length; i++) {
+                productRepository.saveProduct(Product.createProduct(
+                        "상품" + (i + 1), brandId,
+                        Price.createPrice(10000),
+                        LikeCount.createLikeCount(likeCounts[i]),
+                        Stock.createStock(100)
+                ));
+            }
+
+            // act
+            List<Product> page1 = productService.findProductsByLikesDescAfter(brandId, null, null, 3);
+            Product last = page1.get(page1.size() - 1);
+            List<Product> page2 = productService.findProductsByLikesDescAfter(
+                    brandId, last.getLikeCount().getCount(), last.getId(), 3);
+
+            // assert
+            assertThat(page1).extracting(Product::getName).containsExactly("상품2", "상품4", "상품1");
+            assertThat(page2).extracting(Product::getName).containsExactly("상품3");
+        }
+
+        @DisplayName("최신순 커서 조회 결과는 offset 조회 결과와 순서가 같다.")
+        @Test
+        void seeksByLatestInSameOrderAsOffset() throws Exception {
+            // arrange
+            Long brandId = 1L;
+            for (int i = 1; i <= 5; i++) {
+                productRepository.saveProduct(Product.createProduct(
+                        "상품" + i, brandId,
+                        Price.createPrice(10000 * i),
+                        LikeCount.createLikeCount(10 * i),
+                        Stock.createStock(100 * i)
+                ));
+                Thread.sleep(10);
+            }
+
+            // act
+            List<Product> page1 = productService.findProductsByLatestAfter(brandId, null, null, 3);
+            Product last = page1.get(page1.size() - 1);
+            List<Product> page2 = productService.findProductsByLatestAfter(
+                    brandId, last.getCreatedAt(), last.getId(), 3);
+
+            // assert
+            assertThat(page1).extracting(Product::getName).containsExactly("상품5", "상품4", "상품3");
+            assertThat(page2).extracting(Product::getName).containsExactly("상품2", "상품1");
+        }
+    }
+
     private void setDeleted(Product product, boolean isDeleted) throws Exception {
         Field field = Product.class.getDeclaredField("isDeleted");
         field.setAccessible(true);
@@ -0,0 +1,131 @@
+package com.loopers.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.loopers.application.product.ProductInfo;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class BinaryProductCacheCodecTest {
+
+    private static final ZonedDateTime CREATED_AT = ZonedDateTime.of(2025, 1, 1, 12, 0, 0, 123_000_000, ZoneId.of("Asia/Seoul"));
+
+    @DisplayName("상품 상세 엔벨로프를 인코딩/디코딩할 때,")
+    @Nested
+    class Detail {
+
+        @DisplayName("모든 필드와 만료 정보가 그대로 복원된다.")
+        @Test
+        void restoresAllFields() {
+            // arrange
+            BinaryProductCacheCodec codec = new BinaryProductCacheCodec(Integer.MAX_VALUE);
+            ProductInfo product = new ProductInfo(1L, "상품1", 2L, "브랜드1", 10000, 10, 100, CREATED_AT, 3L);
+            CacheEnvelope<ProductInfo> envelope = new CacheEnvelope<>(product, 1_000L, 15L);
+
+            // act
+            CacheEnvelope<ProductInfo> result = codec.decodeProduct(codec.encodeProduct(envelope));
+
+            // assert
+            assertThat(result).isEqualTo(envelope);
+        }
+
+        @DisplayName("null 필드는 null 로 복원된다.")
+        @Test
+        void restoresNullFields() {
+            // arrange
+            BinaryProductCacheCodec codec = new BinaryProductCacheCodec(Integer.MAX_VALUE);
+            ProductInfo product = new ProductInfo(1L, "상품1", 2L, null, 10000, 10, 100, null, null);
+            CacheEnvelope<ProductInfo> envelope = new CacheEnvelope<>(product, 1_000L, 15L);
+
+            // act
+            CacheEnvelope<ProductInfo> result = codec.decodeProduct(codec.encodeProduct(envelope));
+
+            // assert
+            assertThat(result.value()).isEqualTo(product);
+        }
+    }
+
+    @DisplayName("상품 목록이 압축 임계값보다 크면, LZ4 로 압축되고 원래 목록으로 복원된다.")
+    @Test
+    void compressesLargeList() {
+        // arrange
+        BinaryProductCacheCodec compressing = new BinaryProductCacheCodec(256);
+        BinaryProductCacheCodec plain = new BinaryProductCacheCodec(Integer.MAX_VALUE);
+        List<ProductInfo> products = IntStream.rangeClosed(1, 20)
+                .mapToObj(i -> new ProductInfo((long) i, "상품" + i, 1L, "브랜드1", 10000, i, 100, CREATED_AT, null))
+                .toList();
+        CacheEnvelope<List<ProductInfo>> envelope = new CacheEnvelope<>(products, 1_000L, 15L);
+
+        // act
+        byte[] compressed = compressing.encodeProductList(envelope);
+        byte[] uncompressed = plain.encodeProductList(envelope);
+
+        // assert
+        assertThat(compressed.length).isLessThan(uncompressed.length);
+        assertThat(compressing.decodeProductList(compressed)).isEqualTo(envelope);
+        assertThat(compressing.decodeProductList(uncompressed)).isEqualTo(envelope);
+    }
+
+    @DisplayName("압축 여부와 관계없이 디코딩하지 않고 헤더에서 콘텐츠 해시를 읽는다.")
+    @Test
+    void peeksContentHashWithoutDecoding() {
+        // arrange
+        BinaryProductCacheCodec codec = new BinaryProductCacheCodec(256);
+        ProductInfo product = new ProductInfo(1L, "상품1", 2L, "브랜드1", 10000, 10, 100, CREATED_AT, null);
+        List<ProductInfo> products = IntStream.rangeClosed(1, 20)
+                .mapToObj(i -> new ProductInfo((long) i, "상품" + i, 1L, "브랜드1", 10000, i, 100, CREATED_AT, null))
+                .toList();
+        long detailHash = ProductContentHash.of(product);
+        long listHash = ProductContentHash.ofList(products);
+
+        // act
+        byte[] detail = codec.encodeProduct(CacheEnvelope.of(product, Duration.ofMinutes(1), 15L, detailHash));
+        byte[] list = codec.encodeProductList(CacheEnvelope.of(products, Duration.ofMinutes(1), 15L, listHash));
+
+        // assert
+        assertThat(codec.peekContentHash(detail)).isEqualTo(detailHash);
+        assertThat(codec.peekContentHash(list)).isEqualTo(listHash);
+        assertThat(codec.decodeProduct(detail).contentHash()).isEqualTo(detailHash);
+    }
+
+    @DisplayName("다른 포맷이나 버전의 값은 IllegalArgumentException 이 발생한다.")
+    @Test
+    void throwsIllegalArgument_whenUnsupportedFormat() {
+        // arrange
+        BinaryProductCacheCodec codec = new BinaryProductCacheCodec(Integer.MAX_VALUE);
+        byte[] json = "{\"value\":{}}".getBytes(StandardCharsets.UTF_8);
+
+        // act & assert
+        assertThatThrownBy(() -> codec.decodeProduct(json))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("헤더의 원본 길이나 목록 건수가 값 크기에 비해 터무니없이 크면, 할당하지 않고 IllegalArgumentException 이 발생한다.")
+    @Test
+    void throwsIllegalArgument_whenLengthInHeaderIsCorrupted() {
+        // arrange
+        BinaryProductCacheCodec codec = new BinaryProductCacheCodec(256);
+        List<ProductInfo> products = IntStream.rangeClosed(1, 20)
+                .mapToObj(i -> new ProductInfo((long) i, "상품" + i, 1L, "브랜드1", 10000, i, 100, CREATED_AT, null))
+                .toList();
+        byte[] compressed = codec.encodeProductList(new CacheEnvelope<>(products, 1_000L, 15L));
+        compressed[10] = 0x7F;
+
+        byte[] ids = new BinaryProductCacheCodec(Integer.MAX_VALUE).encodeIdList(new CacheEnvelope<>(List.of(1L), 1_000L, 15L));
+        ids[10 + 16] = 0x7F;
+
+        // act & assert
+        assertThatThrownBy(() -> codec.decodeProductList(compressed))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decodeIdList(ids))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
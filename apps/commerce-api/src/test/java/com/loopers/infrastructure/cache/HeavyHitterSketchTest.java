@@ -0,0 +1,112 @@
+package com.loopers.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.application.product.ProductSort;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class HeavyHitterSketchTest {
+
+    @DisplayName("접근을 기록할 때,")
+    @Nested
+    class Add {
+
+        @DisplayName("용량보다 많은 키가 들어와도 자주 접근된 키는 상위에 남는다.")
+        @Test
+        void retainsHeavyHitters_whenKeysExceedCapacity() {
+            // arrange
+            HeavyHitterSketch sketch = new HeavyHitterSketch(10);
+
+            // act
+            for (int round = 0; round < 100; round++) {
+                sketch.add("hot-1");
+                sketch.add("hot-2");
+                sketch.add("cold-" + round);
+            }
+
+            // assert
+            List<String> topKeys = sketch.top(2).stream().map(Map.Entry::getKey).toList();
+            assertThat(topKeys).containsExactlyInAnyOrder("hot-1", "hot-2");
+        }
+
+        @DisplayName("상위 키는 빈도 내림차순으로 반환된다.")
+        @Test
+        void returnsTopKeysInDescendingOrder() {
+            // arrange
+            HeavyHitterSketch sketch = new HeavyHitterSketch(10);
+            sketch.add("a");
+            sketch.add("b");
+            sketch.add("b");
+            sketch.add("c");
+            sketch.add("c");
+            sketch.add("c");
+
+            // act
+            List<Map.Entry<String, Long>> top = sketch.top(3);
+
+            // assert
+            assertThat(top).containsExactly(Map.entry("c", 3L), Map.entry("b", 2L), Map.entry("a", 1L));
+        }
+
+        @DisplayName("가득 찬 상태에서 새 키는 가장 작은 카운터를 넘겨받아 그 값 + 1 로 시작한다.")
+        @Test
+        void replacesMinimumCounter_whenFull() {
+            // arrange
+            HeavyHitterSketch sketch = new HeavyHitterSketch(2);
+            sketch.add("a");
+            sketch.add("a");
+            sketch.add("a");
+            sketch.add("b");
+            sketch.add("b");
+
+            // act
+            sketch.add("c");
+
+            // assert
+            assertThat(sketch.top(2)).containsExactly(Map.entry("a", 3L), Map.entry("c", 3L));
+        }
+    }
+
+    @DisplayName("빈도를 감쇠할 때,")
+    @Nested
+    class Decay {
+
+        @DisplayName("빈도가 절반이 되고 0 이 된 키는 제거된다.")
+        @Test
+        void halvesCountsAndRemovesZero() {
+            // arrange
+            HeavyHitterSketch sketch = new HeavyHitterSketch(10);
+            sketch.add("once");
+            for (int i = 0; i < 4; i++) {
+                sketch.add("four");
+            }
+
+            // act
+            sketch.decay();
+
+            // assert
+            assertThat(sketch.top(10)).containsExactly(Map.entry("four", 2L));
+        }
+    }
+
+    @DisplayName("워밍 키를 인코딩/디코딩할 때,")
+    @Nested
+    class HotKeyEncoding {
+
+        @DisplayName("상세/목록 키가 그대로 복원된다.")
+        @Test
+        void restoresHotKeys() {
+            // arrange
+            ProductHotKey detail = ProductHotKey.detail(7L);
+            ProductHotKey list = ProductHotKey.list(null, ProductSort.LIKES_DESC, 1, 20);
+
+            // act & assert
+            assertThat(ProductHotKey.decode(detail.encode())).isEqualTo(detail);
+            assertThat(ProductHotKey.decode(list.encode())).isEqualTo(list);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.loopers.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class HotKeyDetectorTest {
+
+    private static final String CACHE_KEY = "product:detail:1";
+    private static final long START = 1_000_000L;
+
+    // 윈도우 10초, 초당 1회 → 윈도우 안에서 10회 이상이면 핫 키
+    private static final int THRESHOLD_COUNT = 10;
+
+    private RedisTemplate<String, String> redisTemplate;
+    private HotKeyDetector detector;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        ProductCacheProperties properties = new ProductCacheProperties(
+                null, null, null, null, null, null, null,
+                new ProductCacheProperties.HotKey(
+                        true, Duration.ofSeconds(10), 5, 4, 256, 1.0, Duration.ofSeconds(30), Duration.ofSeconds(1)
+                )
+        );
+        detector = new HotKeyDetector(properties, redisTemplate, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("핫 키 고정을 연장할 때,")
+    @Nested
+    class Extend {
+
+        @DisplayName("알린 고정 시간이 절반 이상 남아 있으면 다시 알리지 않는다.")
+        @Test
+        void doesNotRepublish_whileMoreThanHalfRemains() {
+            // arrange
+            recordTimes(THRESHOLD_COUNT, START);
+
+            // act
+            boolean hot = detector.record(CACHE_KEY, START + 10_000);
+            recordTimes(THRESHOLD_COUNT, START + 14_000);
+
+            // assert
+            assertThat(hot).isTrue();
+            verify(redisTemplate, times(1)).convertAndSend(HotKeyDetector.CHANNEL, CACHE_KEY);
+        }
+
+        @DisplayName("알린 고정 시간이 절반 미만으로 남았으면 한 번만 다시 알린다.")
+        @Test
+        void republishesOnce_whenLessThanHalfRemains() {
+            // arrange
+            recordTimes(THRESHOLD_COUNT, START);
+
+            // act
+            recordTimes(THRESHOLD_COUNT + 5, START + 16_000);
+
+            // assert
+            verify(redisTemplate, times(2)).convertAndSend(HotKeyDetector.CHANNEL, CACHE_KEY);
+        }
+    }
+
+    private void recordTimes(int count, long now) {
+        for (int i = 0; i < count; i++) {
+            detector.record(CACHE_KEY, now);
+        }
+    }
+}
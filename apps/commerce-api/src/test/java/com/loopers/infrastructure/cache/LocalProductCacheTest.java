@@ -0,0 +1,148 @@
+package com.loopers.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+class LocalProductCacheTest {
+
+    private LocalProductCache createCache(boolean enabled) {
+        ProductCacheProperties properties = new ProductCacheProperties(
+                new ProductCacheProperties.Local(enabled, 100, Duration.ofSeconds(10)),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+        return new LocalProductCache(properties, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("로컬 캐시가 활성화되어 있을 때,")
+    @Nested
+    class Enabled {
+
+        @DisplayName("저장한 값을 같은 타입으로 조회할 수 있다.")
+        @Test
+        void returnsStoredValue() {
+            // arrange
+            LocalProductCache cache = createCache(true);
+            cache.put("product:detail:1", "value");
+
+            // act
+            String result = cache.get("product:detail:1", String.class);
+
+            // assert
+            assertThat(result).isEqualTo("value");
+        }
+
+        @DisplayName("목록 값은 불변 복사본으로 저장되어, 원본이나 조회 결과를 바꿔도 캐시된 값은 그대로다.")
+        @Test
+        void storesImmutableCopy_whenValueIsList() {
+            // arrange
+            LocalProductCache cache = createCache(true);
+            List<Long> productIds = new ArrayList<>(List.of(1L, 2L));
+            cache.put("product:ids:1", productIds);
+
+            // act
+            productIds.add(3L);
+            @SuppressWarnings("unchecked")
+            List<Long> result = cache.get("product:ids:1", List.class);
+
+            // assert
+            assertThat(result).containsExactly(1L, 2L);
+            assertThatThrownBy(() -> result.add(4L)).isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @DisplayName("무효화 메시지를 받으면 해당 키가 제거된다.")
+        @Test
+        void evictsKey_whenInvalidationMessageReceived() {
+            // arrange
+            LocalProductCache cache = createCache(true);
+            ProductCacheInvalidationListener listener = new ProductCacheInvalidationListener(cache, hotKeyLocalReplica(), new ProductListGenerations(null));
+            cache.put("product:detail:1", "value1");
+            cache.put("product:detail:2", "value2");
+
+            // act
+            listener.onMessage(message("product:detail:1"), null);
+
+            // assert
+            assertThat(cache.get("product:detail:1", String.class)).isNull();
+            assertThat(cache.get("product:detail:2", String.class)).isEqualTo("value2");
+        }
+
+        @DisplayName("와일드카드 무효화 메시지를 받으면 접두어가 일치하는 키가 모두 제거된다.")
+        @Test
+        void evictsKeysByPrefix_whenWildcardMessageReceived() {
+            // arrange
+            LocalProductCache cache = createCache(true);
+            ProductCacheInvalidationListener listener = new ProductCacheInvalidationListener(cache, hotKeyLocalReplica(), new ProductListGenerations(null));
+            cache.put("product:list:brandId=1&page=0", "list1");
+            cache.put("product:list:brandId=2&page=0", "list2");
+            cache.put("product:detail:1", "detail");
+
+            // act
+            listener.onMessage(message("product:list:*"), null);
+
+            // assert
+            assertThat(cache.get("product:list:brandId=1&page=0", String.class)).isNull();
+            assertThat(cache.get("product:list:brandId=2&page=0", String.class)).isNull();
+            assertThat(cache.get("product:detail:1", String.class)).isEqualTo("detail");
+        }
+
+        @DisplayName("목록 캐시 세대 메시지를 받으면 로컬 세대만 바뀌고 캐시 항목은 남는다.")
+        @Test
+        void updatesGeneration_whenGenerationMessageReceived() {
+            // arrange
+            LocalProductCache cache = createCache(true);
+            ProductListGenerations generations = new ProductListGenerations(null);
+            ProductCacheInvalidationListener listener = new ProductCacheInvalidationListener(cache, hotKeyLocalReplica(), generations);
+            cache.put("product:list:g0:brandId=1&page=0", "list");
+
+            // act
+            listener.onMessage(message("product:listgen:latest:brand:1=3"), null);
+
+            // assert
+            assertThat(generations.get("product:listgen:latest:brand:1")).isEqualTo(3L);
+            assertThat(generations.get("product:listgen:latest:all")).isZero();
+            assertThat(cache.get("product:list:g0:brandId=1&page=0", String.class)).isEqualTo("list");
+        }
+    }
+
+    @DisplayName("로컬 캐시가 비활성화되어 있으면 저장한 값도 조회되지 않는다.")
+    @Test
+    void returnsNull_whenDisabled() {
+        // arrange
+        LocalProductCache cache = createCache(false);
+        cache.put("product:detail:1", "value");
+
+        // act
+        String result = cache.get("product:detail:1", String.class);
+
+        // assert
+        assertThat(result).isNull();
+    }
+
+    private HotKeyLocalReplica hotKeyLocalReplica() {
+        ProductCacheProperties properties = new ProductCacheProperties(null, null, null, null, null, null, null, null);
+        return new HotKeyLocalReplica(properties, new SimpleMeterRegistry());
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+                ProductCacheInvalidationListener.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -1,6 +1,5 @@
 package com.loopers.infrastructure.cache;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.product.ProductInfo;
 import com.loopers.application.product.ProductSort;
 import com.loopers.support.IntegrationTest;
@@ -13,11 +12,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.DefaultMessage;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -28,16 +35,28 @@ class ProductCacheServiceIntegrationTest extends IntegrationTest {
     private ProductCacheService productCacheService;
 
     @Autowired
-    @Qualifier("redisTemplateObject")
-    private RedisTemplate<String, Object> redisTemplate;
+    private ProductListingCache productListingCache;
+
+    @Autowired
+    @Qualifier("redisTemplateBytes")
+    private RedisTemplate<String, byte[]> redisTemplate;
+
+    @Autowired
+    @Qualifier("redisTemplateBytesMaster")
+    private RedisTemplate<String, byte[]> redisTemplateMaster;
 
     @Autowired
     @Qualifier("redisTemplateObjectMaster")
-    private RedisTemplate<String, Object> redisTemplateMaster;
+    private RedisTemplate<String, Object> redisTemplateObjectMaster;
+
+    @Autowired
+    private ProductCacheCodec codec;
+
+    @Autowired
+    private ProductListGenerations productListGenerations;
 
     @Autowired
-    @Qualifier("redisObjectMapper")
-    private ObjectMapper objectMapper;
+    private ProductCacheInvalidationListener invalidationListener;
 
     @Autowired
     private RedisCleanUp redisCleanUp;
@@ -49,6 +68,7 @@ class ProductCacheServiceIntegrationTest extends IntegrationTest {
     void tearDown() {
         redisCleanUp.truncateAll();
         databaseCleanUp.truncateAllTables();
+        productListGenerations.sync();
     }
 
     @DisplayName("상품 상세 조회 캐시 테스트")
@@ -72,11 +92,10 @@ class ProductCacheServiceIntegrationTest extends IntegrationTest {
                     .isEqualTo(expectedProduct);
 
             String cacheKey = productCacheService.getProductDetailKey(productId);
-            Object cachedValue = redisTemplate.opsForValue().get(cacheKey);
+            byte[] cachedValue = redisTemplate.opsForValue().get(cacheKey);
             assertThat(cachedValue).isNotNull();
 
-            ProductInfo cachedProduct = objectMapper.convertValue(
-                    cachedValue, ProductInfo.class);
+            ProductInfo cachedProduct = decodeProduct(cachedValue).value();
             assertThat(cachedProduct)
                     .usingRecursiveComparison()
                     .ignoringFields("createdAt")
@@ -108,18 +127,17 @@ class ProductCacheServiceIntegrationTest extends IntegrationTest {
             assertThat(dbCallCount[0]).isEqualTo(0);
         }
 
-        @DisplayName("TTL이 임계값 이하일 때 Stale-While-Revalidate가 동작한다.")
+        @DisplayName("논리 만료가 지난 값은 이전 값을 반환하고 비동기로 갱신한다. (Stale-While-Revalidate)")
         @Test
-        void triggersStaleWhileRevalidate_whenTtlBelowThreshold() throws InterruptedException {
+        void triggersStaleWhileRevalidate_whenLogicallyExpired() throws InterruptedException {
             // arrange
             Long productId = 1L;
             ProductInfo product1 = createProductInfo(productId, "상품1", 1L, "브랜드1", 10000, 10, 100);
             ProductInfo product2 = createProductInfo(productId, "상품2", 1L, "브랜드1", 20000, 20, 200);
 
             String cacheKey = productCacheService.getProductDetailKey(productId);
-            redisTemplateMaster.opsForValue().set(cacheKey, product1, 15, TimeUnit.SECONDS);
-
-            Thread.sleep(6000);
+            CacheEnvelope<ProductInfo> staleEnvelope = new CacheEnvelope<>(product1, System.currentTimeMillis() - 1, 10);
+            redisTemplateMaster.opsForValue().set(cacheKey, codec.encodeProduct(staleEnvelope), 15, TimeUnit.SECONDS);
 
             // act
             int[] dbCallCount = {0};
@@ -136,16 +154,19 @@ class ProductCacheServiceIntegrationTest extends IntegrationTest {
             
             Thread.sleep(3000);
 
-            assertThat(dbCallCount[0]).isGreaterThanOrEqualTo(0);
+            assertThat(dbCallCount[0]).isEqualTo(1);
 
-            Object cachedValue = redisTemplate.opsForValue().get(cacheKey);
+            byte[] cachedValue = redisTemplateMaster.opsForValue().get(cacheKey);
             assertThat(cachedValue).isNotNull();
-            ProductInfo cachedProduct = objectMapper.convertValue(
-                    cachedValue, ProductInfo.class);
-            assertThat(cachedProduct).isNotNull();
+            CacheEnvelope<ProductInfo> refreshed = decodeProduct(cachedValue);
+            assertThat(refreshed.value())
+                    .usingRecursiveComparison()
+                    .ignoringFields("createdAt")
+                    .isEqualTo(product2);
+            assertThat(refreshed.isExpired(System.currentTimeMillis())).isFalse();
         }
 
-        @DisplayName("TTL 만료 후 조회 시 DB에서 조회하고 캐시에 저장한다.")
+        @DisplayName("물리 TTL 만료 후 조회 시 DB에서 조회하고 캐시에 저장한다.")
         @Test
         void queriesFromDb_whenCacheExpired() throws InterruptedException {
             // arrange
@@ -154,7 +175,8 @@ class ProductCacheServiceIntegrationTest extends IntegrationTest {
             ProductInfo product2 = createProductInfo(productId, "상품2", 1L, "브랜드1", 20000, 20, 200);
 
             String cacheKey = productCacheService.getProductDetailKey(productId);
-            redisTemplateMaster.opsForValue().set(cacheKey, product1, 1, TimeUnit.SECONDS);
+            CacheEnvelope<ProductInfo> envelope = CacheEnvelope.of(product1, Duration.ofSeconds(1), 10);
+            redisTemplateMaster.opsForValue().set(cacheKey, codec.encodeProduct(envelope), 1, TimeUnit.SECONDS);
 
             Thread.sleep(2000);
 
@@ -172,15 +194,82 @@ class ProductCacheServiceIntegrationTest extends IntegrationTest {
                     .isEqualTo(product2);
             assertThat(dbCallCount[0]).isEqualTo(1);
 
-            Object cachedValue = redisTemplate.opsForValue().get(cacheKey);
+            byte[] cachedValue = redisTemplate.opsForValue().get(cacheKey);
             assertThat(cachedValue).isNotNull();
-            ProductInfo cachedProduct = objectMapper.convertValue(
-                    cachedValue, ProductInfo.class);
+            ProductInfo cachedProduct = decodeProduct(cachedValue).value();
             assertThat(cachedProduct)
                     .usingRecursiveComparison()
                     .ignoringFields("createdAt")
                     .isEqualTo(product2);
         }
+
+        @DisplayName("현재 코덱으로 해석할 수 없는 이전 형식의 값은 캐시 미스로 처리한다.")
+        @Test
+        void treatsLegacyValueAsMiss() {
+            // arrange
+            Long productId = 1L;
+            ProductInfo product1 = createProductInfo(productId, "상품1", 1L, "브랜드1", 10000, 10, 100);
+            ProductInfo product2 = createProductInfo(productId, "상품2", 1L, "브랜드1", 20000, 20, 200);
+
+            String cacheKey = productCacheService.getProductDetailKey(productId);
+            redisTemplateObjectMaster.opsForValue().set(cacheKey, product1, 60, TimeUnit.SECONDS);
+
+            // act
+            ProductInfo result = productCacheService.getProduct(productId, () -> product2);
+
+            // assert
+            assertThat(result)
+                    .usingRecursiveComparison()
+                    .ignoringFields("createdAt")
+                    .isEqualTo(product2);
+            assertThat(decodeProduct(redisTemplate.opsForValue().get(cacheKey)).value().name()).isEqualTo("상품2");
+        }
+    }
+
+    @DisplayName("상품 상세 + 랭킹 조합 조회 테스트")
+    @Nested
+    class ProductDetailWithRankTest {
+
+        private static final String RANKING_KEY = "ranking:all:20260101";
+
+        @DisplayName("캐시 히트 시 DB 를 조회하지 않고 상세와 1부터 시작하는 순위를 함께 반환한다.")
+        @Test
+        void returnsCachedProductWithRank() {
+            // arrange
+            Long productId = 2L;
+            ProductInfo product = createProductInfo(productId, "상품2", 1L, "브랜드1", 10000, 10, 100);
+            productCacheService.getProduct(productId, () -> product);
+
+            redisTemplateMaster.opsForZSet().add(RANKING_KEY, "1".getBytes(), 100.0);
+            redisTemplateMaster.opsForZSet().add(RANKING_KEY, "2".getBytes(), 50.0);
+
+            // act
+            AtomicInteger dbCallCount = new AtomicInteger();
+            ProductInfo result = productCacheService.getProductWithRank(productId, RANKING_KEY, () -> {
+                dbCallCount.incrementAndGet();
+                return product;
+            });
+
+            // assert
+            assertThat(result.name()).isEqualTo("상품2");
+            assertThat(result.rank()).isEqualTo(2L);
+            assertThat(dbCallCount.get()).isZero();
+        }
+
+        @DisplayName("캐시 미스이고 랭킹에 없으면 DB 에서 조회해 저장하고 rank 는 null 이다.")
+        @Test
+        void loadsFromDb_whenCacheMissAndNotRanked() {
+            // arrange
+            Long productId = 3L;
+            ProductInfo product = createProductInfo(productId, "상품3", 1L, "브랜드1", 10000, 10, 100);
+
+            // act
+            ProductInfo result = productCacheService.getProductWithRank(productId, RANKING_KEY, () -> product);
+
+            // assert
+            assertThat(result.rank()).isNull();
+            assertThat(redisTemplate.opsForValue().get(productCacheService.getProductDetailKey(productId))).isNotNull();
+        }
     }
 
     @DisplayName("상품 목록 조회 캐시 테스트")
@@ -201,7 +290,7 @@ class ProductCacheServiceIntegrationTest extends IntegrationTest {
             );
 
             // act
-            List<ProductInfo> result = productCacheService.getProductList(
+            List<ProductInfo> result = productListingCache.getProductList(
                     brandId, sort, page, size, () -> expectedProducts);
 
             // assert
@@ -210,8 +299,8 @@ class ProductCacheServiceIntegrationTest extends IntegrationTest {
                     .ignoringFields("createdAt")
                     .isEqualTo(expectedProducts);
 
-            String cacheKey = productCacheService.getProductListKey(brandId, sort, page, size);
-            Object cachedValue = redisTemplate.opsForValue().get(cacheKey);
+            String cacheKey = productListingCache.getProductListKey(brandId, sort, page, size);
+            byte[] cachedValue = redisTemplate.opsForValue().get(cacheKey);
             assertThat(cachedValue).isNotNull();
         }
 
@@ -230,11 +319,11 @@ class ProductCacheServiceIntegrationTest extends IntegrationTest {
                     createProductInfo(2L, "상품2", 1L, "브랜드1", 20000, 20, 200)
             );
 
-            productCacheService.getProductList(brandId, sort, page, size, () -> products1);
+            productListingCache.getProductList(brandId, sort, page, size, () -> products1);
 
             // act
             int[] dbCallCount = {0};
-            List<ProductInfo> result = productCacheService.getProductList(
+            List<ProductInfo> result = productListingCache.getProductList(
                     brandId, sort, page, size, () -> {
                         dbCallCount[0]++;
                         return products2;
@@ -248,6 +337,53 @@ class ProductCacheServiceIntegrationTest extends IntegrationTest {
             assertThat(dbCallCount[0]).isEqualTo(0);
         }
 
+        @DisplayName("목록 캐시 세대가 올라가면 같은 범위의 페이지를 DB 에서 다시 조회한다.")
+        @Test
+        void reloads_whenListGenerationIncremented() {
+            // arrange
+            Long brandId = 1L;
+            ProductSort sort = ProductSort.LIKES_DESC;
+            List<ProductInfo> before = List.of(createProductInfo(1L, "상품1", 1L, "브랜드1", 10000, 10, 100));
+            List<ProductInfo> after = List.of(createProductInfo(1L, "상품1", 1L, "브랜드1", 10000, 11, 100));
+            productListingCache.getProductList(brandId, sort, 0, 20, () -> before);
+            productListingCache.getProductList(brandId, sort, 1, 20, () -> before);
+
+            // act
+            String generationKey = productListingCache.getListGenerationKey(brandId, sort);
+            redisTemplateMaster.opsForValue().increment(generationKey);
+            invalidationListener.onMessage(new DefaultMessage(
+                    ProductCacheInvalidationListener.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    (generationKey + "=1").getBytes(StandardCharsets.UTF_8)
+            ), null);
+            int[] dbCallCount = {0};
+            List<ProductInfo> result = productListingCache.getProductList(brandId, sort, 0, 20, () -> {
+                dbCallCount[0]++;
+                return after;
+            });
+
+            // assert
+            assertThat(result.get(0).likeCount()).isEqualTo(11);
+            assertThat(dbCallCount[0]).isEqualTo(1);
+            assertThat(productListingCache.getProductListKey(brandId, sort, 1, 20)).contains(":g1:");
+        }
+
+        @DisplayName("세대 갱신 메시지를 놓쳐도 동기화하면 Redis 의 세대로 키를 만든다.")
+        @Test
+        void usesRedisGeneration_afterSync() {
+            // arrange
+            Long brandId = 1L;
+            ProductSort sort = ProductSort.LATEST;
+            redisTemplateMaster.opsForValue().set(productListingCache.getListGenerationKey(brandId, sort), "7".getBytes());
+            String keyBeforeSync = productListingCache.getProductListKey(brandId, sort, 0, 20);
+
+            // act
+            productListGenerations.sync();
+
+            // assert
+            assertThat(keyBeforeSync).contains(":g0:");
+            assertThat(productListingCache.getProductListKey(brandId, sort, 0, 20)).contains(":g7:");
+        }
+
         @DisplayName("다른 정렬 조건은 별도의 캐시 키를 사용한다.")
         @Test
         void usesDifferentCacheKeys_forDifferentSorts() {
@@ -263,12 +399,12 @@ class ProductCacheServiceIntegrationTest extends IntegrationTest {
             );
 
             // act
-            productCacheService.getProductList(brandId, ProductSort.LATEST, page, size, () -> latestProducts);
-            productCacheService.getProductList(brandId, ProductSort.PRICE_ASC, page, size, () -> priceAscProducts);
+            productListingCache.getProductList(brandId, ProductSort.LATEST, page, size, () -> latestProducts);
+            productListingCache.getProductList(brandId, ProductSort.PRICE_ASC, page, size, () -> priceAscProducts);
 
             // assert
-            String latestKey = productCacheService.getProductListKey(brandId, ProductSort.LATEST, page, size);
-            String priceAscKey = productCacheService.getProductListKey(brandId, ProductSort.PRICE_ASC, page, size);
+            String latestKey = productListingCache.getProductListKey(brandId, ProductSort.LATEST, page, size);
+            String priceAscKey = productListingCache.getProductListKey(brandId, ProductSort.PRICE_ASC, page, size);
 
             assertThat(redisTemplate.hasKey(latestKey)).isTrue();
             assertThat(redisTemplate.hasKey(priceAscKey)).isTrue();
@@ -289,12 +425,12 @@ class ProductCacheServiceIntegrationTest extends IntegrationTest {
             );
 
             // act
-            productCacheService.getProductList(null, ProductSort.LATEST, page, size, () -> allBrandProducts);
-            productCacheService.getProductList(1L, ProductSort.LATEST, page, size, () -> brand1Products);
+            productListingCache.getProductList(null, ProductSort.LATEST, page, size, () -> allBrandProducts);
+            productListingCache.getProductList(1L, ProductSort.LATEST, page, size, () -> brand1Products);
 
             // assert
-            String allBrandKey = productCacheService.getProductListKey(null, ProductSort.LATEST, page, size);
-            String brand1Key = productCacheService.getProductListKey(1L, ProductSort.LATEST, page, size);
+            String allBrandKey = productListingCache.getProductListKey(null, ProductSort.LATEST, page, size);
+            String brand1Key = productListingCache.getProductListKey(1L, ProductSort.LATEST, page, size);
 
             assertThat(redisTemplate.hasKey(allBrandKey)).isTrue();
             assertThat(redisTemplate.hasKey(brand1Key)).isTrue();
@@ -302,6 +438,197 @@ class ProductCacheServiceIntegrationTest extends IntegrationTest {
         }
     }
 
+    @DisplayName("상품 ID 목록 캐시 테스트")
+    @Nested
+    class ProductIdListCacheTest {
+
+        @DisplayName("캐시 미스 시 ID 목록과 각 상품 상세를 함께 저장한다.")
+        @Test
+        void savesIdListAndDetails_whenCacheMiss() {
+            // arrange
+            List<ProductInfo> products = List.of(
+                    createProductInfo(2L, "상품2", 1L, "브랜드1", 20000, 20, 200),
+                    createProductInfo(1L, "상품1", 1L, "브랜드1", 10000, 10, 100)
+            );
+
+            // act
+            List<ProductInfo> result = productListingCache.getProductIdPage(
+                    null, ProductSort.LATEST, 0, 20, () -> products, ids -> List.of());
+
+            // assert
+            assertThat(result).extracting(ProductInfo::id).containsExactly(2L, 1L);
+
+            String idListKey = productListingCache.getProductIdListKey(null, ProductSort.LATEST, 0, 20);
+            assertThat(codec.decodeIdList(redisTemplate.opsForValue().get(idListKey)).value()).containsExactly(2L, 1L);
+            assertThat(redisTemplate.hasKey(productCacheService.getProductDetailKey(1L))).isTrue();
+            assertThat(redisTemplate.hasKey(productCacheService.getProductDetailKey(2L))).isTrue();
+        }
+
+        @DisplayName("상세 캐시가 무효화된 상품만 일괄 조회로 다시 채워, 목록에 바로 반영된다.")
+        @Test
+        void reloadsOnlyInvalidatedDetails() {
+            // arrange
+            List<ProductInfo> products = List.of(
+                    createProductInfo(1L, "상품1", 1L, "브랜드1", 10000, 10, 100),
+                    createProductInfo(2L, "상품2", 1L, "브랜드1", 20000, 20, 200)
+            );
+            productListingCache.getProductIdPage(null, ProductSort.LATEST, 0, 20, () -> products, ids -> List.of());
+            redisTemplateMaster.delete(productCacheService.getProductDetailKey(2L));
+
+            ProductInfo updated = createProductInfo(2L, "상품2", 1L, "브랜드1", 20000, 21, 0);
+            List<List<Long>> batchCalls = new CopyOnWriteArrayList<>();
+
+            // act
+            List<ProductInfo> result = productListingCache.getProductIdPage(
+                    null, ProductSort.LATEST, 0, 20,
+                    () -> {
+                        throw new AssertionError("목록 쿼리는 다시 실행되지 않아야 합니다.");
+                    },
+                    ids -> {
+                        batchCalls.add(ids);
+                        return List.of(updated);
+                    });
+
+            // assert
+            assertThat(batchCalls).containsExactly(List.of(2L));
+            assertThat(result).extracting(ProductInfo::id).containsExactly(1L, 2L);
+            assertThat(result.get(1).likeCount()).isEqualTo(21);
+            assertThat(result.get(1).stock()).isEqualTo(0);
+        }
+
+        @DisplayName("상세 일괄 조회는 요청 순서를 유지하고, 조회되지 않은 상품은 제외한다.")
+        @Test
+        void keepsRequestOrder_andSkipsUnknownProducts() {
+            // arrange
+            productCacheService.getProduct(3L, () -> createProductInfo(3L, "상품3", 1L, "브랜드1", 30000, 30, 300));
+
+            // act
+            List<ProductInfo> result = productCacheService.getProducts(
+                    List.of(3L, 99L, 1L),
+                    ids -> ids.contains(1L)
+                            ? List.of(createProductInfo(1L, "상품1", 1L, "브랜드1", 10000, 10, 100))
+                            : List.of()
+            );
+
+            // assert
+            assertThat(result).extracting(ProductInfo::id).containsExactly(3L, 1L);
+        }
+    }
+
+    @DisplayName("정렬 인덱스 기반 목록 조회 테스트")
+    @Nested
+    class SortIndexListingTest {
+
+        @DisplayName("인덱스가 준비되어 있으면 ZRANGE 순서대로 상세를 채우고 목록 DB 조회를 하지 않는다.")
+        @Test
+        void servesPageFromSortIndex_whenIndexReady() {
+            // arrange
+            String indexKey = productListingCache.getProductSortIndexKey(null, ProductSort.LIKES_DESC);
+            redisTemplateMaster.opsForZSet().add(indexKey, member(1L), -10);
+            redisTemplateMaster.opsForZSet().add(indexKey, member(2L), -30);
+            redisTemplateMaster.opsForZSet().add(indexKey, member(3L), -20);
+            redisTemplateMaster.opsForValue().set("product:index:ready", "1".getBytes());
+
+            List<ProductInfo> products = List.of(
+                    createProductInfo(1L, "상품1", 1L, "브랜드1", 10000, 10, 100),
+                    createProductInfo(2L, "상품2", 1L, "브랜드1", 10000, 30, 100),
+                    createProductInfo(3L, "상품3", 1L, "브랜드1", 10000, 20, 100)
+            );
+            AtomicInteger listDbCallCount = new AtomicInteger();
+
+            // act
+            List<ProductInfo> result = productListingCache.getProductList(
+                    null, ProductSort.LIKES_DESC, 0, 2,
+                    () -> {
+                        listDbCallCount.incrementAndGet();
+                        return products;
+                    },
+                    ids -> products.stream().filter(product -> ids.contains(product.id())).toList()
+            );
+
+            // assert
+            assertThat(result).extracting(ProductInfo::id).containsExactly(2L, 3L);
+            assertThat(listDbCallCount.get()).isZero();
+        }
+
+        @DisplayName("인덱스가 준비되지 않았으면 목록을 DB 에서 조회한다.")
+        @Test
+        void fallsBackToDb_whenIndexNotReady() {
+            // arrange
+            List<ProductInfo> products = List.of(createProductInfo(1L, "상품1", 1L, "브랜드1", 10000, 10, 100));
+            AtomicInteger listDbCallCount = new AtomicInteger();
+
+            // act
+            List<ProductInfo> result = productListingCache.getProductList(
+                    null, ProductSort.LIKES_DESC, 0, 20,
+                    () -> {
+                        listDbCallCount.incrementAndGet();
+                        return products;
+                    },
+                    ids -> List.of()
+            );
+
+            // assert
+            assertThat(result).extracting(ProductInfo::id).containsExactly(1L);
+            assertThat(listDbCallCount.get()).isEqualTo(1);
+        }
+
+        private byte[] member(Long productId) {
+            return String.format("%019d", productId).getBytes();
+        }
+    }
+
+    @DisplayName("캐시 미스 적재 병합 테스트")
+    @Nested
+    class MissCoalescingTest {
+
+        @DisplayName("같은 상품에 동시 캐시 미스가 발생하면 DB 조회는 한 번만 수행된다.")
+        @Test
+        void loadsFromDbOnce_whenConcurrentCacheMiss() throws InterruptedException {
+            // arrange
+            Long productId = 1L;
+            ProductInfo product = createProductInfo(productId, "상품1", 1L, "브랜드1", 10000, 10, 100);
+            int threadCount = 10;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch startLatch = new CountDownLatch(threadCount);
+            AtomicInteger dbCallCount = new AtomicInteger();
+            List<ProductInfo> results = new CopyOnWriteArrayList<>();
+
+            // act
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        startLatch.countDown();
+                        startLatch.await();
+                        results.add(productCacheService.getProduct(productId, () -> {
+                            dbCallCount.incrementAndGet();
+                            sleep(300);
+                            return product;
+                        }));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            executorService.shutdown();
+            executorService.awaitTermination(5, TimeUnit.SECONDS);
+
+            // assert
+            assertThat(dbCallCount.get()).isEqualTo(1);
+            assertThat(results).hasSize(threadCount);
+            assertThat(results).allSatisfy(result -> assertThat(result.id()).isEqualTo(productId));
+        }
+
+        private void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     @DisplayName("캐시 무효화 테스트")
     @Nested
     class CacheInvalidationTest {
@@ -325,6 +652,10 @@ class ProductCacheServiceIntegrationTest extends IntegrationTest {
         }
     }
 
+    private CacheEnvelope<ProductInfo> decodeProduct(byte[] cachedValue) {
+        return codec.decodeProduct(cachedValue);
+    }
+
     private ProductInfo createProductInfo(
             Long id, String name, Long brandId, String brandName,
             Integer price, Integer likeCount, Integer stock) {
@@ -16,6 +16,7 @@ import org.springframework.data.redis.core.ZSetOperations;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -159,6 +160,30 @@ class RankingCacheServiceIntegrationTest extends IntegrationTest {
         }
     }
 
+    @DisplayName("여러 상품 순위 일괄 조회")
+    @Nested
+    class GetProductRanks {
+
+        @DisplayName("랭킹에 있는 상품만 1부터 시작하는 순위로 반환된다.")
+        @Test
+        void returnsRanksOfRankedProducts() {
+            // arrange
+            LocalDate date = LocalDate.now();
+            String key = getRankingKey(date);
+            ZSetOperations<String, String> zSetOps = redisTemplateMaster.opsForZSet();
+
+            zSetOps.add(key, "1", 100.0);
+            zSetOps.add(key, "2", 50.0);
+            zSetOps.add(key, "3", 30.0);
+
+            // act
+            Map<Long, Long> ranks = rankingCacheService.getProductRanks(date, List.of(3L, 999L, 1L));
+
+            // assert
+            assertThat(ranks).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 1L, 3L, 3L));
+        }
+    }
+
     private String getRankingKey(LocalDate date) {
         return RANKING_KEY_PREFIX + date.format(DATE_FORMATTER);
     }
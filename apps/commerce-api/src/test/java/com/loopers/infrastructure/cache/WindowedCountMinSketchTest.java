@@ -0,0 +1,70 @@
+package com.loopers.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class WindowedCountMinSketchTest {
+
+    private static final long WINDOW_MILLIS = 10_000;
+
+    @DisplayName("윈도우 내 횟수를 추정할 때,")
+    @Nested
+    class Estimate {
+
+        @DisplayName("추정치는 실제 횟수보다 작지 않다.")
+        @Test
+        void neverUnderestimates() {
+            // arrange
+            WindowedCountMinSketch sketch = new WindowedCountMinSketch(4, 256, WINDOW_MILLIS, 5);
+            long now = 1_000_000L;
+
+            // act
+            for (int i = 0; i < 1_000; i++) {
+                sketch.incrementAndEstimate("product:detail:" + (i % 100), now);
+            }
+            for (int i = 0; i < 500; i++) {
+                sketch.incrementAndEstimate("product:detail:hot", now);
+            }
+
+            // assert
+            assertThat(sketch.estimate("product:detail:hot", now)).isGreaterThanOrEqualTo(500);
+            assertThat(sketch.estimate("product:detail:1", now)).isGreaterThanOrEqualTo(10);
+        }
+
+        @DisplayName("윈도우 안의 여러 구간에 걸친 횟수를 합산한다.")
+        @Test
+        void sumsAcrossSlots() {
+            // arrange
+            WindowedCountMinSketch sketch = new WindowedCountMinSketch(4, 256, WINDOW_MILLIS, 5);
+            long now = 1_000_000L;
+
+            // act
+            for (int slot = 0; slot < 5; slot++) {
+                sketch.incrementAndEstimate("product:detail:1", now + slot * 2_000L);
+            }
+
+            // assert
+            assertThat(sketch.estimate("product:detail:1", now + 8_000L)).isEqualTo(5);
+        }
+
+        @DisplayName("윈도우를 벗어난 구간의 횟수는 제외된다.")
+        @Test
+        void dropsCountsOutsideWindow() {
+            // arrange
+            WindowedCountMinSketch sketch = new WindowedCountMinSketch(4, 256, WINDOW_MILLIS, 5);
+            long now = 1_000_000L;
+            for (int i = 0; i < 100; i++) {
+                sketch.incrementAndEstimate("product:detail:1", now);
+            }
+
+            // act
+            long estimate = sketch.incrementAndEstimate("product:detail:1", now + WINDOW_MILLIS);
+
+            // assert
+            assertThat(estimate).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.loopers.infrastructure.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.support.IntegrationTest;
+import com.loopers.utils.DatabaseCleanUp;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 상품 목록 쿼리 실행 계획 회귀 테스트
+ * ProductJpaRepository 의 목록 쿼리를 실제로 실행해 Hibernate 가 만든 SQL 과 바인딩 값을 잡아 EXPLAIN 하고,
+ * filesort 나 풀 스캔으로 떨어지지 않는지 확인한다. 쿼리나 인덱스가 바뀌면 바뀐 SQL 로 검사된다.
+ */
+@SpringBootTest
+@Import(ProductListingQueryPlanTest.QueryCaptureConfig.class)
+class ProductListingQueryPlanTest extends IntegrationTest {
+
+    private static final int BRAND_COUNT = 30;
+    private static final int PRODUCT_COUNT = 3_000;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    private static final List<CapturedQuery> CAPTURED_QUERIES = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> brands = new ArrayList<>(BRAND_COUNT);
+        for (int i = 1; i <= BRAND_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now);
+            brands.add(new Object[]{"브랜드" + i, "설명", createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO brands (name, description, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                brands
+        );
+
+        List<Object[]> rows = new ArrayList<>(PRODUCT_COUNT);
+        for (int i = 1; i <= PRODUCT_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(i));
+            rows.add(new Object[]{
+                    "상품" + i, (long) (i % BRAND_COUNT + 1), 1_000 * (i % 500 + 1), i % 1_000, 100,
+                    i % 20 == 0, createdAt, createdAt
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO products (name, brand_id, price, like_count, stock, version, is_deleted, created_at, updated_at)"
+                        + " VALUES (?, ?, ?, ?, ?, 0, ?, ?, ?)",
+                rows
+        );
+        jdbcTemplate.execute("ANALYZE TABLE brands, products");
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    static Stream<Arguments> listingQueries() {
+        ZonedDateTime lastCreatedAt = ZonedDateTime.now().minusMinutes(100);
+        return Stream.of(
+                listing("전체 최신순", repository -> repository.findProductsByLatest(FIRST_PAGE)),
+                listing("브랜드 최신순", repository -> repository.findBrandProductsByLatest(1L, FIRST_PAGE)),
+                listing("전체 최신순 커서", repository -> repository.findProductsByLatestAfter(lastCreatedAt, 100L, FIRST_PAGE)),
+                listing("브랜드 최신순 커서", repository -> repository.findBrandProductsByLatestAfter(1L, lastCreatedAt, 100L, FIRST_PAGE)),
+                listing("전체 가격순", repository -> repository.findProductsByPriceAsc(FIRST_PAGE)),
+                listing("브랜드 가격순", repository -> repository.findBrandProductsByPriceAsc(1L, FIRST_PAGE)),
+                listing("전체 가격순 커서", repository -> repository.findProductsByPriceAscAfter(250_000, 100L, FIRST_PAGE)),
+                listing("브랜드 가격순 커서", repository -> repository.findBrandProductsByPriceAscAfter(1L, 250_000, 100L, FIRST_PAGE)),
+                listing("전체 좋아요순", repository -> repository.findProductsByLikesDesc(FIRST_PAGE)),
+                listing("브랜드 좋아요순", repository -> repository.findBrandProductsByLikesDesc(1L, FIRST_PAGE)),
+                listing("전체 좋아요순 커서", repository -> repository.findProductsByLikesDescAfter(500, 100L, FIRST_PAGE)),
+                listing("브랜드 좋아요순 커서", repository -> repository.findBrandProductsByLikesDescAfter(1L, 500, 100L, FIRST_PAGE)),
+                listing("읽기 모델 전체 최신순", repository -> repository.findSummariesByLatest(FIRST_PAGE)),
+                listing("읽기 모델 브랜드 최신순", repository -> repository.findBrandSummariesByLatest(1L, FIRST_PAGE)),
+                listing("읽기 모델 전체 가격순", repository -> repository.findSummariesByPriceAsc(FIRST_PAGE)),
+                listing("읽기 모델 브랜드 가격순", repository -> repository.findBrandSummariesByPriceAsc(1L, FIRST_PAGE)),
+                listing("읽기 모델 전체 좋아요순", repository -> repository.findSummariesByLikesDesc(FIRST_PAGE)),
+                listing("읽기 모델 브랜드 좋아요순", repository -> repository.findBrandSummariesByLikesDesc(1L, FIRST_PAGE))
+        );
+    }
+
+    @DisplayName("목록 쿼리는 인덱스를 사용하고 filesort 나 풀 스캔이 발생하지 않는다.")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("listingQueries")
+    void usesIndexWithoutFilesort(String name, Consumer<ProductJpaRepository> listing) {
+        // arrange
+        CapturedQuery query = captureProductQuery(listing);
+
+        // act
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + query.sql(), query.params().toArray());
+
+        // assert
+        Map<String, Object> products = plan.get(0);
+        assertThat(products.get("key")).as("%s 사용 인덱스 (%s)", name, query.sql()).isNotNull();
+        assertThat(products.get("type")).as("%s 접근 방식 (%s)", name, query.sql()).isNotEqualTo("ALL");
+        assertThat(plan).allSatisfy(row -> assertThat(String.valueOf(row.get("Extra")))
+                .as("%s Extra (%s)", name, query.sql())
+                .doesNotContain("Using filesort")
+                .doesNotContain("Using temporary"));
+    }
+
+    private CapturedQuery captureProductQuery(Consumer<ProductJpaRepository> listing) {
+        CAPTURED_QUERIES.clear();
+        listing.accept(productJpaRepository);
+        return CAPTURED_QUERIES.stream()
+                .filter(query -> query.sql().toLowerCase().contains(" from products "))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("상품 목록 쿼리가 실행되지 않았습니다: " + CAPTURED_QUERIES));
+    }
+
+    private static Arguments listing(String name, Consumer<ProductJpaRepository> listing) {
+        return Arguments.of(name, listing);
+    }
+
+    record CapturedQuery(String sql, List<Object> params) {
+    }
+
+    /**
+     * 애플리케이션 DataSource 를 감싸 PreparedStatement 의 SQL 과 바인딩 값을 실행 시점에 기록한다.
+     */
+    @TestConfiguration
+    static class QueryCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor queryCapturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                        return new QueryCapturingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    static class QueryCapturingDataSource extends DelegatingDataSource {
+
+        QueryCapturingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return capturing(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return capturing(super.getConnection(username, password));
+        }
+
+        private static Connection capturing(Connection connection) {
+            return proxy(Connection.class, connection, (method, args, result) -> {
+                if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                    return capturing(statement, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+            Map<Integer, Object> params = new TreeMap<>();
+            return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    params.put(index, name.equals("setNull") ? null : args[1]);
+                } else if (name.equals("clearParameters")) {
+                    params.clear();
+                } else if (name.equals("executeQuery") && (args == null || args.length == 0)) {
+                    CAPTURED_QUERIES.add(new CapturedQuery(sql, new ArrayList<>(params.values())));
+                }
+                return result;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, AfterInvocation afterInvocation) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                try {
+                    return afterInvocation.apply(method, args, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+        }
+
+        @FunctionalInterface
+        private interface AfterInvocation {
+            Object apply(Method method, Object[] args, Object result);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.loopers.infrastructure.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.domain.product.LikeCount;
+import com.loopers.domain.product.Price;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.Stock;
+import com.loopers.support.IntegrationTest;
+import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.LockModeType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 조회 잠금 모드 테스트
+ * 읽기 경로는 잠금 없이 조회하여 커밋 시점의 version 확인 쿼리가 없고,
+ * 변경 경로만 OPTIMISTIC 모드로 조회하여 커밋 시점에 version 을 다시 확인하는지 Hibernate 통계로 검증한다.
+ */
+@SpringBootTest
+class ProductLockModeIntegrationTest extends IntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private Statistics statistics;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.createProduct(
+                "상품1", 1L,
+                Price.createPrice(10000),
+                LikeCount.createLikeCount(0),
+                Stock.createStock(100)
+        );
+        productRepository.saveProduct(product);
+        productId = product.getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("읽기 전용으로 조회하면,")
+    @Nested
+    class Read {
+
+        @DisplayName("잠금 모드 없이 조회되고 커밋 시 version 확인 쿼리가 실행되지 않는다.")
+        @Test
+        void doesNotVerifyVersion() {
+            // act
+            LockModeType lockMode = transactionTemplate.execute(status -> {
+                Product product = productService.findProductById(productId).orElseThrow();
+                return entityManager.getLockMode(product);
+            });
+
+            // assert
+            assertThat(lockMode).isEqualTo(LockModeType.NONE);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+    }
+
+    @DisplayName("변경 목적으로 조회하면,")
+    @Nested
+    class ForUpdate {
+
+        @DisplayName("OPTIMISTIC 모드로 조회되고 커밋 시 version 확인 쿼리가 한 번 더 실행된다.")
+        @Test
+        void verifiesVersionOnCommit() {
+            // act
+            LockModeType lockMode = transactionTemplate.execute(status -> {
+                Product product = productService.getProductByIdForUpdate(productId);
+                return entityManager.getLockMode(product);
+            });
+
+            // assert
+            assertThat(lockMode).isEqualTo(LockModeType.OPTIMISTIC);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.loopers.infrastructure.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSummary;
+import com.loopers.support.IntegrationTest;
+import com.loopers.utils.DatabaseCleanUp;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 상품 목록 읽기 모델 비교 테스트
+ * 엔티티 조회 + 브랜드명 추가 조회 경로와 ProductSummary projection 경로가 같은 결과를 내는지 확인한다.
+ * 페이지당 지연 시간과 할당량 비교는 JMH 의 ProductReadModelBenchmark 로 측정한다.
+ */
+@SpringBootTest
+class ProductReadModelComparisonTest extends IntegrationTest {
+
+    private static final int BRAND_COUNT = 10;
+    private static final int PRODUCT_COUNT = 500;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> brands = new ArrayList<>(BRAND_COUNT);
+        for (int i = 1; i <= BRAND_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now);
+            brands.add(new Object[]{"브랜드" + i, "설명" + i, createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO brands (name, description, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                brands
+        );
+
+        List<Object[]> products = new ArrayList<>(PRODUCT_COUNT);
+        for (int i = 1; i <= PRODUCT_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(i));
+            products.add(new Object[]{
+                    "상품" + i, (long) (i % BRAND_COUNT + 1), 1_000 * (i % 50 + 1), i % 100, 100, createdAt, createdAt
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO products (name, brand_id, price, like_count, stock, version, is_deleted, created_at, updated_at)"
+                        + " VALUES (?, ?, ?, ?, ?, 0, false, ?, ?)",
+                products
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("projection 경로는")
+    @Nested
+    class Projection {
+
+        @DisplayName("엔티티 경로와 같은 상품을 같은 순서, 같은 브랜드명으로 반환한다.")
+        @Test
+        void returnsSameRowsAsEntityPath() {
+            for (int page = 0; page < 3; page++) {
+                // act
+                List<Product> entities = productService.findProductsByLikesDesc(null, page, PAGE_SIZE);
+                Map<Long, String> brandNames = brandService.findBrandNamesByIds(
+                        entities.stream().map(Product::getBrandId).distinct().toList());
+                List<ProductSummary> summaries = productService.findProductSummariesByLikesDesc(null, page, PAGE_SIZE);
+
+                // assert
+                assertThat(summaries).extracting(ProductSummary::id)
+                        .containsExactlyElementsOf(entities.stream().map(Product::getId).toList());
+                assertThat(summaries).extracting(ProductSummary::brandName)
+                        .containsExactlyElementsOf(entities.stream().map(p -> brandNames.get(p.getBrandId())).toList());
+                assertThat(summaries).extracting(ProductSummary::likeCount)
+                        .containsExactlyElementsOf(entities.stream().map(p -> p.getLikeCount().getCount()).toList());
+            }
+        }
+    }
+}
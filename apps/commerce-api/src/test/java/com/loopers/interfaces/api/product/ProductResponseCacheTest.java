@@ -0,0 +1,151 @@
+package com.loopers.interfaces.api.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.interfaces.api.ApiResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class ProductResponseCacheTest {
+
+    private static final String ETAG = "\"1a2b\"";
+
+    private ProductResponseCache createCache(boolean enabled, int gzipMinSize) {
+        return new ProductResponseCache(
+                new MappingJackson2HttpMessageConverter(),
+                new SimpleMeterRegistry(),
+                enabled,
+                1_048_576L,
+                Duration.ofMinutes(1),
+                true,
+                gzipMinSize
+        );
+    }
+
+    private ServletWebRequest webRequest(MockHttpServletResponse response, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/1");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return new ServletWebRequest(request, response);
+    }
+
+    private ApiResponse<List<String>> body() {
+        return ApiResponse.success(List.of("상품1", "상품2", "상품3"));
+    }
+
+    @DisplayName("응답 본문을 보관한 뒤 같은 ETag 로 요청하면,")
+    @Nested
+    class WriteCached {
+
+        @DisplayName("처음 쓴 본문과 같은 바이트를 그대로 쓴다.")
+        @Test
+        void writesSameBytes() throws IOException {
+            // arrange
+            ProductResponseCache cache = createCache(true, Integer.MAX_VALUE);
+            MockHttpServletResponse rendered = new MockHttpServletResponse();
+            cache.render(ETAG, body(), webRequest(rendered, null));
+
+            // act
+            MockHttpServletResponse cached = new MockHttpServletResponse();
+            boolean hit = cache.writeCached(ETAG, webRequest(cached, null));
+
+            // assert
+            assertThat(hit).isTrue();
+            assertThat(cached.getContentAsByteArray()).isEqualTo(rendered.getContentAsByteArray());
+            assertThat(cached.getContentAsString()).contains("SUCCESS", "상품1");
+            assertThat(cached.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+            assertThat(cached.getContentType()).isEqualTo("application/json");
+        }
+
+        @DisplayName("gzip 을 받는 요청에는 압축본을 약한 ETag 로 쓴다.")
+        @Test
+        void writesGzippedBody_whenClientAcceptsGzip() throws IOException {
+            // arrange
+            ProductResponseCache cache = createCache(true, 0);
+            MockHttpServletResponse rendered = new MockHttpServletResponse();
+            cache.render(ETAG, body(), webRequest(rendered, null));
+
+            // act
+            MockHttpServletResponse cached = new MockHttpServletResponse();
+            cache.writeCached(ETAG, webRequest(cached, "gzip, deflate"));
+
+            // assert
+            byte[] decompressed;
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(cached.getContentAsByteArray()))) {
+                decompressed = in.readAllBytes();
+            }
+            assertThat(decompressed).isEqualTo(rendered.getContentAsByteArray());
+            assertThat(cached.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            assertThat(cached.getHeader(HttpHeaders.ETAG)).isEqualTo("W/" + ETAG);
+            assertThat(cached.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        @DisplayName("gzip 을 q=0 으로 거부한 요청에는 원본을 강한 ETag 로 쓴다.")
+        @Test
+        void writesIdentityBody_whenGzipRejected() {
+            // arrange
+            ProductResponseCache cache = createCache(true, 0);
+            MockHttpServletResponse rendered = new MockHttpServletResponse();
+            cache.render(ETAG, body(), webRequest(rendered, null));
+
+            // act
+            MockHttpServletResponse cached = new MockHttpServletResponse();
+            cache.writeCached(ETAG, webRequest(cached, "gzip;q=0, deflate"));
+
+            // assert
+            assertThat(cached.getContentAsByteArray()).isEqualTo(rendered.getContentAsByteArray());
+            assertThat(cached.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+            assertThat(cached.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        }
+    }
+
+    @DisplayName("Accept-Encoding 을 해석할 때,")
+    @Nested
+    class AcceptEncoding {
+
+        @DisplayName("코딩 이름과 q 값으로 gzip 수용 여부를 판단한다.")
+        @Test
+        void parsesCodingsAndQuality() {
+            // act & assert
+            assertThat(ProductResponseCache.acceptsGzip("gzip")).isTrue();
+            assertThat(ProductResponseCache.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+            assertThat(ProductResponseCache.acceptsGzip("*")).isTrue();
+            assertThat(ProductResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+            assertThat(ProductResponseCache.acceptsGzip("gzip; q=0.0, *")).isFalse();
+            assertThat(ProductResponseCache.acceptsGzip("*;q=0")).isFalse();
+            assertThat(ProductResponseCache.acceptsGzip("x-gzip-extra, br")).isFalse();
+            assertThat(ProductResponseCache.acceptsGzip(null)).isFalse();
+        }
+    }
+
+    @DisplayName("보관된 본문이 없거나 비활성화되어 있으면 아무것도 쓰지 않는다.")
+    @Test
+    void writesNothing_whenMissOrDisabled() {
+        // arrange
+        ProductResponseCache enabled = createCache(true, Integer.MAX_VALUE);
+        ProductResponseCache disabled = createCache(false, Integer.MAX_VALUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // act
+        boolean miss = enabled.writeCached(ETAG, webRequest(response, null));
+        boolean off = disabled.writeCached(ETAG, webRequest(response, null));
+
+        // assert
+        assertThat(miss).isFalse();
+        assertThat(off).isFalse();
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+}
@@ -0,0 +1,153 @@
+package com.loopers.interfaces.api.product;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.product.LikeCount;
+import com.loopers.domain.product.Price;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.Stock;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.support.IntegrationTest;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProductV1ApiE2ETest extends IntegrationTest {
+
+    private static final String ENDPOINT_PRODUCTS = "/api/v1/products";
+
+    private final TestRestTemplate testRestTemplate;
+    private final BrandJpaRepository brandJpaRepository;
+    private final ProductRepository productRepository;
+    private final DatabaseCleanUp databaseCleanUp;
+    private final RedisCleanUp redisCleanUp;
+
+    @Autowired
+    public ProductV1ApiE2ETest(
+            TestRestTemplate testRestTemplate,
+            BrandJpaRepository brandJpaRepository,
+            ProductRepository productRepository,
+            DatabaseCleanUp databaseCleanUp,
+            RedisCleanUp redisCleanUp
+    ) {
+        this.testRestTemplate = testRestTemplate;
+        this.brandJpaRepository = brandJpaRepository;
+        this.productRepository = productRepository;
+        this.databaseCleanUp = databaseCleanUp;
+        this.redisCleanUp = redisCleanUp;
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("GET /api/v1/products/{productId} - 상품 상세 조건부 조회")
+    @Nested
+    class GetProduct {
+
+        @DisplayName("ETag 를 응답하고, 같은 ETag 로 다시 요청하면 본문 없이 304 를 반환한다.")
+        @Test
+        void returnsNotModified_whenETagMatches() {
+            // arrange
+            Product product = saveProduct();
+            String url = ENDPOINT_PRODUCTS + "/" + product.getId();
+            ResponseEntity<String> first = get(url, null);
+            String etag = first.getHeaders().getETag();
+
+            // act
+            ResponseEntity<String> second = get(url, etag);
+
+            // assert
+            assertAll(
+                    () -> assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK),
+                    () -> assertThat(etag).isNotBlank(),
+                    () -> assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED),
+                    () -> assertThat(second.getBody()).isNull(),
+                    () -> assertThat(second.getHeaders().getETag()).isEqualTo(etag)
+            );
+        }
+
+        @DisplayName("ETag 가 다르면 200 과 현재 ETag 를 반환한다.")
+        @Test
+        void returnsBody_whenETagDiffers() {
+            // arrange
+            Product product = saveProduct();
+            String url = ENDPOINT_PRODUCTS + "/" + product.getId();
+            String etag = get(url, null).getHeaders().getETag();
+
+            // act
+            ResponseEntity<String> response = get(url, "\"stale\"");
+
+            // assert
+            assertAll(
+                    () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                    () -> assertThat(response.getBody()).contains("상품1"),
+                    () -> assertThat(response.getHeaders().getETag()).isEqualTo(etag)
+            );
+        }
+    }
+
+    @DisplayName("GET /api/v1/products - 상품 목록 조건부 조회")
+    @Nested
+    class GetProducts {
+
+        @DisplayName("ETag 를 응답하고, 같은 ETag 로 다시 요청하면 본문 없이 304 를 반환한다.")
+        @Test
+        void returnsNotModified_whenETagMatches() {
+            // arrange
+            Product product = saveProduct();
+            String url = ENDPOINT_PRODUCTS + "?brandId=" + product.getBrandId() + "&sort=latest&page=0&size=20";
+            ResponseEntity<String> first = get(url, null);
+            String etag = first.getHeaders().getETag();
+
+            // act
+            ResponseEntity<String> second = get(url, etag);
+
+            // assert
+            assertAll(
+                    () -> assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK),
+                    () -> assertThat(etag).isNotBlank(),
+                    () -> assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED),
+                    () -> assertThat(second.getBody()).isNull()
+            );
+        }
+    }
+
+    private ResponseEntity<String> get(String url, String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
+        return testRestTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    private Product saveProduct() {
+        Brand brand = brandJpaRepository.save(Brand.createBrand("브랜드1", "브랜드1 설명"));
+        Product product = Product.createProduct(
+                "상품1",
+                brand.getId(),
+                Price.createPrice(10000),
+                LikeCount.createLikeCount(10),
+                Stock.createStock(100)
+        );
+        productRepository.saveProduct(product);
+        return product;
+    }
+}
@@ -0,0 +1,88 @@
+package com.loopers.support.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class LongObjectHashMapTest {
+
+    @DisplayName("값을 저장하고 조회할 때,")
+    @Nested
+    class PutAndGet {
+
+        @DisplayName("저장한 값을 키로 조회할 수 있고, 0 키도 저장된다.")
+        @Test
+        void returnsStoredValues() {
+            // arrange
+            LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+            // act
+            map.put(0L, "zero");
+            map.put(1L, "one");
+            map.put(-1L, "minus");
+            String previous = map.put(1L, "uno");
+
+            // assert
+            assertThat(previous).isEqualTo("one");
+            assertThat(map.get(0L)).isEqualTo("zero");
+            assertThat(map.get(1L)).isEqualTo("uno");
+            assertThat(map.get(-1L)).isEqualTo("minus");
+            assertThat(map.get(2L)).isNull();
+            assertThat(map.size()).isEqualTo(3);
+        }
+
+        @DisplayName("임의의 저장/삭제 후에도 HashMap 과 같은 결과를 낸다.")
+        @Test
+        void behavesLikeHashMap_afterRandomOperations() {
+            // arrange
+            LongObjectHashMap<Long> map = new LongObjectHashMap<>();
+            Map<Long, Long> expected = new HashMap<>();
+            Random random = new Random(42);
+
+            // act
+            for (int i = 0; i < 20_000; i++) {
+                long key = random.nextInt(2_000);
+                if (random.nextInt(3) == 0) {
+                    assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+                } else {
+                    assertThat(map.put(key, (long) i)).isEqualTo(expected.put(key, (long) i));
+                }
+            }
+
+            // assert
+            assertThat(map.size()).isEqualTo(expected.size());
+            for (long key = 0; key < 2_000; key++) {
+                assertThat(map.get(key)).isEqualTo(expected.get(key));
+            }
+        }
+    }
+
+    @DisplayName("복사할 때,")
+    @Nested
+    class Copy {
+
+        @DisplayName("복사본을 바꿔도 원본은 바뀌지 않는다.")
+        @Test
+        void copyIsIndependent() {
+            // arrange
+            LongObjectHashMap<String> original = new LongObjectHashMap<>();
+            original.put(1L, "one");
+
+            // act
+            LongObjectHashMap<String> copy = original.copy();
+            copy.put(2L, "two");
+            copy.remove(1L);
+
+            // assert
+            assertThat(original.get(1L)).isEqualTo("one");
+            assertThat(original.get(2L)).isNull();
+            assertThat(copy.get(1L)).isNull();
+            assertThat(copy.get(2L)).isEqualTo("two");
+        }
+    }
+}
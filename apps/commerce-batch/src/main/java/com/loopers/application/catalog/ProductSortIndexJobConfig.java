@@ -0,0 +1,96 @@
+package com.loopers.application.catalog;
+
+import com.loopers.domain.catalog.ProductIndexEntry;
+import com.loopers.domain.catalog.ProductSortIndexService;
+import com.loopers.infrastructure.catalog.ProductIndexEntryRepositoryImpl;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 상품 정렬 인덱스(ZSET) 재빌드 / 정합성 검사 Job
+ * - productSortIndexRebuildJob: products 를 id 순으로 읽어 임시 인덱스에 적재 → 운영 인덱스로 교체
+ * - productSortIndexVerifyJob: 운영 인덱스와 products 테이블 비교
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ProductSortIndexJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final ProductSortIndexService productSortIndexService;
+    private final ProductSortIndexSwapTasklet productSortIndexSwapTasklet;
+    private final ProductSortIndexVerifyTasklet productSortIndexVerifyTasklet;
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Bean
+    public Job productSortIndexRebuildJob() {
+        return new JobBuilder("productSortIndexRebuildJob", jobRepository)
+                .start(productSortIndexStageStep())
+                .next(productSortIndexSwapStep())
+                .build();
+    }
+
+    @Bean
+    public Job productSortIndexVerifyJob() {
+        return new JobBuilder("productSortIndexVerifyJob", jobRepository)
+                .start(productSortIndexVerifyStep())
+                .build();
+    }
+
+    @Bean
+    public Step productSortIndexStageStep() {
+        return new StepBuilder("productSortIndexStageStep", jobRepository)
+                .<ProductIndexEntry, ProductIndexEntry>chunk(CHUNK_SIZE, transactionManager)
+                .reader(productIndexEntryReader())
+                .writer(productSortIndexWriter())
+                .build();
+    }
+
+    @Bean
+    public Step productSortIndexSwapStep() {
+        return new StepBuilder("productSortIndexSwapStep", jobRepository)
+                .tasklet(productSortIndexSwapTasklet, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Step productSortIndexVerifyStep() {
+        return new StepBuilder("productSortIndexVerifyStep", jobRepository)
+                .tasklet(productSortIndexVerifyTasklet, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public JdbcPagingItemReader<ProductIndexEntry> productIndexEntryReader() {
+        return new JdbcPagingItemReaderBuilder<ProductIndexEntry>()
+                .name("productIndexEntryReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT id, brand_id, price, like_count, created_at, is_deleted")
+                .fromClause("FROM products")
+                .whereClause("WHERE is_deleted = false")
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .pageSize(CHUNK_SIZE)
+                .rowMapper(ProductIndexEntryRepositoryImpl.ROW_MAPPER)
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<ProductIndexEntry> productSortIndexWriter() {
+        return new ProductSortIndexWriter(productSortIndexService);
+    }
+}
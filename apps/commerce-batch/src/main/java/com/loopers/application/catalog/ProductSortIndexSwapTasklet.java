@@ -0,0 +1,26 @@
+package com.loopers.application.catalog;
+
+import com.loopers.domain.catalog.ProductSortIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSortIndexSwapTasklet implements Tasklet {
+
+    private final ProductSortIndexService productSortIndexService;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        Long jobExecutionId = chunkContext.getStepContext().getStepExecution().getJobExecutionId();
+        int swappedKeys = productSortIndexService.swap(jobExecutionId);
+        log.info("상품 정렬 인덱스 재빌드 완료: jobExecutionId={}, keys={}", jobExecutionId, swappedKeys);
+        return RepeatStatus.FINISHED;
+    }
+}
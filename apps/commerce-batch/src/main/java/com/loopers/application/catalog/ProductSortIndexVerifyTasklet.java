@@ -0,0 +1,68 @@
+package com.loopers.application.catalog;
+
+import com.loopers.domain.catalog.ProductIndexEntry;
+import com.loopers.domain.catalog.ProductIndexEntryRepository;
+import com.loopers.domain.catalog.ProductIndexSort;
+import com.loopers.domain.catalog.ProductSortIndexService;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정렬 인덱스 정합성 검사
+ * 1. 전체 인덱스 크기와 삭제되지 않은 상품 수 비교
+ * 2. 임의 구간의 상품 SAMPLE_SIZE 개에 대해 인덱스 점수와 DB 값으로 계산한 점수 비교
+ * 어긋나면 INCONSISTENT 로 종료하며, 스케줄러가 재빌드를 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSortIndexVerifyTasklet implements Tasklet {
+
+    public static final ExitStatus INCONSISTENT = new ExitStatus("INCONSISTENT");
+
+    private static final int SAMPLE_SIZE = 500;
+
+    private final ProductIndexEntryRepository productIndexEntryRepository;
+    private final ProductSortIndexService productSortIndexService;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        long activeCount = productIndexEntryRepository.countActive();
+        Long maxId = productIndexEntryRepository.findMaxId();
+        long startAfterId = maxId != null && maxId > SAMPLE_SIZE ? ThreadLocalRandom.current().nextLong(maxId - SAMPLE_SIZE) : 0L;
+        List<ProductIndexEntry> sample = productIndexEntryRepository.findActiveAfterId(startAfterId, SAMPLE_SIZE);
+
+        int mismatches = 0;
+        for (ProductIndexSort sort : ProductIndexSort.values()) {
+            long indexSize = productSortIndexService.globalSize(sort);
+            if (indexSize != activeCount) {
+                log.warn("정렬 인덱스 크기 불일치: sort={}, index={}, db={}", sort.getValue(), indexSize, activeCount);
+                mismatches++;
+            }
+
+            List<Double> scores = productSortIndexService.globalScores(sort, sample);
+            for (int i = 0; i < sample.size(); i++) {
+                if (!Objects.equals(scores.get(i), sort.score(sample.get(i)))) {
+                    mismatches++;
+                }
+            }
+        }
+
+        if (mismatches > 0) {
+            log.warn("상품 정렬 인덱스 정합성 검사 실패: mismatches={}, sampled={}", mismatches, sample.size());
+            contribution.setExitStatus(INCONSISTENT.addExitDescription("mismatches=" + mismatches));
+        } else {
+            log.info("상품 정렬 인덱스 정합성 검사 통과: activeProducts={}, sampled={}", activeCount, sample.size());
+        }
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,27 @@
+package com.loopers.application.catalog;
+
+import com.loopers.domain.catalog.ProductIndexEntry;
+import com.loopers.domain.catalog.ProductSortIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+@RequiredArgsConstructor
+public class ProductSortIndexWriter implements ItemWriter<ProductIndexEntry> {
+
+    private final ProductSortIndexService productSortIndexService;
+
+    private Long jobExecutionId;
+
+    @BeforeStep
+    public void beforeStep(StepExecution stepExecution) {
+        this.jobExecutionId = stepExecution.getJobExecutionId();
+    }
+
+    @Override
+    public void write(Chunk<? extends ProductIndexEntry> items) {
+        productSortIndexService.stage(jobExecutionId, items.getItems());
+    }
+}
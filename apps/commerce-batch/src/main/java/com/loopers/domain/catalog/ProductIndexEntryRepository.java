@@ -0,0 +1,12 @@
+package com.loopers.domain.catalog;
+
+import java.util.List;
+
+public interface ProductIndexEntryRepository {
+
+    long countActive();
+
+    List<ProductIndexEntry> findActiveAfterId(Long lastId, int limit);
+
+    Long findMaxId();
+}
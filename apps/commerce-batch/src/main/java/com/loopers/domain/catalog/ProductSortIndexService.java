@@ -0,0 +1,150 @@
+package com.loopers.domain.catalog;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품 정렬 인덱스(ZSET) 재빌드
+ * 실행별 임시 키(product:staging:{executionId}:...)에 적재한 뒤 RENAME 으로 교체해, 재빌드 중에도 기존 인덱스로 조회할 수 있게 한다.
+ * 교체가 끝나면 product:index:ready 를 기록하며, commerce-api 는 이 키가 있을 때만 인덱스로 목록을 조회한다.
+ */
+@Slf4j
+@Service
+public class ProductSortIndexService {
+
+    private static final String INDEX_PREFIX = "product:index:";
+    private static final String STAGING_PREFIX = "product:staging:";
+    private static final String READY_KEY = "product:index:ready";
+
+    private final RedisTemplate<String, String> redisTemplateMaster;
+
+    public ProductSortIndexService(@Qualifier("redisTemplateMaster") RedisTemplate<String, String> redisTemplateMaster) {
+        this.redisTemplateMaster = redisTemplateMaster;
+    }
+
+    /**
+     * 상품들을 임시 인덱스에 적재한다. 적재한 임시 키 목록은 교체 단계에서 사용하도록 별도 SET 에 기록한다.
+     */
+    public void stage(Long executionId, List<? extends ProductIndexEntry> entries) {
+        byte[] stagedKeysKey = bytes(stagedKeysKey(executionId));
+        Set<String> stagingKeys = new HashSet<>();
+        redisTemplateMaster.executePipelined((RedisCallback<Object>) connection -> {
+            for (ProductIndexEntry entry : entries) {
+                byte[] member = bytes(ProductIndexSort.member(entry.productId()));
+                for (ProductIndexSort sort : ProductIndexSort.values()) {
+                    double score = sort.score(entry);
+                    for (String liveKey : List.of(sort.globalKey(), sort.brandKey(entry.brandId()))) {
+                        String stagingKey = stagingKey(executionId, liveKey);
+                        connection.zSetCommands().zAdd(bytes(stagingKey), score, member);
+                        stagingKeys.add(stagingKey);
+                    }
+                }
+            }
+            if (!stagingKeys.isEmpty()) {
+                connection.setCommands().sAdd(stagedKeysKey, stagingKeys.stream().map(ProductSortIndexService::bytes).toArray(byte[][]::new));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 임시 인덱스를 운영 인덱스로 교체한다.
+     * 이번 재빌드에 없는 운영 인덱스(상품이 모두 삭제된 브랜드 등)는 제거한다.
+     */
+    public int swap(Long executionId) {
+        String stagedKeysKey = stagedKeysKey(executionId);
+        Set<String> stagingKeys = redisTemplateMaster.opsForSet().members(stagedKeysKey);
+        Set<String> rebuiltLiveKeys = new HashSet<>();
+
+        if (stagingKeys != null) {
+            String stagingPrefix = stagingPrefix(executionId);
+            for (String stagingKey : stagingKeys) {
+                String liveKey = stagingKey.substring(stagingPrefix.length());
+                redisTemplateMaster.rename(stagingKey, liveKey);
+                rebuiltLiveKeys.add(liveKey);
+            }
+        }
+
+        // 실패한 이전 실행이 남긴 임시 키도 함께 정리한다.
+        List<String> leftoverStagingKeys = scanKeys(STAGING_PREFIX + "*");
+        if (!leftoverStagingKeys.isEmpty()) {
+            redisTemplateMaster.delete(leftoverStagingKeys);
+        }
+
+        List<String> obsoleteKeys = new ArrayList<>();
+        for (String liveKey : scanKeys(INDEX_PREFIX + "*")) {
+            if (!liveKey.equals(READY_KEY) && !rebuiltLiveKeys.contains(liveKey)) {
+                obsoleteKeys.add(liveKey);
+            }
+        }
+        if (!obsoleteKeys.isEmpty()) {
+            redisTemplateMaster.delete(obsoleteKeys);
+        }
+
+        redisTemplateMaster.opsForValue().set(READY_KEY, ZonedDateTime.now().toString());
+
+        log.info("상품 정렬 인덱스 교체 완료: executionId={}, rebuilt={}, removed={}",
+                executionId, rebuiltLiveKeys.size(), obsoleteKeys.size());
+        return rebuiltLiveKeys.size();
+    }
+
+    public long globalSize(ProductIndexSort sort) {
+        Long size = redisTemplateMaster.opsForZSet().zCard(sort.globalKey());
+        return size != null ? size : 0L;
+    }
+
+    /**
+     * 전체 인덱스의 점수를 파이프라인으로 조회한다. 인덱스에 없는 상품은 null 이다.
+     */
+    public List<Double> globalScores(ProductIndexSort sort, List<? extends ProductIndexEntry> entries) {
+        byte[] key = bytes(sort.globalKey());
+        List<Object> results = redisTemplateMaster.executePipelined((RedisCallback<Object>) connection -> {
+            for (ProductIndexEntry entry : entries) {
+                connection.zSetCommands().zScore(key, bytes(ProductIndexSort.member(entry.productId())));
+            }
+            return null;
+        });
+        return results.stream()
+                .map(result -> result instanceof Double score ? score : null)
+                .toList();
+    }
+
+    private List<String> scanKeys(String pattern) {
+        List<String> keys = new ArrayList<>();
+        redisTemplateMaster.execute((RedisCallback<Void>) connection -> {
+            ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1_000).build();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                cursor.forEachRemaining(key -> keys.add(new String(key, StandardCharsets.UTF_8)));
+            }
+            return null;
+        });
+        return keys;
+    }
+
+    private String stagingPrefix(Long executionId) {
+        return STAGING_PREFIX + executionId + ":";
+    }
+
+    private String stagingKey(Long executionId, String liveKey) {
+        return stagingPrefix(executionId) + liveKey;
+    }
+
+    private String stagedKeysKey(Long executionId) {
+        return STAGING_PREFIX + executionId + ":keys";
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,52 @@
+package com.loopers.infrastructure.catalog;
+
+import com.loopers.domain.catalog.ProductIndexEntry;
+import com.loopers.domain.catalog.ProductIndexEntryRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * products 테이블은 commerce-api 가 소유하므로 엔티티 없이 필요한 컬럼만 JDBC 로 조회한다.
+ * created_at 은 UTC 로 정규화되어 저장된다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ProductIndexEntryRepositoryImpl implements ProductIndexEntryRepository {
+
+    public static final RowMapper<ProductIndexEntry> ROW_MAPPER = (rs, rowNum) -> new ProductIndexEntry(
+            rs.getLong("id"),
+            rs.getLong("brand_id"),
+            rs.getInt("price"),
+            rs.getInt("like_count"),
+            rs.getObject("created_at", LocalDateTime.class).toInstant(ZoneOffset.UTC),
+            rs.getBoolean("is_deleted")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long countActive() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products WHERE is_deleted = false", Long.class);
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public List<ProductIndexEntry> findActiveAfterId(Long lastId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, brand_id, price, like_count, created_at, is_deleted FROM products"
+                        + " WHERE id > ? AND is_deleted = false ORDER BY id LIMIT ?",
+                ROW_MAPPER,
+                lastId, limit
+        );
+    }
+
+    @Override
+    public Long findMaxId() {
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM products", Long.class);
+    }
+}
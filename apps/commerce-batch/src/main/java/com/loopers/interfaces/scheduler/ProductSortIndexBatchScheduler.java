@@ -0,0 +1,65 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.catalog.ProductSortIndexVerifyTasklet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+@Slf4j
+@Component
+public class ProductSortIndexBatchScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job productSortIndexRebuildJob;
+    private final Job productSortIndexVerifyJob;
+
+    public ProductSortIndexBatchScheduler(
+            JobLauncher jobLauncher,
+            @Qualifier("productSortIndexRebuildJob") Job productSortIndexRebuildJob,
+            @Qualifier("productSortIndexVerifyJob") Job productSortIndexVerifyJob
+    ) {
+        this.jobLauncher = jobLauncher;
+        this.productSortIndexRebuildJob = productSortIndexRebuildJob;
+        this.productSortIndexVerifyJob = productSortIndexVerifyJob;
+    }
+
+    @Scheduled(cron = "0 0 4 * * *")
+    public void runRebuildJob() {
+        try {
+            log.info("상품 정렬 인덱스 재빌드 시작: time={}", LocalDateTime.now());
+            jobLauncher.run(productSortIndexRebuildJob, newJobParameters());
+            log.info("상품 정렬 인덱스 재빌드 완료: time={}", LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("상품 정렬 인덱스 재빌드 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "0 15 * * * *")
+    public void runVerifyJob() {
+        try {
+            JobExecution execution = jobLauncher.run(productSortIndexVerifyJob, newJobParameters());
+
+            if (ProductSortIndexVerifyTasklet.INCONSISTENT.getExitCode().equals(execution.getExitStatus().getExitCode())) {
+                log.warn("상품 정렬 인덱스 불일치 감지, 재빌드를 실행합니다: {}", execution.getExitStatus().getExitDescription());
+                runRebuildJob();
+            }
+        } catch (Exception e) {
+            log.error("상품 정렬 인덱스 정합성 검사 실패", e);
+        }
+    }
+
+    private JobParameters newJobParameters() {
+        return new JobParametersBuilder()
+                .addString("executionTime", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .toJobParameters();
+    }
+}
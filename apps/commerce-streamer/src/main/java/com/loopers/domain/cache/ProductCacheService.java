@@ -1,7 +1,17 @@
 package com.loopers.domain.cache;
 
+import com.loopers.domain.catalog.ProductIndexSort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -10,23 +20,111 @@ import org.springframework.stereotype.Service;
 public class ProductCacheService {
 
     private static final String PRODUCT_DETAIL_PREFIX = "product:detail:";
+    private static final String INVALIDATION_CHANNEL = "product:cache:invalidation";
+    private static final String LIST_GENERATION_PREFIX = "product:listgen:";
+
+    // 세대 키가 만료되어 0 부터 다시 시작해도 이전 세대의 목록 캐시(TTL 1분 + 유예)는 이미 만료된 뒤가 되도록 충분히 길게 둔다.
+    private static final Duration LIST_GENERATION_TTL = Duration.ofDays(1);
 
     private final RedisTemplate<String, Object> redisTemplateMaster;
+    private final RedisTemplate<String, String> redisTemplateStringMaster;
+    private final DistributionSummary invalidationFanOut;
+    private final Counter globalInvalidations;
+    private final Counter brandInvalidations;
 
     public ProductCacheService(
-            @Qualifier("redisTemplateObjectMaster") RedisTemplate<String, Object> redisTemplateMaster
+            @Qualifier("redisTemplateObjectMaster") RedisTemplate<String, Object> redisTemplateMaster,
+            @Qualifier("redisTemplateMaster") RedisTemplate<String, String> redisTemplateStringMaster,
+            MeterRegistry meterRegistry
     ) {
         this.redisTemplateMaster = redisTemplateMaster;
+        this.redisTemplateStringMaster = redisTemplateStringMaster;
+        this.invalidationFanOut = DistributionSummary.builder("product.cache.list.invalidation.fanout")
+                .description("상품 변경 한 번(배치)에 올린 목록 캐시 세대 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.globalInvalidations = Counter.builder("product.cache.list.invalidations")
+                .tag("scope", "all")
+                .register(meterRegistry);
+        this.brandInvalidations = Counter.builder("product.cache.list.invalidations")
+                .tag("scope", "brand")
+                .register(meterRegistry);
     }
 
     public void invalidateProductCache(Long productId) {
         String productDetailKey = getProductDetailKey(productId);
         Boolean deleted = redisTemplateMaster.delete(productDetailKey);
+        publishInvalidation(productDetailKey);
         log.info("상품 상세 캐시 삭제: productId={}, deleted={}", productId, deleted);
     }
 
+    /**
+     * 브랜드들의 목록 캐시 세대를 올려 (전체, 브랜드) x 정렬 범위의 모든 페이지를 무효화한다.
+     * commerce-api 는 목록 캐시 키에 세대 번호를 포함하므로 KEYS/SCAN 없이 INCR 한 번으로 범위 전체가 무효화된다.
+     */
+    public void invalidateProductLists(Collection<Long> brandIds, Collection<ProductIndexSort> sorts) {
+        if (brandIds.isEmpty() || sorts.isEmpty()) {
+            return;
+        }
+
+        List<String> generationKeys = new ArrayList<>();
+        for (ProductIndexSort sort : sorts) {
+            generationKeys.add(getListGenerationKey(sort, null));
+            brandIds.forEach(brandId -> generationKeys.add(getListGenerationKey(sort, brandId)));
+        }
+
+        List<Object> results = redisTemplateStringMaster.executePipelined((RedisCallback<Object>) connection -> {
+            for (String generationKey : generationKeys) {
+                byte[] key = generationKey.getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().incr(key);
+                connection.keyCommands().expire(key, LIST_GENERATION_TTL.toSeconds());
+            }
+            return null;
+        });
+        publishGenerations(generationKeys, results);
+
+        invalidationFanOut.record(generationKeys.size());
+        globalInvalidations.increment(sorts.size());
+        brandInvalidations.increment((double) sorts.size() * brandIds.size());
+        log.info("상품 목록 캐시 세대 증가: brandIds={}, sorts={}, namespaces={}", brandIds, sorts, generationKeys.size());
+    }
+
+    /**
+     * commerce-api 각 노드가 로컬에 둔 세대 사본을 갱신하도록 "{세대 키}={세대}" 메시지를 발행한다.
+     * 파이프라인 결과는 키마다 (INCR, EXPIRE) 순서로 들어 있다.
+     */
+    private void publishGenerations(List<String> generationKeys, List<Object> results) {
+        try {
+            byte[] channel = INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+            redisTemplateStringMaster.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < generationKeys.size(); i++) {
+                    String message = generationKeys.get(i) + "=" + results.get(i * 2);
+                    connection.publish(channel, message.getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("목록 캐시 세대 메시지 발행 실패: keys={}", generationKeys.size(), e);
+        }
+    }
+
+    /**
+     * commerce-api 각 노드의 로컬(L1) 캐시도 함께 비우도록 무효화 메시지를 발행한다.
+     */
+    private void publishInvalidation(String cacheKey) {
+        try {
+            redisTemplateStringMaster.convertAndSend(INVALIDATION_CHANNEL, cacheKey);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패: cacheKey={}", cacheKey, e);
+        }
+    }
+
     private String getProductDetailKey(Long productId) {
         return PRODUCT_DETAIL_PREFIX + productId;
     }
-}
 
+    private String getListGenerationKey(ProductIndexSort sort, Long brandId) {
+        String scopePart = brandId != null ? "brand:" + brandId : "all";
+        return LIST_GENERATION_PREFIX + sort.getValue() + ":" + scopePart;
+    }
+}
@@ -0,0 +1,9 @@
+package com.loopers.domain.catalog;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductIndexEntryRepository {
+
+    List<ProductIndexEntry> findByProductIds(Collection<Long> productIds);
+}
@@ -0,0 +1,109 @@
+package com.loopers.domain.catalog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품 정렬 인덱스(ZSET) 유지
+ * product:index:{sort}:all, product:index:{sort}:brand:{brandId} 를 관리하며 commerce-api 목록 조회가 ZRANGE 로 페이지를 구한다.
+ * 최신순, 가격순은 products 테이블의 현재 값으로 점수를 덮어쓴다.
+ * 좋아요순은 products.like_count 가 write-behind 로 늦게 반영되고 샤드 합산도 빠져 있어, 이벤트의 증감(ZINCRBY)으로 갱신한다.
+ * 인덱스에 없는 상품만 DB 값으로 초기 점수를 넣으며, 누적 오차는 commerce-batch 의 정합성 검사와 재빌드로 바로잡는다.
+ */
+@Slf4j
+@Service
+public class ProductSortIndexService {
+
+    // 멤버가 있으면 증감만 더하고, 없으면 초기 점수로 추가한다.
+    private static final byte[] INCREMENT_OR_SEED_SCRIPT = bytes("""
+            if redis.call("zscore", KEYS[1], ARGV[1]) then
+                redis.call("zincrby", KEYS[1], ARGV[2], ARGV[1])
+            else
+                redis.call("zadd", KEYS[1], ARGV[3], ARGV[1])
+            end
+            return 1
+            """);
+
+    private final RedisTemplate<String, String> redisTemplateMaster;
+    private final ProductIndexEntryRepository productIndexEntryRepository;
+
+    public ProductSortIndexService(
+            @Qualifier("redisTemplateMaster") RedisTemplate<String, String> redisTemplateMaster,
+            ProductIndexEntryRepository productIndexEntryRepository
+    ) {
+        this.redisTemplateMaster = redisTemplateMaster;
+        this.productIndexEntryRepository = productIndexEntryRepository;
+    }
+
+    /**
+     * 상품들의 정렬 인덱스를 DB 값으로 갱신한다. 삭제된 상품은 인덱스에서 제거한다.
+     * 좋아요순은 인덱스에 없을 때만 DB 값으로 넣고, 이미 있으면 이벤트로 누적한 점수를 유지한다.
+     * 갱신에 사용한 상품 스냅샷을 반환한다.
+     */
+    public List<ProductIndexEntry> refresh(Collection<Long> productIds) {
+        return apply(productIds, Map.of());
+    }
+
+    /**
+     * 좋아요 수 증감(상품별 합계)을 좋아요순 인덱스에 더하고, 나머지 정렬 인덱스는 DB 값으로 갱신한다.
+     * 인덱스에 아직 없는 상품(신규 상품 등)은 이 때 함께 색인된다.
+     */
+    public List<ProductIndexEntry> applyLikeDeltas(Map<Long, Integer> likeDeltas) {
+        return apply(likeDeltas.keySet(), likeDeltas);
+    }
+
+    private List<ProductIndexEntry> apply(Collection<Long> productIds, Map<Long, Integer> likeDeltas) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<ProductIndexEntry> entries = productIndexEntryRepository.findByProductIds(productIds);
+        redisTemplateMaster.executePipelined((RedisCallback<Object>) connection -> {
+            for (ProductIndexEntry entry : entries) {
+                byte[] member = bytes(ProductIndexSort.member(entry.productId()));
+                for (ProductIndexSort sort : ProductIndexSort.values()) {
+                    byte[] globalKey = bytes(sort.globalKey());
+                    byte[] brandKey = bytes(sort.brandKey(entry.brandId()));
+                    if (entry.deleted()) {
+                        connection.zSetCommands().zRem(globalKey, member);
+                        connection.zSetCommands().zRem(brandKey, member);
+                    } else if (sort == ProductIndexSort.LIKES_DESC) {
+                        // 좋아요순 점수는 -likeCount 이므로 증감의 부호를 뒤집어 더한다.
+                        int delta = likeDeltas.getOrDefault(entry.productId(), 0);
+                        double seed = sort.score(entry);
+                        incrementOrSeed(connection, globalKey, member, -delta, seed);
+                        incrementOrSeed(connection, brandKey, member, -delta, seed);
+                    } else {
+                        double score = sort.score(entry);
+                        connection.zSetCommands().zAdd(globalKey, score, member);
+                        connection.zSetCommands().zAdd(brandKey, score, member);
+                    }
+                }
+            }
+            return null;
+        });
+
+        log.debug("상품 정렬 인덱스 갱신: requested={}, refreshed={}", productIds.size(), entries.size());
+        return entries;
+    }
+
+    private static void incrementOrSeed(RedisConnection connection, byte[] key, byte[] member, int delta, double seed) {
+        connection.scriptingCommands().eval(
+                INCREMENT_OR_SEED_SCRIPT, ReturnType.INTEGER, 1,
+                key, member, bytes(String.valueOf(delta)), bytes(String.valueOf(seed))
+        );
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
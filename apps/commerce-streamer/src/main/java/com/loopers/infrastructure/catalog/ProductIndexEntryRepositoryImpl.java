@@ -0,0 +1,44 @@
+package com.loopers.infrastructure.catalog;
+
+import com.loopers.domain.catalog.ProductIndexEntry;
+import com.loopers.domain.catalog.ProductIndexEntryRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * products 테이블은 commerce-api 가 소유하므로 엔티티 없이 필요한 컬럼만 JDBC 로 조회한다.
+ * created_at 은 UTC 로 정규화되어 저장된다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ProductIndexEntryRepositoryImpl implements ProductIndexEntryRepository {
+
+    private static final String SELECT_BY_IDS = "SELECT id, brand_id, price, like_count, created_at, is_deleted"
+            + " FROM products WHERE id IN (:productIds)";
+
+    private static final RowMapper<ProductIndexEntry> ROW_MAPPER = (rs, rowNum) -> new ProductIndexEntry(
+            rs.getLong("id"),
+            rs.getLong("brand_id"),
+            rs.getInt("price"),
+            rs.getInt("like_count"),
+            rs.getObject("created_at", LocalDateTime.class).toInstant(ZoneOffset.UTC),
+            rs.getBoolean("is_deleted")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ProductIndexEntry> findByProductIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_BY_IDS, Map.of("productIds", productIds), ROW_MAPPER);
+    }
+}
@@ -3,6 +3,9 @@ package com.loopers.interfaces.consumer;
 import com.loopers.application.kafka.KafkaEvent;
 import com.loopers.config.kafka.KafkaConfig;
 import com.loopers.domain.cache.ProductCacheService;
+import com.loopers.domain.catalog.ProductIndexEntry;
+import com.loopers.domain.catalog.ProductIndexSort;
+import com.loopers.domain.catalog.ProductSortIndexService;
 import com.loopers.domain.eventhandled.EventHandledService;
 import com.loopers.domain.metrics.ProductMetricsService;
 import com.loopers.domain.ranking.RankingService;
@@ -15,7 +18,14 @@ import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -26,6 +36,7 @@ public class MetricsConsumer {
     private final ProductMetricsService productMetricsService;
     private final ProductCacheService productCacheService;
     private final RankingService rankingService;
+    private final ProductSortIndexService productSortIndexService;
 
     @KafkaListener(
             topics = {"product-liked-events"},
@@ -37,6 +48,7 @@ public class MetricsConsumer {
             List<ConsumerRecord<String, Object>> messages,
             Acknowledgment acknowledgment
     ) {
+        Map<Long, Integer> likeDeltas = new LinkedHashMap<>();
         for (ConsumerRecord<String, Object> record : messages) {
             KafkaEvent.ProductEvent.ProductLiked event = (KafkaEvent.ProductEvent.ProductLiked) record.value();
 
@@ -46,6 +58,7 @@ public class MetricsConsumer {
 
             productMetricsService.incrementLikeCount(event.productId());
             rankingService.incrementScore(event.productId(), RankingWeight.LIKE);
+            likeDeltas.merge(event.productId(), 1, Integer::sum);
             eventHandledService.markAsHandled(
                     event.eventId(),
                     "ProductLiked",
@@ -54,6 +67,7 @@ public class MetricsConsumer {
             log.info("상품 좋아요 수 집계 완료: productId={}", event.productId());
         }
 
+        onLikesChanged(likeDeltas);
         acknowledgment.acknowledge();
     }
 
@@ -67,6 +81,7 @@ public class MetricsConsumer {
             List<ConsumerRecord<String, Object>> messages,
             Acknowledgment acknowledgment
     ) {
+        Map<Long, Integer> likeDeltas = new LinkedHashMap<>();
         for (ConsumerRecord<String, Object> record : messages) {
             KafkaEvent.ProductEvent.ProductUnliked event = (KafkaEvent.ProductEvent.ProductUnliked) record.value();
 
@@ -75,6 +90,7 @@ public class MetricsConsumer {
             }
 
             productMetricsService.decrementLikeCount(event.productId());
+            likeDeltas.merge(event.productId(), -1, Integer::sum);
             eventHandledService.markAsHandled(
                     event.eventId(),
                     "ProductUnliked",
@@ -83,6 +99,7 @@ public class MetricsConsumer {
             log.info("상품 좋아요 취소 수 집계 완료: productId={}", event.productId());
         }
 
+        onLikesChanged(likeDeltas);
         acknowledgment.acknowledge();
     }
 
@@ -192,6 +209,7 @@ public class MetricsConsumer {
             List<ConsumerRecord<String, Object>> messages,
             Acknowledgment acknowledgment
     ) {
+        Set<Long> changedProductIds = new LinkedHashSet<>();
         for (ConsumerRecord<String, Object> record : messages) {
             KafkaEvent.ProductEvent.ProductStockDepleted event = (KafkaEvent.ProductEvent.ProductStockDepleted) record.value();
 
@@ -200,6 +218,7 @@ public class MetricsConsumer {
             }
 
             productCacheService.invalidateProductCache(event.productId());
+            changedProductIds.add(event.productId());
             eventHandledService.markAsHandled(
                     event.eventId(),
                     "ProductStockDepleted",
@@ -209,6 +228,44 @@ public class MetricsConsumer {
                     event.productId(), event.remainingStock());
         }
 
+        onProductsChanged(changedProductIds, Arrays.asList(ProductIndexSort.values()));
         acknowledgment.acknowledge();
     }
+
+    /**
+     * 좋아요 수 증감을 좋아요순 인덱스에 더하고 좋아요순 목록 캐시 세대를 올린다.
+     */
+    private void onLikesChanged(Map<Long, Integer> likeDeltas) {
+        updateIndexAndLists(
+                likeDeltas.keySet(),
+                () -> productSortIndexService.applyLikeDeltas(likeDeltas),
+                List.of(ProductIndexSort.LIKES_DESC)
+        );
+    }
+
+    /**
+     * 변경된 상품의 정렬 인덱스를 DB 값으로 갱신하고, 순서가 바뀔 수 있는 정렬의 목록 캐시 세대를 올린다.
+     */
+    private void onProductsChanged(Set<Long> productIds, List<ProductIndexSort> affectedSorts) {
+        updateIndexAndLists(productIds, () -> productSortIndexService.refresh(productIds), affectedSorts);
+    }
+
+    /**
+     * 실패해도 집계를 되돌리지 않는다. 어긋난 인덱스는 commerce-batch 의 정합성 검사와 재빌드로, 목록 캐시는 TTL 로 복구된다.
+     */
+    private void updateIndexAndLists(
+            Set<Long> productIds,
+            Supplier<List<ProductIndexEntry>> indexUpdate,
+            List<ProductIndexSort> affectedSorts
+    ) {
+        try {
+            List<ProductIndexEntry> entries = indexUpdate.get();
+            Set<Long> brandIds = entries.stream()
+                    .map(ProductIndexEntry::brandId)
+                    .collect(Collectors.toSet());
+            productCacheService.invalidateProductLists(brandIds, affectedSorts);
+        } catch (Exception e) {
+            log.warn("상품 정렬 인덱스/목록 캐시 갱신 실패: productIds={}", productIds, e);
+        }
+    }
 }
@@ -0,0 +1,55 @@
+package com.loopers.domain.cache;
+
+import com.loopers.domain.catalog.ProductIndexSort;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ProductCacheServiceIntegrationTest {
+
+    @Autowired
+    private ProductCacheService productCacheService;
+
+    @Autowired
+    @Qualifier("redisTemplateMaster")
+    private RedisTemplate<String, String> redisTemplateMaster;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("목록 캐시 세대 증가")
+    @Nested
+    class InvalidateProductLists {
+
+        @DisplayName("정렬별로 전체 범위와 각 브랜드 범위의 세대가 1씩 증가한다.")
+        @Test
+        void incrementsGlobalAndBrandGenerations() {
+            // act
+            productCacheService.invalidateProductLists(Set.of(1L, 2L), List.of(ProductIndexSort.LIKES_DESC));
+            productCacheService.invalidateProductLists(Set.of(1L), List.of(ProductIndexSort.LIKES_DESC));
+
+            // assert
+            assertThat(redisTemplateMaster.opsForValue().get("product:listgen:likes_desc:all")).isEqualTo("2");
+            assertThat(redisTemplateMaster.opsForValue().get("product:listgen:likes_desc:brand:1")).isEqualTo("2");
+            assertThat(redisTemplateMaster.opsForValue().get("product:listgen:likes_desc:brand:2")).isEqualTo("1");
+            assertThat(redisTemplateMaster.hasKey("product:listgen:latest:all")).isFalse();
+        }
+    }
+}
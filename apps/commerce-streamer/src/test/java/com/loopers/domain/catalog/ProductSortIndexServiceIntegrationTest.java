@@ -0,0 +1,136 @@
+package com.loopers.domain.catalog;
+
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class ProductSortIndexServiceIntegrationTest {
+
+    @Autowired
+    private ProductSortIndexService productSortIndexService;
+
+    @Autowired
+    @Qualifier("redisTemplateMaster")
+    private RedisTemplate<String, String> redisTemplateMaster;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @MockitoBean
+    private ProductIndexEntryRepository productIndexEntryRepository;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("정렬 인덱스 갱신")
+    @Nested
+    class Refresh {
+
+        @DisplayName("점수가 같으면 ID 오름차순으로 정렬되어 DB 정렬과 같은 순서가 된다.")
+        @Test
+        void ordersTiesByProductIdAscending() {
+            // arrange
+            Instant createdAt = Instant.parse("2026-01-01T00:00:00.123456Z");
+            when(productIndexEntryRepository.findByProductIds(anyCollection())).thenReturn(List.of(
+                    new ProductIndexEntry(10L, 1L, 1000, 5, createdAt, false),
+                    new ProductIndexEntry(9L, 1L, 1000, 5, createdAt, false),
+                    new ProductIndexEntry(11L, 2L, 500, 7, createdAt.plusNanos(1_000), false)
+            ));
+
+            // act
+            productSortIndexService.refresh(List.of(9L, 10L, 11L));
+
+            // assert
+            assertThat(range(ProductIndexSort.LIKES_DESC.globalKey())).containsExactly(11L, 9L, 10L);
+            assertThat(range(ProductIndexSort.PRICE_ASC.globalKey())).containsExactly(11L, 9L, 10L);
+            assertThat(range(ProductIndexSort.LATEST.globalKey())).containsExactly(11L, 9L, 10L);
+            assertThat(range(ProductIndexSort.LIKES_DESC.brandKey(1L))).containsExactly(9L, 10L);
+        }
+
+        @DisplayName("삭제된 상품은 전체와 브랜드 인덱스에서 제거된다.")
+        @Test
+        void removesDeletedProduct() {
+            // arrange
+            Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+            when(productIndexEntryRepository.findByProductIds(anyCollection()))
+                    .thenReturn(List.of(new ProductIndexEntry(1L, 1L, 1000, 0, createdAt, false)))
+                    .thenReturn(List.of(new ProductIndexEntry(1L, 1L, 1000, 0, createdAt, true)));
+            productSortIndexService.refresh(List.of(1L));
+
+            // act
+            productSortIndexService.refresh(List.of(1L));
+
+            // assert
+            for (ProductIndexSort sort : ProductIndexSort.values()) {
+                assertThat(redisTemplateMaster.opsForZSet().zCard(sort.globalKey())).isZero();
+                assertThat(redisTemplateMaster.opsForZSet().zCard(sort.brandKey(1L))).isZero();
+            }
+        }
+    }
+
+    @DisplayName("좋아요 증감 반영")
+    @Nested
+    class ApplyLikeDeltas {
+
+        @DisplayName("인덱스에 있는 상품은 DB 값이 아니라 증감만큼 좋아요순 점수가 바뀐다.")
+        @Test
+        void incrementsIndexedScoreByDelta_ignoringDbLikeCount() {
+            // arrange
+            Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+            when(productIndexEntryRepository.findByProductIds(anyCollection()))
+                    .thenReturn(List.of(new ProductIndexEntry(1L, 1L, 1000, 5, createdAt, false)))
+                    .thenReturn(List.of(new ProductIndexEntry(1L, 1L, 1000, 5, createdAt, false)));
+            productSortIndexService.refresh(List.of(1L));
+
+            // act
+            productSortIndexService.applyLikeDeltas(Map.of(1L, 3));
+
+            // assert
+            String member = ProductIndexSort.member(1L);
+            assertThat(redisTemplateMaster.opsForZSet().score(ProductIndexSort.LIKES_DESC.globalKey(), member)).isEqualTo(-8.0);
+            assertThat(redisTemplateMaster.opsForZSet().score(ProductIndexSort.LIKES_DESC.brandKey(1L), member)).isEqualTo(-8.0);
+        }
+
+        @DisplayName("인덱스에 없는 상품은 DB 값으로 모든 정렬 인덱스에 추가된다.")
+        @Test
+        void seedsMissingProductFromDb() {
+            // arrange
+            Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+            when(productIndexEntryRepository.findByProductIds(anyCollection()))
+                    .thenReturn(List.of(new ProductIndexEntry(2L, 1L, 1000, 4, createdAt, false)));
+
+            // act
+            productSortIndexService.applyLikeDeltas(Map.of(2L, 1));
+
+            // assert
+            String member = ProductIndexSort.member(2L);
+            assertThat(redisTemplateMaster.opsForZSet().score(ProductIndexSort.LIKES_DESC.globalKey(), member)).isEqualTo(-4.0);
+            assertThat(range(ProductIndexSort.LATEST.brandKey(1L))).containsExactly(2L);
+            assertThat(range(ProductIndexSort.PRICE_ASC.globalKey())).containsExactly(2L);
+        }
+    }
+
+    private List<Long> range(String key) {
+        Set<String> members = redisTemplateMaster.opsForZSet().range(key, 0, -1);
+        return members.stream().map(Long::parseLong).toList();
+    }
+}
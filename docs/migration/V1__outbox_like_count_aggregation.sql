@@ -0,0 +1,27 @@
+-- ============================================================================
+-- 좋아요 수 write-behind 집계용 outbox 컬럼/인덱스 추가
+-- ============================================================================
+--
+-- ddl-auto 가 none 인 환경(dev/qa/prd)에서 write-behind 버전을 배포하기 전에 실행한다.
+--
+-- 이전 버전은 좋아요/취소마다 products.like_count 를 바로 갱신했으므로, 이미 쌓인 좋아요/취소 이벤트는
+-- 집계 완료(aggregated_at = created_at)로 표시한다. 표시하지 않으면 미집계 이벤트 재반영(replay)이
+-- 과거 이벤트를 유실된 것으로 보고 좋아요 수에 한 번 더 더한다.
+--
+-- 이전 버전과 새 버전이 함께 좋아요를 받으면 두 방식의 이벤트를 구분할 수 없으므로,
+-- 1~2 번을 먼저 실행하고 이전 버전 인스턴스를 모두 내린 뒤 3 번을 실행하고 새 버전을 띄운다.
+-- ============================================================================
+
+-- 1. 집계 시각 컬럼
+ALTER TABLE outbox
+    ADD COLUMN aggregated_at DATETIME(6) NULL;
+
+-- 2. 버퍼 반영 시 상품별 미집계 이벤트 표시 / 재반영 대상 상품 조회
+CREATE INDEX idx_outbox_aggregation ON outbox (partition_key, topic, aggregated_at);
+CREATE INDEX idx_outbox_unaggregated ON outbox (aggregated_at, topic, created_at);
+
+-- 3. 이전 버전이 이미 반영한 좋아요/취소 이벤트를 집계 완료로 표시
+UPDATE outbox
+SET aggregated_at = created_at
+WHERE topic IN ('product-liked-events', 'product-unliked-events')
+  AND aggregated_at IS NULL;
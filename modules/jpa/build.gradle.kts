@@ -13,6 +13,8 @@ dependencies {
     annotationProcessor("jakarta.annotation:jakarta.annotation-api")
     // jdbc-mysql
     runtimeOnly("com.mysql:mysql-connector-j")
+    // metrics
+    implementation("io.micrometer:micrometer-core")
 
     testImplementation("org.testcontainers:mysql")
 
@@ -2,23 +2,93 @@ package com.loopers.config.jpa;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
+/**
+ * Primary / Replica Hikari 풀과 라우팅 DataSource
+ * 각 풀은 hikaricp.*{pool} 지표를 노출하며, Replica 가 비활성화되어 있으면 Primary 풀을 그대로 사용한다.
+ */
 @Configuration
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
 class DataSourceConfig {
+
+    private static final String REPLICA_ENABLED = "replica-enabled";
+    private static final String ROUTING_PREFIX = "datasource.mysql-jpa.routing";
+
     @Bean
     @ConfigurationProperties(prefix = "datasource.mysql-jpa.main")
     HikariConfig mySqlMainHikariConfig() {
         return new HikariConfig();
     }
 
+    @Bean
+    @ConfigurationProperties(prefix = "datasource.mysql-jpa.replica")
+    HikariConfig mySqlReplicaHikariConfig() {
+        return new HikariConfig();
+    }
+
+    @Bean
+    HikariDataSource mySqlMainDataSource(
+            @Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return createPool(hikariConfig, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = ROUTING_PREFIX, name = REPLICA_ENABLED, havingValue = "true")
+    HikariDataSource mySqlReplicaDataSource(
+            @Qualifier("mySqlReplicaHikariConfig") HikariConfig hikariConfig,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return createPool(hikariConfig, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = ROUTING_PREFIX, name = REPLICA_ENABLED, havingValue = "true")
+    ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("mySqlReplicaDataSource") HikariDataSource replicaDataSource,
+            ReplicaRoutingProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new ReplicaLagMonitor(replicaDataSource, properties, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
     @Primary
     @Bean
-    HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig) {
+    DataSource dataSource(
+            @Qualifier("mySqlMainDataSource") HikariDataSource mainDataSource,
+            @Qualifier("mySqlReplicaDataSource") ObjectProvider<HikariDataSource> replicaDataSource,
+            ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        HikariDataSource replica = replicaDataSource.getIfAvailable();
+        ReplicaLagMonitor lagMonitor = replicaLagMonitor.getIfAvailable();
+        if (replica == null || lagMonitor == null) {
+            return mainDataSource;
+        }
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+                mainDataSource, replica, lagMonitor, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private HikariDataSource createPool(HikariConfig hikariConfig, ObjectProvider<MeterRegistry> meterRegistry) {
+        // 풀이 시작되면 설정이 잠기므로 생성 전에 지표 수집기를 지정한다.
+        meterRegistry.ifAvailable(registry -> hikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
         return new HikariDataSource(hikariConfig);
     }
 }
@@ -0,0 +1,112 @@
+package com.loopers.config.jpa;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * Replica 복제 지연 감시
+ * lagCheckInterval 마다 SHOW REPLICA STATUS 의 Seconds_Behind_Source 를 확인해 maxLag 이하일 때만 Replica 를 사용 가능으로 본다.
+ * 복제가 멈췄거나(값이 NULL) 조회에 실패하면 사용 불가로 본다.
+ * 복제 설정이 없는 단독 서버는 Replica URL 이 Primary 를 가리키는 설정 실수일 수 있으므로, standaloneAsReplica 일 때만 지연 0 으로 본다.
+ * 조회 계정에는 REPLICATION CLIENT 권한이 필요하다.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements InitializingBean, DisposableBean {
+
+    private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final DataSource replicaDataSource;
+    private final long maxLagSeconds;
+    private final Duration checkInterval;
+    private final boolean standaloneAsReplica;
+    private final ScheduledExecutorService scheduler;
+
+    // 첫 확인 전까지는 Primary 를 사용한다.
+    private volatile boolean available = false;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReplicaRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagSeconds = properties.maxLag().toSeconds();
+        this.checkInterval = properties.lagCheckInterval();
+        this.standaloneAsReplica = properties.standaloneAsReplica();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replica 복제 지연(초). 확인할 수 없으면 NaN")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .description("읽기 전용 트랜잭션을 Replica 로 보낼 수 있으면 1")
+                .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    void check() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICA_STATUS_QUERY)) {
+
+            if (!resultSet.next()) {
+                if (!standaloneAsReplica && available) {
+                    log.warn("Replica 에 복제 설정이 없어 Primary 로 읽습니다.");
+                }
+                update(standaloneAsReplica ? 0 : Double.NaN, standaloneAsReplica);
+                return;
+            }
+
+            long lag = resultSet.getLong(LAG_COLUMN);
+            if (resultSet.wasNull()) {
+                log.warn("Replica 복제가 멈춰 있어 Primary 로 읽습니다.");
+                update(Double.NaN, false);
+                return;
+            }
+
+            boolean withinLimit = lag <= maxLagSeconds;
+            if (!withinLimit && available) {
+                log.warn("Replica 지연이 허용치를 넘어 Primary 로 읽습니다: lag={}s, maxLag={}s", lag, maxLagSeconds);
+            }
+            update(lag, withinLimit);
+        } catch (SQLException e) {
+            if (available) {
+                log.warn("Replica 상태 확인 실패, Primary 로 읽습니다.", e);
+            }
+            update(Double.NaN, false);
+        }
+    }
+
+    private void update(double lagSeconds, boolean available) {
+        this.lagSeconds = lagSeconds;
+        this.available = available;
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.config.jpa;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 트랜잭션의 Replica 라우팅 설정
+ * replicaEnabled 가 false 이면 Replica 풀을 만들지 않고 모든 쿼리를 Primary 로 보낸다.
+ * Replica 지연이 maxLag 를 넘거나 상태를 확인할 수 없으면 Primary 로 보낸다.
+ * 복제 설정이 없는 서버(SHOW REPLICA STATUS 결과 없음)는 standaloneAsReplica 가 true 일 때만 지연 0 인 Replica 로 본다.
+ */
+@ConfigurationProperties(prefix = "datasource.mysql-jpa.routing")
+public record ReplicaRoutingProperties(
+        boolean replicaEnabled,
+        Duration maxLag,
+        Duration lagCheckInterval,
+        boolean standaloneAsReplica
+) {
+}
@@ -0,0 +1,164 @@
+package com.loopers.config.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 두 개의 MySQL 컨테이너를 Primary / Replica 로 두고, 각 DB 에 서로 다른 표식을 넣어 어느 쪽에서 읽었는지 확인한다.
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private static final MySQLContainer<?> primaryContainer = container();
+    private static final MySQLContainer<?> replicaContainer = container();
+
+    private static HikariDataSource primary;
+    private static HikariDataSource replica;
+
+    @BeforeAll
+    static void setUp() {
+        primaryContainer.start();
+        replicaContainer.start();
+        primary = pool(primaryContainer, "test-primary-pool");
+        replica = pool(replicaContainer, "test-replica-pool");
+
+        for (HikariDataSource dataSource : new HikariDataSource[]{primary, replica}) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20) NOT NULL)");
+            jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", dataSource == primary ? "primary" : "replica");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        primary.close();
+        replica.close();
+        primaryContainer.stop();
+        replicaContainer.stop();
+    }
+
+    @DisplayName("트랜잭션에서 쿼리를 실행할 때,")
+    @Nested
+    class Route {
+
+        @DisplayName("읽기 전용 트랜잭션은 Replica 에서 읽는다.")
+        @Test
+        void readsFromReplica_whenReadOnly() {
+            // arrange
+            ReplicaLagMonitor lagMonitor = lagMonitor();
+            lagMonitor.check();
+            DataSource dataSource = routing(lagMonitor);
+
+            // act
+            String node = readNode(dataSource, true);
+
+            // assert
+            assertThat(lagMonitor.isAvailable()).isTrue();
+            assertThat(node).isEqualTo("replica");
+        }
+
+        @DisplayName("읽기/쓰기 트랜잭션은 Primary 에서 읽는다.")
+        @Test
+        void readsFromPrimary_whenReadWrite() {
+            // arrange
+            ReplicaLagMonitor lagMonitor = lagMonitor();
+            lagMonitor.check();
+            DataSource dataSource = routing(lagMonitor);
+
+            // act
+            String node = readNode(dataSource, false);
+
+            // assert
+            assertThat(node).isEqualTo("primary");
+        }
+
+        @DisplayName("Replica 상태를 확인하지 못했으면 읽기 전용 트랜잭션도 Primary 에서 읽는다.")
+        @Test
+        void fallsBackToPrimary_whenReplicaUnavailable() {
+            // arrange
+            ReplicaLagMonitor lagMonitor = lagMonitor();
+            DataSource dataSource = routing(lagMonitor);
+
+            // act
+            String node = readNode(dataSource, true);
+
+            // assert
+            assertThat(lagMonitor.isAvailable()).isFalse();
+            assertThat(node).isEqualTo("primary");
+        }
+
+        @DisplayName("Replica 에 복제 설정이 없으면 단독 서버를 허용하지 않는 한 Primary 에서 읽는다.")
+        @Test
+        void fallsBackToPrimary_whenReplicaIsStandalone() {
+            // arrange
+            ReplicaLagMonitor lagMonitor = lagMonitor(false);
+            lagMonitor.check();
+            DataSource dataSource = routing(lagMonitor);
+
+            // act
+            String node = readNode(dataSource, true);
+
+            // assert
+            assertThat(lagMonitor.isAvailable()).isFalse();
+            assertThat(node).isEqualTo("primary");
+        }
+    }
+
+    private static String readNode(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    // 테스트 컨테이너는 복제 설정이 없는 단독 서버이므로 Replica 로 보도록 설정한다.
+    private static ReplicaLagMonitor lagMonitor() {
+        return lagMonitor(true);
+    }
+
+    private static ReplicaLagMonitor lagMonitor(boolean standaloneAsReplica) {
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties(
+                true, Duration.ofSeconds(3), Duration.ofSeconds(1), standaloneAsReplica);
+        return new ReplicaLagMonitor(replica, properties, new SimpleMeterRegistry());
+    }
+
+    private static DataSource routing(ReplicaLagMonitor lagMonitor) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+                primary, replica, lagMonitor, new SimpleMeterRegistry());
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static MySQLContainer<?> container() {
+        // SHOW REPLICA STATUS 는 REPLICATION CLIENT 권한이 필요하므로 root 로 접속한다.
+        return new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+                .withDatabaseName("loopers")
+                .withUsername("root")
+                .withPassword("test");
+    }
+
+    private static HikariDataSource pool(MySQLContainer<?> container, String poolName) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(container.getJdbcUrl());
+        config.setUsername(container.getUsername());
+        config.setPassword(container.getPassword());
+        config.setPoolName(poolName);
+        config.setMaximumPoolSize(2);
+        return new HikariDataSource(config);
+    }
+}
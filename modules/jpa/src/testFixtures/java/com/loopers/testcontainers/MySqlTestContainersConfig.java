@@ -32,5 +32,8 @@ public class MySqlTestContainersConfig {
         System.setProperty("datasource.mysql-jpa.main.jdbc-url", mySqlJdbcUrl);
         System.setProperty("datasource.mysql-jpa.main.username", mySqlContainer.getUsername());
         System.setProperty("datasource.mysql-jpa.main.password", mySqlContainer.getPassword());
+        System.setProperty("datasource.mysql-jpa.replica.jdbc-url", mySqlJdbcUrl);
+        System.setProperty("datasource.mysql-jpa.replica.username", mySqlContainer.getUsername());
+        System.setProperty("datasource.mysql-jpa.replica.password", mySqlContainer.getPassword());
     }
 }
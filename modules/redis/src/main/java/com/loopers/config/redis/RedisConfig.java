@@ -10,11 +10,13 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.util.List;
@@ -24,6 +26,7 @@ import java.util.function.Consumer;
 @EnableConfigurationProperties(RedisProperties.class)
 public class RedisConfig{
     private static final String CONNECTION_MASTER = "redisConnectionMaster";
+    public static final String CONNECTION_PUB_SUB = "redisConnectionPubSub";
     public static final String REDIS_TEMPLATE_MASTER = "redisTemplateMaster";
 
     private final RedisProperties redisProperties;
@@ -56,6 +59,18 @@ public class RedisConfig{
         );
     }
 
+    /**
+     * Pub/Sub 구독용 커넥션 (Master/Replica 구성은 구독을 지원하지 않으므로 Master 에 단독 연결)
+     */
+    @Qualifier(CONNECTION_PUB_SUB)
+    @Bean
+    public LettuceConnectionFactory pubSubRedisConnectionFactory() {
+        RedisNodeInfo master = redisProperties.master();
+        RedisStandaloneConfiguration standaloneConfig = new RedisStandaloneConfiguration(master.host(), master.port());
+        standaloneConfig.setDatabase(redisProperties.database());
+        return new LettuceConnectionFactory(standaloneConfig);
+    }
+
     @Primary
     @Bean
     public RedisTemplate<String, String> defaultRedisTemplate(LettuceConnectionFactory lettuceConnectionFactory) {
@@ -131,6 +146,25 @@ public class RedisConfig{
         return redisTemplate;
     }
 
+    /**
+     * 값을 byte[] 그대로 저장하는 RedisTemplate (읽기용 - Replica Preferred)
+     * 직렬화 포맷을 애플리케이션 코덱이 직접 결정할 때 사용한다.
+     */
+    @Bean(name = "redisTemplateBytes")
+    public RedisTemplate<String, byte[]> redisTemplateBytes(LettuceConnectionFactory lettuceConnectionFactory) {
+        return bytesRedisTemplate(lettuceConnectionFactory);
+    }
+
+    /**
+     * 값을 byte[] 그대로 저장하는 RedisTemplate (쓰기용 - Master)
+     */
+    @Bean(name = "redisTemplateBytesMaster")
+    public RedisTemplate<String, byte[]> redisTemplateBytesMaster(
+            @Qualifier(CONNECTION_MASTER) LettuceConnectionFactory lettuceConnectionFactory
+    ) {
+        return bytesRedisTemplate(lettuceConnectionFactory);
+    }
+
 
     private LettuceConnectionFactory lettuceConnectionFactory(
             int database,
@@ -149,6 +183,15 @@ public class RedisConfig{
         return new LettuceConnectionFactory(masterReplicaConfig, clientConfig);
     }
 
+    private RedisTemplate<String, byte[]> bytesRedisTemplate(LettuceConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
+        return redisTemplate;
+    }
+
     private <K,V> RedisTemplate<K,V> defaultRedisTemplate(
             RedisTemplate<K,V> template,
             LettuceConnectionFactory connectionFactory
@@ -0,0 +1,16 @@
+package com.loopers.domain.catalog;
+
+import java.time.Instant;
+
+/**
+ * 정렬 인덱스 갱신에 필요한 상품 컬럼만 담은 스냅샷
+ */
+public record ProductIndexEntry(
+        Long productId,
+        Long brandId,
+        Integer price,
+        Integer likeCount,
+        Instant createdAt,
+        boolean deleted
+) {
+}
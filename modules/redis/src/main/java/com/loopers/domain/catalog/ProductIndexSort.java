@@ -0,0 +1,49 @@
+package com.loopers.domain.catalog;
+
+import java.time.Instant;
+import java.util.function.ToDoubleFunction;
+import lombok.Getter;
+
+/**
+ * 정렬 인덱스 종류와 점수 계산
+ * 모든 인덱스는 ZRANGE 오름차순으로 읽으며, 내림차순 정렬은 점수를 음수로 저장한다.
+ * 점수가 같으면 멤버(0 으로 채운 고정 길이 ID) 사전순, 즉 ID 오름차순이 되어 DB 의 ORDER BY ..., id ASC 와 같아진다.
+ * commerce-batch(재빌드)와 commerce-streamer(증분 갱신)가 함께 쓰며, commerce-api 의 조회 규칙과 같아야 한다.
+ */
+@Getter
+public enum ProductIndexSort {
+    LATEST("latest", entry -> -toEpochMicros(entry.createdAt())),
+    PRICE_ASC("price_asc", entry -> entry.price()),
+    LIKES_DESC("likes_desc", entry -> -entry.likeCount());
+
+    private static final String KEY_PREFIX = "product:index:";
+
+    private final String value;
+    private final ToDoubleFunction<ProductIndexEntry> scorer;
+
+    ProductIndexSort(String value, ToDoubleFunction<ProductIndexEntry> scorer) {
+        this.value = value;
+        this.scorer = scorer;
+    }
+
+    public double score(ProductIndexEntry entry) {
+        return scorer.applyAsDouble(entry);
+    }
+
+    public String globalKey() {
+        return KEY_PREFIX + value + ":all";
+    }
+
+    public String brandKey(Long brandId) {
+        return KEY_PREFIX + value + ":brand:" + brandId;
+    }
+
+    public static String member(Long productId) {
+        return String.format("%019d", productId);
+    }
+
+    // 마이크로초 epoch 는 2^53 보다 작아 double 로 손실 없이 표현된다.
+    private static long toEpochMicros(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+}